@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.table;
+
+/**
+ * Near cache options of a key-value view.
+ *
+ * <p>Near cache keeps recently read entries locally, so that repeated reads of the same keys outside of an explicit transaction are
+ * served without a network round trip. The cache is invalidated by writes made through the same view, once they are committed. A view
+ * of an embedded node is also invalidated by committed updates of the partitions that are replicated on the node. Other updates become
+ * visible only after the entry expires.
+ *
+ * <p>A thin client view is not notified about updates made by other clients or through other views at all, it only drops the entries
+ * of a partition when the partition is assigned to another node. So a thin client may read a stale value for up to
+ * {@link #expireAfterWriteMillis()} after it has been updated. Hence, near cache is intended for rarely changing data, like reference
+ * tables.
+ *
+ * <p>Entries that are not invalidated on updates must expire: if the expiration is disabled, a view of an embedded node caches only the
+ * keys of the partitions that are replicated on the node, and a client view can not be created.
+ */
+public class NearCacheOptions {
+    /** Default maximum number of entries. */
+    public static final long DFLT_MAX_ENTRIES = 10_000;
+
+    /** Default entry time to live, in milliseconds. */
+    public static final long DFLT_EXPIRE_AFTER_WRITE_MILLIS = 30_000;
+
+    /** Maximum number of entries. */
+    private long maxEntries = DFLT_MAX_ENTRIES;
+
+    /** Entry time to live, in milliseconds. */
+    private long expireAfterWriteMillis = DFLT_EXPIRE_AFTER_WRITE_MILLIS;
+
+    /**
+     * Returns the maximum number of entries in the cache. Least recently used entries are evicted when the limit is reached.
+     *
+     * @return Maximum number of entries.
+     */
+    public long maxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Sets the maximum number of entries in the cache. Least recently used entries are evicted when the limit is reached.
+     *
+     * @param maxEntries Maximum number of entries, must be positive.
+     * @return {@code this} for chaining.
+     */
+    public NearCacheOptions maxEntries(long maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Near cache size must be positive: " + maxEntries);
+        }
+
+        this.maxEntries = maxEntries;
+
+        return this;
+    }
+
+    /**
+     * Returns the time, in milliseconds, after which a cached entry expires. {@code 0} means that entries do not expire, which limits the
+     * cache to the entries that are invalidated on updates.
+     *
+     * @return Entry time to live, in milliseconds.
+     */
+    public long expireAfterWriteMillis() {
+        return expireAfterWriteMillis;
+    }
+
+    /**
+     * Sets the time, in milliseconds, after which a cached entry expires. {@code 0} means that entries do not expire, which limits the
+     * cache to the entries that are invalidated on updates.
+     *
+     * @param expireAfterWriteMillis Entry time to live, in milliseconds.
+     * @return {@code this} for chaining.
+     */
+    public NearCacheOptions expireAfterWriteMillis(long expireAfterWriteMillis) {
+        if (expireAfterWriteMillis < 0) {
+            throw new IllegalArgumentException("Near cache expiration must not be negative: " + expireAfterWriteMillis);
+        }
+
+        this.expireAfterWriteMillis = expireAfterWriteMillis;
+
+        return this;
+    }
+}
@@ -76,6 +76,23 @@ public interface Table {
      */
     <K, V> KeyValueView<K, V> keyValueView(Mapper<K> keyMapper, Mapper<V> valMapper);
 
+    /**
+     * Creates key-value view of table for key-value class mappers provided, which serves repeated reads from a local near cache.
+     *
+     * <p>The default implementation ignores the near cache options and returns a view without a near cache.
+     *
+     * @param keyMapper Key class mapper.
+     * @param valMapper Value class mapper.
+     * @param nearCacheOptions Near cache options.
+     * @param <K>       Key type.
+     * @param <V>       Value type.
+     * @return Table key-value view.
+     * @see NearCacheOptions
+     */
+    default <K, V> KeyValueView<K, V> keyValueView(Mapper<K> keyMapper, Mapper<V> valMapper, NearCacheOptions nearCacheOptions) {
+        return keyValueView(keyMapper, valMapper);
+    }
+
     /**
      * Creates key-value view of table regarding the binary object concept.
      *
@@ -95,4 +112,19 @@ public interface Table {
     default <K, V> KeyValueView<K, V> keyValueView(Class<K> keyCls, Class<V> valCls) {
         return keyValueView(Mapper.of(keyCls), Mapper.of(valCls));
     }
+
+    /**
+     * Creates key-value view of table for key and value classes provided, which serves repeated reads from a local near cache.
+     *
+     * @param keyCls Key class.
+     * @param valCls Value class.
+     * @param nearCacheOptions Near cache options.
+     * @param <K>    Key type.
+     * @param <V>    Value type.
+     * @return Table key-value view.
+     * @see NearCacheOptions
+     */
+    default <K, V> KeyValueView<K, V> keyValueView(Class<K> keyCls, Class<V> valCls, NearCacheOptions nearCacheOptions) {
+        return keyValueView(Mapper.of(keyCls), Mapper.of(valCls), nearCacheOptions);
+    }
 }
@@ -140,4 +140,13 @@ public class ClientOp {
 
     /** Get partition assignment. */
     public static final int PARTITION_ASSIGNMENT_GET = 53;
+
+    /** Prepare SQL statement. */
+    public static final int SQL_PREPARE = 54;
+
+    /** Execute prepared SQL statement. */
+    public static final int SQL_EXEC_PREPARED = 55;
+
+    /** Close prepared SQL statement. */
+    public static final int SQL_STATEMENT_CLOSE = 56;
 }
@@ -47,7 +47,10 @@ import org.apache.ignite.client.handler.requests.jdbc.ClientJdbcTableMetadataReq
 import org.apache.ignite.client.handler.requests.jdbc.JdbcMetadataCatalog;
 import org.apache.ignite.client.handler.requests.sql.ClientSqlCursorCloseRequest;
 import org.apache.ignite.client.handler.requests.sql.ClientSqlCursorNextPageRequest;
+import org.apache.ignite.client.handler.requests.sql.ClientSqlExecutePreparedRequest;
 import org.apache.ignite.client.handler.requests.sql.ClientSqlExecuteRequest;
+import org.apache.ignite.client.handler.requests.sql.ClientSqlPrepareRequest;
+import org.apache.ignite.client.handler.requests.sql.ClientSqlStatementCloseRequest;
 import org.apache.ignite.client.handler.requests.table.ClientSchemasGetRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTableGetRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTablePartitionAssignmentGetRequest;
@@ -512,6 +515,15 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter {
             case ClientOp.SQL_CURSOR_CLOSE:
                 return ClientSqlCursorCloseRequest.process(in, resources);
 
+            case ClientOp.SQL_PREPARE:
+                return ClientSqlPrepareRequest.process(in, out, sql, resources);
+
+            case ClientOp.SQL_EXEC_PREPARED:
+                return ClientSqlExecutePreparedRequest.process(in, out, resources);
+
+            case ClientOp.SQL_STATEMENT_CLOSE:
+                return ClientSqlStatementCloseRequest.process(in, resources);
+
             case ClientOp.PARTITION_ASSIGNMENT_GET:
                 return ClientTablePartitionAssignmentGetRequest.process(in, out, igniteTables);
 
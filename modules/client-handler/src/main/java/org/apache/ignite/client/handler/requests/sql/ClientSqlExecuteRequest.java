@@ -45,6 +45,7 @@ import org.apache.ignite.sql.Session.SessionBuilder;
 import org.apache.ignite.sql.Statement;
 import org.apache.ignite.sql.Statement.StatementBuilder;
 import org.apache.ignite.sql.async.AsyncResultSet;
+import org.apache.ignite.tx.Transaction;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -65,8 +66,48 @@ public class ClientSqlExecuteRequest {
             IgniteSql sql,
             ClientResourceRegistry resources) {
         var tx = readTx(in, resources);
-        Session session = readSession(in, sql);
+        Session session = readSessionBuilder(in, sql).build();
         Statement statement = readStatement(in, sql);
+        Object[] arguments = readArguments(in);
+
+        return executeAsync(out, resources, tx, session, statement, arguments, null, 0);
+    }
+
+    /**
+     * Executes a statement and writes the result set.
+     *
+     * @param out Packer.
+     * @param resources Resources.
+     * @param tx Transaction.
+     * @param session Session, closed once the result set is consumed.
+     * @param statement Statement.
+     * @param arguments Arguments.
+     * @param prepared Prepared statement the statement belongs to, {@code null} if it is not a prepared statement.
+     * @param clientMetadataVersion Version of the metadata of the prepared statement the client has, zero if the client has none.
+     * @return Future.
+     */
+    static CompletableFuture<Void> executeAsync(
+            ClientMessagePacker out,
+            ClientResourceRegistry resources,
+            @Nullable Transaction tx,
+            Session session,
+            Statement statement,
+            Object[] arguments,
+            @Nullable ClientSqlPreparedStatement prepared,
+            int clientMetadataVersion) {
+        return session
+                .executeAsync(tx, statement, arguments)
+                .thenCompose(asyncResultSet ->
+                        writeResultSetAsync(out, resources, asyncResultSet, session, prepared, clientMetadataVersion));
+    }
+
+    /**
+     * Reads query arguments.
+     *
+     * @param in Unpacker.
+     * @return Arguments.
+     */
+    static Object[] readArguments(ClientMessageUnpacker in) {
         Object[] arguments = in.unpackObjectArrayFromBinaryTuple();
 
         if (arguments == null) {
@@ -74,16 +115,16 @@ public class ClientSqlExecuteRequest {
             arguments = ArrayUtils.OBJECT_EMPTY_ARRAY;
         }
 
-        return session
-                .executeAsync(tx, statement, arguments)
-                .thenCompose(asyncResultSet -> writeResultSetAsync(out, resources, asyncResultSet, session));
+        return arguments;
     }
 
     private static CompletionStage<Void> writeResultSetAsync(
             ClientMessagePacker out,
             ClientResourceRegistry resources,
             AsyncResultSet asyncResultSet,
-            Session session) {
+            Session session,
+            @Nullable ClientSqlPreparedStatement prepared,
+            int clientMetadataVersion) {
         boolean hasResource = asyncResultSet.hasRowSet() && asyncResultSet.hasMorePages();
 
         if (hasResource) {
@@ -111,7 +152,19 @@ public class ClientSqlExecuteRequest {
         out.packBoolean(asyncResultSet.wasApplied());
         out.packLong(asyncResultSet.affectedRows());
 
-        packMeta(out, asyncResultSet.metadata());
+        if (prepared == null || !asyncResultSet.hasRowSet()) {
+            packMeta(out, asyncResultSet.metadata());
+        } else {
+            int metadataVersion = prepared.metadataVersion(asyncResultSet.metadata());
+
+            if (metadataVersion == clientMetadataVersion) {
+                // Client already has the metadata of this execution.
+                out.packNil();
+            } else {
+                out.packInt(metadataVersion);
+                packMeta(out, asyncResultSet.metadata());
+            }
+        }
 
         // Pack first page.
         if (asyncResultSet.hasRowSet()) {
@@ -125,7 +178,14 @@ public class ClientSqlExecuteRequest {
         }
     }
 
-    private static Statement readStatement(ClientMessageUnpacker in, IgniteSql sql) {
+    /**
+     * Reads a statement.
+     *
+     * @param in Unpacker.
+     * @param sql SQL API.
+     * @return Statement.
+     */
+    static Statement readStatement(ClientMessageUnpacker in, IgniteSql sql) {
         StatementBuilder statementBuilder = sql.statementBuilder();
 
         statementBuilder.query(in.unpackString());
@@ -133,7 +193,14 @@ public class ClientSqlExecuteRequest {
         return statementBuilder.build();
     }
 
-    private static Session readSession(ClientMessageUnpacker in, IgniteSql sql) {
+    /**
+     * Reads session settings.
+     *
+     * @param in Unpacker.
+     * @param sql SQL API.
+     * @return Session builder.
+     */
+    static SessionBuilder readSessionBuilder(ClientMessageUnpacker in, IgniteSql sql) {
         SessionBuilder sessionBuilder = sql.sessionBuilder();
 
         if (!in.tryUnpackNil()) {
@@ -158,11 +225,10 @@ public class ClientSqlExecuteRequest {
             sessionBuilder.property(reader.stringValue(i * 4), ClientBinaryTupleUtils.readObject(reader, i * 4 + 1));
         }
 
-        return sessionBuilder.build();
+        return sessionBuilder;
     }
 
     private static void packMeta(ClientMessagePacker out, @Nullable ResultSetMetadata meta) {
-        // TODO IGNITE-17179 metadata caching - avoid sending same meta over and over.
         if (meta == null || meta.columns() == null) {
             out.packArrayHeader(0);
             return;
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client.handler.requests.sql;
+
+import java.util.List;
+import java.util.Objects;
+import org.apache.ignite.sql.ColumnMetadata;
+import org.apache.ignite.sql.ColumnMetadata.ColumnOrigin;
+import org.apache.ignite.sql.ResultSetMetadata;
+import org.apache.ignite.sql.Session.SessionBuilder;
+import org.apache.ignite.sql.Statement;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statement prepared by a client: session settings and statement that are executed by id, so that the client does not have to send
+ * them, and the server does not have to send the same result set metadata, on every execution.
+ */
+class ClientSqlPreparedStatement {
+    /** Session builder. A new session is created for every execution, like for a non-prepared statement. */
+    private final SessionBuilder sessionBuilder;
+
+    /** Statement. */
+    private final Statement statement;
+
+    /** Metadata of the last execution. */
+    private @Nullable ResultSetMetadata currentMetadata;
+
+    /** Version of {@link #currentMetadata}, incremented every time the metadata changes. Zero stands for no metadata. */
+    private int metadataVersion;
+
+    /**
+     * Constructor.
+     *
+     * @param sessionBuilder Session builder.
+     * @param statement Statement.
+     */
+    ClientSqlPreparedStatement(SessionBuilder sessionBuilder, Statement statement) {
+        this.sessionBuilder = sessionBuilder;
+        this.statement = statement;
+    }
+
+    /**
+     * Gets the session builder.
+     *
+     * @return Session builder.
+     */
+    SessionBuilder sessionBuilder() {
+        return sessionBuilder;
+    }
+
+    /**
+     * Gets the statement.
+     *
+     * @return Statement.
+     */
+    Statement statement() {
+        return statement;
+    }
+
+    /**
+     * Gets the version of the metadata of an execution. The version is incremented if the metadata differs from the metadata of the
+     * previous execution. The client sends the version it knows with every execution, so the metadata is only sent if the client does
+     * not have this very version, regardless of the order in which concurrent executions complete.
+     *
+     * @param metadata Metadata of a result set that is about to be sent.
+     * @return Metadata version, a positive number.
+     */
+    synchronized int metadataVersion(@Nullable ResultSetMetadata metadata) {
+        if (currentMetadata == null || metadata == null || !sameColumns(currentMetadata.columns(), metadata.columns())) {
+            currentMetadata = metadata;
+            metadataVersion++;
+        }
+
+        return metadataVersion;
+    }
+
+    private static boolean sameColumns(List<ColumnMetadata> cols1, List<ColumnMetadata> cols2) {
+        if (cols1 == cols2) {
+            return true;
+        }
+
+        if (cols1 == null || cols2 == null || cols1.size() != cols2.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < cols1.size(); i++) {
+            ColumnMetadata col1 = cols1.get(i);
+            ColumnMetadata col2 = cols2.get(i);
+
+            if (!col1.name().equals(col2.name())
+                    || col1.type() != col2.type()
+                    || col1.nullable() != col2.nullable()
+                    || col1.scale() != col2.scale()
+                    || col1.precision() != col2.precision()
+                    || !sameOrigin(col1.origin(), col2.origin())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean sameOrigin(@Nullable ColumnOrigin origin1, @Nullable ColumnOrigin origin2) {
+        if (origin1 == null || origin2 == null) {
+            return origin1 == origin2;
+        }
+
+        return Objects.equals(origin1.schemaName(), origin2.schemaName())
+                && Objects.equals(origin1.tableName(), origin2.tableName())
+                && Objects.equals(origin1.columnName(), origin2.columnName());
+    }
+}
@@ -22,6 +22,7 @@ import static org.apache.ignite.lang.ErrorGroups.Client.TABLE_ID_NOT_FOUND_ERR;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -39,8 +40,10 @@ import org.apache.ignite.internal.client.proto.ClientDataType;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.TuplePart;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.BinaryTupleContainer;
+import org.apache.ignite.internal.schema.ByteBufferRow;
 import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.DecimalNativeType;
 import org.apache.ignite.internal.schema.NativeType;
@@ -50,8 +53,11 @@ import org.apache.ignite.internal.schema.SchemaAware;
 import org.apache.ignite.internal.schema.SchemaDescriptor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.TemporalNativeType;
+import org.apache.ignite.internal.schema.VarlenNativeType;
+import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.table.IgniteTablesInternal;
 import org.apache.ignite.internal.table.TableImpl;
+import org.apache.ignite.internal.table.TableRow;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.NodeStoppingException;
@@ -256,7 +262,6 @@ public class ClientTableCommon {
      * @return Tuple.
      */
     public static Tuple readTuple(ClientMessageUnpacker unpacker, TableImpl table, boolean keyOnly) {
-        // TODO IGNITE-18925: Read BinaryTuple as Row, avoid unnecessary back and forth conversion.
         SchemaDescriptor schema = readSchema(unpacker, table);
 
         return readTuple(unpacker, keyOnly, schema);
@@ -283,6 +288,13 @@ public class ClientTableCommon {
         // https://cwiki.apache.org/confluence/display/IGNITE/IEP-76+Thin+Client+Protocol+for+Ignite+3.0#IEP76ThinClientProtocolforIgnite3.0-NullvsNoValue
         var noValueSet = unpacker.unpackBitSet();
         var binaryTupleReader = new BinaryTupleReader(cnt, unpacker.readBinaryUnsafe());
+
+        // Client tuple has the same layout as the row tuple, so it can be wrapped into a row without materializing column values,
+        // unless default values have to be applied, or column values have to be validated or normalized by the marshaller.
+        if (noValueSet.isEmpty() && canWrapAsRow(binaryTupleReader, schema)) {
+            return TableRow.tuple(wrapAsRow(binaryTupleReader, keyOnly, schema));
+        }
+
         var tuple = Tuple.create(cnt);
 
         for (int i = 0; i < cnt; i++) {
@@ -298,6 +310,79 @@ public class ClientTableCommon {
         return tuple;
     }
 
+    /**
+     * Checks whether a binary tuple sent by the client can be stored as is.
+     *
+     * @param reader Binary tuple reader.
+     * @param schema Tuple schema.
+     * @return {@code true} if the tuple can be wrapped into a row.
+     */
+    private static boolean canWrapAsRow(BinaryTupleReader reader, SchemaDescriptor schema) {
+        if (reader.size() > reader.byteBuffer().remaining()) {
+            return false;
+        }
+
+        for (int i = 0; i < reader.elementCount(); i++) {
+            Column column = schema.column(i);
+
+            if (reader.hasNullValue(i)) {
+                if (!column.nullable()) {
+                    return false;
+                }
+
+                continue;
+            }
+
+            switch (column.type().spec()) {
+                case INT8:
+                case INT16:
+                case INT32:
+                case INT64:
+                case FLOAT:
+                case DOUBLE:
+                case UUID:
+                case DATE:
+                    break;
+
+                case STRING:
+                case BYTES:
+                    // UTF-8 string can't be shorter than the number of its chars, so the check is conservative for strings.
+                    if (reader.end() - reader.begin() > ((VarlenNativeType) column.type()).length()) {
+                        return false;
+                    }
+
+                    break;
+
+                default:
+                    // Precision of numbers has to be validated, temporal values have to be truncated to the column precision.
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Wraps a binary tuple sent by the client into a row.
+     *
+     * @param reader  Binary tuple reader.
+     * @param keyOnly Whether only key fields are present.
+     * @param schema  Tuple schema.
+     * @return Row.
+     */
+    private static Row wrapAsRow(BinaryTupleReader reader, boolean keyOnly, SchemaDescriptor schema) {
+        ByteBuffer tuple = reader.byteBuffer();
+        tuple.limit(reader.size());
+
+        ByteBuffer buf = ByteBuffer.allocate(BinaryRow.TUPLE_OFFSET + tuple.remaining()).order(ByteBufferRow.ORDER);
+        buf.putShort((short) schema.version());
+        buf.put(!keyOnly && schema.valueColumns().length() > 0 ? (byte) 1 : 0);
+        buf.put(tuple);
+        buf.position(0);
+
+        return new Row(schema, new ByteBufferRow(buf));
+    }
+
     /**
      * Reads multiple tuples.
      *
@@ -180,6 +180,11 @@ public class ClientUtils {
             case ClientOp.PARTITION_ASSIGNMENT_GET:
                 return null;
 
+            case ClientOp.SQL_PREPARE:
+            case ClientOp.SQL_EXEC_PREPARED:
+            case ClientOp.SQL_STATEMENT_CLOSE:
+                return null; // Prepared statement belongs to the connection it was prepared on.
+
             // Do not return null from default arm intentionally, so we don't forget to update this when new ClientOp values are added.
             default:
                 throw new UnsupportedOperationException("Invalid op code: " + opCode);
@@ -17,7 +17,9 @@
 
 package org.apache.ignite.internal.client;
 
+import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.client.proto.ClientMessagePacker;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Thin client payload output channel.
@@ -29,6 +31,9 @@ public class PayloadOutputChannel implements AutoCloseable {
     /** Output stream. */
     private final ClientMessagePacker out;
 
+    /** Response future of the request being written. */
+    private final @Nullable CompletableFuture<?> responseFut;
+
     /**
      * Constructor.
      *
@@ -36,8 +41,20 @@ public class PayloadOutputChannel implements AutoCloseable {
      * @param out Packer.
      */
     PayloadOutputChannel(ClientChannel ch, ClientMessagePacker out) {
+        this(ch, out, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ch          Channel.
+     * @param out         Packer.
+     * @param responseFut Response future of the request being written.
+     */
+    PayloadOutputChannel(ClientChannel ch, ClientMessagePacker out, @Nullable CompletableFuture<?> responseFut) {
         this.ch = ch;
         this.out = out;
+        this.responseFut = responseFut;
     }
 
     /**
@@ -58,6 +75,16 @@ public class PayloadOutputChannel implements AutoCloseable {
         return out;
     }
 
+    /**
+     * Gets the future that completes when the server responds to the request being written. The future completes
+     * exceptionally when the server returns an error or the request can not be sent.
+     *
+     * @return Response future, or {@code null} when not available.
+     */
+    public @Nullable CompletableFuture<?> responseFuture() {
+        return responseFut;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
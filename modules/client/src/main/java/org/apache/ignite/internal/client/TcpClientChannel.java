@@ -259,7 +259,7 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
 
         pendingReqs.put(id, fut);
 
-        PayloadOutputChannel payloadCh = new PayloadOutputChannel(this, new ClientMessagePacker(sock.getBuffer()));
+        PayloadOutputChannel payloadCh = new PayloadOutputChannel(this, new ClientMessagePacker(sock.getBuffer()), fut);
 
         try {
             var req = payloadCh.out();
@@ -286,7 +286,12 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
             payloadCh.close();
             pendingReqs.remove(id);
 
-            throw IgniteException.wrap(t);
+            IgniteException err = IgniteException.wrap(t);
+
+            // The writer might have subscribed to the response future (e.g. transaction tracking), do not leave it hanging.
+            fut.completeExceptionally(err);
+
+            throw err;
         }
     }
 
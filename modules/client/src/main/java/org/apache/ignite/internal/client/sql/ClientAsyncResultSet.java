@@ -19,10 +19,13 @@ package org.apache.ignite.internal.client.sql;
 
 import static org.apache.ignite.lang.ErrorGroups.Sql.CURSOR_NO_MORE_PAGES_ERR;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
 import org.apache.ignite.internal.client.ClientChannel;
 import org.apache.ignite.internal.client.proto.ClientColumnTypeConverter;
@@ -85,22 +88,43 @@ class ClientAsyncResultSet<T> implements AsyncResultSet<T> {
     /** Closed flag. */
     private volatile boolean closed;
 
+    /** Whether the server has sent the last page and released the cursor, possibly ahead of the consumer. */
+    private volatile boolean serverCursorClosed;
+
+    /** Number of pages to request ahead of the consumer. */
+    private final int prefetchPages;
+
+    /**
+     * Pages requested ahead of the consumer, in the order they follow the current page. A future completes with
+     * {@code null} when there is no such page. Guarded by {@code this}.
+     */
+    private final Deque<CompletableFuture<Page<T>>> prefetched = new ArrayDeque<>();
+
     /**
      * Constructor.
      *
      * @param ch Channel.
      * @param in Unpacker.
      * @param mapper Mapper.
+     * @param metadataReader Reads the result set metadata.
+     * @param prefetchPages Number of pages to request ahead of the consumer, zero to request pages on demand only.
      */
-    ClientAsyncResultSet(ClientChannel ch, ClientMessageUnpacker in, @Nullable Mapper<T> mapper) {
+    ClientAsyncResultSet(
+            ClientChannel ch,
+            ClientMessageUnpacker in,
+            @Nullable Mapper<T> mapper,
+            Function<ClientMessageUnpacker, ResultSetMetadata> metadataReader,
+            int prefetchPages
+    ) {
         this.ch = ch;
+        this.prefetchPages = Math.max(prefetchPages, 0);
 
         resourceId = in.tryUnpackNil() ? null : in.unpackLong();
         hasRowSet = in.unpackBoolean();
         hasMorePages = in.unpackBoolean();
         wasApplied = in.unpackBoolean();
         affectedRows = in.unpackLong();
-        metadata = hasRowSet ? new ClientResultSetMetadata(in) : null;
+        metadata = hasRowSet ? metadataReader.apply(in) : null;
 
         this.mapper = mapper;
         marshaller = metadata != null && mapper != null && mapper.targetType() != SqlRow.class
@@ -108,7 +132,13 @@ class ClientAsyncResultSet<T> implements AsyncResultSet<T> {
                 : null;
 
         if (hasRowSet) {
-            readRows(in);
+            rows = readRows(in);
+        }
+
+        if (hasMorePages()) {
+            synchronized (this) {
+                prefetch(CompletableFuture.completedFuture(new Page<>(rows, true)));
+            }
         }
     }
 
@@ -167,20 +197,33 @@ class ClientAsyncResultSet<T> implements AsyncResultSet<T> {
                     new SqlException(CURSOR_NO_MORE_PAGES_ERR, "There are no more pages."));
         }
 
-        return ch.serviceAsync(
-                ClientOp.SQL_CURSOR_NEXT_PAGE,
-                w -> w.out().packLong(resourceId),
-                r -> {
-                    readRows(r.in());
-                    hasMorePages = r.in().unpackBoolean();
+        CompletableFuture<Page<T>> next;
 
-                    if (!hasMorePages) {
-                        // When last page is fetched, server closes the cursor.
-                        closed = true;
-                    }
+        synchronized (this) {
+            next = prefetched.poll();
 
-                    return this;
-                });
+            if (next == null) {
+                next = requestNextPage();
+            }
+
+            prefetch(prefetched.isEmpty() ? next : prefetched.peekLast());
+        }
+
+        return next.thenApply(page -> {
+            if (page == null) {
+                // Read-ahead was stopped by close.
+                throw new CursorClosedException();
+            }
+
+            rows = page.rows;
+            hasMorePages = page.hasMore;
+
+            if (!hasMorePages) {
+                closed = true;
+            }
+
+            return this;
+        });
     }
 
     /** {@inheritDoc} */
@@ -198,6 +241,10 @@ class ClientAsyncResultSet<T> implements AsyncResultSet<T> {
 
         closed = true;
 
+        if (serverCursorClosed) {
+            return CompletableFuture.completedFuture(null);
+        }
+
         return ch.serviceAsync(ClientOp.SQL_CURSOR_CLOSE, w -> w.out().packLong(resourceId), null);
     }
 
@@ -207,7 +254,42 @@ class ClientAsyncResultSet<T> implements AsyncResultSet<T> {
         }
     }
 
-    private void readRows(ClientMessageUnpacker in) {
+    private CompletableFuture<Page<T>> requestNextPage() {
+        return ch.serviceAsync(
+                ClientOp.SQL_CURSOR_NEXT_PAGE,
+                w -> w.out().packLong(resourceId),
+                r -> {
+                    List<T> pageRows = readRows(r.in());
+                    boolean hasMore = r.in().unpackBoolean();
+
+                    if (!hasMore) {
+                        // When last page is fetched, server closes the cursor.
+                        serverCursorClosed = true;
+                    }
+
+                    return new Page<>(pageRows, hasMore);
+                });
+    }
+
+    /**
+     * Tops up the read-ahead queue. The server handles requests of one connection concurrently, so every page is requested
+     * only when the previous one has arrived and reported more data.
+     *
+     * @param last Future of the last page requested so far.
+     */
+    private void prefetch(CompletableFuture<Page<T>> last) {
+        assert Thread.holdsLock(this);
+
+        while (prefetched.size() < prefetchPages) {
+            last = last.thenCompose(page -> page == null || !page.hasMore || closed
+                    ? CompletableFuture.completedFuture(null)
+                    : requestNextPage());
+
+            prefetched.add(last);
+        }
+    }
+
+    private List<T> readRows(ClientMessageUnpacker in) {
         int size = in.unpackArrayHeader();
         int rowSize = metadata.columns().size();
 
@@ -242,7 +324,7 @@ class ClientAsyncResultSet<T> implements AsyncResultSet<T> {
             }
         }
 
-        rows = Collections.unmodifiableList(res);
+        return Collections.unmodifiableList(res);
     }
 
     private static Object readValue(BinaryTupleReader in, int idx, ColumnMetadata col) {
@@ -336,4 +418,18 @@ class ClientAsyncResultSet<T> implements AsyncResultSet<T> {
         var schema = new ClientSchema(0, schemaColumns);
         return schema.getMarshaller(mapper, TuplePart.KEY_AND_VAL);
     }
+
+    /** Page of rows received from the server. */
+    private static class Page<T> {
+        /** Rows. */
+        private final List<T> rows;
+
+        /** Whether the server has more pages after this one. */
+        private final boolean hasMore;
+
+        Page(List<T> rows, boolean hasMore) {
+            this.rows = rows;
+            this.hasMore = hasMore;
+        }
+    }
 }
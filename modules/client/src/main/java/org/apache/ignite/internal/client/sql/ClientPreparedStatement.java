@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.sql;
+
+import static org.apache.ignite.internal.client.table.ClientTable.writeTx;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.client.ClientChannel;
+import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
+import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.internal.client.tx.ClientTransaction;
+import org.apache.ignite.lang.ErrorGroups.Client;
+import org.apache.ignite.lang.IgniteException;
+import org.apache.ignite.sql.ResultSetMetadata;
+import org.apache.ignite.sql.async.AsyncResultSet;
+import org.apache.ignite.table.mapper.Mapper;
+import org.apache.ignite.tx.Transaction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statement prepared on the server. Is executed by id on the connection it was prepared on, without sending the query and session
+ * settings. Result set metadata is cached and is only received again when it changes.
+ */
+class ClientPreparedStatement {
+    /** Metadata version that is sent when the client has no metadata of the statement. */
+    private static final int NO_METADATA_VERSION = 0;
+
+    /** Session the statement was prepared for. */
+    private final ClientSession session;
+
+    /** Channel the statement was prepared on. */
+    private final ClientChannel ch;
+
+    /** Statement id. */
+    private final long id;
+
+    /** Number of result pages to request ahead of the consumer. */
+    private final int prefetchPages;
+
+    /** Last received result set metadata along with its version, {@code null} if no metadata was received yet. */
+    private volatile @Nullable VersionedMetadata metadata;
+
+    /**
+     * Constructor.
+     *
+     * @param session Session the statement was prepared for.
+     * @param ch Channel the statement was prepared on.
+     * @param id Statement id.
+     * @param prefetchPages Number of result pages to request ahead of the consumer.
+     */
+    ClientPreparedStatement(ClientSession session, ClientChannel ch, long id, int prefetchPages) {
+        this.session = session;
+        this.ch = ch;
+        this.id = id;
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Checks whether the statement can be used to execute a query in the given session and transaction.
+     *
+     * @param session Session.
+     * @param tx Transaction.
+     * @return {@code true} if the statement can be used.
+     */
+    boolean canExecute(ClientSession session, @Nullable Transaction tx) {
+        return this.session == session && !ch.closed() && (tx == null || ClientTransaction.get(tx).channel() == ch);
+    }
+
+    /**
+     * Returns {@code true} if the connection the statement was prepared on is closed, and the statement is not valid anymore.
+     *
+     * @return {@code true} if the statement is not valid anymore.
+     */
+    boolean closed() {
+        return ch.closed();
+    }
+
+    /**
+     * Executes the statement.
+     *
+     * @param tx Transaction.
+     * @param mapper Mapper.
+     * @param arguments Arguments.
+     * @param <T> Row type.
+     * @return Future with the result set.
+     */
+    <T> CompletableFuture<AsyncResultSet<T>> executeAsync(
+            @Nullable Transaction tx,
+            @Nullable Mapper<T> mapper,
+            @Nullable Object... arguments
+    ) {
+        // The server compares the version with the version of the metadata of this execution, so the response refers to this very
+        // metadata even if concurrent executions change the metadata of the statement.
+        VersionedMetadata knownMetadata = metadata;
+
+        return ch.serviceAsync(
+                ClientOp.SQL_EXEC_PREPARED,
+                w -> {
+                    writeTx(tx, w);
+
+                    w.out().packLong(id);
+                    w.out().packInt(knownMetadata == null ? NO_METADATA_VERSION : knownMetadata.version);
+                    w.out().packObjectArrayAsBinaryTuple(arguments);
+                },
+                r -> new ClientAsyncResultSet<T>(r.clientChannel(), r.in(), mapper, in -> readMetadata(in, knownMetadata), prefetchPages));
+    }
+
+    private ResultSetMetadata readMetadata(ClientMessageUnpacker in, @Nullable VersionedMetadata knownMetadata) {
+        if (in.tryUnpackNil()) {
+            // Server does not send the metadata if the client has the version of the metadata of this execution.
+            if (knownMetadata == null) {
+                throw new IgniteException(Client.PROTOCOL_ERR, "Result set metadata is missing in the response.");
+            }
+
+            return knownMetadata.metadata;
+        }
+
+        int version = in.unpackInt();
+        ResultSetMetadata received = new ClientResultSetMetadata(in);
+
+        metadata = new VersionedMetadata(version, received);
+
+        return received;
+    }
+
+    /**
+     * Releases the statement on the server.
+     *
+     * @return Future representing pending completion of the operation.
+     */
+    CompletableFuture<Void> closeAsync() {
+        if (ch.closed()) {
+            // Server releases statements together with the connection.
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return ch.serviceAsync(ClientOp.SQL_STATEMENT_CLOSE, w -> w.out().packLong(id), null);
+    }
+
+    /**
+     * Result set metadata along with the version the server has assigned to it.
+     */
+    private static class VersionedMetadata {
+        /** Version. */
+        private final int version;
+
+        /** Metadata. */
+        private final ResultSetMetadata metadata;
+
+        VersionedMetadata(int version, ResultSetMetadata metadata) {
+            this.version = version;
+            this.metadata = metadata;
+        }
+    }
+}
@@ -50,6 +50,12 @@ import org.jetbrains.annotations.Nullable;
 public class ClientSession implements Session {
     private static final Mapper<SqlRow> sqlRowMapper = () -> SqlRow.class;
 
+    /** Name of the property that sets the number of result pages requested ahead of the consumer. */
+    static final String PREFETCH_PAGES = "prefetch_pages";
+
+    /** Default number of result pages requested ahead of the consumer. */
+    static final int DEFAULT_PREFETCH_PAGES = 1;
+
     private final ReliableChannel ch;
 
     @Nullable
@@ -144,23 +150,29 @@ public class ClientSession implements Session {
 
         ClientStatement clientStatement = (ClientStatement) statement;
 
-        PayloadWriter payloadWriter = w -> {
-            writeTx(transaction, w);
+        ClientPreparedStatement prepared = clientStatement.prepared();
 
-            w.out().packString(oneOf(clientStatement.defaultSchema(), defaultSchema));
-            w.out().packIntNullable(oneOf(clientStatement.pageSizeNullable(), defaultPageSize));
-            w.out().packLongNullable(oneOf(clientStatement.queryTimeoutNullable(), defaultQueryTimeout));
+        if (prepared != null && prepared.canExecute(this, transaction)) {
+            return prepared.executeAsync(transaction, mapper, arguments);
+        }
 
-            w.out().packLongNullable(defaultSessionTimeout);
+        if (prepared == null && clientStatement.onExecute()) {
+            // Statement is reused: prepare it in background, so that the next executions don't send the query and metadata.
+            prepareAsync(transaction, clientStatement);
+        }
 
-            packProperties(w, clientStatement.properties());
+        PayloadWriter payloadWriter = w -> {
+            writeTx(transaction, w);
 
-            w.out().packString(clientStatement.query());
+            packStatement(w, clientStatement);
 
             w.out().packObjectArrayAsBinaryTuple(arguments);
         };
 
-        PayloadReader<AsyncResultSet<T>> payloadReader = r -> new ClientAsyncResultSet<>(r.clientChannel(), r.in(), mapper);
+        int prefetchPages = prefetchPages(clientStatement);
+
+        PayloadReader<AsyncResultSet<T>> payloadReader =
+                r -> new ClientAsyncResultSet<>(r.clientChannel(), r.in(), mapper, ClientResultSetMetadata::new, prefetchPages);
 
         if (transaction != null) {
             //noinspection resource
@@ -293,6 +305,36 @@ public class ClientSession implements Session {
         throw new UnsupportedOperationException("Not implemented yet.");
     }
 
+    private void prepareAsync(@Nullable Transaction transaction, ClientStatement statement) {
+        PayloadWriter payloadWriter = w -> packStatement(w, statement);
+
+        PayloadReader<ClientPreparedStatement> payloadReader =
+                r -> new ClientPreparedStatement(this, r.clientChannel(), r.in().unpackLong(), prefetchPages(statement));
+
+        CompletableFuture<ClientPreparedStatement> fut = transaction != null
+                ? ClientTransaction.get(transaction).channel().serviceAsync(ClientOp.SQL_PREPARE, payloadWriter, payloadReader)
+                : ch.serviceAsync(ClientOp.SQL_PREPARE, payloadWriter, payloadReader);
+
+        // Statement is executed without being prepared if preparation fails.
+        fut.thenAccept(prepared -> {
+            if (!statement.prepared(prepared)) {
+                prepared.closeAsync();
+            }
+        });
+    }
+
+    private void packStatement(PayloadOutputChannel w, ClientStatement statement) {
+        w.out().packString(oneOf(statement.defaultSchema(), defaultSchema));
+        w.out().packIntNullable(oneOf(statement.pageSizeNullable(), defaultPageSize));
+        w.out().packLongNullable(oneOf(statement.queryTimeoutNullable(), defaultQueryTimeout));
+
+        w.out().packLongNullable(defaultSessionTimeout);
+
+        packProperties(w, statement.properties());
+
+        w.out().packString(statement.query());
+    }
+
     private void packProperties(PayloadOutputChannel w, Map<String, Object> props) {
         int size = 0;
 
@@ -335,6 +377,44 @@ public class ClientSession implements Session {
         w.out().packBinaryTuple(builder);
     }
 
+    /**
+     * Gets the number of result pages to request ahead of the consumer: the {@link #PREFETCH_PAGES} property of the statement
+     * or the session. The server reads the same property for its own read-ahead. The builders of the session and the statement validate
+     * the property and store it as {@code Integer}.
+     *
+     * @param statement Statement.
+     * @return Number of pages.
+     */
+    private int prefetchPages(ClientStatement statement) {
+        Object val = oneOf(statement.property(PREFETCH_PAGES), property(PREFETCH_PAGES));
+
+        return val instanceof Number ? ((Number) val).intValue() : DEFAULT_PREFETCH_PAGES;
+    }
+
+    /**
+     * Validates a value of the {@link #PREFETCH_PAGES} property and converts it to {@code Integer}, the type the server expects.
+     *
+     * @param value Property value.
+     * @return Number of pages, {@code null} if the value is {@code null}.
+     * @throws IllegalArgumentException If the value is not a non-negative integer that fits into {@code int}.
+     */
+    static @Nullable Integer prefetchPagesProperty(@Nullable Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            long pages = ((Number) value).longValue();
+
+            if (pages >= 0 && pages <= Integer.MAX_VALUE) {
+                return (int) pages;
+            }
+        }
+
+        throw new IllegalArgumentException("Property '" + PREFETCH_PAGES + "' must be a non-negative integer not greater than "
+                + Integer.MAX_VALUE + ": " + value + " (" + value.getClass().getSimpleName() + ')');
+    }
+
     private static <T> @Nullable T oneOf(@Nullable T a, @Nullable T b) {
         return a != null ? a : b;
     }
@@ -120,7 +120,7 @@ public class ClientSessionBuilder implements SessionBuilder {
 
     @Override
     public SessionBuilder property(String name, @Nullable Object value) {
-        properties.put(name, value);
+        properties.put(name, ClientSession.PREFETCH_PAGES.equals(name) ? ClientSession.prefetchPagesProperty(value) : value);
 
         return this;
     }
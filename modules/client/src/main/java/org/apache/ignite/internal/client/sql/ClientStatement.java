@@ -20,6 +20,8 @@ package org.apache.ignite.internal.client.sql;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.sql.Statement;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -43,6 +45,12 @@ public class ClientStatement implements Statement {
     /** Properties. */
     private final Map<String, Object> properties;
 
+    /** Number of executions. Statement is prepared on the server once it is executed more than once. */
+    private final AtomicInteger executions = new AtomicInteger();
+
+    /** Statement prepared on the server, {@code null} if the statement is not prepared. */
+    private final AtomicReference<ClientPreparedStatement> prepared = new AtomicReference<>();
+
     /**
      * Constructor.
      *
@@ -152,9 +160,53 @@ public class ClientStatement implements Statement {
         return builder;
     }
 
+    /**
+     * Gets the statement prepared on the server.
+     *
+     * @return Prepared statement or {@code null} if the statement is not prepared.
+     */
+    @Nullable ClientPreparedStatement prepared() {
+        ClientPreparedStatement prepared0 = prepared.get();
+
+        if (prepared0 != null && prepared0.closed()) {
+            // Connection was lost, prepare again on the next execution.
+            if (prepared.compareAndSet(prepared0, null)) {
+                executions.set(1);
+            }
+
+            return null;
+        }
+
+        return prepared0;
+    }
+
+    /**
+     * Registers an execution of a statement that is not prepared.
+     *
+     * @return {@code true} if the statement is reused and has to be prepared.
+     */
+    boolean onExecute() {
+        return executions.incrementAndGet() == 2;
+    }
+
+    /**
+     * Sets the statement prepared on the server.
+     *
+     * @param prepared0 Prepared statement.
+     * @return {@code true} if the statement was set, {@code false} if the statement is already prepared and the given one has to be
+     *         closed.
+     */
+    boolean prepared(ClientPreparedStatement prepared0) {
+        return prepared.compareAndSet(null, prepared0);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() throws Exception {
-        // No-op.
+        ClientPreparedStatement prepared0 = prepared.getAndSet(null);
+
+        if (prepared0 != null) {
+            prepared0.closeAsync();
+        }
     }
 }
@@ -114,7 +114,7 @@ public class ClientStatementBuilder implements Statement.StatementBuilder {
     /** {@inheritDoc} */
     @Override
     public StatementBuilder property(@NotNull String name, @Nullable Object value) {
-        properties.put(name, value);
+        properties.put(name, ClientSession.PREFETCH_PAGES.equals(name) ? ClientSession.prefetchPagesProperty(value) : value);
 
         return this;
     }
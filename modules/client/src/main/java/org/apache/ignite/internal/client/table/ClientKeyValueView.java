@@ -22,11 +22,15 @@ import static org.apache.ignite.internal.client.table.ClientTable.writeTx;
 import static org.apache.ignite.lang.ErrorGroups.Common.UNKNOWN_ERR;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -37,14 +41,17 @@ import org.apache.ignite.internal.client.PayloadOutputChannel;
 import org.apache.ignite.internal.client.proto.ClientMessageUnpacker;
 import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.client.proto.TuplePart;
+import org.apache.ignite.internal.client.tx.ClientTransaction;
 import org.apache.ignite.internal.marshaller.ClientMarshallerReader;
 import org.apache.ignite.internal.marshaller.ClientMarshallerWriter;
 import org.apache.ignite.internal.marshaller.Marshaller;
 import org.apache.ignite.internal.marshaller.MarshallerException;
+import org.apache.ignite.internal.util.NearCache;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.NullableValue;
 import org.apache.ignite.table.InvokeProcessor;
 import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.NearCacheOptions;
 import org.apache.ignite.table.mapper.Mapper;
 import org.apache.ignite.tx.Transaction;
 import org.jetbrains.annotations.NotNull;
@@ -63,6 +70,9 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     /** Value serializer.  */
     private final ClientRecordSerializer<V> valSer;
 
+    /** Near cache of rows read outside of explicit transactions, {@code null} if the near cache is disabled. */
+    private final @Nullable NearCache<K, CachedRow> nearCache;
+
     /**
      * Constructor.
      *
@@ -71,6 +81,18 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
      * @param valMapper value mapper.
      */
     public ClientKeyValueView(ClientTable tbl, Mapper<K> keyMapper, Mapper<V> valMapper) {
+        this(tbl, keyMapper, valMapper, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tbl Underlying table.
+     * @param keyMapper Key mapper.
+     * @param valMapper value mapper.
+     * @param nearCacheOptions Near cache options, {@code null} to disable near caching.
+     */
+    public ClientKeyValueView(ClientTable tbl, Mapper<K> keyMapper, Mapper<V> valMapper, @Nullable NearCacheOptions nearCacheOptions) {
         assert tbl != null;
         assert keyMapper != null;
         assert valMapper != null;
@@ -79,6 +101,16 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
 
         keySer = new ClientRecordSerializer<>(tbl.tableId(), keyMapper);
         valSer = new ClientRecordSerializer<>(tbl.tableId(), valMapper);
+
+        // Thin client is not notified about updates of the partitions, so the entries of a partition are only invalidated when the
+        // partition is assigned to another node. Updates made by other clients become visible when the entries expire.
+        nearCache = nearCacheOptions == null
+                ? null
+                : new NearCache<>(
+                        nearCacheOptions.maxEntries(),
+                        nearCacheOptions.expireAfterWriteMillis(),
+                        tbl::partitionVersion,
+                        part -> false);
     }
 
     /** {@inheritDoc} */
@@ -92,6 +124,10 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     public @NotNull CompletableFuture<V> getAsync(@Nullable Transaction tx, @NotNull K key) {
         Objects.requireNonNull(key);
 
+        if (nearCache != null && tx == null) {
+            return getNear(key).thenApply(this::readCachedValue);
+        }
+
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET,
                 (s, w) -> keySer.writeRec(tx, key, s, w, TuplePart.KEY),
@@ -139,6 +175,10 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
             return CompletableFuture.completedFuture(Collections.emptyMap());
         }
 
+        if (nearCache != null && tx == null) {
+            return getAllNear(keys);
+        }
+
         return tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_ALL,
                 (s, w) -> keySer.writeRecs(tx, keys, s, w, TuplePart.KEY),
@@ -158,6 +198,10 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     public CompletableFuture<Boolean> containsAsync(@Nullable Transaction tx, @NotNull K key) {
         Objects.requireNonNull(key);
 
+        if (nearCache != null && tx == null) {
+            return getNear(key).thenApply(Objects::nonNull);
+        }
+
         return tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_CONTAINS_KEY,
                 (s, w) -> keySer.writeRec(tx, key, s, w, TuplePart.KEY),
@@ -176,11 +220,11 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     public @NotNull CompletableFuture<Void> putAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         Objects.requireNonNull(key);
 
-        return tbl.doSchemaOutOpAsync(
+        return invalidateOnWrite(tx, key, tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_UPSERT,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
                 r -> null,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key)));
     }
 
     /** {@inheritDoc} */
@@ -198,7 +242,7 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
             return CompletableFuture.completedFuture(null);
         }
 
-        return tbl.doSchemaOutOpAsync(
+        return invalidateOnWrite(tx, pairs.keySet(), tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_UPSERT_ALL,
                 (s, w) -> {
                     writeSchemaAndTx(s, w, tx);
@@ -209,7 +253,7 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
                     }
                 },
                 r -> null,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), pairs.keySet().iterator().next()));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), pairs.keySet().iterator().next())));
     }
 
     /** {@inheritDoc} */
@@ -224,12 +268,12 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         Objects.requireNonNull(key);
         Objects.requireNonNull(val);
 
-        return tbl.doSchemaOutInOpAsync(
+        return invalidateOnWrite(tx, key, tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_UPSERT,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
                 (s, r) -> valSer.readRec(s, r, TuplePart.VAL),
                 null,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key)));
     }
 
     /** {@inheritDoc} */
@@ -255,11 +299,11 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     public @NotNull CompletableFuture<Boolean> putIfAbsentAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         Objects.requireNonNull(key);
 
-        return tbl.doSchemaOutOpAsync(
+        return invalidateOnWrite(tx, key, tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_INSERT,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
                 ClientMessageUnpacker::unpackBoolean,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key)));
     }
 
     /** {@inheritDoc} */
@@ -279,11 +323,11 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     public @NotNull CompletableFuture<Boolean> removeAsync(@Nullable Transaction tx, @NotNull K key) {
         Objects.requireNonNull(key);
 
-        return tbl.doSchemaOutOpAsync(
+        return invalidateOnWrite(tx, key, tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE,
                 (s, w) -> keySer.writeRec(tx, key, s, w, TuplePart.KEY),
                 ClientMessageUnpacker::unpackBoolean,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key)));
     }
 
     /** {@inheritDoc} */
@@ -291,11 +335,11 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     public @NotNull CompletableFuture<Boolean> removeAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         Objects.requireNonNull(key);
 
-        return tbl.doSchemaOutOpAsync(
+        return invalidateOnWrite(tx, key, tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_DELETE_EXACT,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
                 ClientMessageUnpacker::unpackBoolean,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key)));
     }
 
     /** {@inheritDoc} */
@@ -313,12 +357,12 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
             return CompletableFuture.completedFuture(Collections.emptyList());
         }
 
-        return tbl.doSchemaOutInOpAsync(
+        return invalidateOnWrite(tx, keys, tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_DELETE_ALL,
                 (s, w) -> keySer.writeRecs(tx, keys, s, w, TuplePart.KEY),
                 (s, r) -> keySer.readRecs(s, r, false, TuplePart.KEY),
                 Collections.emptyList(),
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), keys.iterator().next()));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), keys.iterator().next())));
     }
 
     /** {@inheritDoc} */
@@ -332,12 +376,12 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     public @NotNull CompletableFuture<V> getAndRemoveAsync(@Nullable Transaction tx, @NotNull K key) {
         Objects.requireNonNull(key);
 
-        return tbl.doSchemaOutInOpAsync(
+        return invalidateOnWrite(tx, key, tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_DELETE,
                 (s, w) -> keySer.writeRec(tx, key, s, w, TuplePart.KEY),
                 (s, r) -> valSer.readRec(s, r, TuplePart.VAL),
                 null,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key)));
     }
 
     /** {@inheritDoc} */
@@ -371,11 +415,11 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     public @NotNull CompletableFuture<Boolean> replaceAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         Objects.requireNonNull(key);
 
-        return tbl.doSchemaOutOpAsync(
+        return invalidateOnWrite(tx, key, tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_REPLACE,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
                 ClientMessageUnpacker::unpackBoolean,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key)));
     }
 
     /** {@inheritDoc} */
@@ -383,7 +427,7 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
     public @NotNull CompletableFuture<Boolean> replaceAsync(@Nullable Transaction tx, @NotNull K key, V oldVal, V newVal) {
         Objects.requireNonNull(key);
 
-        return tbl.doSchemaOutOpAsync(
+        return invalidateOnWrite(tx, key, tbl.doSchemaOutOpAsync(
                 ClientOp.TUPLE_REPLACE_EXACT,
                 (s, w) -> {
                     writeSchemaAndTx(s, w, tx);
@@ -391,7 +435,7 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
                     writeKeyValueRaw(s, w, key, newVal);
                 },
                 ClientMessageUnpacker::unpackBoolean,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key)));
     }
 
     /** {@inheritDoc} */
@@ -406,12 +450,12 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         Objects.requireNonNull(key);
         Objects.requireNonNull(val);
 
-        return tbl.doSchemaOutInOpAsync(
+        return invalidateOnWrite(tx, key, tbl.doSchemaOutInOpAsync(
                 ClientOp.TUPLE_GET_AND_REPLACE,
                 (s, w) -> writeKeyValue(s, w, tx, key, val),
                 (s, r) -> valSer.readRec(s, r, TuplePart.VAL),
                 null,
-                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key));
+                ClientTupleSerializer.getPartitionAwarenessProvider(tx, keySer.mapper(), key)));
     }
 
     /** {@inheritDoc} */
@@ -470,6 +514,143 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         throw new UnsupportedOperationException("Not implemented yet.");
     }
 
+    /**
+     * Reads a row by key outside of an explicit transaction, serving it from the near cache if possible.
+     *
+     * @param key Key.
+     * @return Future with a row or {@code null} if there is no such key.
+     */
+    private CompletableFuture<CachedRow> getNear(K key) {
+        assert nearCache != null;
+
+        NearCache.Entry<CachedRow> cached = nearCache.get(key);
+
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.value());
+        }
+
+        PartitionAwarenessProvider provider = ClientTupleSerializer.getPartitionAwarenessProvider(null, keySer.mapper(), key);
+
+        // The partition is unknown until the schema and the partition assignment are loaded, the row is not cached then.
+        int partition = tbl.partition(provider);
+        long partitionVersion = partition < 0 ? 0 : nearCache.partitionVersion(partition);
+        long stamp = nearCache.stamp();
+
+        return tbl.doSchemaOutInOpAsync(
+                ClientOp.TUPLE_GET,
+                (s, w) -> keySer.writeRec(null, key, s, w, TuplePart.KEY),
+                (s, r) -> new CachedRow(s, r.readBinaryUnsafe()),
+                null,
+                provider
+        ).thenApply(row -> {
+            if (partition >= 0) {
+                nearCache.put(key, row, partition, partitionVersion, stamp);
+            }
+
+            return row;
+        });
+    }
+
+    /**
+     * Reads rows by keys outside of an explicit transaction, taking the rows that are present in the near cache from it and loading
+     * the rest.
+     *
+     * @param keys Keys.
+     * @return Future with key-value pairs.
+     */
+    private CompletableFuture<Map<K, V>> getAllNear(Collection<K> keys) {
+        assert nearCache != null;
+
+        Map<K, V> res = new LinkedHashMap<>();
+        List<K> missed = new ArrayList<>();
+
+        for (K key : keys) {
+            NearCache.Entry<CachedRow> cached = nearCache.get(Objects.requireNonNull(key));
+
+            if (cached == null) {
+                missed.add(key);
+            } else if (cached.value() != null) {
+                res.put(key, readCachedValue(cached.value()));
+            }
+        }
+
+        if (missed.isEmpty()) {
+            return CompletableFuture.completedFuture(res);
+        }
+
+        Map<Integer, Long> partitionVersions = new HashMap<>();
+
+        for (K key : missed) {
+            int partition = partition(key);
+
+            if (partition >= 0) {
+                partitionVersions.put(partition, nearCache.partitionVersion(partition));
+            }
+        }
+
+        long stamp = nearCache.stamp();
+
+        return tbl.doSchemaOutInOpAsync(
+                ClientOp.TUPLE_GET_ALL,
+                (s, w) -> keySer.writeRecs(null, missed, s, w, TuplePart.KEY),
+                this::readGetAllRows,
+                Collections.<K, CachedRow>emptyMap(),
+                ClientTupleSerializer.getPartitionAwarenessProvider(null, keySer.mapper(), missed.get(0))
+        ).thenApply(rows -> {
+            // Only the rows that were found are cached, because the response does not contain the keys that are absent.
+            for (Entry<K, CachedRow> e : rows.entrySet()) {
+                int partition = partition(e.getKey());
+                Long partitionVersion = partitionVersions.get(partition);
+
+                if (partitionVersion != null) {
+                    nearCache.put(e.getKey(), e.getValue(), partition, partitionVersion, stamp);
+                }
+
+                res.put(e.getKey(), readCachedValue(e.getValue()));
+            }
+
+            return res;
+        });
+    }
+
+    private int partition(K key) {
+        return tbl.partition(ClientTupleSerializer.getPartitionAwarenessProvider(null, keySer.mapper(), key));
+    }
+
+    private @Nullable V readCachedValue(@Nullable CachedRow row) {
+        if (row == null) {
+            return null;
+        }
+
+        return valSer.readRec(row.schema, row.tuple(), TuplePart.VAL);
+    }
+
+    private <T> CompletableFuture<T> invalidateOnWrite(@Nullable Transaction tx, K key, CompletableFuture<T> fut) {
+        return invalidateOnWrite(tx, List.of(key), fut);
+    }
+
+    /**
+     * Removes keys from the near cache, if enabled, when a write operation is committed: on completion of the operation if it runs in an
+     * implicit transaction, or on completion of the explicit transaction otherwise.
+     */
+    private <T> CompletableFuture<T> invalidateOnWrite(@Nullable Transaction tx, Collection<K> keys, CompletableFuture<T> fut) {
+        NearCache<K, CachedRow> nearCache = this.nearCache;
+
+        if (nearCache == null) {
+            return fut;
+        }
+
+        keys.forEach(nearCache::invalidate);
+
+        if (tx == null) {
+            return fut.whenComplete((res, err) -> keys.forEach(nearCache::invalidate));
+        }
+
+        ClientTransaction.get(tx).finishFuture().whenComplete((res, err) -> keys.forEach(nearCache::invalidate));
+
+        return fut;
+    }
+
     private void writeKeyValue(ClientSchema s, PayloadOutputChannel w, @Nullable Transaction tx, @NotNull K key, V val) {
         writeSchemaAndTx(s, w, tx);
         writeKeyValueRaw(s, w, key, val);
@@ -496,6 +677,29 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
         w.out().packInt(s.version());
     }
 
+    private Map<K, CachedRow> readGetAllRows(ClientSchema schema, ClientMessageUnpacker in) {
+        var cnt = in.unpackInt();
+
+        var res = new LinkedHashMap<K, CachedRow>(cnt);
+
+        Marshaller keyMarsh = schema.getMarshaller(keySer.mapper(), TuplePart.KEY);
+
+        try {
+            for (int i = 0; i < cnt; i++) {
+                in.unpackBoolean(); // TODO: Optimize (IGNITE-16022).
+
+                var row = new CachedRow(schema, in.readBinaryUnsafe());
+
+                var reader = new ClientMarshallerReader(new BinaryTupleReader(schema.columns().length, row.tuple()));
+                res.put((K) keyMarsh.readObject(reader, null), row);
+            }
+
+            return res;
+        } catch (MarshallerException e) {
+            throw new IgniteException(UNKNOWN_ERR, e.getMessage(), e);
+        }
+    }
+
     private HashMap<K, V> readGetAllResponse(ClientSchema schema, ClientMessageUnpacker in) {
         var cnt = in.unpackInt();
 
@@ -518,4 +722,26 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
             throw new IgniteException(UNKNOWN_ERR, e.getMessage(), e);
         }
     }
+
+    /**
+     * Row stored in the near cache: a copy of the binary tuple received from the server along with its schema.
+     */
+    private static final class CachedRow {
+        /** Schema. */
+        private final ClientSchema schema;
+
+        /** Binary tuple with all columns. */
+        private final byte[] bytes;
+
+        CachedRow(ClientSchema schema, ByteBuffer tuple) {
+            this.schema = schema;
+
+            bytes = new byte[tuple.remaining()];
+            tuple.get(bytes);
+        }
+
+        ByteBuffer tuple() {
+            return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
 }
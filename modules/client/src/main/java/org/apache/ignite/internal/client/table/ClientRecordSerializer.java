@@ -20,6 +20,7 @@ package org.apache.ignite.internal.client.table;
 import static org.apache.ignite.internal.client.table.ClientTable.writeTx;
 import static org.apache.ignite.lang.ErrorGroups.Common.UNKNOWN_ERR;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
@@ -197,10 +198,14 @@ public class ClientRecordSerializer<R> {
     }
 
     R readRec(ClientSchema schema, ClientMessageUnpacker in, TuplePart part) {
+        return readRec(schema, in.readBinaryUnsafe(), part);
+    }
+
+    R readRec(ClientSchema schema, ByteBuffer tuple, TuplePart part) {
         Marshaller marshaller = schema.getMarshaller(mapper, part);
 
         int columnCount = part == TuplePart.KEY ? schema.keyColumnCount() : schema.columns().length;
-        var tupleReader = new BinaryTupleReader(columnCount, in.readBinaryUnsafe());
+        var tupleReader = new BinaryTupleReader(columnCount, tuple);
 
         int startIndex = part == TuplePart.VAL ? schema.keyColumnCount() : 0;
         ClientMarshallerReader reader = new ClientMarshallerReader(tupleReader, startIndex);
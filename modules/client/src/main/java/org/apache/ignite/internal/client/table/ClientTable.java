@@ -42,6 +42,7 @@ import org.apache.ignite.internal.tostring.IgniteToStringBuilder;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.NearCacheOptions;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Table;
 import org.apache.ignite.table.Tuple;
@@ -72,6 +73,12 @@ public class ClientTable implements Table {
 
     private volatile long partitionAssignmentVersion = -1;
 
+    /** Versions of the partitions, a version changes when the partition is assigned to another node. */
+    private volatile long[] partitionVersions = new long[0];
+
+    /** Number of partition assignment changes, the source of the partition versions. */
+    private long partitionChanges;
+
     /**
      * Constructor.
      *
@@ -127,12 +134,58 @@ public class ClientTable implements Table {
         return new ClientKeyValueView<>(this, keyMapper, valMapper);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <K, V> KeyValueView<K, V> keyValueView(Mapper<K> keyMapper, Mapper<V> valMapper, NearCacheOptions nearCacheOptions) {
+        Objects.requireNonNull(keyMapper);
+        Objects.requireNonNull(valMapper);
+        Objects.requireNonNull(nearCacheOptions);
+
+        if (nearCacheOptions.expireAfterWriteMillis() == 0) {
+            throw new IllegalArgumentException("Near cache of a client view requires a finite expiration time, "
+                    + "because the client is not notified about updates made by other clients.");
+        }
+
+        return new ClientKeyValueView<>(this, keyMapper, valMapper, nearCacheOptions);
+    }
+
     /** {@inheritDoc} */
     @Override
     public KeyValueView<Tuple, Tuple> keyValueView() {
         return new ClientKeyValueBinaryView(this);
     }
 
+    /**
+     * Gets the partition of an object, if the schema and the partition assignment are already known to the client.
+     *
+     * @param provider Partition awareness provider of the object.
+     * @return Partition or {@code -1} if the partition can not be determined without a request to the server.
+     */
+    int partition(PartitionAwarenessProvider provider) {
+        List<String> partitions = partitionAssignment;
+        ClientSchema schema = latestSchemaVer >= 0 ? schemas.get(latestSchemaVer) : null;
+
+        if (partitions == null || partitions.isEmpty() || schema == null) {
+            return -1;
+        }
+
+        Integer hash = provider.getObjectHashCode(schema);
+
+        return hash == null ? -1 : Math.abs(hash % partitions.size());
+    }
+
+    /**
+     * Gets the version of a partition. The version changes when the client learns that the partition has been assigned to another node.
+     *
+     * @param part Partition.
+     * @return Partition version, {@code 0} if the partition is not known yet.
+     */
+    long partitionVersion(int part) {
+        long[] versions = partitionVersions;
+
+        return part < versions.length ? versions[part] : 0;
+    }
+
     private CompletableFuture<ClientSchema> getLatestSchema() {
         if (latestSchemaVer >= 0) {
             return CompletableFuture.completedFuture(schemas.get(latestSchemaVer));
@@ -247,6 +300,12 @@ public class ClientTable implements Table {
             }
 
             out.out().packLong(clientTx.id());
+
+            CompletableFuture<?> responseFut = out.responseFuture();
+
+            if (responseFut != null) {
+                clientTx.trackOperation(responseFut);
+            }
         }
     }
 
@@ -425,12 +484,29 @@ public class ClientTable implements Table {
                         res.add(r.in().unpackString());
                     }
 
-                    partitionAssignment = res;
+                    setPartitionAssignment(res);
 
                     return res;
                 });
     }
 
+    private synchronized void setPartitionAssignment(List<String> newAssignment) {
+        List<String> oldAssignment = partitionAssignment;
+
+        boolean resized = oldAssignment == null || oldAssignment.size() != newAssignment.size();
+
+        long[] versions = resized ? new long[newAssignment.size()] : partitionVersions.clone();
+
+        for (int i = 0; i < versions.length; i++) {
+            if (resized || !Objects.equals(oldAssignment.get(i), newAssignment.get(i))) {
+                versions[i] = ++partitionChanges;
+            }
+        }
+
+        partitionVersions = versions;
+        partitionAssignment = newAssignment;
+    }
+
     @Nullable
     private static String getPreferredNodeId(
             @Nullable PartitionAwarenessProvider provider,
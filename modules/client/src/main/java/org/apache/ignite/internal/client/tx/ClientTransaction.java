@@ -19,11 +19,15 @@ package org.apache.ignite.internal.client.tx;
 
 import static org.apache.ignite.internal.client.ClientUtils.sync;
 import static org.apache.ignite.lang.ErrorGroups.Common.UNEXPECTED_ERR;
+import static org.apache.ignite.lang.ErrorGroups.Transactions.TX_COMMIT_ERR;
 
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.internal.client.ClientChannel;
 import org.apache.ignite.internal.client.proto.ClientOp;
+import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.tx.Transaction;
 import org.apache.ignite.tx.TransactionException;
@@ -42,9 +46,21 @@ public class ClientTransaction implements Transaction {
     /** The future used on repeated commit/rollback. */
     private final AtomicReference<CompletableFuture<Void>> finishFut = new AtomicReference<>();
 
+    /** The future that completes when the transaction is finished. */
+    private final CompletableFuture<Void> finishedFut = new CompletableFuture<>();
+
     /** Read-only flag. */
     private final boolean isReadOnly;
 
+    /**
+     * Operations of this transaction that were sent to the server but were not acknowledged yet. Commit waits for them,
+     * so the user does not have to wait for every write before issuing the next one.
+     */
+    private final Set<CompletableFuture<?>> pendingOps = ConcurrentHashMap.newKeySet();
+
+    /** First failure of an operation of this transaction, commit rolls the transaction back if it is set. */
+    private final AtomicReference<Throwable> opFailure = new AtomicReference<>();
+
     /**
      * Constructor.
      *
@@ -75,6 +91,27 @@ public class ClientTransaction implements Transaction {
         return ch;
     }
 
+    /**
+     * Registers an operation that was sent within this transaction. Commit and rollback are not sent to the server until
+     * all registered operations complete; if any of them fails, either before or after commit is called, commit rolls the
+     * transaction back and fails.
+     *
+     * @param opFut Response future of the operation.
+     */
+    public void trackOperation(CompletableFuture<?> opFut) {
+        if (!opFut.isDone()) {
+            pendingOps.add(opFut);
+        }
+
+        opFut.whenComplete((res, err) -> {
+            if (err != null) {
+                opFailure.compareAndSet(null, err);
+            }
+
+            pendingOps.remove(opFut);
+        });
+    }
+
     /** {@inheritDoc} */
     @Override
     public void commit() throws TransactionException {
@@ -88,9 +125,32 @@ public class ClientTransaction implements Transaction {
             return finishFut.get();
         }
 
-        CompletableFuture<Void> mainFinishFut = ch.serviceAsync(ClientOp.TX_COMMIT, w -> w.out().packLong(id), r -> null);
-
-        mainFinishFut.handle((res, e) -> finishFut.get().complete(null));
+        CompletableFuture<?>[] ops = pendingOps.toArray(new CompletableFuture<?>[0]);
+
+        CompletableFuture<Void> mainFinishFut = CompletableFuture.allOf(ops)
+                .handle((res, err) -> err != null ? err : opFailure.get())
+                .thenCompose(err -> {
+                    if (err == null) {
+                        return ch.serviceAsync(ClientOp.TX_COMMIT, w -> w.out().packLong(id), r -> null);
+                    }
+
+                    // One of the operations failed, possibly before the commit was called and unnoticed by the user,
+                    // so the transaction can not be committed.
+                    return ch.<Void>serviceAsync(ClientOp.TX_ROLLBACK, w -> w.out().packLong(id), r -> null)
+                            .handle((res, rollbackErr) -> {
+                                throw new TransactionException(
+                                        TX_COMMIT_ERR,
+                                        "Transaction was rolled back because one of its operations failed",
+                                        ExceptionUtils.unwrapCause(err)
+                                );
+                            });
+                });
+
+        mainFinishFut.handle((res, e) -> {
+            finishedFut.complete(null);
+
+            return finishFut.get().complete(null);
+        });
 
         return mainFinishFut;
     }
@@ -108,13 +168,31 @@ public class ClientTransaction implements Transaction {
             return finishFut.get();
         }
 
-        CompletableFuture<Void> mainFinishFut = ch.serviceAsync(ClientOp.TX_ROLLBACK, w -> w.out().packLong(id), r -> null);
+        CompletableFuture<?>[] ops = pendingOps.toArray(new CompletableFuture<?>[0]);
+
+        // Failures of pending operations do not matter here, the transaction is rolled back anyway.
+        CompletableFuture<Void> mainFinishFut = CompletableFuture.allOf(ops)
+                .handle((res, err) -> null)
+                .thenCompose(v -> ch.serviceAsync(ClientOp.TX_ROLLBACK, w -> w.out().packLong(id), r -> null));
+
+        mainFinishFut.handle((res, e) -> {
+            finishedFut.complete(null);
 
-        mainFinishFut.handle((res, e) -> finishFut.get().complete(null));
+            return finishFut.get().complete(null);
+        });
 
         return mainFinishFut;
     }
 
+    /**
+     * Returns a future that completes when the transaction is committed or rolled back.
+     *
+     * @return Future that completes when the transaction is finished.
+     */
+    public CompletableFuture<Void> finishFuture() {
+        return finishedFut;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean isReadOnly() {
@@ -37,10 +37,12 @@ import java.util.List;
 import java.util.Map;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.NearCacheOptions;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Table;
 import org.apache.ignite.table.Tuple;
 import org.apache.ignite.table.mapper.Mapper;
+import org.apache.ignite.tx.Transaction;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -502,4 +504,33 @@ public class ClientKeyValueViewTest extends AbstractClientTableTest {
 
         assertTrue(ex.getMessage().contains("null was passed, but column is not nullable"), ex.getMessage());
     }
+
+    @Test
+    public void testNearCacheRequiresExpiration() {
+        Table table = defaultTable();
+
+        var ex = assertThrows(IllegalArgumentException.class,
+                () -> table.keyValueView(Long.class, String.class, new NearCacheOptions().expireAfterWriteMillis(0)));
+
+        assertThat(ex.getMessage(), containsString("requires a finite expiration time"));
+    }
+
+    @Test
+    public void testNearCacheInvalidatedOnCommit() {
+        Table table = defaultTable();
+        KeyValueView<Long, String> view = table.keyValueView(Long.class, String.class, new NearCacheOptions());
+
+        view.put(null, DEFAULT_ID, "a");
+
+        assertEquals("a", view.get(null, DEFAULT_ID));
+        assertEquals("a", view.get(null, DEFAULT_ID));
+
+        Transaction tx = client.transactions().begin();
+
+        view.put(tx, DEFAULT_ID, "b");
+
+        tx.commit();
+
+        assertEquals("b", view.get(null, DEFAULT_ID));
+    }
 }
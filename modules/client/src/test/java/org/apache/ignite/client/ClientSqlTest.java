@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
@@ -131,6 +132,63 @@ public class ClientSqlTest extends AbstractClientTableTest {
         assertEquals("3", props.get("prop3"));
     }
 
+    @Test
+    public void testPrefetchPagesPropertyValidation() {
+        // The server expects an Integer.
+        assertEquals(2, client.sql().sessionBuilder().property("prefetch_pages", 2L).property("prefetch_pages"));
+        assertEquals(2, client.sql().statementBuilder().property("prefetch_pages", (short) 2).property("prefetch_pages"));
+
+        Session session = client.sql().sessionBuilder()
+                .property("prefetch_pages", 2L)
+                .build();
+
+        assertEquals(1, session.execute(null, "SELECT 1").next().intValue(0));
+
+        assertThrows(IllegalArgumentException.class, () -> client.sql().sessionBuilder().property("prefetch_pages", -1));
+        assertThrows(IllegalArgumentException.class, () -> client.sql().sessionBuilder().property("prefetch_pages", Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> client.sql().statementBuilder().property("prefetch_pages", "2"));
+    }
+
+    @Test
+    public void testReusedStatement() throws Exception {
+        Session session = client.sql().sessionBuilder()
+                .defaultSchema("SCHEMA1")
+                .property("prop1", "1")
+                .build();
+
+        try (Statement statement = client.sql().statementBuilder()
+                .query("SELECT PROPS")
+                .pageSize(235)
+                .property("prop2", "2")
+                .build()) {
+            ResultSetMetadata firstMeta = null;
+
+            // Statement is prepared on the server after the second execution, the rest are executed by id.
+            for (int i = 0; i < 5; i++) {
+                AsyncResultSet<SqlRow> resultSet = session.executeAsync(null, statement).join();
+
+                Map<String, Object> props = StreamSupport.stream(resultSet.currentPage().spliterator(), false)
+                        .collect(Collectors.toMap(x -> x.stringValue(0), x -> x.value(1)));
+
+                assertEquals("SCHEMA1", props.get("schema"));
+                assertEquals("235", props.get("pageSize"));
+                assertEquals("1", props.get("prop1"));
+                assertEquals("2", props.get("prop2"));
+
+                ResultSetMetadata meta = resultSet.metadata();
+
+                assertNotNull(meta);
+
+                if (firstMeta == null) {
+                    firstMeta = meta;
+                } else {
+                    assertEquals(firstMeta.columns().size(), meta.columns().size());
+                    assertEquals(firstMeta.columns().get(0).name(), meta.columns().get(0).name());
+                }
+            }
+        }
+    }
+
     @Test
     public void testMetadata() {
         Session session = client.sql().createSession();
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.client;
 
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.lang.ErrorGroups.Client.TABLE_ID_NOT_FOUND_ERR;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -27,14 +29,20 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.apache.ignite.client.fakes.FakeIgniteTables;
 import org.apache.ignite.client.fakes.FakeSchemaRegistry;
+import org.apache.ignite.internal.client.tx.ClientTransaction;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Table;
 import org.apache.ignite.table.Tuple;
+import org.apache.ignite.tx.Transaction;
+import org.apache.ignite.tx.TransactionException;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -400,4 +408,72 @@ public class ClientTableTest extends AbstractClientTableTest {
         assertThat(ex.getMessage(), containsString("Table does not exist: "));
         assertEquals(TABLE_ID_NOT_FOUND_ERR, ex.code());
     }
+
+    @Test
+    public void testCommitWaitsForPipelinedOperations() throws Exception {
+        RecordView<Tuple> recView = defaultTable().recordView();
+        Transaction tx = client.transactions().begin();
+
+        List<CompletableFuture<Void>> futs = new ArrayList<>();
+
+        for (long i = 0; i < 10; i++) {
+            futs.add(recView.upsertAsync(tx, tuple(i, "pipelined-" + i)));
+        }
+
+        // An operation that is not acknowledged yet holds the commit back.
+        CompletableFuture<Void> unacknowledgedOp = new CompletableFuture<>();
+
+        ClientTransaction.get(tx).trackOperation(unacknowledgedOp);
+
+        CompletableFuture<Void> commitFut = tx.commitAsync();
+
+        assertFalse(waitForCondition(commitFut::isDone, 500));
+
+        unacknowledgedOp.complete(null);
+
+        assertThat(commitFut, willCompleteSuccessfully());
+
+        for (CompletableFuture<Void> fut : futs) {
+            assertThat(fut, willCompleteSuccessfully());
+        }
+
+        assertEquals("pipelined-9", recView.get(null, tupleKey(9L)).stringValue("name"));
+    }
+
+    @Test
+    public void testCommitFailsWhenPipelinedOperationFails() {
+        ((FakeIgniteTables) server.tables()).createTable("drop-me-tx");
+        RecordView<Tuple> recView = client.tables().table("drop-me-tx").recordView();
+
+        // Load the schema, so that the next operation is sent to the server and fails there.
+        recView.upsert(null, tuple(1L));
+        ((FakeIgniteTables) server.tables()).dropTable("drop-me-tx");
+
+        Transaction tx = client.transactions().begin();
+        CompletableFuture<Void> upsertFut = recView.upsertAsync(tx, tuple(2L));
+
+        var ex = assertThrows(TransactionException.class, tx::commit);
+
+        assertThat(ex.getMessage(), containsString("Transaction was rolled back because one of its operations failed"));
+        assertThrows(CompletionException.class, upsertFut::join);
+    }
+
+    @Test
+    public void testCommitFailsWhenPipelinedOperationFailedBeforeCommit() {
+        ((FakeIgniteTables) server.tables()).createTable("drop-me-tx-2");
+        RecordView<Tuple> recView = client.tables().table("drop-me-tx-2").recordView();
+
+        recView.upsert(null, tuple(1L));
+        ((FakeIgniteTables) server.tables()).dropTable("drop-me-tx-2");
+
+        Transaction tx = client.transactions().begin();
+        CompletableFuture<Void> upsertFut = recView.upsertAsync(tx, tuple(2L));
+
+        // The failure is over before the commit, so the operation is not pending anymore.
+        assertThrows(CompletionException.class, upsertFut::join);
+
+        var ex = assertThrows(TransactionException.class, tx::commit);
+
+        assertThat(ex.getMessage(), containsString("Transaction was rolled back because one of its operations failed"));
+    }
 }
@@ -151,6 +151,11 @@ public class FakeIgnite implements Ignite {
                     public HybridTimestamp readTimestamp() {
                         return null;
                     }
+
+                    @Override
+                    public CompletableFuture<Void> finishFuture() {
+                        return CompletableFuture.completedFuture(null);
+                    }
                 });
             }
         };
@@ -1506,6 +1506,13 @@ public abstract class GridUnsafe {
         UNSAFE.putLongVolatile(obj, off, val);
     }
 
+    /**
+     * Ensures that loads before the fence will not be reordered with loads after the fence.
+     */
+    public static void loadFence() {
+        UNSAFE.loadFence();
+    }
+
     /**
      * Stores reference value with volatile semantic.
      *
@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongSupplier;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded local cache of table entries that is used to serve repeated key lookups without a network round trip.
+ *
+ * <p>Every entry remembers the partition it belongs to and the version of that partition at the moment the entry was loaded. An entry
+ * is not returned if it has expired, or if the version of its partition has changed since it was loaded. This allows to invalidate all
+ * entries of a partition in O(1) once the partition receives committed updates.
+ *
+ * <p>Only the partitions whose committed updates are tracked by the owner of the cache get their versions changed on updates. Entries
+ * of the other partitions can only become stale, so they are cached only if entries expire.
+ *
+ * <p>Absent keys are cached as well: an entry with a {@code null} value means that there was no such key in the table.
+ *
+ * <p>The cache is split into a number of segments, each of which is an LRU map guarded by its own monitor.
+ *
+ * @param <K> Key type.
+ * @param <V> Cached value type.
+ */
+public class NearCache<K, V> {
+    /** Number of segments. */
+    private static final int SEGMENTS = 16;
+
+    /** Segments. */
+    private final Segment<K, V>[] segments;
+
+    /** Time to live of an entry, in milliseconds. {@code 0} means that entries do not expire. */
+    private final long expireAfterWriteMillis;
+
+    /** Provides the current version of a partition. */
+    private final IntToLongFunction partitionVersion;
+
+    /** Tells whether the version of a partition is changed on every committed update of the partition. */
+    private final IntPredicate updatesTracked;
+
+    /** Clock, in milliseconds. */
+    private final LongSupplier clock;
+
+    /** Incremented on every explicit invalidation, used to discard entries that were loaded concurrently with an update. */
+    private final AtomicLong stamp = new AtomicLong();
+
+    /** Number of cache hits. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Number of cache misses. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries Maximum number of entries.
+     * @param expireAfterWriteMillis Time to live of an entry, in milliseconds, {@code 0} to keep entries until they are evicted.
+     * @param partitionVersion Provides the current version of a partition.
+     * @param updatesTracked Tells whether the version of a partition is changed on every committed update of the partition.
+     */
+    public NearCache(long maxEntries, long expireAfterWriteMillis, IntToLongFunction partitionVersion, IntPredicate updatesTracked) {
+        this(maxEntries, expireAfterWriteMillis, partitionVersion, updatesTracked, FastTimestamps::coarseCurrentTimeMillis);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxEntries Maximum number of entries.
+     * @param expireAfterWriteMillis Time to live of an entry, in milliseconds, {@code 0} to keep entries until they are evicted.
+     * @param partitionVersion Provides the current version of a partition.
+     * @param updatesTracked Tells whether the version of a partition is changed on every committed update of the partition.
+     * @param clock Clock, in milliseconds.
+     */
+    NearCache(
+            long maxEntries,
+            long expireAfterWriteMillis,
+            IntToLongFunction partitionVersion,
+            IntPredicate updatesTracked,
+            LongSupplier clock
+    ) {
+        assert maxEntries > 0 : maxEntries;
+        assert expireAfterWriteMillis >= 0 : expireAfterWriteMillis;
+
+        this.expireAfterWriteMillis = expireAfterWriteMillis;
+        this.partitionVersion = partitionVersion;
+        this.updatesTracked = updatesTracked;
+        this.clock = clock;
+
+        int segmentCapacity = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (maxEntries + SEGMENTS - 1) / SEGMENTS));
+
+        //noinspection unchecked
+        segments = (Segment<K, V>[]) new Segment[SEGMENTS];
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /**
+     * Returns a valid cached entry for the given key.
+     *
+     * @param key Key.
+     * @return Cached entry or {@code null} if there is no valid entry for the key.
+     */
+    public @Nullable Entry<V> get(K key) {
+        Segment<K, V> segment = segment(key);
+
+        Entry<V> entry;
+
+        synchronized (segment) {
+            entry = segment.get(key);
+        }
+
+        if (entry != null && !isValid(entry)) {
+            synchronized (segment) {
+                segment.remove(key, entry);
+            }
+
+            entry = null;
+        }
+
+        if (entry == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return entry;
+    }
+
+    /**
+     * Returns the current stamp of the cache. Must be obtained before loading a value that is going to be put to the cache.
+     *
+     * @return Stamp.
+     */
+    public long stamp() {
+        return stamp.get();
+    }
+
+    /**
+     * Returns the current version of a partition. Must be obtained before loading a value that is going to be put to the cache.
+     *
+     * @param partition Partition.
+     * @return Partition version.
+     */
+    public long partitionVersion(int partition) {
+        return partitionVersion.applyAsLong(partition);
+    }
+
+    /**
+     * Puts a loaded value to the cache. The value is discarded if the cache or the partition was invalidated after the value had started
+     * loading, or if entries don't expire and updates of the partition are not tracked.
+     *
+     * @param key Key.
+     * @param val Value, {@code null} if there is no such key.
+     * @param partition Partition of the key.
+     * @param partitionVersion Partition version obtained by {@link #partitionVersion(int)} before the value was loaded.
+     * @param stamp Stamp obtained by {@link #stamp()} before the value was loaded.
+     */
+    public void put(K key, @Nullable V val, int partition, long partitionVersion, long stamp) {
+        if (this.stamp.get() != stamp || partitionVersion(partition) != partitionVersion) {
+            return;
+        }
+
+        if (expireAfterWriteMillis == 0 && !updatesTracked.test(partition)) {
+            return;
+        }
+
+        long expireAt = expireAfterWriteMillis == 0 ? Long.MAX_VALUE : clock.getAsLong() + expireAfterWriteMillis;
+
+        var entry = new Entry<>(val, partition, partitionVersion, expireAt);
+
+        Segment<K, V> segment = segment(key);
+
+        synchronized (segment) {
+            // Re-check under the lock to not race with a concurrent invalidation of the same key.
+            if (this.stamp.get() == stamp) {
+                segment.put(key, entry);
+            }
+        }
+    }
+
+    /**
+     * Removes a key from the cache.
+     *
+     * @param key Key.
+     */
+    public void invalidate(K key) {
+        Segment<K, V> segment = segment(key);
+
+        synchronized (segment) {
+            stamp.incrementAndGet();
+
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void invalidateAll() {
+        stamp.incrementAndGet();
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries in the cache, including the ones that are not valid anymore but have not been removed yet.
+     *
+     * @return Number of entries.
+     */
+    public int size() {
+        int size = 0;
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns the number of lookups that were served from the cache.
+     *
+     * @return Number of hits.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that were not served from the cache.
+     *
+     * @return Number of misses.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    private boolean isValid(Entry<V> entry) {
+        return entry.expireAt > clock.getAsLong() && partitionVersion(entry.partition) == entry.partitionVersion;
+    }
+
+    private Segment<K, V> segment(K key) {
+        int h = key.hashCode();
+
+        return segments[(h ^ (h >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * Cached entry.
+     *
+     * @param <V> Cached value type.
+     */
+    public static final class Entry<V> {
+        /** Value, {@code null} if there is no such key. */
+        private final @Nullable V value;
+
+        /** Partition of the key. */
+        private final int partition;
+
+        /** Version of the partition at the moment the entry was loaded. */
+        private final long partitionVersion;
+
+        /** Expiration time, in milliseconds. */
+        private final long expireAt;
+
+        private Entry(@Nullable V value, int partition, long partitionVersion, long expireAt) {
+            this.value = value;
+            this.partition = partition;
+            this.partitionVersion = partitionVersion;
+            this.expireAt = expireAt;
+        }
+
+        /**
+         * Returns the cached value.
+         *
+         * @return Value or {@code null} if there is no such key.
+         */
+        public @Nullable V value() {
+            return value;
+        }
+    }
+
+    /**
+     * LRU segment of the cache.
+     */
+    private static class Segment<K, V> extends LinkedHashMap<K, NearCache.Entry<V>> {
+        private static final long serialVersionUID = 0L;
+
+        /** Maximum number of entries in the segment. */
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+
+            this.capacity = capacity;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, NearCache.Entry<V>> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -30,6 +30,11 @@ import org.apache.ignite.lang.IgniteSystemProperties;
  *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |
  *     +----------------+---------------+---------+----------+
  * </pre>
+ *
+ * <p>The state is followed by an 8-byte version that is incremented on every write unlock, it allows to read the protected resource
+ * optimistically, without taking the lock: see {@link #tryOptimisticRead(long, int)} and {@link #validate(long, int, long)}. The version
+ * is kept out of the state on purpose: every bit of the state is taken, and a version narrow enough to fit there could wrap around while
+ * an optimistic read is in progress, in which case {@link #validate(long, int, long)} would accept a torn read.
  */
 public class OffheapReadWriteLock {
     /**
@@ -48,8 +53,11 @@ public class OffheapReadWriteLock {
     /** Always lock tag. */
     public static final int TAG_LOCK_ALWAYS = -1;
 
-    /** Lock size. */
-    public static final int LOCK_SIZE = 8;
+    /** Lock size: 8 bytes of the state and 8 bytes of the version. */
+    public static final int LOCK_SIZE = 16;
+
+    /** Offset of the version from the lock address. */
+    private static final int VERSION_OFFSET = 8;
 
     /** Maximum number of waiting threads, read or write. */
     public static final int MAX_WAITERS = 0xFFFF;
@@ -102,6 +110,8 @@ public class OffheapReadWriteLock {
         assert tag != 0;
 
         GridUnsafe.putLong(lock, (long) tag << 16);
+
+        incrementVersion(lock);
     }
 
     /**
@@ -276,13 +286,21 @@ public class OffheapReadWriteLock {
 
         assert tag != 0;
 
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        if (lockCount(state) != -1) {
+            throw new IllegalMonitorStateException("Attempted to release write lock while not holding it "
+                    + "[lock=" + IgniteUtils.hexLong(lock) + ", state=" + IgniteUtils.hexLong(state) + ']');
+        }
+
+        // Must be visible before the lock is released, so that optimistic readers that see the released lock also see the new version.
+        incrementVersion(lock);
+
         while (true) {
-            long state = GridUnsafe.getLongVolatile(null, lock);
+            // Only the waiter counts can change while the write lock is held.
+            state = GridUnsafe.getLongVolatile(null, lock);
 
-            if (lockCount(state) != -1) {
-                throw new IllegalMonitorStateException("Attempted to release write lock while not holding it "
-                        + "[lock=" + IgniteUtils.hexLong(lock) + ", state=" + IgniteUtils.hexLong(state) + ']');
-            }
+            assert lockCount(state) == -1 : IgniteUtils.hexLong(state);
 
             updated = releaseWithTag(state, tag);
 
@@ -311,6 +329,63 @@ public class OffheapReadWriteLock {
         }
     }
 
+    /**
+     * Starts an optimistic read: the protected resource may be read without the lock, but the result of the read can be used only if
+     * {@link #validate(long, int, long)} with the returned stamp succeeds after the read.
+     *
+     * @param lock Lock address.
+     * @param tag Expected tag, negative value to ignore the tag.
+     * @return Non-zero stamp, or {@code 0} if the write lock is held or the tag does not match.
+     */
+    public long tryOptimisticRead(long lock, int tag) {
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        if (!checkTag(state, tag) || lockCount(state) == -1) {
+            return 0L;
+        }
+
+        return stamp(GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET));
+    }
+
+    /**
+     * Checks that the protected resource has not been write locked since the given stamp was obtained.
+     *
+     * @param lock Lock address.
+     * @param tag Expected tag, negative value to ignore the tag.
+     * @param stamp Stamp returned by {@link #tryOptimisticRead(long, int)}.
+     * @return {@code True} if the results of the optimistic read are consistent.
+     */
+    public boolean validate(long lock, int tag, long stamp) {
+        assert stamp != 0L;
+
+        // Prevents reordering of the optimistic reads with the reads of the lock state below.
+        GridUnsafe.loadFence();
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return checkTag(state, tag)
+                && lockCount(state) != -1
+                && stamp(GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET)) == stamp;
+    }
+
+    /**
+     * Increments the version of the lock, must be called by the write lock owner or on the initialization.
+     *
+     * @param lock Lock address.
+     */
+    private void incrementVersion(long lock) {
+        GridUnsafe.putLongVolatile(null, lock + VERSION_OFFSET, GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET) + 1);
+    }
+
+    /**
+     * Converts a version to a non-zero stamp.
+     *
+     * @param ver Lock version.
+     */
+    private static long stamp(long ver) {
+        return (ver << 1) | 1L;
+    }
+
     /**
      * Signals readers or writers depending on a counter value.
      *
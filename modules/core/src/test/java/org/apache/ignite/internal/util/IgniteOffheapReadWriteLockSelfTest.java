@@ -439,6 +439,48 @@ public class IgniteOffheapReadWriteLockSelfTest extends BaseIgniteAbstractTest {
         validate(data);
     }
 
+    @Test
+    public void testOptimisticRead() {
+        OffheapReadWriteLock lock = new OffheapReadWriteLock(16);
+
+        long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        try {
+            lock.init(ptr, TAG_0);
+
+            long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(stamp != 0L);
+            assertEquals(0L, lock.tryOptimisticRead(ptr, TAG_0 + 1));
+
+            // Read locks don't invalidate optimistic reads.
+            assertTrue(lock.readLock(ptr, TAG_0));
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+            assertEquals(stamp, lock.tryOptimisticRead(ptr, TAG_0));
+            lock.readUnlock(ptr);
+
+            assertTrue(lock.writeLock(ptr, TAG_0));
+            assertEquals(0L, lock.tryOptimisticRead(ptr, TAG_0));
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+            lock.writeUnlock(ptr, TAG_0);
+
+            // Write lock has been released, but the version has changed.
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+
+            stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+
+            // Tag change invalidates optimistic reads.
+            assertTrue(lock.writeLock(ptr, TAG_0));
+            lock.writeUnlock(ptr, TAG_0 + 1);
+
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+        } finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
     /**
      * Validates data integrity.
      *
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NearCache}.
+ */
+public class NearCacheTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicLongArray partitionVersions = new AtomicLongArray(3);
+
+    /** Updates of the partitions {@code 0} and {@code 1} are tracked, updates of the partition {@code 2} are not. */
+    private NearCache<Integer, String> cache(long maxEntries, long expireAfterWriteMillis) {
+        return new NearCache<>(maxEntries, expireAfterWriteMillis, partitionVersions::get, partition -> partition < 2, clock::get);
+    }
+
+    private static void load(NearCache<Integer, String> cache, int key, String val, int partition) {
+        cache.put(key, val, partition, cache.partitionVersion(partition), cache.stamp());
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        NearCache<Integer, String> cache = cache(100, 0);
+
+        assertNull(cache.get(1));
+
+        load(cache, 1, "1", 0);
+        load(cache, 2, null, 0);
+
+        assertEquals("1", cache.get(1).value());
+
+        NearCache.Entry<String> absent = cache.get(2);
+
+        assertNotNull(absent);
+        assertNull(absent.value());
+
+        assertEquals(2, cache.hits());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        NearCache<Integer, String> cache = cache(32, 0);
+
+        for (int i = 0; i < 1000; i++) {
+            load(cache, i, String.valueOf(i), 0);
+        }
+
+        assertTrue(cache.size() <= 32, "size=" + cache.size());
+    }
+
+    @Test
+    public void testExpiration() {
+        NearCache<Integer, String> cache = cache(100, 1000);
+
+        load(cache, 1, "1", 0);
+
+        clock.set(999);
+
+        assertNotNull(cache.get(1));
+
+        clock.set(1000);
+
+        assertNull(cache.get(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testPartitionUpdateInvalidatesEntries() {
+        NearCache<Integer, String> cache = cache(100, 0);
+
+        load(cache, 1, "1", 0);
+        load(cache, 2, "2", 1);
+
+        partitionVersions.incrementAndGet(0);
+
+        assertNull(cache.get(1));
+        assertNotNull(cache.get(2));
+    }
+
+    @Test
+    public void testConcurrentUpdateDiscardsLoadedValue() {
+        NearCache<Integer, String> cache = cache(100, 0);
+
+        long stamp = cache.stamp();
+        long partitionVersion = cache.partitionVersion(0);
+
+        // Key is updated while the old value is being loaded.
+        cache.invalidate(1);
+
+        cache.put(1, "old", 0, partitionVersion, stamp);
+
+        assertNull(cache.get(1));
+
+        partitionVersion = cache.partitionVersion(0);
+        stamp = cache.stamp();
+
+        partitionVersions.incrementAndGet(0);
+
+        cache.put(1, "old", 0, partitionVersion, stamp);
+
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    public void testUntrackedPartitionRequiresExpiration() {
+        NearCache<Integer, String> cache = cache(100, 0);
+
+        load(cache, 1, "1", 0);
+        load(cache, 2, "2", 2);
+
+        assertNotNull(cache.get(1));
+        assertNull(cache.get(2));
+
+        cache = cache(100, 1000);
+
+        load(cache, 2, "2", 2);
+
+        assertNotNull(cache.get(2));
+
+        clock.set(1000);
+
+        assertNull(cache.get(2));
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        NearCache<Integer, String> cache = cache(100, 0);
+
+        load(cache, 1, "1", 0);
+        load(cache, 2, "2", 1);
+
+        cache.invalidateAll();
+
+        assertNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link FileIo} implementation based on a {@link FileChannel} opened with {@link ExtendedOpenOption#DIRECT}, that is, bypassing the OS
+ * page cache.
+ *
+ * <p>Direct I/O requires the file position, the length and the memory address of the buffer to be aligned to the block size of the file
+ * system. Operations that satisfy the requirements go directly to the channel, the others go through an aligned thread local buffer:
+ * reads read the enclosing blocks, writes of whole blocks from unaligned memory are copied, other writes read, modify and write back
+ * the enclosing blocks. The size of the file is kept exactly as
+ * written, as with buffered I/O.
+ *
+ * <p>Memory mapping and transfers, which are not used on hot paths, are served by a buffered channel of the same file.
+ */
+public class DirectFileIo extends AbstractFileIo {
+    /** Maximum size of a cached thread local aligned buffer, larger buffers are allocated per operation. */
+    private static final int MAX_CACHED_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Alignment of buffers allocated by {@link #allocateAlignedBuffer}, the memory page size, which is a multiple of the block size of
+     * common file systems.
+     */
+    private static final int BUFFER_ALIGNMENT = 4096;
+
+    /** Thread local aligned buffers. */
+    private static final ThreadLocal<ByteBuffer> ALIGNED_BUFFER = new ThreadLocal<>();
+
+    /** File path. */
+    private final Path filePath;
+
+    /** Open modes. */
+    private final OpenOption[] modes;
+
+    /** File channel with direct I/O. */
+    private final FileChannel ch;
+
+    /** Block size of the file system in bytes, a power of two. */
+    private final int blockSize;
+
+    /**
+     * Lock to prevent lost updates of blocks: operations that read, modify and write back blocks take the write lock, other writes take
+     * the read lock.
+     */
+    private final ReadWriteLock blocksLock = new ReentrantReadWriteLock();
+
+    /** Buffered file channel for memory mapping and transfers, {@code null} until first used. */
+    private FileChannel bufferedCh;
+
+    /** Position for relative operations. */
+    private long position;
+
+    /**
+     * Creates I/O implementation for specified file.
+     *
+     * @param filePath File path.
+     * @param modes Open modes.
+     * @throws IOException If the file could not be opened.
+     * @throws UnsupportedOperationException If direct I/O is not supported.
+     */
+    public DirectFileIo(Path filePath, OpenOption... modes) throws IOException {
+        this.filePath = filePath;
+        this.modes = modes;
+
+        OpenOption[] directModes = Arrays.copyOf(modes, modes.length + 1);
+
+        directModes[modes.length] = ExtendedOpenOption.DIRECT;
+
+        ch = FileChannel.open(filePath, directModes);
+
+        try {
+            blockSize = Math.toIntExact(Files.getFileStore(filePath).getBlockSize());
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the block size of the file system, to which direct I/O operations must be aligned.
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Allocates a direct buffer with the memory address aligned for direct I/O, so that reads and writes of whole blocks using the
+     * buffer go directly to the file instead of being copied through an intermediate aligned buffer.
+     *
+     * @param size Buffer capacity.
+     * @return Direct buffer with the position {@code 0} and the limit equal to the capacity.
+     */
+    public static ByteBuffer allocateAlignedBuffer(int size) {
+        return ByteBuffer.allocateDirect(size + BUFFER_ALIGNMENT)
+                .alignedSlice(BUFFER_ALIGNMENT)
+                .limit(size)
+                .slice();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long position() throws IOException {
+        return position;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void position(long newPosition) throws IOException {
+        position = newPosition;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf) throws IOException {
+        int n = read(destBuf, position);
+
+        if (n > 0) {
+            position += n;
+        }
+
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf, long position) throws IOException {
+        if (isAligned(destBuf, position)) {
+            return ch.read(destBuf, position);
+        }
+
+        int len = destBuf.remaining();
+
+        if (len == 0) {
+            return ensureOpen();
+        }
+
+        long alignedPos = alignDown(position);
+        int shift = (int) (position - alignedPos);
+
+        ByteBuffer buf = alignedBuffer(alignUp(shift + len));
+
+        readBlocks(buf, alignedPos);
+
+        int n = buf.position();
+
+        if (n <= shift) {
+            return -1;
+        }
+
+        int read = Math.min(len, n - shift);
+
+        buf.position(shift);
+        buf.limit(shift + read);
+
+        destBuf.put(buf);
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        return read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf) throws IOException {
+        int n = write(srcBuf, position);
+
+        position += n;
+
+        return n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf, long position) throws IOException {
+        if (isAligned(srcBuf, position)) {
+            blocksLock.readLock().lock();
+
+            try {
+                return ch.write(srcBuf, position);
+            } finally {
+                blocksLock.readLock().unlock();
+            }
+        }
+
+        int len = srcBuf.remaining();
+
+        if (len == 0) {
+            return ensureOpen();
+        }
+
+        long alignedPos = alignDown(position);
+        int shift = (int) (position - alignedPos);
+        int alignedLen = alignUp(shift + len);
+
+        ByteBuffer buf = alignedBuffer(alignedLen);
+
+        if (shift == 0 && alignedLen == len) {
+            // Whole blocks are overwritten, only the memory of the source buffer is not aligned: copy it to the aligned buffer, there is
+            // nothing to read back.
+            buf.put(srcBuf);
+            buf.rewind();
+
+            blocksLock.readLock().lock();
+
+            try {
+                writeBlocks(buf, alignedPos);
+
+                return len;
+            } finally {
+                blocksLock.readLock().unlock();
+            }
+        }
+
+        blocksLock.writeLock().lock();
+
+        try {
+            long size = ch.size();
+
+            // Read the existing content of the enclosing blocks, the rest of the buffer is zeroed.
+            if (alignedPos < size) {
+                readBlocks(buf, alignedPos);
+            }
+
+            while (buf.hasRemaining()) {
+                buf.put((byte) 0);
+            }
+
+            buf.position(shift);
+            buf.put(srcBuf);
+            buf.rewind();
+
+            writeBlocks(buf, alignedPos);
+
+            // Aligned write could extend the file beyond the written bytes.
+            if (ch.size() > Math.max(size, position + len)) {
+                ch.truncate(Math.max(size, position + len));
+            }
+
+            return len;
+        } finally {
+            blocksLock.writeLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] buf, int off, int len) throws IOException {
+        return write(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force(boolean withMetadata) throws IOException {
+        ch.force(withMetadata);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() throws IOException {
+        return ch.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() throws IOException {
+        ch.truncate(0);
+
+        position = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            ch.close();
+        } finally {
+            if (bufferedCh != null) {
+                bufferedCh.close();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MappedByteBuffer map(int sizeBytes) throws IOException {
+        return bufferedChannel().map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        return bufferedChannel().transferTo(position, count, target);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        return bufferedChannel().transferFrom(src, position, count);
+    }
+
+    private boolean isAligned(ByteBuffer buf, long position) {
+        return buf.isDirect()
+                && (position & (blockSize - 1)) == 0
+                && (buf.remaining() & (blockSize - 1)) == 0
+                && buf.alignmentOffset(buf.position(), blockSize) == 0;
+    }
+
+    private long alignDown(long position) {
+        return position & -blockSize;
+    }
+
+    private int alignUp(int len) {
+        return (len + blockSize - 1) & -blockSize;
+    }
+
+    /**
+     * Reads blocks into the aligned buffer until it is full or the end of the file is reached.
+     */
+    private void readBlocks(ByteBuffer buf, long alignedPos) throws IOException {
+        while (buf.hasRemaining()) {
+            // A read that ends not on a block boundary has reached the end of the file.
+            if (ch.read(buf, alignedPos + buf.position()) < 0 || (buf.position() & (blockSize - 1)) != 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Writes the whole aligned buffer.
+     */
+    private void writeBlocks(ByteBuffer buf, long alignedPos) throws IOException {
+        while (buf.hasRemaining()) {
+            ch.write(buf, alignedPos + buf.position());
+        }
+    }
+
+    /**
+     * Returns a thread local buffer aligned to the block size, with the position {@code 0} and the limit equal to the given length.
+     */
+    private ByteBuffer alignedBuffer(int len) {
+        ByteBuffer buf = ALIGNED_BUFFER.get();
+
+        if (buf == null || buf.capacity() < len || buf.alignmentOffset(0, blockSize) != 0) {
+            buf = ByteBuffer.allocateDirect(len + blockSize).alignedSlice(blockSize);
+
+            if (len <= MAX_CACHED_BUFFER_SIZE) {
+                ALIGNED_BUFFER.set(buf);
+            }
+        }
+
+        buf.clear();
+        buf.limit(len);
+
+        return buf;
+    }
+
+    /**
+     * Throws an exception if the file is closed, otherwise returns {@code 0} as the number of bytes read or written by an empty operation.
+     */
+    private int ensureOpen() throws ClosedChannelException {
+        if (!ch.isOpen()) {
+            throw new ClosedChannelException();
+        }
+
+        return 0;
+    }
+
+    private synchronized FileChannel bufferedChannel() throws IOException {
+        if (!ch.isOpen()) {
+            throw new ClosedChannelException();
+        }
+
+        if (bufferedCh == null) {
+            // The file already exists, options affecting its creation or lifetime must not be applied twice.
+            OpenOption[] bufferedModes = Arrays.stream(modes)
+                    .filter(mode -> mode != CREATE_NEW && mode != TRUNCATE_EXISTING && mode != DELETE_ON_CLOSE)
+                    .toArray(OpenOption[]::new);
+
+            bufferedCh = FileChannel.open(filePath, bufferedModes);
+        }
+
+        return bufferedCh;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+
+/**
+ * {@link DirectFileIo} factory.
+ *
+ * <p>If direct I/O is not supported by the platform or the file system (for example, tmpfs), files are opened by the fallback factory.
+ */
+public class DirectFileIoFactory implements FileIoFactory {
+    private static final IgniteLogger LOG = Loggers.forClass(DirectFileIoFactory.class);
+
+    /** Factory used if direct I/O is not supported. */
+    private final FileIoFactory fallbackFactory;
+
+    /** Whether the fallback has already been logged. */
+    private volatile boolean fallbackLogged;
+
+    /**
+     * Constructor.
+     *
+     * @param fallbackFactory Factory used if direct I/O is not supported.
+     */
+    public DirectFileIoFactory(FileIoFactory fallbackFactory) {
+        this.fallbackFactory = fallbackFactory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FileIo create(Path filePath, OpenOption... modes) throws IOException {
+        try {
+            return new DirectFileIo(filePath, modes);
+        } catch (UnsupportedOperationException | IOException e) {
+            // An error not related to direct I/O, such as a missing file, will be thrown by the fallback factory as well.
+            if (!fallbackLogged) {
+                fallbackLogged = true;
+
+                LOG.warn("Direct I/O is not supported, buffered I/O will be used [file={}, err={}]", filePath, e.toString());
+            }
+
+            return fallbackFactory.create(filePath, modes);
+        }
+    }
+
+    /**
+     * Returns {@code true} if direct I/O is supported for files of the given directory.
+     *
+     * @param dir Directory.
+     */
+    public static boolean isSupported(Path dir) {
+        try {
+            Path testFile = Files.createTempFile(dir, "direct-io", ".tmp");
+
+            try {
+                new DirectFileIo(testFile).close();
+
+                return true;
+            } finally {
+                Files.deleteIfExists(testFile);
+            }
+        } catch (UnsupportedOperationException | IOException e) {
+            return false;
+        }
+    }
+}
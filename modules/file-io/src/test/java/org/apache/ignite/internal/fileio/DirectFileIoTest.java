@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link DirectFileIo} testing.
+ */
+public class DirectFileIoTest extends AbstractFileIoTest {
+    @BeforeEach
+    void setUp() {
+        assumeTrue(DirectFileIoFactory.isSupported(workDir), "Direct I/O is not supported by the file system");
+
+        fileIoFactory = new DirectFileIoFactory(new RandomAccessFileIoFactory());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Class<? extends FileIo> fileIoClass() {
+        return DirectFileIo.class;
+    }
+
+    @Test
+    void testUnalignedReadsAndWrites() throws Exception {
+        Path file = workDir.resolve("unaligned");
+
+        Random random = new Random(0);
+
+        byte[] expected = new byte[64 * 1024];
+
+        int size = 0;
+
+        try (FileIo fileIo = fileIoFactory.create(file)) {
+            for (int i = 0; i < 1_000; i++) {
+                int position = random.nextInt(expected.length - 10_000);
+
+                if (random.nextBoolean()) {
+                    byte[] bytes = new byte[random.nextInt(10_000) + 1];
+
+                    random.nextBytes(bytes);
+
+                    ByteBuffer buf = random.nextBoolean()
+                            ? ByteBuffer.wrap(bytes)
+                            : ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+                    fileIo.writeFully(buf, position);
+
+                    System.arraycopy(bytes, 0, expected, position, bytes.length);
+
+                    size = Math.max(size, position + bytes.length);
+                } else {
+                    int len = random.nextInt(10_000) + 1;
+
+                    ByteBuffer buf = ByteBuffer.allocate(len);
+
+                    int read = Math.max(fileIo.read(buf, position), 0);
+
+                    assertEquals(Math.max(0, Math.min(len, size - position)), read);
+                    assertArrayEquals(Arrays.copyOfRange(expected, position, position + read), Arrays.copyOf(buf.array(), read));
+                }
+
+                assertEquals(size, fileIo.size());
+            }
+        }
+    }
+
+    @Test
+    void testAlignedReadsAndWrites() throws Exception {
+        try (DirectFileIo fileIo = (DirectFileIo) fileIoFactory.create(workDir.resolve("aligned"))) {
+            int blockSize = fileIo.blockSize();
+
+            ByteBuffer buf = ByteBuffer.allocateDirect(4 * blockSize + blockSize).alignedSlice(blockSize);
+
+            while (buf.hasRemaining()) {
+                buf.put((byte) buf.position());
+            }
+
+            fileIo.writeFully(buf.flip(), blockSize);
+
+            assertEquals(5L * blockSize, fileIo.size());
+
+            ByteBuffer read = ByteBuffer.allocateDirect(4 * blockSize + blockSize).alignedSlice(blockSize);
+
+            fileIo.readFully(read, blockSize);
+
+            assertEquals(buf.flip(), read.flip());
+        }
+    }
+
+    @Test
+    void testWholeBlockWritesFromHeapBuffer() throws Exception {
+        try (DirectFileIo fileIo = (DirectFileIo) fileIoFactory.create(workDir.resolve("heap"))) {
+            int blockSize = fileIo.blockSize();
+
+            byte[] expected = new byte[4 * blockSize];
+
+            Arrays.fill(expected, (byte) 1);
+
+            fileIo.writeFully(ByteBuffer.wrap(expected), 0);
+
+            byte[] bytes = new byte[2 * blockSize];
+
+            new Random(0).nextBytes(bytes);
+
+            fileIo.writeFully(ByteBuffer.wrap(bytes), blockSize);
+
+            System.arraycopy(bytes, 0, expected, blockSize, bytes.length);
+
+            assertEquals(4L * blockSize, fileIo.size());
+
+            ByteBuffer read = ByteBuffer.allocate(expected.length);
+
+            fileIo.readFully(read, 0);
+
+            assertArrayEquals(expected, read.array());
+        }
+    }
+}
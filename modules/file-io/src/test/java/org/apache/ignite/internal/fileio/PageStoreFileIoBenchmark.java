@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark comparing buffered and direct I/O for page store access patterns: a checkpoint-like write of a batch of pages followed by
+ * fsync, and random single page reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PageStoreFileIoBenchmark {
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    /** Size of the file, in pages. */
+    private static final int PAGES = 64 * 1024;
+
+    /** Number of pages written by one checkpoint. */
+    private static final int CHECKPOINT_PAGES = 1024;
+
+    /** Whether direct I/O is used. */
+    @Param({"false", "true"})
+    private boolean directIo;
+
+    private Path dir;
+
+    private FileIo fileIo;
+
+    private ByteBuffer page;
+
+    /**
+     * Creates and fills the file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory(PageStoreFileIoBenchmark.class.getSimpleName());
+
+        FileIoFactory factory = new RandomAccessFileIoFactory();
+
+        if (directIo) {
+            factory = new DirectFileIoFactory(factory);
+        }
+
+        fileIo = factory.create(dir.resolve("part.bin"), CREATE, READ, WRITE);
+
+        page = ByteBuffer.allocateDirect(2 * PAGE_SIZE).alignedSlice(PAGE_SIZE).limit(PAGE_SIZE).slice();
+
+        while (page.hasRemaining()) {
+            page.put((byte) ThreadLocalRandom.current().nextInt());
+        }
+
+        for (int i = 0; i < PAGES; i++) {
+            fileIo.writeFully(page.clear(), (long) i * PAGE_SIZE);
+        }
+
+        fileIo.force();
+    }
+
+    /**
+     * Closes and removes the file.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        fileIo.close();
+
+        IgniteUtils.deleteIfExists(dir);
+    }
+
+    /**
+     * Writes a batch of random pages and syncs the file, like a checkpoint does.
+     */
+    @Benchmark
+    public void checkpoint() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < CHECKPOINT_PAGES; i++) {
+            fileIo.writeFully(page.clear(), (long) random.nextInt(PAGES) * PAGE_SIZE);
+        }
+
+        fileIo.force();
+    }
+
+    /**
+     * Reads a random page, like a page replacement miss does.
+     */
+    @Benchmark
+    public ByteBuffer readPage() throws IOException {
+        fileIo.readFully(page.clear(), (long) ThreadLocalRandom.current().nextInt(PAGES) * PAGE_SIZE);
+
+        return page;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Command line arguments.
+     * @throws RunnerException If failed.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PageStoreFileIoBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
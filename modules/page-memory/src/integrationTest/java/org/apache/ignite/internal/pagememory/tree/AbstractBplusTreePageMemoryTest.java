@@ -255,6 +255,63 @@ public abstract class AbstractBplusTreePageMemoryTest extends BaseIgniteAbstract
         checkCursor(tree.find(10L, 70L), map.subMap(10L, true, 70L, true).values().iterator());
     }
 
+    @Test
+    public void testPutAll() throws Exception {
+        TestTree tree = createTestTree(true);
+        TreeMap<Long, Long> map = new TreeMap<>();
+
+        long size = CNT * CNT;
+
+        // Sorted rows into an empty tree.
+        List<Long> rows = new ArrayList<>();
+
+        for (long i = 1; i <= size; i++) {
+            rows.add(i * 2);
+        }
+
+        tree.putAll(rows.iterator());
+
+        rows.forEach(row -> map.put(row, row));
+
+        assertNoLocks();
+
+        tree.validateTree();
+
+        checkCursor(tree.find(null, null), map.values().iterator());
+
+        // Sorted rows both inside and beyond the current range of the tree.
+        rows.clear();
+
+        for (long i = size; i <= 3 * size; i++) {
+            rows.add(i);
+        }
+
+        tree.putAll(rows.iterator());
+
+        rows.forEach(row -> map.put(row, row));
+
+        // Unsorted rows.
+        rows.clear();
+
+        for (long i = 1; i <= size; i += 2) {
+            rows.add(i);
+        }
+
+        shuffle(rows);
+
+        tree.putAll(rows.iterator());
+
+        rows.forEach(row -> map.put(row, row));
+
+        assertNoLocks();
+
+        tree.validateTree();
+
+        assertEquals(map.size(), tree.size());
+
+        checkCursor(tree.find(null, null), map.values().iterator());
+    }
+
     @Test
     public void testRetries() throws Exception {
         TestTree tree = createTestTree(true);
@@ -2777,6 +2834,13 @@ public abstract class AbstractBplusTreePageMemoryTest extends BaseIgniteAbstract
             return Long.compare(n1, n2);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        protected boolean optimisticReads() {
+            // Keys are compared right on the page, concurrent tests also cover optimistic reads of inner pages.
+            return true;
+        }
+
         /** {@inheritDoc} */
         @Override
         public Long getRow(BplusIo<Long> io, long pageAddr, int idx, Object ignore) throws IgniteInternalCheckedException {
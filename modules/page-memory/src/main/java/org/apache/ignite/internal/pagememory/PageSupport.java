@@ -77,6 +77,44 @@ public interface PageSupport {
      */
     long readLockForce(int groupId, long pageId, long page);
 
+    /**
+     * Starts an optimistic read of the given page: the page may be read at {@link #optimisticReadAddress} without the read lock, but the
+     * result of the read can be used only if {@link #validateOptimisticRead} with the returned stamp succeeds after the read. The page
+     * content may be inconsistent during an optimistic read, so the reader must not follow links read from the page before validation.
+     *
+     * @param groupId Group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @return Non-zero stamp, or {@code 0} if the page is write locked, has been reused or optimistic reads are not supported.
+     */
+    default long tryOptimisticRead(int groupId, long pageId, long page) {
+        return 0L;
+    }
+
+    /**
+     * Returns an address for an optimistic read of the given page, see {@link #tryOptimisticRead}.
+     *
+     * @param groupId Group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     */
+    default long optimisticReadAddress(int groupId, long pageId, long page) {
+        throw new UnsupportedOperationException("Optimistic reads are not supported");
+    }
+
+    /**
+     * Checks that the given page has not been modified since the stamp was obtained by {@link #tryOptimisticRead}.
+     *
+     * @param groupId Group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param stamp Stamp returned by {@link #tryOptimisticRead}.
+     * @return {@code True} if the result of the optimistic read can be used.
+     */
+    default boolean validateOptimisticRead(int groupId, long pageId, long page, long stamp) {
+        return false;
+    }
+
     /**
      * Releases a read lock, associated with a given page.
      *
@@ -51,6 +51,11 @@ public class PageMemoryCheckpointConfigurationSchema {
     @Value(hasDefault = true)
     public int compactionThreads = 4;
 
+    /** Maximum speed of writing pages to partition files by the delta file compaction in megabytes per second, {@code 0} for unlimited. */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public int compactionSpeedLimit = 0;
+
     /** Timeout for checkpoint read lock acquisition in milliseconds. */
     @Range(min = 0)
     @Value(hasDefault = true)
@@ -64,4 +69,8 @@ public class PageMemoryCheckpointConfigurationSchema {
     /** Use an asynchronous file I/O operations provider. */
     @Value(hasDefault = true)
     public boolean useAsyncFileIoFactory = true;
+
+    /** Use direct I/O, bypassing the OS page cache, for partition files if the file system supports it. */
+    @Value(hasDefault = true)
+    public boolean useDirectIo = false;
 }
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.Constants.MiB;
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
 
 /**
  * Persistent data region configuration schema.
@@ -40,12 +41,45 @@ public class PersistentPageMemoryDataRegionConfigurationSchema extends BasePageM
     /** CLOCK page replacement algorithm. */
     public static final String CLOCK_REPLACEMENT_MODE = "CLOCK";
 
+    /** 2Q page replacement algorithm: scan-resistant, pages loaded only once are replaced first. */
+    public static final String TWO_QUEUE_REPLACEMENT_MODE = "TWO_QUEUE";
+
+    /** Page modifications are not throttled. */
+    public static final String DISABLED_THROTTLING_POLICY = "DISABLED";
+
+    /** Page modifications are throttled based on the checkpoint write speed. */
+    public static final String SPEED_BASED_THROTTLING_POLICY = "SPEED_BASED";
+
+    /** Pages are written to disk as is. */
+    public static final String DISABLED_PAGE_COMPRESSION = "DISABLED";
+
+    /** Free space of pages is not written to disk. */
+    public static final String SKIP_GARBAGE_PAGE_COMPRESSION = "SKIP_GARBAGE";
+
+    /** Free space of pages is not written to disk and the rest is compressed with the Deflate algorithm. */
+    public static final String DEFLATE_PAGE_COMPRESSION = "DEFLATE";
+
     /** Memory region size in bytes. */
     @Value(hasDefault = true)
     public long size = DFLT_DATA_REGION_SIZE;
 
     /** Memory pages replacement mode. */
-    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE})
+    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE, TWO_QUEUE_REPLACEMENT_MODE})
     @Value(hasDefault = true)
     public String replacementMode = CLOCK_REPLACEMENT_MODE;
+
+    /** Throttling policy of page modifications during a checkpoint. */
+    @OneOf({DISABLED_THROTTLING_POLICY, SPEED_BASED_THROTTLING_POLICY})
+    @Value(hasDefault = true)
+    public String throttlingPolicy = SPEED_BASED_THROTTLING_POLICY;
+
+    /** Compression of pages written to disk by checkpoints. */
+    @OneOf({DISABLED_PAGE_COMPRESSION, SKIP_GARBAGE_PAGE_COMPRESSION, DEFLATE_PAGE_COMPRESSION})
+    @Value(hasDefault = true)
+    public String pageCompression = DISABLED_PAGE_COMPRESSION;
+
+    /** Level of the page compression algorithm, from {@code 1} (fastest) to {@code 9} (best compression). */
+    @Range(min = 1, max = 9)
+    @Value(hasDefault = true)
+    public int pageCompressionLevel = 1;
 }
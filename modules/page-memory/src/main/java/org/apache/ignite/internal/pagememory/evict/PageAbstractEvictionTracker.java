@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
+import org.apache.ignite.internal.pagememory.io.DataPagePayload;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.mem.IgniteOutOfMemoryException;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+
+/**
+ * Base class for sampling eviction trackers of a {@link VolatilePageMemory}.
+ *
+ * <p>Every data page gets a slot in a tracking array indexed by the page sequence number, the slot keeps compact timestamps of the latest
+ * accesses to the page. To evict a page, a few random slots are sampled and the "coldest" of the sampled pages is evicted row by row via
+ * {@link RowEvictionHandler}. Data pages of a type the handler does not evict are forgotten once sampled, so they are not sampled again.
+ */
+public abstract class PageAbstractEvictionTracker implements PageEvictionTracker {
+    /** Number of bits the millisecond timestamp is shifted by to get a compact timestamp, gives ~256 ms resolution. */
+    private static final int COMPACT_TS_SHIFT = 8;
+
+    /** Number of tracked pages sampled to choose one to evict. */
+    static final int SAMPLE_SIZE = 5;
+
+    /** Maximum number of random slots looked at while collecting a sample. */
+    private static final int SAMPLE_SPIN_LIMIT = SAMPLE_SIZE * 1000;
+
+    /** Maximum number of chosen pages that may fail to evict in a row. */
+    private static final int EVICT_ATTEMPTS_LIMIT = 30;
+
+    /** Page memory. */
+    protected final VolatilePageMemory pageMem;
+
+    /** Number of tracked pages. */
+    protected final int trackedPages;
+
+    /** Base for compact timestamps, so that a zero timestamp always means "not tracked". */
+    private final long baseCompactTs;
+
+    /** Share of the data region that must be occupied before the eviction starts. */
+    private final double evictionThreshold;
+
+    /** Number of empty pages the free list must keep, the eviction does not start while there are more empty pages than that. */
+    private final int emptyPagesPoolSize;
+
+    /** Provides the number of empty data pages in the free list. */
+    private final IntSupplier emptyDataPages;
+
+    /** Removes rows of the evicted pages. */
+    private final RowEvictionHandler<?> rowEvictionHandler;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Page memory.
+     * @param regionCfg Data region configuration.
+     * @param emptyDataPages Provides the number of empty data pages in the free list of the data region.
+     * @param rowEvictionHandler Removes rows of the evicted pages.
+     */
+    protected PageAbstractEvictionTracker(
+            VolatilePageMemory pageMem,
+            VolatilePageMemoryDataRegionView regionCfg,
+            IntSupplier emptyDataPages,
+            RowEvictionHandler<?> rowEvictionHandler
+    ) {
+        this.pageMem = pageMem;
+        this.evictionThreshold = regionCfg.evictionThreshold();
+        this.emptyPagesPoolSize = regionCfg.emptyPagesPoolSize();
+        this.emptyDataPages = emptyDataPages;
+        this.rowEvictionHandler = rowEvictionHandler;
+
+        trackedPages = pageMem.totalPages();
+
+        baseCompactTs = (coarseCurrentTimeMillis() >> COMPACT_TS_SHIFT) - 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchPage(long pageId) {
+        touchPage(trackingIndex(pageId), compactTimestamp());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forgetPage(long pageId) {
+        forgetPage(trackingIndex(pageId));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean evictionRequired() {
+        return pageMem.loadedPages() > trackedPages * evictionThreshold && emptyDataPages.getAsInt() < emptyPagesPoolSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictDataPage() throws IgniteInternalCheckedException {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int attempt = 0; attempt < EVICT_ATTEMPTS_LIMIT; attempt++) {
+            int coldestIdx = -1;
+            int coldestTs = Integer.MAX_VALUE;
+
+            int sampled = 0;
+
+            for (int spin = 0; spin < SAMPLE_SPIN_LIMIT && sampled < SAMPLE_SIZE; spin++) {
+                int trackingIdx = rnd.nextInt(trackedPages);
+
+                int ts = evictionTimestamp(trackingIdx);
+
+                if (ts == 0) {
+                    // Not a data page or not touched yet.
+                    continue;
+                }
+
+                sampled++;
+
+                if (ts < coldestTs) {
+                    coldestTs = ts;
+                    coldestIdx = trackingIdx;
+                }
+            }
+
+            if (coldestIdx == -1) {
+                throw new IgniteOutOfMemoryException("Failed to find a data page for eviction, too few data pages are tracked [sampled="
+                        + SAMPLE_SPIN_LIMIT + ", trackedPages=" + trackedPages + ']');
+            }
+
+            if (evictDataPage(coldestIdx)) {
+                return;
+            }
+        }
+
+        throw new IgniteOutOfMemoryException("Too many failed attempts to evict a data page: " + EVICT_ATTEMPTS_LIMIT);
+    }
+
+    /**
+     * Evicts rows of the data page that occupies the given tracking slot.
+     *
+     * @param trackingIdx Tracking slot index, i.e. the page sequence number.
+     * @return {@code True} if at least one row has been evicted.
+     * @throws IgniteInternalCheckedException In case of page memory error.
+     */
+    private boolean evictDataPage(int trackingIdx) throws IgniteInternalCheckedException {
+        return evictDataPage(trackingIdx, rowEvictionHandler);
+    }
+
+    private <R> boolean evictDataPage(int trackingIdx, RowEvictionHandler<R> handler) throws IgniteInternalCheckedException {
+        long fakePageId = PageIdUtils.pageId(0, (byte) 0, pageMem.pageIndex(trackingIdx));
+
+        List<Long> links;
+        List<R> owners;
+
+        long page = pageMem.acquirePage(0, fakePageId);
+
+        try {
+            long pageAddr = pageMem.readLockForce(0, fakePageId, page);
+
+            try {
+                PageIo io = pageMem.ioRegistry().resolve(pageAddr);
+
+                // The page could have been forgotten concurrently.
+                if (evictionTimestamp(trackingIdx) == 0) {
+                    return false;
+                }
+
+                // The page could have been recycled into a page of another type, or belong to a free list with another row type.
+                if (!(io instanceof AbstractDataPageIo) || io.getType() != handler.dataPageIoType()) {
+                    forgetPage(trackingIdx);
+
+                    return false;
+                }
+
+                AbstractDataPageIo<?> dataIo = (AbstractDataPageIo<?>) io;
+
+                links = dataIo.forAllItems(pageAddr, link -> link);
+                owners = new ArrayList<>(links.size());
+
+                for (Long link : links) {
+                    DataPagePayload payload = dataIo.readPayload(pageAddr, PageIdUtils.itemId(link), pageMem.realPageSize(0));
+
+                    owners.add(handler.readRowOwner(pageAddr, link, payload));
+                }
+            } finally {
+                pageMem.readUnlock(0, fakePageId, page);
+            }
+        } finally {
+            pageMem.releasePage(0, fakePageId, page);
+        }
+
+        boolean evicted = false;
+
+        // Page lock must not be held here: evicting a row modifies the page and the structures referencing the row.
+        for (int i = 0; i < links.size(); i++) {
+            R owner = owners.get(i);
+
+            if (owner != null) {
+                evicted |= handler.evictRow(owner, links.get(i));
+            }
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Returns the tracking slot index of a page.
+     *
+     * @param pageId Page ID.
+     */
+    private int trackingIndex(long pageId) {
+        return pageMem.pageSequenceNumber(PageIdUtils.pageIndex(pageId));
+    }
+
+    /**
+     * Returns the current compact timestamp, always positive.
+     */
+    protected int compactTimestamp() {
+        return (int) ((coarseCurrentTimeMillis() >> COMPACT_TS_SHIFT) - baseCompactTs);
+    }
+
+    /**
+     * Records an access to a page.
+     *
+     * @param trackingIdx Tracking slot index.
+     * @param ts Compact timestamp of the access.
+     */
+    protected abstract void touchPage(int trackingIdx, int ts);
+
+    /**
+     * Stops tracking a page.
+     *
+     * @param trackingIdx Tracking slot index.
+     */
+    protected abstract void forgetPage(int trackingIdx);
+
+    /**
+     * Returns the timestamp pages are compared by when choosing a page to evict, the smaller the colder.
+     *
+     * @param trackingIdx Tracking slot index.
+     * @return Compact timestamp or {@code 0} if the page is not tracked.
+     */
+    protected abstract int evictionTimestamp(int trackingIdx);
+}
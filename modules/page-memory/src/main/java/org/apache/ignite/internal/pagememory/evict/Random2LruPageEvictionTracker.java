@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+
+/**
+ * Random-2-LRU eviction tracker: a scan-resistant version of {@link RandomLruPageEvictionTracker}.
+ *
+ * <p>Two latest access timestamps are kept per page and the sampled page with the oldest of the two is evicted, so a page touched once by
+ * a scan stays colder than a page that is accessed regularly.
+ */
+public class Random2LruPageEvictionTracker extends PageAbstractEvictionTracker {
+    /** Two latest access timestamps per page, the page with tracking index {@code i} occupies slots {@code 2 * i} and {@code 2 * i + 1}. */
+    private final AtomicIntegerArray trackingArr;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Page memory.
+     * @param regionCfg Data region configuration.
+     * @param emptyDataPages Provides the number of empty data pages in the free list of the data region.
+     * @param rowEvictionHandler Removes rows of the evicted pages.
+     */
+    public Random2LruPageEvictionTracker(
+            VolatilePageMemory pageMem,
+            VolatilePageMemoryDataRegionView regionCfg,
+            IntSupplier emptyDataPages,
+            RowEvictionHandler<?> rowEvictionHandler
+    ) {
+        super(pageMem, regionCfg, emptyDataPages, rowEvictionHandler);
+
+        trackingArr = new AtomicIntegerArray(trackedPages * 2);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void touchPage(int trackingIdx, int ts) {
+        int first = trackingArr.get(2 * trackingIdx);
+        int second = trackingArr.get(2 * trackingIdx + 1);
+
+        if (first == ts || second == ts) {
+            return;
+        }
+
+        // Overwrite the older of the two timestamps.
+        if (first <= second) {
+            trackingArr.lazySet(2 * trackingIdx, ts);
+        } else {
+            trackingArr.lazySet(2 * trackingIdx + 1, ts);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void forgetPage(int trackingIdx) {
+        trackingArr.set(2 * trackingIdx, 0);
+        trackingArr.set(2 * trackingIdx + 1, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int evictionTimestamp(int trackingIdx) {
+        int first = trackingArr.get(2 * trackingIdx);
+        int second = trackingArr.get(2 * trackingIdx + 1);
+
+        // A page touched only once has a zero in one of the slots and is colder than any page touched twice.
+        if (first == 0 || second == 0) {
+            int ts = Math.max(first, second);
+
+            return ts == 0 ? 0 : 1;
+        }
+
+        return Math.min(first, second);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+
+/**
+ * Random-LRU eviction tracker: evicts the least recently used page out of {@link #SAMPLE_SIZE} randomly sampled data pages.
+ */
+public class RandomLruPageEvictionTracker extends PageAbstractEvictionTracker {
+    /** Timestamp of the last access, per page. */
+    private final AtomicIntegerArray trackingArr;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Page memory.
+     * @param regionCfg Data region configuration.
+     * @param emptyDataPages Provides the number of empty data pages in the free list of the data region.
+     * @param rowEvictionHandler Removes rows of the evicted pages.
+     */
+    public RandomLruPageEvictionTracker(
+            VolatilePageMemory pageMem,
+            VolatilePageMemoryDataRegionView regionCfg,
+            IntSupplier emptyDataPages,
+            RowEvictionHandler<?> rowEvictionHandler
+    ) {
+        super(pageMem, regionCfg, emptyDataPages, rowEvictionHandler);
+
+        trackingArr = new AtomicIntegerArray(trackedPages);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void touchPage(int trackingIdx, int ts) {
+        trackingArr.lazySet(trackingIdx, ts);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void forgetPage(int trackingIdx) {
+        trackingArr.set(trackingIdx, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected int evictionTimestamp(int trackingIdx) {
+        return trackingArr.get(trackingIdx);
+    }
+}
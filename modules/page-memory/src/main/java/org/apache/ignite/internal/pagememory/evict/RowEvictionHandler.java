@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import org.apache.ignite.internal.pagememory.io.DataPagePayload;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Removes data rows chosen for eviction by a {@link PageEvictionTracker}.
+ *
+ * <p>Page memory knows nothing about the structures that reference data rows, so it is up to the owner of the data region to drop the
+ * row together with everything that points to it. The owner of a row is read from the evicted data page itself.
+ *
+ * @param <R> Type of the row owner read from a data page.
+ */
+public interface RowEvictionHandler<R> {
+    /**
+     * Returns the type of the data pages whose rows are evicted by the handler, data pages of other types are never evicted.
+     */
+    int dataPageIoType();
+
+    /**
+     * Reads the owner of a row from the data page, the page is read-locked.
+     *
+     * @param pageAddr Page address.
+     * @param link Link to one of the items of the evicted data page.
+     * @param payload Payload of the item.
+     * @return Owner of the row, {@code null} if the item can't be the first fragment of a row.
+     */
+    @Nullable R readRowOwner(long pageAddr, long link, DataPagePayload payload);
+
+    /**
+     * Tries to evict a data row, the page is not locked.
+     *
+     * @param owner Owner of the row read by {@link #readRowOwner}.
+     * @param link Link to one of the items of the evicted data page.
+     * @return {@code True} if the row has been evicted, {@code false} if it is unknown to the handler or cannot be evicted right now.
+     * @throws IgniteInternalCheckedException In case of page memory error.
+     */
+    boolean evictRow(R owner, long link) throws IgniteInternalCheckedException;
+}
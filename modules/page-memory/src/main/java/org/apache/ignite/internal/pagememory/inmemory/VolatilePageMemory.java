@@ -496,6 +496,23 @@ public class VolatilePageMemory implements PageMemory {
         return 0L;
     }
 
+    /** {@inheritDoc} */
+    @Override public long tryOptimisticRead(int cacheId, long pageId, long page) {
+        assert started;
+
+        return rwLock.tryOptimisticRead(page + LOCK_OFFSET, PageIdUtils.tag(pageId));
+    }
+
+    /** {@inheritDoc} */
+    @Override public long optimisticReadAddress(int cacheId, long pageId, long page) {
+        return page + PAGE_OVERHEAD;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean validateOptimisticRead(int cacheId, long pageId, long page, long stamp) {
+        return rwLock.validate(page + LOCK_OFFSET, PageIdUtils.tag(pageId), stamp);
+    }
+
     /** {@inheritDoc} */
     @Override public void readUnlock(int cacheId, long pageId, long page) {
         assert started;
@@ -158,7 +158,7 @@ import org.apache.ignite.lang.IgniteStringBuilder;
  *     +-----------------------------------------------------------------------+
  * </pre>
  */
-public abstract class AbstractDataPageIo<T extends Storable> extends PageIo {
+public abstract class AbstractDataPageIo<T extends Storable> extends PageIo implements CompactablePageIo {
     private static final int SHOW_ITEM = 0b0001;
 
     private static final int SHOW_PAYLOAD_LEN = 0b0010;
@@ -1401,6 +1401,45 @@ public abstract class AbstractDataPageIo<T extends Storable> extends PageIo {
         return ITEMS_OFF + (directCnt + getIndirectCount(pageAddr)) * ITEM_SIZE;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void compactPage(ByteBuffer page, ByteBuffer out, int pageSize) {
+        // Free space of the page lies between the items and the first entry, entries are written from the end of the page.
+        int itemsEnd = itemsEnd(page);
+        int firstEntryOff = page.getShort(FIRST_ENTRY_OFF) & 0xFFFF;
+
+        PageUtils.copyMemory(page, 0, out, 0, itemsEnd);
+        PageUtils.copyMemory(page, firstEntryOff, out, itemsEnd, pageSize - firstEntryOff);
+
+        out.position(0);
+        out.limit(itemsEnd + pageSize - firstEntryOff);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void restorePage(ByteBuffer compactPage, int pageSize) {
+        int itemsEnd = itemsEnd(compactPage);
+        int firstEntryOff = compactPage.getShort(FIRST_ENTRY_OFF) & 0xFFFF;
+
+        assert compactPage.limit() == itemsEnd + pageSize - firstEntryOff
+                : "limit=" + compactPage.limit() + ", itemsEnd=" + itemsEnd + ", firstEntryOff=" + firstEntryOff;
+
+        compactPage.limit(pageSize);
+
+        // Entries are moved forward in place, the copy supports overlapping regions.
+        PageUtils.copyMemory(compactPage, itemsEnd, compactPage, firstEntryOff, pageSize - firstEntryOff);
+
+        zeroBuffer(compactPage, itemsEnd, firstEntryOff - itemsEnd);
+
+        compactPage.position(0);
+    }
+
+    private static int itemsEnd(ByteBuffer page) {
+        int itemsCnt = (page.get(DIRECT_CNT_OFF) & 0xFF) + (page.get(INDIRECT_CNT_OFF) & 0xFF);
+
+        return ITEMS_OFF + itemsCnt * ITEM_SIZE;
+    }
+
     /**
      * Moves bytes.
      *
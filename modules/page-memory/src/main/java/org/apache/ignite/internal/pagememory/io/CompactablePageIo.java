@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Page IO that is able to skip the free space of a page, so that only the useful content of the page is stored on disk.
+ */
+public interface CompactablePageIo {
+    /**
+     * Compacts the page, skipping its free space.
+     *
+     * @param page Page buffer, position and limit are not changed.
+     * @param out Output buffer of at least the page size, after the call its position is {@code 0} and its limit is the compacted size.
+     * @param pageSize Page size in bytes.
+     */
+    void compactPage(ByteBuffer page, ByteBuffer out, int pageSize);
+
+    /**
+     * Restores the original page from the compacted one in place, the free space of the page is filled with zeros.
+     *
+     * @param compactPage Compacted page buffer of at least the page size capacity, its limit is the compacted size. After the call its
+     *      position is {@code 0} and its limit is the page size.
+     * @param pageSize Page size in bytes.
+     */
+    void restorePage(ByteBuffer compactPage, int pageSize);
+}
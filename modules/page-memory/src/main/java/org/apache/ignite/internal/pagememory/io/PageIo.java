@@ -430,6 +430,25 @@ public abstract class PageIo {
         out.limit(pageSize);
     }
 
+    /**
+     * Fills a part of the {@link ByteBuffer} with zeros, the position and the limit of the buffer are not used.
+     *
+     * @param buf Buffer.
+     * @param off Offset in the buffer.
+     * @param len Number of bytes.
+     */
+    protected static void zeroBuffer(ByteBuffer buf, int off, int len) {
+        int end = off + len;
+
+        for (; off + Long.BYTES <= end; off += Long.BYTES) {
+            buf.putLong(off, 0L);
+        }
+
+        for (; off < end; off++) {
+            buf.put(off, (byte) 0);
+        }
+    }
+
     /**
      * Prints a page into the output {@link IgniteStringBuilder}.
      *
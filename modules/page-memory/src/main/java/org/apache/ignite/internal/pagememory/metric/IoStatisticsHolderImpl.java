@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.metric;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * IO statistics holder that counts logical and physical page reads.
+ */
+public class IoStatisticsHolderImpl implements IoStatisticsHolder {
+    /** Number of logical reads. */
+    private final LongAdder logicalReads = new LongAdder();
+
+    /** Number of physical reads. */
+    private final LongAdder physicalReads = new LongAdder();
+
+    /** {@inheritDoc} */
+    @Override
+    public void trackLogicalRead(long pageAddr) {
+        logicalReads.increment();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void trackPhysicalAndLogicalRead(long pageAddr) {
+        logicalReads.increment();
+        physicalReads.increment();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long logicalReads() {
+        return logicalReads.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long physicalReads() {
+        return physicalReads.sum();
+    }
+}
@@ -53,7 +53,7 @@ public class PageHeader {
     private static final int PAGE_PIN_CNT_OFFSET = 28;
 
     /** Page temp copy buffer relative pointer offset. */
-    private static final int PAGE_TMP_BUF_OFFSET = 40;
+    private static final int PAGE_TMP_BUF_OFFSET = 48;
 
     /**
      * Initializes the header of the page.
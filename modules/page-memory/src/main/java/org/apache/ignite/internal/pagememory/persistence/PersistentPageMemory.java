@@ -20,8 +20,11 @@ package org.apache.ignite.internal.pagememory.persistence;
 import static java.lang.System.lineSeparator;
 import static org.apache.ignite.internal.pagememory.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.CLOCK_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DISABLED_THROTTLING_POLICY;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.RANDOM_LRU_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SEGMENTED_LRU_REPLACEMENT_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SPEED_BASED_THROTTLING_POLICY;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.TWO_QUEUE_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getCrc;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getPageId;
 import static org.apache.ignite.internal.pagememory.io.PageIo.getType;
@@ -34,6 +37,7 @@ import static org.apache.ignite.internal.pagememory.persistence.PageHeader.readP
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.tempBufferPointer;
 import static org.apache.ignite.internal.pagememory.persistence.PageHeader.writeTimestamp;
 import static org.apache.ignite.internal.pagememory.persistence.PagePool.SEGMENT_INDEX_MASK;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor.decompressPage;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.effectivePageId;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
@@ -71,7 +75,9 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.FullPageId;
@@ -85,16 +91,22 @@ import org.apache.ignite.internal.pagememory.mem.DirectMemoryRegion;
 import org.apache.ignite.internal.pagememory.mem.IgniteOutOfMemoryException;
 import org.apache.ignite.internal.pagememory.mem.unsafe.UnsafeMemoryProvider;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderImpl;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPages;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor;
 import org.apache.ignite.internal.pagememory.persistence.replacement.ClockPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.DelayedPageReplacementTracker;
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicy;
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.RandomLruPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.SegmentedLruPageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.replacement.TwoQueuePageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -145,8 +157,8 @@ public class PersistentPageMemory implements PageMemory {
     /** Page lock offset. */
     public static final int PAGE_LOCK_OFFSET = 32;
 
-    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 8b Lock 8b Temporary buffer. */
-    public static final int PAGE_OVERHEAD = 48;
+    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 16b Lock 8b Temporary buffer. */
+    public static final int PAGE_OVERHEAD = 56;
 
     /** Try again tag. */
     public static final int TRY_AGAIN_TAG = -1;
@@ -213,6 +225,58 @@ public class PersistentPageMemory implements PageMemory {
     /** Checkpoint timeout lock. */
     private final CheckpointTimeoutLock checkpointTimeoutLock;
 
+    /** Throttling policy of page modifications, {@code null} if throttling is disabled. */
+    @Nullable
+    private final PagesWriteThrottlePolicy writeThrottle;
+
+    /** Region-wide page read statistics, tracked in addition to the statistics holder passed by the caller. */
+    private final IoStatisticsHolderImpl ioStatistics = new IoStatisticsHolderImpl();
+
+    /** Number of pages rotated with disk by the page replacement policy. */
+    private final LongAdder pageReplacements = new LongAdder();
+
+    /** Compressor of pages written to disk by checkpoints. */
+    private final PageCompressor pageCompressor;
+
+    /**
+     * Constructor.
+     *
+     * @param dataRegionConfig Data region configuration.
+     * @param ioRegistry IO registry.
+     * @param segmentSizes Segments sizes in bytes.
+     * @param checkpointBufferSize Checkpoint buffer size in bytes.
+     * @param pageStoreManager Page store manager.
+     * @param changeTracker Callback invoked to track changes in pages.
+     * @param flushDirtyPageForReplacement Write callback invoked when a dirty page is removed for replacement.
+     * @param checkpointTimeoutLock Checkpoint timeout lock.
+     * @param pageSize Page size in bytes.
+     */
+    public PersistentPageMemory(
+            PersistentPageMemoryDataRegionConfiguration dataRegionConfig,
+            PageIoRegistry ioRegistry,
+            long[] segmentSizes,
+            long checkpointBufferSize,
+            PageReadWriteManager pageStoreManager,
+            @Nullable PageChangeTracker changeTracker,
+            WriteDirtyPage flushDirtyPageForReplacement,
+            CheckpointTimeoutLock checkpointTimeoutLock,
+            // TODO: IGNITE-17017 Move to common config
+            int pageSize
+    ) {
+        this(
+                dataRegionConfig,
+                ioRegistry,
+                segmentSizes,
+                checkpointBufferSize,
+                pageStoreManager,
+                changeTracker,
+                flushDirtyPageForReplacement,
+                checkpointTimeoutLock,
+                null,
+                pageSize
+        );
+    }
+
     /**
      * Constructor.
      *
@@ -224,6 +288,7 @@ public class PersistentPageMemory implements PageMemory {
      * @param changeTracker Callback invoked to track changes in pages.
      * @param flushDirtyPageForReplacement Write callback invoked when a dirty page is removed for replacement.
      * @param checkpointTimeoutLock Checkpoint timeout lock.
+     * @param checkpointProgress Provider of the current checkpoint progress, {@code null} disables throttling of page modifications.
      * @param pageSize Page size in bytes.
      */
     public PersistentPageMemory(
@@ -235,6 +300,7 @@ public class PersistentPageMemory implements PageMemory {
             @Nullable PageChangeTracker changeTracker,
             WriteDirtyPage flushDirtyPageForReplacement,
             CheckpointTimeoutLock checkpointTimeoutLock,
+            @Nullable Supplier<@Nullable CheckpointProgress> checkpointProgress,
             // TODO: IGNITE-17017 Move to common config
             int pageSize
     ) {
@@ -269,12 +335,38 @@ public class PersistentPageMemory implements PageMemory {
             case CLOCK_REPLACEMENT_MODE:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case TWO_QUEUE_REPLACEMENT_MODE:
+                pageReplacementPolicyFactory = new TwoQueuePageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteInternalException("Unexpected page replacement mode: " + replacementMode);
         }
 
         delayedPageReplacementTracker = new DelayedPageReplacementTracker(pageSize, flushDirtyPageForReplacement, LOG, sizes.length - 1);
+
+        String throttlingPolicy = dataRegionConfigView.throttlingPolicy();
+
+        switch (throttlingPolicy) {
+            case DISABLED_THROTTLING_POLICY:
+                writeThrottle = null;
+
+                break;
+            case SPEED_BASED_THROTTLING_POLICY:
+                writeThrottle = checkpointProgress == null ? null : new PagesWriteSpeedBasedThrottle(this, checkpointProgress);
+
+                break;
+            default:
+                throw new IgniteInternalException("Unexpected throttling policy: " + throttlingPolicy);
+        }
+
+        pageCompressor = new PageCompressor(
+                dataRegionConfigView.pageCompression(),
+                dataRegionConfigView.pageCompressionLevel(),
+                pageSize,
+                ioRegistry
+        );
     }
 
     /** {@inheritDoc} */
@@ -419,6 +511,32 @@ public class PersistentPageMemory implements PageMemory {
         return readLock(absPtr, pageId, force, true);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long tryOptimisticRead(int grpId, long pageId, long page) {
+        assert started;
+
+        long stamp = rwLock.tryOptimisticRead(page + PAGE_LOCK_OFFSET, tag(pageId));
+
+        if (stamp != 0L) {
+            writeTimestamp(page, coarseCurrentTimeMillis());
+        }
+
+        return stamp;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long optimisticReadAddress(int grpId, long pageId, long page) {
+        return page + PAGE_OVERHEAD;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp) {
+        return rwLock.validate(page + PAGE_LOCK_OFFSET, tag(pageId), stamp);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void readUnlock(int grpId, long pageId, long page) {
@@ -670,6 +788,7 @@ public class PersistentPageMemory implements PageMemory {
                 seg.pageReplacementPolicy.onHit(relPtr);
 
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
+                ioStatistics.trackLogicalRead(absPtr + PAGE_OVERHEAD);
 
                 return absPtr;
             }
@@ -781,6 +900,7 @@ public class PersistentPageMemory implements PageMemory {
 
             if (!readPageFromStore) {
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
+                ioStatistics.trackLogicalRead(absPtr + PAGE_OVERHEAD);
             }
 
             return absPtr;
@@ -804,7 +924,10 @@ public class PersistentPageMemory implements PageMemory {
                 try {
                     pageStoreManager.read(grpId, pageId, buf, false);
 
+                    decompressPage(buf, pageSize(), ioRegistry);
+
                     statHolder.trackPhysicalAndLogicalRead(pageAddr);
+                    ioStatistics.trackPhysicalAndLogicalRead(pageAddr);
 
                     actualPageId = getPageId(buf);
                 } finally {
@@ -950,6 +1073,28 @@ public class PersistentPageMemory implements PageMemory {
         }
     }
 
+    /**
+     * Returns region-wide page read statistics: every page acquisition is a logical read, and every page that had to be loaded from
+     * the page store is also a physical read (a page cache miss).
+     */
+    public IoStatisticsHolder ioStatistics() {
+        return ioStatistics;
+    }
+
+    /**
+     * Returns the number of pages rotated with disk by the page replacement policy.
+     */
+    public long pageReplacements() {
+        return pageReplacements.sum();
+    }
+
+    /**
+     * Returns the compressor of pages written to disk by checkpoints.
+     */
+    public PageCompressor pageCompressor() {
+        return pageCompressor;
+    }
+
     /** {@inheritDoc} */
     @Override
     public long loadedPages() {
@@ -1164,6 +1309,11 @@ public class PersistentPageMemory implements PageMemory {
                 throw ex;
             }
         }
+
+        // Throttle only after the page lock is released, so that parked writers do not block readers of the page.
+        if (writeThrottle != null && !restore && markDirty && !wasDirty) {
+            writeThrottle.onMarkDirty(isInCheckpoint(fullId));
+        }
     }
 
     /**
@@ -1557,7 +1707,11 @@ public class PersistentPageMemory implements PageMemory {
                 throw oomException("all pages are acquired");
             }
 
-            return pageReplacementPolicy.replace();
+            long relPtr = pageReplacementPolicy.replace();
+
+            pageReplacements.increment();
+
+            return relPtr;
         }
 
         /**
@@ -1769,6 +1923,51 @@ public class PersistentPageMemory implements PageMemory {
         return checkpointPool == null ? 0 : checkpointPool.pages();
     }
 
+    /**
+     * Returns number of pages marked dirty since the beginning of the last checkpoint.
+     */
+    public long dirtyPagesCount() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        long total = 0;
+
+        for (Segment seg : segments) {
+            total += seg.dirtyPagesCntr.get();
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns number of dirty pages, after which a checkpoint has to begin; see {@link #safeToUpdate()}.
+     */
+    public long maxDirtyPages() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        long total = 0;
+
+        for (Segment seg : segments) {
+            total += seg.maxDirtyPages;
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns throttling policy of page modifications, {@code null} if throttling is disabled.
+     */
+    public @Nullable PagesWriteThrottlePolicy writeThrottle() {
+        return writeThrottle;
+    }
+
     private void releaseCheckpointBufferPage(long tmpBufPtr) {
         checkpointPool.releaseFreePage(tmpBufPtr);
     }
@@ -2055,6 +2254,10 @@ public class PersistentPageMemory implements PageMemory {
 
         safeToUpdate.set(true);
 
+        if (writeThrottle != null) {
+            writeThrottle.onBeginCheckpoint();
+        }
+
         return CollectionUtils.concat(dirtyPageIds);
     }
 
@@ -2071,5 +2274,9 @@ public class PersistentPageMemory implements PageMemory {
                 seg.checkpointPages = null;
             }
         }
+
+        if (writeThrottle != null) {
+            writeThrottle.onFinishCheckpoint();
+        }
     }
 }
@@ -134,6 +134,7 @@ public class CheckpointManager {
                 igniteInstanceName,
                 workerListener,
                 checkpointConfig.compactionThreads(),
+                checkpointConfig.compactionSpeedLimit(),
                 filePageStoreManager,
                 pageSize
         );
@@ -236,6 +237,13 @@ public class CheckpointManager {
         return checkpointer.lastCheckpointProgress();
     }
 
+    /**
+     * Returns the delta file compactor.
+     */
+    public Compactor compactor() {
+        return compactor;
+    }
+
     /**
      * Returns {@link true} if it is safe for all {@link DataRegion data regions} to update their {@link PageMemory}.
      *
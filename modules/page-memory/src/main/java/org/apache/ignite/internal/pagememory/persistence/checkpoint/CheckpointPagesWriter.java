@@ -269,7 +269,7 @@ public class CheckpointPagesWriter implements Runnable {
 
             checkpointProgress.writtenPagesCounter().incrementAndGet();
 
-            pageWriter.write(pageMemory, fullPageId, buf);
+            pageWriter.write(pageMemory, fullPageId, pageMemory.pageCompressor().compressPage(buf));
 
             updatedPartitions.get(toPartitionId(fullPageId)).increment();
         };
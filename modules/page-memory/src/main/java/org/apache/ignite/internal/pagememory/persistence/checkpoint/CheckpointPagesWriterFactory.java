@@ -23,6 +23,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
+import org.apache.ignite.internal.fileio.DirectFileIo;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
@@ -69,7 +70,7 @@ public class CheckpointPagesWriterFactory {
         this.partitionMetaManager = partitionMetaManager;
 
         threadBuf = ThreadLocal.withInitial(() -> {
-            ByteBuffer tmpWriteBuf = ByteBuffer.allocateDirect(pageSize);
+            ByteBuffer tmpWriteBuf = DirectFileIo.allocateAlignedBuffer(pageSize);
 
             tmpWriteBuf.order(ByteOrder.nativeOrder());
 
@@ -131,6 +131,11 @@ class CheckpointProgressImpl implements CheckpointProgress {
         currCheckpointPagesCnt = num;
     }
 
+    @Override
+    public int writtenPagesCount() {
+        return writtenPagesCntr.get();
+    }
+
     /**
      * Returns counter for written checkpoint pages.
      */
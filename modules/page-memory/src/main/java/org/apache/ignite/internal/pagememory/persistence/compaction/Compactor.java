@@ -20,17 +20,22 @@ package org.apache.ignite.internal.pagememory.persistence.compaction;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toMap;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.ignite.configuration.ConfigurationValue;
+import org.apache.ignite.internal.fileio.DirectFileIo;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
@@ -54,6 +59,11 @@ import org.jetbrains.annotations.Nullable;
  * {@link FilePageStore#getDeltaFileToCompaction() ready for compaction} will be collected and merged with their
  * {@link FilePageStore file page stores} until all delta files are compacted.
  *
+ * <p>Delta files are compacted in rounds, one delta file of each partition per round. Within a round, partitions with more delta files
+ * go first and, among them, partitions whose page reads had to look through delta files more often since the previous round, since they
+ * suffer the most from read amplification. Merges are run in parallel by the compaction threads and the total speed of writing pages to
+ * partition files can be limited.
+ *
  * <p>Delta file compaction process consists of:
  * <ul>
  *  <li>Copying pages from a delta file to a partition file.</li>
@@ -80,6 +90,24 @@ public class Compactor extends IgniteWorker {
     /** Page size in bytes. */
     private final int pageSize;
 
+    /** Maximum speed of writing pages to partition files in megabytes per second, {@code 0} for unlimited. */
+    private final ConfigurationValue<Integer> speedLimit;
+
+    /** Limits the speed of writing pages to partition files by all compaction threads. */
+    private final IoRateLimiter rateLimiter = new IoRateLimiter();
+
+    /** Delta files of the current compaction round that are not merged yet, {@code null} if there is no round in progress. */
+    private volatile @Nullable Queue<DeltaFileForCompaction> compactionQueue;
+
+    /** Number of pages copied from delta files to partition files. */
+    private final LongAdder mergedPages = new LongAdder();
+
+    /** Number of merged delta files. */
+    private final LongAdder mergedDeltaFiles = new LongAdder();
+
+    /** Merge throughput of the last compaction round in bytes per second. */
+    private volatile double lastMergeThroughput;
+
     /**
      * Creates new ignite worker with given parameters.
      *
@@ -87,6 +115,7 @@ public class Compactor extends IgniteWorker {
      * @param igniteInstanceName Name of the Ignite instance this runnable is used in.
      * @param listener Listener for life-cycle events.
      * @param threads Number of compaction threads.
+     * @param speedLimit Maximum speed of writing pages to partition files in megabytes per second, {@code 0} for unlimited.
      * @param filePageStoreManager File page store manager.
      * @param pageSize Page size in bytes.
      */
@@ -95,6 +124,7 @@ public class Compactor extends IgniteWorker {
             String igniteInstanceName,
             @Nullable IgniteWorkerListener listener,
             ConfigurationValue<Integer> threads,
+            ConfigurationValue<Integer> speedLimit,
             FilePageStoreManager filePageStoreManager,
             int pageSize
     ) {
@@ -118,6 +148,7 @@ public class Compactor extends IgniteWorker {
         }
 
         this.pageSize = pageSize;
+        this.speedLimit = speedLimit;
     }
 
     @Override
@@ -185,31 +216,54 @@ public class Compactor extends IgniteWorker {
      * <p>Only compactor is expected to call this method. When compaction is {@link #triggerCompaction() triggered} by other threads, we
      * need to compact all delta files for all partitions as long as the delta files exist. Delta files are compacted in batches (one for
      * each partition file) into several threads, which evenly reduces the load for all partition files on reading pages, since when reading
-     * pages, we must look for it from the oldest delta file.
+     * pages, we must look for it from the oldest delta file. Batches are ordered by the priority of their partitions, see the class
+     * description.
      */
     void doCompaction() {
+        try {
+            doCompaction0();
+        } finally {
+            compactionQueue = null;
+        }
+    }
+
+    private void doCompaction0() {
         while (true) {
             // Let's collect one delta file for each partition.
             Queue<DeltaFileForCompaction> queue = filePageStoreManager.allPageStores().stream()
                     .map(groupPartitionFilePageStore -> {
-                        DeltaFilePageStoreIo deltaFileToCompaction = groupPartitionFilePageStore.pageStore().getDeltaFileToCompaction();
+                        FilePageStore filePageStore = groupPartitionFilePageStore.pageStore();
+
+                        DeltaFilePageStoreIo deltaFileToCompaction = filePageStore.getDeltaFileToCompaction();
 
                         if (deltaFileToCompaction == null) {
                             return null;
                         }
 
-                        return new DeltaFileForCompaction(groupPartitionFilePageStore, deltaFileToCompaction);
+                        return new DeltaFileForCompaction(
+                                groupPartitionFilePageStore,
+                                deltaFileToCompaction,
+                                filePageStore.deltaFileCount(),
+                                filePageStore.resetDeltaFileReads()
+                        );
                     })
                     .filter(Objects::nonNull)
-                    .collect(toCollection(ConcurrentLinkedQueue::new));
+                    .collect(toCollection(() -> new PriorityBlockingQueue<>(11, DeltaFileForCompaction.PRIORITY_ORDER)));
 
             if (queue.isEmpty()) {
                 break;
             }
 
+            compactionQueue = queue;
+
             updateHeartbeat();
 
-            int threads = threadPoolExecutor == null ? 1 : threadPoolExecutor.getMaximumPoolSize();
+            long roundStartNanos = System.nanoTime();
+
+            long roundStartPages = mergedPages.sum();
+
+            // There is no point in occupying more threads than there are partitions to compact.
+            int threads = threadPoolExecutor == null ? 1 : Math.min(threadPoolExecutor.getMaximumPoolSize(), queue.size());
 
             CompletableFuture<?>[] futures = new CompletableFuture[threads];
 
@@ -259,6 +313,12 @@ public class Compactor extends IgniteWorker {
 
             // Wait and check for errors.
             CompletableFuture.allOf(futures).join();
+
+            long roundNanos = System.nanoTime() - roundStartNanos;
+
+            if (roundNanos > 0) {
+                lastMergeThroughput = (double) (mergedPages.sum() - roundStartPages) * pageSize * TimeUnit.SECONDS.toNanos(1) / roundNanos;
+            }
         }
     }
 
@@ -370,7 +430,11 @@ public class Compactor extends IgniteWorker {
                 return;
             }
 
+            rateLimiter.acquire(pageSize, speedLimit.value() * 1024L * 1024L);
+
             filePageStore.write(pageId, buffer.rewind(), true);
+
+            mergedPages.increment();
         }
 
         // Fsync the file page store.
@@ -404,6 +468,8 @@ public class Compactor extends IgniteWorker {
         deltaFilePageStore.markMergedToFilePageStore();
 
         deltaFilePageStore.stop(true);
+
+        mergedDeltaFiles.increment();
     }
 
     /**
@@ -421,11 +487,54 @@ public class Compactor extends IgniteWorker {
         return partitionProcessingFuture == null ? completedFuture(null) : partitionProcessingFuture;
     }
 
+    /**
+     * Returns the number of delta files of the current compaction round that are not merged yet.
+     */
+    public int compactionQueueSize() {
+        Queue<DeltaFileForCompaction> queue = compactionQueue;
+
+        return queue == null ? 0 : queue.size();
+    }
+
+    /**
+     * Returns the number of pages copied from delta files to partition files.
+     */
+    public long mergedPages() {
+        return mergedPages.sum();
+    }
+
+    /**
+     * Returns the number of merged delta files.
+     */
+    public long mergedDeltaFiles() {
+        return mergedDeltaFiles.sum();
+    }
+
+    /**
+     * Returns the merge throughput of the last compaction round in bytes per second.
+     */
+    public double lastMergeThroughput() {
+        return lastMergeThroughput;
+    }
+
+    /**
+     * Returns the number of delta files of each partition that has them.
+     */
+    public Map<GroupPartitionId, Integer> deltaFileCountByPartition() {
+        return filePageStoreManager.allPageStores().stream()
+                .filter(groupPartitionFilePageStore -> groupPartitionFilePageStore.pageStore().deltaFileCount() > 0)
+                .collect(toMap(
+                        GroupPartitionPageStore::groupPartitionId,
+                        groupPartitionFilePageStore -> groupPartitionFilePageStore.pageStore().deltaFileCount(),
+                        Math::max
+                ));
+    }
+
     private static ByteBuffer getThreadLocalBuffer(int pageSize) {
         ByteBuffer buffer = THREAD_BUF.get();
 
         if (buffer == null) {
-            buffer = ByteBuffer.allocateDirect(pageSize);
+            buffer = DirectFileIo.allocateAlignedBuffer(pageSize);
 
             buffer.order(ByteOrder.nativeOrder());
 
@@ -439,16 +548,30 @@ public class Compactor extends IgniteWorker {
      * Delta file for compaction.
      */
     private static class DeltaFileForCompaction {
+        /** Partitions with more delta files first, then partitions with more page reads through delta files. */
+        private static final Comparator<DeltaFileForCompaction> PRIORITY_ORDER = Comparator
+                .comparingInt((DeltaFileForCompaction deltaFile) -> deltaFile.deltaFileCount)
+                .thenComparingLong(deltaFile -> deltaFile.deltaFileReads)
+                .reversed();
+
         private final GroupPartitionPageStore<FilePageStore> groupPartitionFilePageStore;
 
         private final DeltaFilePageStoreIo deltaFilePageStoreIo;
 
+        private final int deltaFileCount;
+
+        private final long deltaFileReads;
+
         private DeltaFileForCompaction(
                 GroupPartitionPageStore<FilePageStore> groupPartitionFilePageStore,
-                DeltaFilePageStoreIo deltaFilePageStoreIo
+                DeltaFilePageStoreIo deltaFilePageStoreIo,
+                int deltaFileCount,
+                long deltaFileReads
         ) {
             this.groupPartitionFilePageStore = groupPartitionFilePageStore;
             this.deltaFilePageStoreIo = deltaFilePageStoreIo;
+            this.deltaFileCount = deltaFileCount;
+            this.deltaFileReads = deltaFileReads;
         }
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compaction;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits the rate of I/O shared by several threads.
+ *
+ * <p>Each {@link #acquire(long, long) acquisition} reserves the time slot needed to transfer the requested number of bytes at the
+ * current rate right after the previously reserved slot, and the thread waits until its slot begins. Unused time is not accumulated,
+ * so there are no bursts after idle periods.
+ */
+class IoRateLimiter {
+    /** Time in nanoseconds at which the last reserved slot ends. */
+    private final AtomicLong nextFreeNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * Waits until the given number of bytes can be transferred without exceeding the rate.
+     *
+     * @param bytes Number of bytes to transfer.
+     * @param bytesPerSecond Rate limit, not positive for unlimited rate.
+     */
+    void acquire(long bytes, long bytesPerSecond) {
+        if (bytesPerSecond <= 0) {
+            return;
+        }
+
+        long costNanos = bytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+
+        long now = System.nanoTime();
+
+        long start;
+
+        while (true) {
+            long nextFree = nextFreeNanos.get();
+
+            start = nextFree - now > 0 ? nextFree : now;
+
+            if (nextFreeNanos.compareAndSet(nextFree, start + costNanos)) {
+                break;
+            }
+        }
+
+        long waitNanos;
+
+        while ((waitNanos = start - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(waitNanos);
+
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+        }
+    }
+}
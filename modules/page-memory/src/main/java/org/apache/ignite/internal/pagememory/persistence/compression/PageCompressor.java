@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DEFLATE_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DISABLED_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SKIP_GARBAGE_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+import static org.apache.ignite.internal.pagememory.io.PageIo.getCompactedSize;
+import static org.apache.ignite.internal.pagememory.io.PageIo.getCompressedSize;
+import static org.apache.ignite.internal.pagememory.io.PageIo.getCompressionType;
+import static org.apache.ignite.internal.pagememory.io.PageIo.setCompactedSize;
+import static org.apache.ignite.internal.pagememory.io.PageIo.setCompressedSize;
+import static org.apache.ignite.internal.pagememory.io.PageIo.setCompressionType;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.internal.pagememory.io.CompactablePageIo;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.util.PageUtils;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compresses pages before they are written to disk and decompresses them after they are read from disk.
+ *
+ * <p>The common page header is never compressed, it stores the {@link PageIo#getCompressionType(ByteBuffer) compression type}, the
+ * {@link PageIo#getCompressedSize(ByteBuffer) size} of the page on disk and the {@link PageIo#getCompactedSize(ByteBuffer) size} of the
+ * page without its free space. A compressed page is written to the page store only up to its compressed size, the rest of the page slot
+ * in the file is not written, see {@link #alignToBlock(int)}.
+ *
+ * <p>A page is stored compressed only if it saves at least one file system block, otherwise it is written as is.
+ */
+public class PageCompressor {
+    /** Page is not compressed. */
+    public static final byte UNCOMPRESSED_PAGE = 0;
+
+    /** Free space of the page is skipped, see {@link CompactablePageIo}. */
+    public static final byte COMPACTED_PAGE = 1;
+
+    /** Free space of the page is skipped and the rest of the page after the common header is compressed with {@link Deflater}. */
+    public static final byte DEFLATE_COMPRESSED_PAGE = 2;
+
+    /** File system block size in bytes, the granularity of writes and of the disk space of sparse files. */
+    public static final int FS_BLOCK_SIZE = 4096;
+
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private final String compression;
+
+    private final int pageSize;
+
+    private final PageIoRegistry ioRegistry;
+
+    private final ThreadLocal<Deflater> deflater;
+
+    private final ThreadLocal<ByteBuffer> compactBuf;
+
+    private final ThreadLocal<ByteBuffer> compressBuf;
+
+    /** Number of bytes of the pages passed to {@link #compressPage(ByteBuffer)}. */
+    private final LongAdder pageBytes = new LongAdder();
+
+    /** Number of bytes of the pages returned by {@link #compressPage(ByteBuffer)}, aligned to the file system block size. */
+    private final LongAdder storedPageBytes = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param compression Page compression, one of the {@code *_PAGE_COMPRESSION} constants of the data region configuration.
+     * @param level Level of the compression algorithm.
+     * @param pageSize Page size in bytes.
+     * @param ioRegistry Page IO registry.
+     */
+    public PageCompressor(String compression, int level, int pageSize, PageIoRegistry ioRegistry) {
+        switch (compression) {
+            case DISABLED_PAGE_COMPRESSION:
+            case SKIP_GARBAGE_PAGE_COMPRESSION:
+            case DEFLATE_PAGE_COMPRESSION:
+                break;
+            default:
+                throw new IgniteInternalException("Unexpected page compression: " + compression);
+        }
+
+        this.compression = compression;
+        this.pageSize = pageSize;
+        this.ioRegistry = ioRegistry;
+
+        deflater = ThreadLocal.withInitial(() -> new Deflater(level));
+        compactBuf = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(pageSize).order(nativeOrder()));
+        compressBuf = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(pageSize).order(nativeOrder()));
+    }
+
+    /**
+     * Returns {@code true} if pages are compressed.
+     */
+    public boolean enabled() {
+        return !DISABLED_PAGE_COMPRESSION.equals(compression);
+    }
+
+    /**
+     * Compresses the page to be written to disk.
+     *
+     * @param page Page buffer, the CRC of the page must not be calculated yet.
+     * @return Either the page itself, if the compression is disabled or gives nothing, or a thread local buffer with the compressed
+     *      page, which is valid until the next call of the method by the same thread. The position of the buffer is {@code 0}.
+     * @throws IgniteInternalCheckedException If the page IO could not be resolved.
+     */
+    public ByteBuffer compressPage(ByteBuffer page) throws IgniteInternalCheckedException {
+        if (!enabled()) {
+            return page;
+        }
+
+        assert page.position() == 0 : page.position();
+        assert getCompressionType(page) == UNCOMPRESSED_PAGE : "Page is already compressed: " + getCompressionType(page);
+
+        pageBytes.add(pageSize);
+
+        PageIo io = ioRegistry.resolve(page);
+
+        ByteBuffer compactPage = page;
+
+        int compactedSize = pageSize;
+
+        if (io instanceof CompactablePageIo) {
+            compactPage = compactBuf.get();
+
+            ((CompactablePageIo) io).compactPage(page, compactPage, pageSize);
+
+            compactedSize = compactPage.limit();
+        }
+
+        ByteBuffer res;
+        byte compressionType;
+
+        if (SKIP_GARBAGE_PAGE_COMPRESSION.equals(compression)) {
+            res = compactPage;
+            compressionType = COMPACTED_PAGE;
+        } else {
+            res = deflate(compactPage, compactedSize);
+            compressionType = DEFLATE_COMPRESSED_PAGE;
+        }
+
+        int compressedSize = res == null ? pageSize : res.limit();
+
+        if (alignToBlock(compressedSize) >= pageSize) {
+            storedPageBytes.add(pageSize);
+
+            return page;
+        }
+
+        storedPageBytes.add(alignToBlock(compressedSize));
+
+        setCompressionType(res, compressionType);
+        setCompressedSize(res, (short) compressedSize);
+        setCompactedSize(res, (short) compactedSize);
+
+        res.position(0);
+
+        return res;
+    }
+
+    /**
+     * Decompresses the page read from disk in place, does nothing if the page is not compressed.
+     *
+     * @param page Page buffer of the page size.
+     * @param pageSize Page size in bytes.
+     * @param ioRegistry Page IO registry.
+     * @throws IgniteInternalCheckedException If the page is corrupted or the page IO could not be resolved.
+     */
+    public static void decompressPage(ByteBuffer page, int pageSize, PageIoRegistry ioRegistry) throws IgniteInternalCheckedException {
+        byte compressionType = getCompressionType(page);
+
+        if (compressionType == UNCOMPRESSED_PAGE) {
+            return;
+        }
+
+        assert page.capacity() == pageSize : page.capacity();
+
+        int compressedSize = getCompressedSize(page) & 0xFFFF;
+        int compactedSize = getCompactedSize(page) & 0xFFFF;
+
+        switch (compressionType) {
+            case COMPACTED_PAGE:
+                assert compressedSize == compactedSize : "compressedSize=" + compressedSize + ", compactedSize=" + compactedSize;
+
+                break;
+            case DEFLATE_COMPRESSED_PAGE:
+                inflate(page, compressedSize, compactedSize);
+
+                break;
+            default:
+                throw new IgniteInternalCheckedException("Unexpected page compression type: " + compressionType);
+        }
+
+        setCompressionType(page, UNCOMPRESSED_PAGE);
+        setCompressedSize(page, (short) 0);
+        setCompactedSize(page, (short) 0);
+
+        if (compactedSize < pageSize) {
+            page.position(0);
+            page.limit(compactedSize);
+
+            ((CompactablePageIo) ioRegistry.resolve(page)).restorePage(page, pageSize);
+        }
+
+        page.position(0);
+        page.limit(pageSize);
+    }
+
+    /**
+     * Returns the size rounded up to the file system block size, pages are written and take space on disk in such blocks.
+     *
+     * @param size Size in bytes.
+     */
+    public static int alignToBlock(int size) {
+        return (size + FS_BLOCK_SIZE - 1) & -FS_BLOCK_SIZE;
+    }
+
+    /**
+     * Returns the ratio of the size of the pages passed for compression to the size of the file system blocks written for them.
+     */
+    public double compressionRatio() {
+        long storedPageBytes = this.storedPageBytes.sum();
+
+        return storedPageBytes == 0 ? 1 : (double) pageBytes.sum() / storedPageBytes;
+    }
+
+    /**
+     * Compresses the page after the common header, returns {@code null} if the compressed page is not smaller than the page size.
+     */
+    private @Nullable ByteBuffer deflate(ByteBuffer compactPage, int compactedSize) {
+        ByteBuffer res = compressBuf.get();
+
+        res.clear();
+
+        PageUtils.copyMemory(compactPage, 0, res, 0, COMMON_HEADER_END);
+
+        Deflater deflater = this.deflater.get();
+
+        deflater.reset();
+
+        deflater.setInput(compactPage.duplicate().position(COMMON_HEADER_END).limit(compactedSize));
+        deflater.finish();
+
+        res.position(COMMON_HEADER_END);
+
+        deflater.deflate(res);
+
+        if (!deflater.finished()) {
+            return null;
+        }
+
+        res.limit(res.position());
+
+        return res;
+    }
+
+    private static void inflate(ByteBuffer page, int compressedSize, int compactedSize) throws IgniteInternalCheckedException {
+        // The compressed content is copied aside, since it is inflated into the same buffer.
+        byte[] compressed = new byte[compressedSize - COMMON_HEADER_END];
+
+        page.position(COMMON_HEADER_END);
+        page.get(compressed);
+
+        Inflater inflater = INFLATER.get();
+
+        inflater.reset();
+
+        inflater.setInput(compressed);
+
+        page.position(COMMON_HEADER_END);
+        page.limit(compactedSize);
+
+        try {
+            inflater.inflate(page);
+        } catch (DataFormatException e) {
+            throw new IgniteInternalCheckedException("Failed to decompress page", e);
+        }
+
+        if (page.position() != compactedSize || !inflater.finished()) {
+            throw new IgniteInternalCheckedException("Failed to decompress page [expectedSize=" + compactedSize
+                    + ", actualSize=" + page.position() + "]");
+        }
+    }
+}
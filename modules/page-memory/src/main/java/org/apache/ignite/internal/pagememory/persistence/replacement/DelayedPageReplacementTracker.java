@@ -25,6 +25,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.internal.fileio.DirectFileIo;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.pagememory.FullPageId;
 import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
@@ -50,7 +51,7 @@ public class DelayedPageReplacementTracker {
         /** {@inheritDoc} */
         @Override
         protected ByteBuffer initialValue() {
-            ByteBuffer buf = ByteBuffer.allocateDirect(pageSize);
+            ByteBuffer buf = DirectFileIo.allocateAlignedBuffer(pageSize);
 
             buf.order(ByteOrder.nativeOrder());
 
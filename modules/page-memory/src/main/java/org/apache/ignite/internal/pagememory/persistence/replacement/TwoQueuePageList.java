@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.util.GridUnsafe.getInt;
+import static org.apache.ignite.internal.util.GridUnsafe.getLong;
+import static org.apache.ignite.internal.util.GridUnsafe.putInt;
+import static org.apache.ignite.internal.util.GridUnsafe.putLong;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Pages lists of the 2Q replacement algorithm.
+ *
+ * <p>Pages loaded for the first time go to the FIFO "in" queue, hits don't change their position there, so a page touched only by a
+ * single scan leaves the memory first. Identifiers of the pages replaced from the "in" queue are remembered in the "out" ghost queue, a
+ * page that is loaded again while its identifier is in the ghost queue goes to the "main" LRU list, where every hit moves it to the tail.
+ *
+ * <p>Lists are stored off-heap, the ghost queue is stored on-heap.
+ */
+public class TwoQueuePageList {
+    /** Ratio to limit count of pages in the "in" queue, pages are replaced from the "main" list only when the "in" queue is shorter. */
+    private static final double IN_QUEUE_TO_TOTAL_PAGES_RATIO = 0.25;
+
+    /** Ratio to limit count of page identifiers in the ghost queue. */
+    private static final double GHOST_QUEUE_TO_TOTAL_PAGES_RATIO = 0.5;
+
+    /** Null page index. */
+    static final int NULL_IDX = -1;
+
+    /** Index of the head page of the "in" queue. */
+    private int inHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of the "in" queue. */
+    private int inTailIdx = NULL_IDX;
+
+    /** Index of the head page of the "main" list. */
+    private int mainHeadIdx = NULL_IDX;
+
+    /** Index of the tail page of the "main" list. */
+    private int mainTailIdx = NULL_IDX;
+
+    /** Count of pages in the "in" queue. */
+    private int inPagesCnt;
+
+    /** Limit of pages in the "in" queue. */
+    private final int inPagesLimit;
+
+    /** Ring buffer of the ghost queue. */
+    private final long[] ghostRing;
+
+    /** Position of the next ghost queue entry in the ring buffer. */
+    private int ghostPos;
+
+    /** Count of entries in the ghost queue. */
+    private int ghostCnt;
+
+    /** Number of occurrences of page keys in the ghost queue. */
+    private final Long2IntOpenHashMap ghostKeys;
+
+    /** Pointer to memory region to store links. */
+    private final long linksPtr;
+
+    /** Pointer to memory region to store "main" list flags. */
+    private final long flagsPtr;
+
+    /**
+     * Constructor.
+     *
+     * @param totalPagesCnt Total pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public TwoQueuePageList(int totalPagesCnt, long memPtr) {
+        linksPtr = memPtr;
+        flagsPtr = memPtr + (((long) totalPagesCnt) << 3);
+
+        GridUnsafe.setMemory(linksPtr, ((long) totalPagesCnt) << 3, (byte) 0xFF);
+        GridUnsafe.setMemory(flagsPtr, (totalPagesCnt + 7) >> 3, (byte) 0);
+
+        inPagesLimit = Math.max(1, (int) (totalPagesCnt * IN_QUEUE_TO_TOTAL_PAGES_RATIO));
+
+        ghostRing = new long[Math.max(1, (int) (totalPagesCnt * GHOST_QUEUE_TO_TOTAL_PAGES_RATIO))];
+        ghostKeys = new Long2IntOpenHashMap(ghostRing.length);
+        ghostKeys.defaultReturnValue(0);
+    }
+
+    /**
+     * Adds a newly loaded page: to the tail of the "main" list if its key is in the ghost queue, to the tail of the "in" queue otherwise.
+     *
+     * @param pageIdx Page index.
+     * @param key Page key, see {@link #pageKey(int, long)}.
+     */
+    public synchronized void addLoaded(int pageIdx, long key) {
+        boolean main = ghostKeys.get(key) > 0;
+
+        addToTail(pageIdx, main);
+    }
+
+    /**
+     * Registers a hit: moves a page of the "main" list to its tail, pages of the "in" queue are not moved.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void onHit(int pageIdx) {
+        if (mainPage(pageIdx) && mainTailIdx != pageIdx) {
+            remove0(pageIdx, true);
+
+            addToTail(pageIdx, true);
+        }
+    }
+
+    /**
+     * Checks whether the next page to replace must be taken from the "in" queue: if the queue exceeds its limit or the "main" list is
+     * empty.
+     */
+    public synchronized boolean replaceFromInQueue() {
+        return inPagesCnt > inPagesLimit || mainHeadIdx == NULL_IDX;
+    }
+
+    /**
+     * Removes the head page of the "in" queue.
+     *
+     * @return Page index or {@code -1} if the queue is empty.
+     */
+    public synchronized int pollInQueue() {
+        int idx = inHeadIdx;
+
+        if (idx != NULL_IDX) {
+            remove0(idx, false);
+        }
+
+        return idx;
+    }
+
+    /**
+     * Removes the head page of the "main" list.
+     *
+     * @return Page index or {@code -1} if the list is empty.
+     */
+    public synchronized int pollMain() {
+        int idx = mainHeadIdx;
+
+        if (idx != NULL_IDX) {
+            remove0(idx, true);
+        }
+
+        return idx;
+    }
+
+    /**
+     * Removes page from the lists by page index.
+     *
+     * @param pageIdx Page index.
+     */
+    public synchronized void remove(int pageIdx) {
+        remove0(pageIdx, mainPage(pageIdx));
+    }
+
+    /**
+     * Returns a polled page that can't be replaced to the tail of the list it was polled from.
+     *
+     * @param pageIdx Page index.
+     * @param main {@code True} if the page was polled from the "main" list.
+     */
+    public synchronized void returnPolled(int pageIdx, boolean main) {
+        addToTail(pageIdx, main);
+    }
+
+    /**
+     * Remembers the key of a page replaced from the "in" queue in the ghost queue, evicting the oldest key if the queue is full.
+     *
+     * @param key Page key, see {@link #pageKey(int, long)}.
+     */
+    public synchronized void addGhost(long key) {
+        if (ghostCnt == ghostRing.length) {
+            long evicted = ghostRing[ghostPos];
+
+            int cnt = ghostKeys.get(evicted);
+
+            if (cnt <= 1) {
+                ghostKeys.remove(evicted);
+            } else {
+                ghostKeys.put(evicted, cnt - 1);
+            }
+        } else {
+            ghostCnt++;
+        }
+
+        ghostRing[ghostPos] = key;
+
+        ghostKeys.addTo(key, 1);
+
+        ghostPos = (ghostPos + 1) % ghostRing.length;
+    }
+
+    /**
+     * Returns a key of a page for the ghost queue.
+     *
+     * @param grpId Group ID.
+     * @param effectivePageId Effective page ID.
+     */
+    public static long pageKey(int grpId, long effectivePageId) {
+        return effectivePageId * 31 + grpId;
+    }
+
+    private void addToTail(int pageIdx, boolean main) {
+        assert prev(pageIdx) == NULL_IDX : prev(pageIdx);
+        assert next(pageIdx) == NULL_IDX : next(pageIdx);
+
+        if (main) {
+            if (mainTailIdx == NULL_IDX) {
+                mainHeadIdx = pageIdx;
+            } else {
+                link(mainTailIdx, pageIdx);
+            }
+
+            mainTailIdx = pageIdx;
+
+            mainPage(pageIdx, true);
+        } else {
+            if (inTailIdx == NULL_IDX) {
+                inHeadIdx = pageIdx;
+            } else {
+                link(inTailIdx, pageIdx);
+            }
+
+            inTailIdx = pageIdx;
+
+            inPagesCnt++;
+        }
+    }
+
+    private void remove0(int pageIdx, boolean main) {
+        assert pageIdx != NULL_IDX;
+
+        int prevIdx = prev(pageIdx);
+        int nextIdx = next(pageIdx);
+
+        if (prevIdx == NULL_IDX) {
+            if (main) {
+                assert mainHeadIdx == pageIdx : "Unexpected page index [mainHeadIdx=" + mainHeadIdx + ", pageIdx=" + pageIdx + ']';
+
+                mainHeadIdx = nextIdx;
+            } else {
+                assert inHeadIdx == pageIdx : "Unexpected page index [inHeadIdx=" + inHeadIdx + ", pageIdx=" + pageIdx + ']';
+
+                inHeadIdx = nextIdx;
+            }
+        } else {
+            next(prevIdx, nextIdx);
+        }
+
+        if (nextIdx == NULL_IDX) {
+            if (main) {
+                assert mainTailIdx == pageIdx : "Unexpected page index [mainTailIdx=" + mainTailIdx + ", pageIdx=" + pageIdx + ']';
+
+                mainTailIdx = prevIdx;
+            } else {
+                assert inTailIdx == pageIdx : "Unexpected page index [inTailIdx=" + inTailIdx + ", pageIdx=" + pageIdx + ']';
+
+                inTailIdx = prevIdx;
+            }
+        } else {
+            prev(nextIdx, prevIdx);
+        }
+
+        clearLinks(pageIdx);
+
+        if (main) {
+            mainPage(pageIdx, false);
+        } else {
+            inPagesCnt--;
+        }
+    }
+
+    /**
+     * Link two pages.
+     *
+     * @param prevIdx Previous page index.
+     * @param nextIdx Next page index.
+     */
+    private void link(int prevIdx, int nextIdx) {
+        prev(nextIdx, prevIdx);
+        next(prevIdx, nextIdx);
+    }
+
+    /**
+     * Clear page links.
+     *
+     * @param pageIdx Page index.
+     */
+    private void clearLinks(int pageIdx) {
+        putLong(linksPtr + (((long) pageIdx) << 3), -1L);
+    }
+
+    /**
+     * Gets link to the previous page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int prev(int pageIdx) {
+        return getInt(linksPtr + (((long) pageIdx) << 3));
+    }
+
+    /**
+     * Sets link to the previous page in the list.
+     *
+     * @param pageIdx Page index.
+     * @param prevIdx Previous page index.
+     */
+    private void prev(int pageIdx, int prevIdx) {
+        putInt(linksPtr + (((long) pageIdx) << 3), prevIdx);
+    }
+
+    /**
+     * Gets link to the next page in the list.
+     *
+     * @param pageIdx Page index.
+     */
+    int next(int pageIdx) {
+        return getInt(linksPtr + (((long) pageIdx) << 3) + 4);
+    }
+
+    /**
+     * Sets link to the next page in the list.
+     *
+     * @param pageIdx Page index.
+     * @param nextIdx Next page index.
+     */
+    private void next(int pageIdx, int nextIdx) {
+        putInt(linksPtr + (((long) pageIdx) << 3) + 4, nextIdx);
+    }
+
+    /**
+     * Gets "main" list flag of a page.
+     *
+     * @param pageIdx Page index.
+     */
+    synchronized boolean mainPage(int pageIdx) {
+        long flags = getLong(flagsPtr + ((pageIdx >> 3) & (~7)));
+
+        return (flags & (1L << pageIdx)) != 0L;
+    }
+
+    /**
+     * Sets "main" list flag of a page.
+     *
+     * @param pageIdx Page index.
+     * @param main "Main" list flag.
+     */
+    private void mainPage(int pageIdx, boolean main) {
+        long ptr = flagsPtr + ((pageIdx >> 3) & (~7));
+
+        if (main) {
+            putLong(ptr, getLong(ptr) | (1L << pageIdx));
+        } else {
+            putLong(ptr, getLong(ptr) & ~(1L << pageIdx));
+        }
+    }
+
+    /**
+     * Gets the index of the head page of the "in" queue.
+     */
+    synchronized int inHeadIdx() {
+        return inHeadIdx;
+    }
+
+    /**
+     * Gets the index of the head page of the "main" list.
+     */
+    synchronized int mainHeadIdx() {
+        return mainHeadIdx;
+    }
+
+    /**
+     * Checks whether the ghost queue contains a page key.
+     *
+     * @param key Page key.
+     */
+    synchronized boolean ghostContains(long key) {
+        return ghostKeys.get(key) > 0;
+    }
+
+    /**
+     * Gets count of pages in the "in" queue.
+     */
+    synchronized int inPagesCount() {
+        return inPagesCnt;
+    }
+
+    /**
+     * Gets limit of pages in the "in" queue.
+     */
+    int inPagesLimit() {
+        return inPagesLimit;
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return pagesCnt * 8 /* links = 2 ints per page */
+                + ((pagesCnt + 63) / 8) & (~7L) /* "main" list flags = 1 bit per page + 8 byte align */;
+    }
+}
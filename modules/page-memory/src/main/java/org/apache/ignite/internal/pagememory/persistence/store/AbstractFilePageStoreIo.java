@@ -21,6 +21,7 @@ import static java.nio.ByteOrder.nativeOrder;
 import static java.nio.file.StandardOpenOption.CREATE;
 import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor.UNCOMPRESSED_PAGE;
 import static org.apache.ignite.internal.util.IgniteUtils.atomicMoveFile;
 import static org.apache.ignite.internal.util.IgniteUtils.hexInt;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
@@ -174,21 +175,30 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                     assert PageIo.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + hexLong(pageId);
                     assert PageIo.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + hexLong(pageId);
 
+                    // A compressed page is written only up to its compressed size.
+                    int storedPageSize = storedPageSize(pageBuf);
+
                     if (calculateCrc && !skipCrc) {
                         assert PageIo.getCrc(pageBuf) == 0 : hexLong(pageId);
 
-                        PageIo.setCrc(pageBuf, calcCrc32(pageBuf, pageSize()));
+                        PageIo.setCrc(pageBuf, calcCrc32(pageBuf, storedPageSize));
                     }
 
                     // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
                     assert skipCrc || PageIo.getCrc(pageBuf) != 0
-                            || calcCrc32(pageBuf, pageSize()) == 0 : "CRC hasn't been calculated, crc=0";
+                            || calcCrc32(pageBuf, storedPageSize) == 0 : "CRC hasn't been calculated, crc=0";
 
                     assert pageBuf.position() == 0 : pageBuf.position();
 
                     long pageOff = pageOffset(pageId);
 
-                    fileIo.writeFully(pageBuf, pageOff);
+                    if (storedPageSize == pageSize()) {
+                        fileIo.writeFully(pageBuf, pageOff);
+                    } else {
+                        // The rest of the page slot is not written: it stays a hole in a new file, or keeps a previous version of the
+                        // page, which is never read.
+                        fileIo.writeFully(pageBuf.duplicate().limit(storedPageSize), pageOff);
+                    }
 
                     PageIo.setCrc(pageBuf, 0);
 
@@ -388,6 +398,24 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
         }
     }
 
+    /**
+     * Returns the number of bytes of the page stored in the file: the compressed size for a compressed page, otherwise the page size.
+     *
+     * <p>Compressed pages are decompressed by the page memory, the file page store only writes, reads and checks their stored part.
+     *
+     * @param pageBuf Page buffer.
+     */
+    private int storedPageSize(ByteBuffer pageBuf) {
+        if (PageIo.getCompressionType(pageBuf) == UNCOMPRESSED_PAGE) {
+            return pageSize();
+        }
+
+        int compressedSize = PageIo.getCompressedSize(pageBuf) & 0xFFFF;
+
+        // A size out of bounds means a corrupted page, it will not pass the CRC check over the whole page.
+        return compressedSize > PageIo.COMMON_HEADER_END && compressedSize < pageSize() ? compressedSize : pageSize();
+    }
+
     private static int calcCrc32(ByteBuffer pageBuf, int pageSize) {
         try {
             pageBuf.position(0);
@@ -501,7 +529,7 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
             pageBuf.position(0);
 
             if (checkCrc) {
-                int curCrc32 = FastCrc.calcCrc(pageBuf, pageSize());
+                int curCrc32 = FastCrc.calcCrc(pageBuf, storedPageSize(pageBuf));
 
                 if ((savedCrc32 ^ curCrc32) != 0) {
                     throw new IgniteInternalDataIntegrityViolationException("Failed to read page (CRC validation failed) "
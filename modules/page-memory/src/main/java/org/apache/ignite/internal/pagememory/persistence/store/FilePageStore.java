@@ -30,6 +30,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
@@ -94,6 +95,9 @@ public class FilePageStore implements PageStore {
     /** Future with a new delta file page store. */
     private volatile @Nullable CompletableFuture<DeltaFilePageStoreIo> newDeltaFilePageStoreIoFuture;
 
+    /** Number of page reads that had to look through delta files since the last {@link #resetDeltaFileReads() reset}. */
+    private final LongAdder deltaFileReads = new LongAdder();
+
     /** Flag that the file and its delta files will be destroyed. */
     private volatile boolean toDestroy;
 
@@ -168,6 +172,10 @@ public class FilePageStore implements PageStore {
      * @throws IgniteInternalCheckedException If reading failed (IO error occurred).
      */
     public void readWithoutPageIdCheck(long pageId, ByteBuffer pageBuf, boolean keepCrc) throws IgniteInternalCheckedException {
+        if (!deltaFilePageStoreIos.isEmpty()) {
+            deltaFileReads.increment();
+        }
+
         for (DeltaFilePageStoreIo deltaFilePageStoreIo : deltaFilePageStoreIos) {
             long pageOff = deltaFilePageStoreIo.pageOffset(pageId);
 
@@ -339,6 +347,15 @@ public class FilePageStore implements PageStore {
         return deltaFilePageStoreIos.size();
     }
 
+    /**
+     * Returns the number of page reads that had to look through delta files since the previous call and resets it.
+     *
+     * <p>Thread safe.
+     */
+    public long resetDeltaFileReads() {
+        return deltaFileReads.sumThenReset();
+    }
+
     /**
      * Returns the delta file to compaction (oldest).
      *
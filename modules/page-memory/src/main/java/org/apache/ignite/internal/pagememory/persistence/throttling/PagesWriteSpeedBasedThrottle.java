@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointProgress;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Throttling policy that compares the checkpoint write speed with the speed pages are being dirtied.
+ *
+ * <p>While a checkpoint is running, the policy estimates how many pages will be dirty by the time the checkpoint finishes. If the estimate
+ * exceeds {@link #DIRTY_PAGES_THRESHOLD} of the dirty pages limit, writers are slowed down to the rate that spends the remaining budget
+ * of dirty pages within the remaining checkpoint time. The rate is shared by all writer threads: each modification reserves the next
+ * time slot and parks until it.
+ *
+ * <p>Independently, when the checkpoint buffer is filled above {@link #CP_BUFFER_THRESHOLD}, modifications of pages that belong to the
+ * checkpoint are parked with an exponentially growing time, until the checkpoint writer frees the buffer.
+ */
+public class PagesWriteSpeedBasedThrottle implements PagesWriteThrottlePolicy {
+    /** Logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(PagesWriteSpeedBasedThrottle.class);
+
+    /** Share of the dirty pages limit, after which writers are throttled. */
+    static final double DIRTY_PAGES_THRESHOLD = 0.9;
+
+    /** Share of the checkpoint buffer, after which modifications of checkpoint pages are throttled. */
+    static final double CP_BUFFER_THRESHOLD = 2.0 / 3;
+
+    /** Time to measure the speeds for, before the policy starts throttling, in nanoseconds. */
+    static final long MIN_MEASUREMENT_NANOS = 10_000_000L;
+
+    /** Initial park time of the checkpoint buffer protection, in nanoseconds. */
+    static final long STARTING_BACKOFF_PARK_NANOS = 4_000L;
+
+    /** Growth of the checkpoint buffer protection park time with every consecutive throttled modification. */
+    static final double BACKOFF_RATIO = 1.05;
+
+    /** Maximum park time of a single modification, in nanoseconds. */
+    static final long MAX_PARK_NANOS = 100_000_000L;
+
+    /** Page memory. */
+    private final PersistentPageMemory pageMemory;
+
+    /** Provider of the current checkpoint progress. */
+    private final Supplier<@Nullable CheckpointProgress> checkpointProgress;
+
+    /** {@code True} between the beginning and the end of a checkpoint. */
+    private volatile boolean checkpointInProgress;
+
+    /** Start time of the current checkpoint, {@link System#nanoTime()}. */
+    private volatile long checkpointStartNanos;
+
+    /** Number of pages marked dirty since the start of the current checkpoint. */
+    private final LongAdder markedDirtySinceCheckpointStart = new LongAdder();
+
+    /** Next time slot available to a throttled writer, {@link System#nanoTime()}. */
+    private final AtomicLong nextSlotNanos = new AtomicLong();
+
+    /** Number of consecutive modifications throttled by the checkpoint buffer protection. */
+    private final AtomicInteger backoffStep = new AtomicInteger();
+
+    /** Total park time, in nanoseconds. */
+    private final LongAdder parkTimeNanos = new LongAdder();
+
+    /** Number of throttled modifications. */
+    private final LongAdder throttledOps = new LongAdder();
+
+    /** Whether throttling has been reported in the log for the current checkpoint. */
+    private volatile boolean throttlingLogged;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMemory Page memory.
+     * @param checkpointProgress Provider of the current checkpoint progress.
+     */
+    public PagesWriteSpeedBasedThrottle(PersistentPageMemory pageMemory, Supplier<@Nullable CheckpointProgress> checkpointProgress) {
+        this.pageMemory = pageMemory;
+        this.checkpointProgress = checkpointProgress;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMarkDirty(boolean isPageInCheckpoint) {
+        long parkNanos;
+
+        if (isPageInCheckpoint && checkpointBufferOverflowThresholdExceeded()) {
+            parkNanos = backoffParkNanos(backoffStep.getAndIncrement());
+        } else {
+            if (backoffStep.get() != 0) {
+                backoffStep.set(0);
+            }
+
+            parkNanos = speedBasedParkNanos(System.nanoTime());
+        }
+
+        if (parkNanos > 0) {
+            if (!throttlingLogged) {
+                throttlingLogged = true;
+
+                LOG.info("Throttling is applied to page modifications [dirtyPages={}, maxDirtyPages={}, usedCpBuffer={}, maxCpBuffer={}]",
+                        pageMemory.dirtyPagesCount(), pageMemory.maxDirtyPages(),
+                        pageMemory.usedCheckpointBufferPages(), pageMemory.maxCheckpointBufferPages());
+            }
+
+            throttledOps.increment();
+
+            long start = System.nanoTime();
+
+            LockSupport.parkNanos(parkNanos);
+
+            parkTimeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onBeginCheckpoint() {
+        markedDirtySinceCheckpointStart.reset();
+        checkpointStartNanos = System.nanoTime();
+        throttlingLogged = false;
+        checkpointInProgress = true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onFinishCheckpoint() {
+        checkpointInProgress = false;
+        backoffStep.set(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long throttleParkTimeNanos() {
+        return parkTimeNanos.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long throttledOperations() {
+        return throttledOps.sum();
+    }
+
+    private boolean checkpointBufferOverflowThresholdExceeded() {
+        int maxPages = pageMemory.maxCheckpointBufferPages();
+
+        return maxPages > 0 && pageMemory.usedCheckpointBufferPages() > maxPages * CP_BUFFER_THRESHOLD;
+    }
+
+    /**
+     * Computes the park time of the speed based throttling and reserves the time slot of the current modification.
+     *
+     * @param nowNanos Current time, {@link System#nanoTime()}.
+     * @return Park time in nanoseconds, {@code 0} if the modification should not be throttled.
+     */
+    private long speedBasedParkNanos(long nowNanos) {
+        if (!checkpointInProgress) {
+            return 0;
+        }
+
+        markedDirtySinceCheckpointStart.increment();
+
+        CheckpointProgress progress = checkpointProgress.get();
+
+        if (progress == null) {
+            return 0;
+        }
+
+        double targetSpeed = targetMarkDirtySpeed(
+                nowNanos - checkpointStartNanos,
+                markedDirtySinceCheckpointStart.sum(),
+                pageMemory.dirtyPagesCount(),
+                pageMemory.maxDirtyPages(),
+                progress.currentCheckpointPagesCount(),
+                progress.writtenPagesCount()
+        );
+
+        if (targetSpeed < 0) {
+            return 0;
+        }
+
+        long interval = targetSpeed == 0 ? MAX_PARK_NANOS : (long) Math.min(1 / targetSpeed, MAX_PARK_NANOS);
+
+        while (true) {
+            long next = nextSlotNanos.get();
+            long slot = Math.max(nowNanos, next);
+
+            if (nextSlotNanos.compareAndSet(next, slot + interval)) {
+                return Math.min(slot - nowNanos, MAX_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Computes the speed, at which pages may be marked dirty without reaching the dirty pages limit before the current checkpoint
+     * finishes.
+     *
+     * @param elapsedNanos Time since the checkpoint start, in nanoseconds.
+     * @param markedDirty Number of pages marked dirty since the checkpoint start.
+     * @param dirtyPages Current number of dirty pages.
+     * @param maxDirtyPages Dirty pages limit, after which a new checkpoint has to begin.
+     * @param checkpointPages Number of pages to be written by the checkpoint.
+     * @param writtenPages Number of pages already written by the checkpoint.
+     * @return Allowed speed in pages per nanosecond, or a negative value if no throttling is required.
+     */
+    static double targetMarkDirtySpeed(
+            long elapsedNanos,
+            long markedDirty,
+            long dirtyPages,
+            long maxDirtyPages,
+            int checkpointPages,
+            int writtenPages
+    ) {
+        if (elapsedNanos < MIN_MEASUREMENT_NANOS || maxDirtyPages <= 0) {
+            return -1;
+        }
+
+        int remainingPages = checkpointPages - writtenPages;
+
+        if (remainingPages <= 0) {
+            return -1;
+        }
+
+        // A checkpoint that has not written anything yet is treated as writing one page per elapsed period.
+        double checkpointSpeed = Math.max(writtenPages, 1) / (double) elapsedNanos;
+        double remainingNanos = remainingPages / checkpointSpeed;
+
+        double markDirtySpeed = markedDirty / (double) elapsedNanos;
+        double dirtyPagesLimit = maxDirtyPages * DIRTY_PAGES_THRESHOLD;
+
+        if (dirtyPages + markDirtySpeed * remainingNanos < dirtyPagesLimit) {
+            return -1;
+        }
+
+        return Math.max(dirtyPagesLimit - dirtyPages, 0) / remainingNanos;
+    }
+
+    /**
+     * Computes the park time of the checkpoint buffer protection.
+     *
+     * @param step Number of consecutive modifications throttled by the checkpoint buffer protection.
+     * @return Park time in nanoseconds.
+     */
+    static long backoffParkNanos(int step) {
+        return (long) Math.min(STARTING_BACKOFF_PARK_NANOS * Math.pow(BACKOFF_RATIO, step), MAX_PARK_NANOS);
+    }
+}
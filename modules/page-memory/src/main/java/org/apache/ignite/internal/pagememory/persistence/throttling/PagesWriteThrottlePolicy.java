@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+/**
+ * Throttling policy of page modifications: slows down threads that dirty pages faster than the checkpoint is able to write them, so that
+ * the dirty pages limit and the checkpoint buffer are not exhausted.
+ */
+public interface PagesWriteThrottlePolicy {
+    /**
+     * Callback to apply throttling, invoked after a clean page has been marked as dirty. Must not be invoked while holding a page lock.
+     *
+     * @param isPageInCheckpoint {@code True} if the page belongs to the current checkpoint, so its modification took a page of the
+     *      checkpoint buffer.
+     */
+    void onMarkDirty(boolean isPageInCheckpoint);
+
+    /**
+     * Callback invoked when a checkpoint begins, under the checkpoint write lock.
+     */
+    void onBeginCheckpoint();
+
+    /**
+     * Callback invoked when a checkpoint finishes.
+     */
+    void onFinishCheckpoint();
+
+    /**
+     * Returns the total time threads were parked by the policy, in nanoseconds.
+     */
+    long throttleParkTimeNanos();
+
+    /**
+     * Returns the number of page modifications that were throttled.
+     */
+    long throttledOperations();
+}
@@ -42,6 +42,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -578,6 +579,54 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    private final PageHandler<T, Bool> appendToLeaf = new AppendToLeaf();
+
+    /**
+     * Page handler to append a row to the rightmost leaf page without descending from the root.
+     *
+     * <p>Returns {@link Bool#TRUE} if the row has been appended, {@link Bool#FALSE} if the row is not greater than the last row of the page
+     * and {@link Bool#READY} if the page is full or is not the rightmost leaf anymore.
+     */
+    private class AppendToLeaf implements PageHandler<T, Bool> {
+        /** {@inheritDoc} */
+        @Override
+        public Bool run(
+                int groupId,
+                long pageId,
+                long page,
+                long pageAddr,
+                PageIo iox,
+                T row,
+                int notUsed,
+                IoStatisticsHolder statHolder
+        ) throws IgniteInternalCheckedException {
+            assert PageIo.getPageId(pageAddr) == pageId;
+
+            // If we've passed the check for correct page ID, we can safely cast.
+            BplusIo<L> io = (BplusIo<L>) iox;
+
+            if (!io.isLeaf() || io.getForward(pageAddr, partId) != 0L) {
+                return READY;
+            }
+
+            int cnt = io.getCount(pageAddr);
+
+            // An empty rightmost leaf doesn't bound the row from below, let a regular put find its place.
+            if (cnt == 0 || cnt == io.getMaxCount(pageAddr, pageSize())) {
+                return READY;
+            }
+
+            if (compare(0, io, pageAddr, cnt - 1, row) >= 0) {
+                return FALSE;
+            }
+
+            // The row is greater than any row in the tree, so inner pages are not affected.
+            io.insert(pageAddr, cnt, row, null, 0L, false);
+
+            return TRUE;
+        }
+    }
+
     private final PageHandler<Remove, Result> rmvFromLeaf;
 
     /**
@@ -1651,7 +1700,11 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 g.pageId = pageId;
                 g.fwdId = fwdId;
 
-                Result res = read(pageId, page, search, g, lvl, RETRY);
+                Result res = lvl > 0 && g.canReadOptimistically() ? findDownOptimistic(g, pageId, page, fwdId, lvl) : null;
+
+                if (res == null) {
+                    res = read(pageId, page, search, g, lvl, RETRY);
+                }
 
                 switch (res) {
                     case GO_DOWN:
@@ -1688,6 +1741,75 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Tries to choose the child of an inner page without taking the page read lock: the page is read optimistically and the result is
+     * validated against the page lock version. Only the common case of going left down is handled, everything else falls back to
+     * the locked {@link Search}.
+     *
+     * @param g Get.
+     * @param pageId Inner page ID.
+     * @param page Inner page pointer.
+     * @param fwdId Expected forward page ID.
+     * @param lvl Level.
+     * @return {@link Result#GO_DOWN} with the child page set up in {@code g}, or {@code null} if the page must be read under the lock.
+     */
+    private @Nullable Result findDownOptimistic(Get g, long pageId, long page, long fwdId, int lvl) {
+        long stamp = pageMem.tryOptimisticRead(grpId, pageId, page);
+
+        if (stamp == 0L) {
+            return null;
+        }
+
+        long pageAddr = pageMem.optimisticReadAddress(grpId, pageId, page);
+
+        long childId;
+        long childFwdId;
+
+        try {
+            BplusIo<L> io = io(pageAddr);
+
+            if (io.isLeaf() || io.getForward(pageAddr, partId) != fwdId) {
+                return null;
+            }
+
+            int cnt = io.getCount(pageAddr);
+
+            if (cnt <= 0 || cnt > io.getMaxCount(pageAddr, pageSize())) {
+                return null;
+            }
+
+            int idx = findInsertionPoint(lvl, io, pageAddr, 0, cnt, g.row, g.shift);
+
+            if (idx >= 0) {
+                if (canGetRowFromInner) {
+                    return null;
+                }
+            } else {
+                idx = fix(idx);
+            }
+
+            if (idx == cnt) {
+                return null;
+            }
+
+            childId = inner(io).getLeft(pageAddr, idx, partId);
+            childFwdId = inner(io).getRight(pageAddr, idx, partId);
+        } catch (IgniteInternalCheckedException | RuntimeException | AssertionError e) {
+            // The page may have been concurrently modified, the locked read will either succeed or report the real problem.
+            return null;
+        }
+
+        if (!pageMem.validateOptimisticRead(grpId, pageId, page, stamp)) {
+            return null;
+        }
+
+        g.backId(0L);
+        g.pageId(childId);
+        g.fwdId(childFwdId);
+
+        return GO_DOWN;
+    }
+
     /**
      * Returns tree name.
      *
@@ -2593,6 +2715,81 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         return res != null ? res : false;
     }
 
+    /**
+     * Puts rows sorted in ascending order, optimized for loading into an empty tree or beyond its current maximum.
+     *
+     * <p>A row greater than all rows of the tree is appended right to the rightmost leaf page, without descending from the root, while the
+     * page has free space. When the page is full, the row is put as usual, and the full page is split so that it keeps most of its rows,
+     * which builds the upper levels of the tree bottom-up from densely filled pages. Other rows are put as usual, so the result is correct
+     * for any order of the rows, just slower.
+     *
+     * <p>Used by rebalance to load the version chains of a partition, which arrive in ascending order of row ids.
+     *
+     * @param rows Rows in ascending order.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public final void putAll(Iterator<? extends T> rows) throws IgniteInternalCheckedException {
+        checkDestroyed();
+
+        long leafId = 0L;
+        long leafPage = 0L;
+
+        T row = null;
+
+        try {
+            while (rows.hasNext()) {
+                row = rows.next();
+
+                Bool res = leafId == 0L ? READY : write(leafId, leafPage, appendToLeaf, row, 0, READY, statisticsHolder());
+
+                if (res == TRUE) {
+                    continue;
+                }
+
+                doPut(row, false, true);
+
+                if (res == READY) {
+                    // The rightmost leaf has changed, find the new one.
+                    if (leafId != 0L) {
+                        releasePage(leafId, leafPage);
+
+                        leafId = 0L;
+                    }
+
+                    leafId = findRightmostLeaf();
+                    leafPage = acquirePage(leafId);
+                }
+            }
+        } catch (CorruptedDataStructureException e) {
+            throw e;
+        } catch (IgniteInternalCheckedException e) {
+            throw new IgniteInternalCheckedException("Runtime failure on row: " + row, e);
+        } catch (RuntimeException | AssertionError e) {
+            throw corruptedTreeException("Runtime failure on row: " + row, e, grpId, leafId);
+        } finally {
+            if (leafId != 0L) {
+                releasePage(leafId, leafPage);
+            }
+
+            checkDestroyed();
+        }
+    }
+
+    /**
+     * Returns ID of the rightmost leaf page.
+     *
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private long findRightmostLeaf() throws IgniteInternalCheckedException {
+        GetRightmostLeaf g = new GetRightmostLeaf();
+
+        doFind(g);
+
+        assert g.leafId != 0L;
+
+        return g.leafId;
+    }
+
     /**
      * Does a put.
      *
@@ -2602,10 +2799,25 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
      * @throws IgniteInternalCheckedException If failed.
      */
     private T doPut(T row, boolean needOld) throws IgniteInternalCheckedException {
+        return doPut(row, needOld, false);
+    }
+
+    /**
+     * Does a put.
+     *
+     * @param row New value.
+     * @param needOld {@code True} If need return old value.
+     * @param bulk {@code True} if the put is a part of a sorted bulk load, see {@link #putAll}.
+     * @return Old row.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private T doPut(T row, boolean needOld, boolean bulk) throws IgniteInternalCheckedException {
         checkDestroyed();
 
         Put p = new Put(row, needOld);
 
+        p.bulk = bulk;
+
         try {
             for (; ; ) { // Go down with retries.
                 p.init();
@@ -2973,12 +3185,20 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
      * @param fwdId Forward page ID.
      * @param fwdBuf Forward buffer.
      * @param idx Insertion index.
+     * @param append {@code True} if the row is appended to the end of the rightmost page by a sorted bulk load.
      * @throws IgniteInternalCheckedException If failed.
      */
-    private boolean splitPage(long pageAddr, BplusIo io, long fwdId, long fwdBuf, int idx) throws IgniteInternalCheckedException {
+    private boolean splitPage(
+            long pageAddr,
+            BplusIo io,
+            long fwdId,
+            long fwdBuf,
+            int idx,
+            boolean append
+    ) throws IgniteInternalCheckedException {
         int cnt = io.getCount(pageAddr);
 
-        int mid = sequentialWriteOptsEnabled ? (int) (cnt * 0.85) : cnt >>> 1;
+        int mid = sequentialWriteOptsEnabled || append ? (int) (cnt * 0.85) : cnt >>> 1;
 
         boolean res = false;
 
@@ -3294,6 +3514,13 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             return lvl == 0; // Stop if we are at the bottom.
         }
 
+        /**
+         * Returns {@code true} if inner pages may be read optimistically, without the page read lock, on the way down.
+         */
+        boolean canReadOptimistically() {
+            return false;
+        }
+
         /**
          * Returns {@code true} If we can release the given page.
          *
@@ -3408,6 +3635,11 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
             return true;
         }
 
+        @Override
+        boolean canReadOptimistically() {
+            return optimisticReads() && !findLast;
+        }
+
         @Override
         boolean notFound(BplusIo<L> io, long pageAddr, int idx, int lvl) {
             assert lvl >= 0 : lvl;
@@ -3462,6 +3694,46 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
 
             return true;
         }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean canReadOptimistically() {
+            return optimisticReads();
+        }
+    }
+
+    /**
+     * Finds the rightmost leaf page.
+     */
+    private final class GetRightmostLeaf extends Get {
+        /** ID of the rightmost leaf page. */
+        long leafId;
+
+        /**
+         * Constructor.
+         */
+        GetRightmostLeaf() {
+            super(null, true);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean found(BplusIo<L> io, long pageAddr, int idx, int lvl) {
+            return lvl == 0 && leafFound();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        boolean notFound(BplusIo<L> io, long pageAddr, int idx, int lvl) {
+            return lvl == 0 && leafFound();
+        }
+
+        private boolean leafFound() {
+            // Page ID of the page being read is set right before the read.
+            leafId = pageId;
+
+            return true;
+        }
     }
 
     /**
@@ -3840,6 +4112,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
 
         final boolean needOld;
 
+        /** Part of a sorted bulk load: appends to the rightmost pages split them keeping most of the rows in place. */
+        boolean bulk;
+
         /**
          * Constructor.
          *
@@ -4043,7 +4318,7 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 assert fwdPageAddr != 0L;
 
                 try {
-                    boolean midShift = splitPage(pageAddr, io, fwdId, fwdPageAddr, idx);
+                    boolean midShift = splitPage(pageAddr, io, fwdId, fwdPageAddr, idx, bulk && !hadFwd && idx == io.getCount(pageAddr));
 
                     // Do insert.
                     int cnt = io.getCount(pageAddr);
@@ -5799,6 +6074,15 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         return compare(io, pageAddr, idx, row);
     }
 
+    /**
+     * Returns {@code true} if inner pages may be read optimistically, without the page read lock, by {@link #findOne} and {@link #find}
+     * operations. Inner page content read optimistically may be inconsistent, so it is allowed only if {@link #compare} reads nothing but
+     * the given page.
+     */
+    protected boolean optimisticReads() {
+        return false;
+    }
+
     /**
      * Get a full detached data row.
      *
@@ -28,7 +28,9 @@ import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.PART
 import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.readPartitionless;
 import static org.apache.ignite.internal.pagememory.util.PartitionlessLinks.writePartitionless;
 
+import java.nio.ByteBuffer;
 import java.util.function.Consumer;
+import org.apache.ignite.internal.pagememory.io.CompactablePageIo;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.util.PageUtils;
@@ -74,7 +76,7 @@ import org.jetbrains.annotations.Nullable;
  *
  * @see BplusTree
  */
-public abstract class BplusIo<L> extends PageIo {
+public abstract class BplusIo<L> extends PageIo implements CompactablePageIo {
     /** Items count in the page offset - short. */
     private static final int CNT_OFF = COMMON_HEADER_END;
 
@@ -547,4 +549,28 @@ public abstract class BplusIo<L> extends PageIo {
         int cnt = getCount(pageAddr);
         return offset(cnt);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void compactPage(ByteBuffer page, ByteBuffer out, int pageSize) {
+        // Items are stored without gaps from the beginning of the page, the rest of the page is free.
+        int itemsEnd = offset(page.getShort(CNT_OFF) & 0xFFFF);
+
+        PageUtils.copyMemory(page, 0, out, 0, itemsEnd);
+
+        out.position(0);
+        out.limit(itemsEnd);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void restorePage(ByteBuffer compactPage, int pageSize) {
+        int itemsEnd = compactPage.limit();
+
+        compactPage.limit(pageSize);
+
+        zeroBuffer(compactPage, itemsEnd, pageSize - itemsEnd);
+
+        compactPage.position(0);
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.freelist;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.util.Constants.MiB;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.pagememory.TestPageIoRegistry;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.evict.PageAbstractEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.Random2LruPageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.RandomLruPageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.RowEvictionHandler;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.io.DataPagePayload;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests data page eviction trackers of the {@link VolatilePageMemory} together with {@link AbstractFreeList}.
+ */
+@ExtendWith(ConfigurationExtension.class)
+public class PageEvictionTrackerTest extends BaseIgniteAbstractTest {
+    private static final long MAX_SIZE = 4 * MiB;
+
+    private static final int PAGE_SIZE = 4096;
+
+    @InjectConfiguration
+    private VolatilePageMemoryDataRegionConfiguration dataRegionCfg;
+
+    @Nullable
+    private VolatilePageMemory pageMemory;
+
+    @AfterEach
+    void afterEach() {
+        if (pageMemory != null) {
+            pageMemory.stop(true);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"RANDOM_LRU", "RANDOM_2_LRU"})
+    void testInsertsEvictOldRowsInsteadOfFailing(String evictionMode) throws Exception {
+        dataRegionCfg.change(c -> c.changeInitSize(MAX_SIZE).changeMaxSize(MAX_SIZE).changeEvictionMode(evictionMode))
+                .get(1, TimeUnit.SECONDS);
+
+        TestPageIoRegistry ioRegistry = new TestPageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        ioRegistry.load(TestDataPageIo.VERSIONS);
+
+        pageMemory = new VolatilePageMemory(dataRegionCfg, ioRegistry, PAGE_SIZE);
+
+        pageMemory.start();
+
+        Map<Long, TestDataRow> stored = new ConcurrentHashMap<>();
+
+        AtomicReference<AbstractFreeList<TestDataRow>> freeListRef = new AtomicReference<>();
+
+        RowEvictionHandler<Long> evictionHandler = new RowEvictionHandler<>() {
+            @Override
+            public int dataPageIoType() {
+                return TestDataPageIo.VERSIONS.latest().getType();
+            }
+
+            @Override
+            public Long readRowOwner(long pageAddr, long link, DataPagePayload payload) {
+                return link;
+            }
+
+            @Override
+            public boolean evictRow(Long owner, long link) throws IgniteInternalCheckedException {
+                if (stored.remove(link) == null) {
+                    return false;
+                }
+
+                freeListRef.get().removeDataRowByLink(link, IoStatisticsHolderNoOp.INSTANCE);
+
+                return true;
+            }
+        };
+
+        PageAbstractEvictionTracker tracker = "RANDOM_LRU".equals(evictionMode)
+                ? new RandomLruPageEvictionTracker(pageMemory, dataRegionCfg.value(), () -> freeListRef.get().emptyDataPages(),
+                        evictionHandler)
+                : new Random2LruPageEvictionTracker(pageMemory, dataRegionCfg.value(), () -> freeListRef.get().emptyDataPages(),
+                        evictionHandler);
+
+        long metaPageId = pageMemory.allocatePage(1, 1, FLAG_DATA);
+
+        freeListRef.set(new AbstractFreeList<>(
+                0,
+                1,
+                "freelist",
+                pageMemory,
+                null,
+                PageLockListenerNoOp.INSTANCE,
+                log,
+                metaPageId,
+                true,
+                null,
+                tracker
+        ));
+
+        int rowsToInsert = (int) (MAX_SIZE / (PAGE_SIZE / 4)) * 2;
+
+        TestDataRow lastRow = null;
+
+        for (int i = 0; i < rowsToInsert; i++) {
+            while (tracker.evictionRequired()) {
+                tracker.evictDataPage();
+            }
+
+            lastRow = new TestDataRow(PAGE_SIZE / 4);
+
+            freeListRef.get().insertDataRow(lastRow, IoStatisticsHolderNoOp.INSTANCE);
+
+            stored.put(lastRow.link(), lastRow);
+        }
+
+        assertTrue(stored.size() < rowsToInsert, "Nothing has been evicted");
+        assertTrue(stored.containsKey(lastRow.link()));
+    }
+}
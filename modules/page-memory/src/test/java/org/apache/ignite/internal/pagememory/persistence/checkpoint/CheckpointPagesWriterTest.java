@@ -19,6 +19,7 @@ package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DISABLED_PAGE_COMPRESSION;
 import static org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.TRY_AGAIN_TAG;
 import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.createPartitionMetaManager;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
@@ -60,6 +61,7 @@ import org.apache.ignite.internal.pagememory.persistence.PageStoreWriter;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMeta;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.WriteDirtyPage;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor;
 import org.apache.ignite.internal.util.IgniteConcurrentMultiPairQueue;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.jetbrains.annotations.Nullable;
@@ -273,6 +275,8 @@ public class CheckpointPagesWriterTest {
     private static PersistentPageMemory createPageMemory(int tryAgainTagFirstPageCount) throws Exception {
         PersistentPageMemory pageMemory = mock(PersistentPageMemory.class);
 
+        when(pageMemory.pageCompressor()).thenReturn(new PageCompressor(DISABLED_PAGE_COMPRESSION, 1, PAGE_SIZE, ioRegistry));
+
         AtomicInteger pageCount = new AtomicInteger();
 
         doAnswer(answer -> {
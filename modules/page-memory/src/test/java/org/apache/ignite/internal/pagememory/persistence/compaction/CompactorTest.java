@@ -21,6 +21,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runAsync;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -39,6 +40,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -64,7 +68,7 @@ public class CompactorTest {
 
     @Test
     void testStartAndStop() throws Exception {
-        Compactor compactor = new Compactor(log, "test", null, threadsConfig(1), mock(FilePageStoreManager.class), PAGE_SIZE);
+        Compactor compactor = newCompactor(mock(FilePageStoreManager.class));
 
         compactor.start();
 
@@ -89,7 +93,7 @@ public class CompactorTest {
 
     @Test
     void testMergeDeltaFileToMainFile() throws Throwable {
-        Compactor compactor = new Compactor(log, "test", null, threadsConfig(1), mock(FilePageStoreManager.class), PAGE_SIZE);
+        Compactor compactor = newCompactor(mock(FilePageStoreManager.class));
 
         FilePageStore filePageStore = mock(FilePageStore.class);
         DeltaFilePageStoreIo deltaFilePageStoreIo = mock(DeltaFilePageStoreIo.class);
@@ -135,7 +139,7 @@ public class CompactorTest {
 
         when(filePageStoreManager.allPageStores()).then(answer -> groupPageStoresMap.getAll());
 
-        Compactor compactor = spy(new Compactor(log, "test", null, threadsConfig(1), filePageStoreManager, PAGE_SIZE));
+        Compactor compactor = spy(newCompactor(filePageStoreManager));
 
         doAnswer(answer -> {
             assertSame(filePageStore, answer.getArgument(0));
@@ -155,9 +159,85 @@ public class CompactorTest {
         verify(compactor, times(1)).mergeDeltaFileToMainFile(any(FilePageStore.class), any(DeltaFilePageStoreIo.class));
     }
 
+    @Test
+    void testDoCompactionPriority() throws Throwable {
+        FilePageStore coldFilePageStore = mockFilePageStore(1, 0);
+        FilePageStore readFilePageStore = mockFilePageStore(1, 100);
+        FilePageStore hotFilePageStore = mockFilePageStore(3, 10);
+
+        FilePageStoreManager filePageStoreManager = mock(FilePageStoreManager.class);
+
+        GroupPageStoresMap<FilePageStore> groupPageStoresMap = new GroupPageStoresMap<>(new LongOperationAsyncExecutor("test", log));
+
+        groupPageStoresMap.put(new GroupPartitionId(0, 0), coldFilePageStore);
+        groupPageStoresMap.put(new GroupPartitionId(0, 1), readFilePageStore);
+        groupPageStoresMap.put(new GroupPartitionId(0, 2), hotFilePageStore);
+
+        when(filePageStoreManager.allPageStores()).then(answer -> groupPageStoresMap.getAll());
+
+        Compactor compactor = spy(newCompactor(filePageStoreManager));
+
+        List<FilePageStore> mergeOrder = new ArrayList<>();
+
+        doAnswer(answer -> {
+            FilePageStore filePageStore = answer.getArgument(0);
+
+            mergeOrder.add(filePageStore);
+
+            when(filePageStore.getDeltaFileToCompaction()).thenReturn(null);
+
+            return null;
+        })
+                .when(compactor)
+                .mergeDeltaFileToMainFile(any(FilePageStore.class), any(DeltaFilePageStoreIo.class));
+
+        compactor.doCompaction();
+
+        assertEquals(List.of(hotFilePageStore, readFilePageStore, coldFilePageStore), mergeOrder);
+
+        assertEquals(0, compactor.compactionQueueSize());
+    }
+
+    @Test
+    void testMergeStatistics() throws Throwable {
+        FilePageStore filePageStore = mock(FilePageStore.class);
+        DeltaFilePageStoreIo deltaFilePageStoreIo = mock(DeltaFilePageStoreIo.class);
+
+        when(filePageStore.removeDeltaFile(eq(deltaFilePageStoreIo))).thenReturn(true);
+        when(filePageStore.deltaFileCount()).thenReturn(2);
+
+        when(deltaFilePageStoreIo.pageIndexes()).thenReturn(new int[]{0, 1, 2});
+
+        when(deltaFilePageStoreIo.readWithMergedToFilePageStoreCheck(anyLong(), anyLong(), any(ByteBuffer.class), anyBoolean()))
+                .then(answer -> {
+                    ByteBuffer buffer = answer.getArgument(2);
+
+                    PageIo.setPageId(bufferAddress(buffer), 1);
+
+                    return true;
+                });
+
+        FilePageStoreManager filePageStoreManager = mock(FilePageStoreManager.class);
+
+        GroupPageStoresMap<FilePageStore> groupPageStoresMap = new GroupPageStoresMap<>(new LongOperationAsyncExecutor("test", log));
+
+        groupPageStoresMap.put(new GroupPartitionId(0, 1), filePageStore);
+
+        when(filePageStoreManager.allPageStores()).then(answer -> groupPageStoresMap.getAll());
+
+        Compactor compactor = newCompactor(filePageStoreManager);
+
+        compactor.mergeDeltaFileToMainFile(filePageStore, deltaFilePageStoreIo);
+
+        assertEquals(3, compactor.mergedPages());
+        assertEquals(1, compactor.mergedDeltaFiles());
+
+        assertEquals(Map.of(new GroupPartitionId(0, 1), 2), compactor.deltaFileCountByPartition());
+    }
+
     @Test
     void testBody() throws Exception {
-        Compactor compactor = spy(new Compactor(log, "test", null, threadsConfig(1), mock(FilePageStoreManager.class), PAGE_SIZE));
+        Compactor compactor = spy(newCompactor(mock(FilePageStoreManager.class)));
 
         doNothing().when(compactor).waitDeltaFiles();
 
@@ -176,7 +256,7 @@ public class CompactorTest {
 
     @Test
     void testWaitDeltaFiles() throws Exception {
-        Compactor compactor = spy(new Compactor(log, "test", null, threadsConfig(1), mock(FilePageStoreManager.class), PAGE_SIZE));
+        Compactor compactor = spy(newCompactor(mock(FilePageStoreManager.class)));
 
         CompletableFuture<?> waitDeltaFilesFuture = runAsync(compactor::waitDeltaFiles);
 
@@ -189,7 +269,7 @@ public class CompactorTest {
 
     @Test
     void testCancel() throws Exception {
-        Compactor compactor = spy(new Compactor(log, "test", null, threadsConfig(1), mock(FilePageStoreManager.class), PAGE_SIZE));
+        Compactor compactor = spy(newCompactor(mock(FilePageStoreManager.class)));
 
         assertFalse(compactor.isCancelled());
 
@@ -205,6 +285,30 @@ public class CompactorTest {
         waitDeltaFilesFuture.get(100, MILLISECONDS);
     }
 
+    private Compactor newCompactor(FilePageStoreManager filePageStoreManager) {
+        return new Compactor(log, "test", null, threadsConfig(1), speedLimitConfig(0), filePageStoreManager, PAGE_SIZE);
+    }
+
+    private static FilePageStore mockFilePageStore(int deltaFileCount, long deltaFileReads) {
+        FilePageStore filePageStore = mock(FilePageStore.class);
+
+        DeltaFilePageStoreIo deltaFilePageStoreIo = mock(DeltaFilePageStoreIo.class);
+
+        when(filePageStore.getDeltaFileToCompaction()).thenReturn(deltaFilePageStoreIo);
+        when(filePageStore.deltaFileCount()).thenReturn(deltaFileCount);
+        when(filePageStore.resetDeltaFileReads()).thenReturn(deltaFileReads);
+
+        return filePageStore;
+    }
+
+    private static ConfigurationValue<Integer> speedLimitConfig(int speedLimit) {
+        ConfigurationValue<Integer> configValue = mock(ConfigurationValue.class);
+
+        when(configValue.value()).thenReturn(speedLimit);
+
+        return configValue;
+    }
+
     private static ConfigurationValue<Integer> threadsConfig(int threads) {
         ConfigurationValue<Integer> configValue = mock(ConfigurationValue.class);
 
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compaction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link IoRateLimiter} testing.
+ */
+public class IoRateLimiterTest {
+    @Test
+    void testUnlimited() {
+        IoRateLimiter rateLimiter = new IoRateLimiter();
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < 1_000; i++) {
+            rateLimiter.acquire(1024 * 1024, 0);
+        }
+
+        assertThat(System.nanoTime() - start, lessThan(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    @Test
+    void testLimited() {
+        IoRateLimiter rateLimiter = new IoRateLimiter();
+
+        long start = System.nanoTime();
+
+        // 11 acquisitions of 10 bytes at 100 bytes per second: the last one starts 1 second after the first one.
+        for (int i = 0; i < 11; i++) {
+            rateLimiter.acquire(10, 100);
+        }
+
+        assertThat(System.nanoTime() - start, greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(990)));
+    }
+}
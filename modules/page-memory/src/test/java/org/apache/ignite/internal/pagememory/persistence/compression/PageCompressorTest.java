@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DEFLATE_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DISABLED_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SKIP_GARBAGE_PAGE_COMPRESSION;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+import static org.apache.ignite.internal.pagememory.io.PageIo.getCompressedSize;
+import static org.apache.ignite.internal.pagememory.io.PageIo.getCompressionType;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor.DEFLATE_COMPRESSED_PAGE;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor.FS_BLOCK_SIZE;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor.UNCOMPRESSED_PAGE;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor.alignToBlock;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompressor.decompressPage;
+import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link PageCompressor} testing.
+ */
+public class PageCompressorTest {
+    private static final int PAGE_SIZE = 4 * FS_BLOCK_SIZE;
+
+    private static PageIoRegistry ioRegistry;
+
+    @BeforeAll
+    static void beforeAll() {
+        ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        ioRegistry = null;
+    }
+
+    @Test
+    void testDisabled() throws Exception {
+        PageCompressor compressor = new PageCompressor(DISABLED_PAGE_COMPRESSION, 1, PAGE_SIZE, ioRegistry);
+
+        ByteBuffer page = createPage(100);
+
+        assertSame(page, compressor.compressPage(page));
+    }
+
+    @Test
+    void testSkipGarbageOfNotCompactablePage() throws Exception {
+        PageCompressor compressor = new PageCompressor(SKIP_GARBAGE_PAGE_COMPRESSION, 1, PAGE_SIZE, ioRegistry);
+
+        ByteBuffer page = createPage(100);
+
+        assertSame(page, compressor.compressPage(page));
+
+        assertEquals(1.0, compressor.compressionRatio());
+    }
+
+    @Test
+    void testDeflate() throws Exception {
+        PageCompressor compressor = new PageCompressor(DEFLATE_PAGE_COMPRESSION, 1, PAGE_SIZE, ioRegistry);
+
+        ByteBuffer page = createPage(1000);
+
+        ByteBuffer expPage = copy(page);
+
+        ByteBuffer compressed = compressor.compressPage(page);
+
+        assertEquals(DEFLATE_COMPRESSED_PAGE, getCompressionType(compressed));
+        assertEquals(0, compressed.position());
+        assertEquals(compressed.limit(), getCompressedSize(compressed));
+        assertThat(alignToBlock(compressed.limit()), lessThan(PAGE_SIZE));
+
+        assertThat(compressor.compressionRatio(), greaterThan(1.0));
+
+        // The page itself must not be changed.
+        assertEquals(expPage, page.rewind());
+
+        ByteBuffer readPage = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+        readPage.put(compressed).rewind();
+
+        decompressPage(readPage, PAGE_SIZE, ioRegistry);
+
+        assertEquals(UNCOMPRESSED_PAGE, getCompressionType(readPage));
+        assertEquals(expPage, readPage);
+    }
+
+    @Test
+    void testDeflateOfIncompressiblePage() throws Exception {
+        PageCompressor compressor = new PageCompressor(DEFLATE_PAGE_COMPRESSION, 1, PAGE_SIZE, ioRegistry);
+
+        ByteBuffer page = createPage(PAGE_SIZE - COMMON_HEADER_END);
+
+        assertSame(page, compressor.compressPage(page));
+
+        assertEquals(UNCOMPRESSED_PAGE, getCompressionType(page));
+    }
+
+    private static ByteBuffer createPage(int randomBytes) {
+        ByteBuffer page = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+        new TestPageIo().initNewPage(bufferAddress(page), 1L, PAGE_SIZE);
+
+        byte[] bytes = new byte[randomBytes];
+
+        new Random(0).nextBytes(bytes);
+
+        page.position(COMMON_HEADER_END);
+        page.put(bytes);
+
+        return page.rewind();
+    }
+
+    private static ByteBuffer copy(ByteBuffer page) {
+        ByteBuffer copy = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+        copy.put(page.duplicate()).rewind();
+
+        return copy;
+    }
+}
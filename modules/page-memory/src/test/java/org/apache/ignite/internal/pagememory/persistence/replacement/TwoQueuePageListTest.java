@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.pagememory.persistence.replacement.TwoQueuePageList.NULL_IDX;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.TwoQueuePageList.pageKey;
+import static org.apache.ignite.internal.util.GridUnsafe.allocateMemory;
+import static org.apache.ignite.internal.util.GridUnsafe.freeMemory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link TwoQueuePageList} testing.
+ */
+public class TwoQueuePageListTest {
+    private static final int PAGES_CNT = 8;
+
+    private long memPtr;
+
+    private TwoQueuePageList list;
+
+    @BeforeEach
+    void setUp() {
+        memPtr = allocateMemory(TwoQueuePageList.requiredMemory(PAGES_CNT));
+
+        list = new TwoQueuePageList(PAGES_CNT, memPtr);
+    }
+
+    @AfterEach
+    void tearDown() {
+        freeMemory(memPtr);
+    }
+
+    @Test
+    void testNewPagesGoToInQueue() {
+        list.addLoaded(0, pageKey(1, 0));
+        list.addLoaded(1, pageKey(1, 1));
+
+        assertEquals(0, list.inHeadIdx());
+        assertEquals(1, list.next(0));
+        assertEquals(NULL_IDX, list.mainHeadIdx());
+        assertEquals(2, list.inPagesCount());
+
+        assertTrue(list.replaceFromInQueue());
+        assertEquals(0, list.pollInQueue());
+        assertEquals(1, list.pollInQueue());
+        assertEquals(NULL_IDX, list.pollInQueue());
+    }
+
+    @Test
+    void testHitDoesNotMoveInQueuePage() {
+        list.addLoaded(0, pageKey(1, 0));
+        list.addLoaded(1, pageKey(1, 1));
+
+        list.onHit(0);
+
+        assertEquals(0, list.inHeadIdx());
+        assertFalse(list.mainPage(0));
+    }
+
+    @Test
+    void testGhostHitGoesToMain() {
+        long key = pageKey(1, 0);
+
+        list.addLoaded(0, key);
+
+        assertEquals(0, list.pollInQueue());
+
+        list.addGhost(key);
+
+        assertTrue(list.ghostContains(key));
+
+        list.addLoaded(0, key);
+
+        assertTrue(list.mainPage(0));
+        assertEquals(0, list.mainHeadIdx());
+        assertEquals(NULL_IDX, list.inHeadIdx());
+    }
+
+    @Test
+    void testHitMovesMainPageToTail() {
+        for (int i = 0; i < 3; i++) {
+            list.addGhost(pageKey(1, i));
+            list.addLoaded(i, pageKey(1, i));
+        }
+
+        list.onHit(0);
+
+        assertEquals(1, list.mainHeadIdx());
+        assertEquals(0, list.next(2));
+        assertEquals(NULL_IDX, list.next(0));
+
+        assertEquals(1, list.pollMain());
+        assertEquals(2, list.pollMain());
+        assertEquals(0, list.pollMain());
+    }
+
+    @Test
+    void testScanDoesNotEvictMainPages() {
+        list.addGhost(pageKey(1, 0));
+        list.addLoaded(0, pageKey(1, 0));
+
+        // Pages of a single scan fill the "in" queue over its limit and are replaced before the hot page.
+        for (int i = 1; i < PAGES_CNT; i++) {
+            list.addLoaded(i, pageKey(2, i));
+        }
+
+        for (int i = 1; i <= PAGES_CNT - 1 - list.inPagesLimit(); i++) {
+            assertTrue(list.replaceFromInQueue());
+            assertEquals(i, list.pollInQueue());
+        }
+
+        assertFalse(list.replaceFromInQueue());
+        assertEquals(0, list.mainHeadIdx());
+    }
+
+    @Test
+    void testGhostQueueIsBounded() {
+        for (int i = 0; i < PAGES_CNT; i++) {
+            list.addGhost(pageKey(1, i));
+        }
+
+        assertFalse(list.ghostContains(pageKey(1, 0)));
+        assertTrue(list.ghostContains(pageKey(1, PAGES_CNT - 1)));
+    }
+
+    @Test
+    void testRemove() {
+        list.addLoaded(0, pageKey(1, 0));
+        list.addLoaded(1, pageKey(1, 1));
+        list.addLoaded(2, pageKey(1, 2));
+
+        list.remove(1);
+
+        assertEquals(2, list.next(0));
+        assertEquals(0, list.prev(2));
+        assertEquals(2, list.inPagesCount());
+    }
+}
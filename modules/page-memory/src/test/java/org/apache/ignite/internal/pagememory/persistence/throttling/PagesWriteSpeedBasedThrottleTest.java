@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.MAX_PARK_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.MIN_MEASUREMENT_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.STARTING_BACKOFF_PARK_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.backoffParkNanos;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.targetMarkDirtySpeed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link PagesWriteSpeedBasedThrottle} testing.
+ */
+public class PagesWriteSpeedBasedThrottleTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void testNoThrottlingBeforeSpeedsAreMeasured() {
+        assertTrue(targetMarkDirtySpeed(MIN_MEASUREMENT_NANOS - 1, 1_000_000, 900, 1000, 1000, 0) < 0);
+    }
+
+    @Test
+    void testNoThrottlingWhenCheckpointKeepsUp() {
+        // Checkpoint writes 1000 pages/s and has 1000 pages left, writers dirty 100 pages/s: 200 of 1000 pages will be dirty at the end.
+        assertTrue(targetMarkDirtySpeed(SECOND, 100, 100, 1000, 2000, 1000) < 0);
+    }
+
+    @Test
+    void testNoThrottlingWhenCheckpointIsWritten() {
+        assertTrue(targetMarkDirtySpeed(SECOND, 1_000_000, 800, 1000, 1000, 1000) < 0);
+    }
+
+    @Test
+    void testThrottlingSpendsRemainingBudgetWithinCheckpoint() {
+        // Checkpoint writes 1000 pages/s and has 1000 pages left, writers dirty 1000 pages/s: the limit would be exceeded.
+        double speed = targetMarkDirtySpeed(SECOND, 1000, 500, 1000, 2000, 1000);
+
+        // 400 pages of budget (90% of 1000 minus 500 dirty) over the remaining second.
+        assertEquals(400.0 / SECOND, speed, 1e-12);
+    }
+
+    @Test
+    void testThrottlingWithExhaustedBudget() {
+        assertEquals(0.0, targetMarkDirtySpeed(SECOND, 1000, 950, 1000, 2000, 1000));
+    }
+
+    @Test
+    void testBackoffGrowsUpToMaximum() {
+        assertEquals(STARTING_BACKOFF_PARK_NANOS, backoffParkNanos(0));
+
+        assertTrue(backoffParkNanos(10) > backoffParkNanos(9));
+
+        assertEquals(MAX_PARK_NANOS, backoffParkNanos(10_000));
+    }
+}
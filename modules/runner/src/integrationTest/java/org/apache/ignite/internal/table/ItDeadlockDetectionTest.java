@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.getFieldValue;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.ClusterPerTestIntegrationTest;
+import org.apache.ignite.internal.app.IgniteImpl;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.WaitForGraphDeadlockDetectionPolicy;
+import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.tx.Transaction;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the deadlock detection policy of the lock manager, that is chosen by the node configuration.
+ */
+class ItDeadlockDetectionTest extends ClusterPerTestIntegrationTest {
+    /** Nodes bootstrap configuration pattern with the deadlock detection. */
+    private static final String NODE_BOOTSTRAP_CFG_TEMPLATE = "{\n"
+            + "  network: {\n"
+            + "    port: {},\n"
+            + "    nodeFinder: {\n"
+            + "      netClusterNodes: [ {} ]\n"
+            + "    }\n"
+            + "  },\n"
+            + "  transaction: {\n"
+            + "    deadlockPolicy: DETECTION,\n"
+            + "    deadlockDetectionInterval: 50\n"
+            + "  }\n"
+            + "}";
+
+    private static final String TABLE_NAME = "TEST";
+
+    @Override
+    protected int initialNodes() {
+        return 1;
+    }
+
+    @Override
+    protected String getNodeBootstrapConfigTemplate() {
+        return NODE_BOOTSTRAP_CFG_TEMPLATE;
+    }
+
+    @Test
+    void deadlockIsDetected() {
+        executeSql("CREATE TABLE " + TABLE_NAME + " (k int, v int, CONSTRAINT PK PRIMARY KEY (k))");
+
+        IgniteImpl ignite = node(0);
+
+        HeapLockManager lockManager = (HeapLockManager) ((TxManager) getFieldValue(ignite, IgniteImpl.class, "txManager")).lockManager();
+
+        assertThat(lockManager.deadlockPreventionPolicy(), instanceOf(WaitForGraphDeadlockDetectionPolicy.class));
+
+        KeyValueView<Integer, Integer> view = ignite.tables().table(TABLE_NAME).keyValueView(Integer.class, Integer.class);
+
+        Transaction tx0 = ignite.transactions().begin();
+        Transaction tx1 = ignite.transactions().begin();
+
+        view.put(tx0, 0, 0);
+        view.put(tx1, 1, 1);
+
+        CompletableFuture<Void> fut0 = view.putAsync(tx0, 1, 0);
+        CompletableFuture<Void> fut1 = view.putAsync(tx1, 0, 1);
+
+        // The younger transaction is the victim of the deadlock.
+        assertThat(fut1, willThrow(Exception.class, 10, TimeUnit.SECONDS));
+        assertFalse(fut0.isDone());
+
+        tx1.rollback();
+
+        assertThat(fut0, willCompleteSuccessfully());
+
+        tx0.commit();
+
+        assertEquals(0, view.get(null, 0));
+        assertEquals(0, view.get(null, 1));
+
+        assertEquals(1, lockManager.deadlocks());
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.app;
 
 import static org.apache.ignite.internal.raft.Loza.CLIENT_POOL_NAME;
 import static org.apache.ignite.internal.raft.Loza.CLIENT_POOL_SIZE;
+import static org.apache.ignite.internal.tx.configuration.TransactionConfigurationSchema.DETECTION_DEADLOCK_POLICY;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -115,14 +116,23 @@ import org.apache.ignite.internal.storage.DataStorageModule;
 import org.apache.ignite.internal.storage.DataStorageModules;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.table.distributed.TableMessageGroup;
+import org.apache.ignite.internal.table.distributed.gc.MvGcMetricSource;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing.OutgoingSnapshotsManager;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
-import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.DeadlockPreventionPolicy;
 import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.configuration.TransactionConfiguration;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.IgniteTransactionsImpl;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.internal.tx.impl.TxOutcomeCache;
+import org.apache.ignite.internal.tx.impl.TxStateMap;
+import org.apache.ignite.internal.tx.impl.WaitDieDeadlockPreventionPolicy;
+import org.apache.ignite.internal.tx.impl.WaitForGraphDeadlockDetectionPolicy;
 import org.apache.ignite.internal.tx.message.TxMessageGroup;
+import org.apache.ignite.internal.tx.metrics.LockManagerMetricSource;
+import org.apache.ignite.internal.tx.metrics.TxOutcomeCacheMetricSource;
+import org.apache.ignite.internal.tx.metrics.TxStateMetricSource;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.internal.vault.VaultManager;
 import org.apache.ignite.internal.vault.VaultService;
@@ -355,7 +365,14 @@ public class IgniteImpl implements Ignite {
                 raftGroupEventsClientListener
         );
 
-        LockManager lockMgr = new HeapLockManager();
+        TransactionConfiguration txConfig = nodeConfigRegistry.getConfiguration(TransactionConfiguration.KEY);
+
+        HeapLockManager lockMgr = new HeapLockManager(
+                () -> deadlockPreventionPolicy(txConfig),
+                () -> txConfig.lockEscalationThreshold().value()
+        );
+
+        metricManager.registerSource(new LockManagerMetricSource(lockMgr));
 
         replicaMgr = new ReplicaManager(
                 clusterSvc,
@@ -365,7 +382,15 @@ public class IgniteImpl implements Ignite {
 
         ReplicaService replicaSvc = new ReplicaService(clusterSvc.messagingService(), clock);
 
-        txManager = new TxManagerImpl(replicaSvc, lockMgr, clock);
+        TxOutcomeCache txOutcomeCache = new TxOutcomeCache();
+
+        metricManager.registerSource(new TxOutcomeCacheMetricSource(txOutcomeCache));
+
+        TxStateMap txStates = new TxStateMap();
+
+        metricManager.registerSource(new TxStateMetricSource(txStates));
+
+        txManager = new TxManagerImpl(replicaSvc, lockMgr, clock, txOutcomeCache, txStates);
 
         // TODO: IGNITE-16841 - use common RocksDB instance to store cluster state as well.
         clusterStateStorage = new RocksDbClusterStateStorage(workDir.resolve(CMG_DB_PATH));
@@ -450,7 +475,8 @@ public class IgniteImpl implements Ignite {
                         name,
                         clusterConfigRegistry,
                         storagePath,
-                        longJvmPauseDetector
+                        longJvmPauseDetector,
+                        metricManager
                 )
         );
 
@@ -490,6 +516,8 @@ public class IgniteImpl implements Ignite {
                 outgoingSnapshotsManager
         );
 
+        metricManager.registerSource(new MvGcMetricSource(distributedTblMgr.mvGc()));
+
         indexManager = new IndexManager(tablesConfiguration, schemaManager, distributedTblMgr);
 
         qryEngine = new SqlQueryProcessor(
@@ -943,6 +971,23 @@ public class IgniteImpl implements Ignite {
         return partitionsStore;
     }
 
+    /**
+     * Creates the deadlock prevention policy of the lock manager, that is chosen by the transaction configuration.
+     *
+     * @param txConfig Transaction configuration.
+     * @return Deadlock prevention policy.
+     */
+    private static DeadlockPreventionPolicy deadlockPreventionPolicy(TransactionConfiguration txConfig) {
+        if (DETECTION_DEADLOCK_POLICY.equals(txConfig.deadlockPolicy().value())) {
+            return new WaitForGraphDeadlockDetectionPolicy(
+                    txConfig.deadlockDetectionInterval().value(),
+                    txConfig.deadlockDetectionWaitTimeout().value()
+            );
+        }
+
+        return new WaitDieDeadlockPreventionPolicy();
+    }
+
     @TestOnly
     public Loza raftManager() {
         return raftMgr;
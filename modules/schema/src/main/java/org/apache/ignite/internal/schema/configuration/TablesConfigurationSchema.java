@@ -21,6 +21,7 @@ import org.apache.ignite.configuration.annotation.ConfigurationRoot;
 import org.apache.ignite.configuration.annotation.ConfigurationType;
 import org.apache.ignite.configuration.annotation.NamedConfigValue;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.Range;
 import org.apache.ignite.internal.schema.configuration.index.IndexValidator;
 import org.apache.ignite.internal.schema.configuration.index.TableIndexConfigurationSchema;
 import org.apache.ignite.internal.schema.configuration.storage.ExistingDataStorage;
@@ -53,4 +54,12 @@ public class TablesConfigurationSchema {
     /** Number of garbage collector threads. */
     @Value(hasDefault = true)
     public int gcThreads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Percentage of the time of a garbage collector thread that may be spent on collecting garbage of a partition. Below {@code 100},
+     * the garbage collector pauses between batches, proportionally to the batch duration, to leave CPU and I/O to the foreground load.
+     */
+    @Range(min = 1, max = 100)
+    @Value(hasDefault = true)
+    public int gcTimeBudget = 100;
 }
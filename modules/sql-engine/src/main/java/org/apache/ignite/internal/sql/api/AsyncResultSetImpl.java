@@ -23,7 +23,9 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayDeque;
 import java.util.BitSet;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
@@ -55,18 +57,46 @@ public class AsyncResultSetImpl<T> implements AsyncResultSet<T> {
 
     private final int pageSize;
 
+    private final int prefetchPages;
+
+    /**
+     * Pages requested from the cursor ahead of the consumer, in the order they follow the current page. A future
+     * completes with {@code null} when there is no such page. Guarded by {@code this}.
+     */
+    private final Deque<CompletableFuture<BatchedResult<List<Object>>>> prefetched = new ArrayDeque<>();
+
     private final Runnable closeRun;
 
+    /** Whether the result set has been closed, no more pages are requested then. */
+    private volatile boolean closed;
+
     /**
      * Constructor.
      *
      * @param cur Asynchronous query cursor.
+     * @param page First page.
+     * @param pageSize Page size.
+     * @param prefetchPages Number of pages to request ahead of the consumer, zero to request pages on demand only.
+     * @param closeRun Action to run on close.
      */
-    public AsyncResultSetImpl(AsyncSqlCursor<List<Object>> cur, BatchedResult<List<Object>> page, int pageSize, Runnable closeRun) {
+    public AsyncResultSetImpl(
+            AsyncSqlCursor<List<Object>> cur,
+            BatchedResult<List<Object>> page,
+            int pageSize,
+            int prefetchPages,
+            Runnable closeRun
+    ) {
         this.cur = cur;
         this.curPage = page;
         this.pageSize = pageSize;
+        this.prefetchPages = Math.max(prefetchPages, 0);
         this.closeRun = closeRun;
+
+        if (page.hasMore()) {
+            synchronized (this) {
+                prefetch(CompletableFuture.completedFuture(page));
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -133,12 +163,23 @@ public class AsyncResultSetImpl<T> implements AsyncResultSet<T> {
         if (!hasMorePages()) {
             return (CompletableFuture<? extends AsyncResultSet<T>>) HAS_NO_MORE_PAGE_FUTURE;
         } else {
-            return cur.requestNextAsync(pageSize)
-                    .thenApply(page -> {
-                        curPage = page;
+            CompletableFuture<BatchedResult<List<Object>>> next;
+
+            synchronized (this) {
+                next = prefetched.poll();
+
+                if (next == null) {
+                    next = cur.requestNextAsync(pageSize);
+                }
+
+                prefetch(prefetched.isEmpty() ? next : prefetched.peekLast());
+            }
 
-                        return AsyncResultSetImpl.this;
-                    });
+            return next.thenApply(page -> {
+                curPage = page;
+
+                return AsyncResultSetImpl.this;
+            });
         }
     }
 
@@ -151,9 +192,34 @@ public class AsyncResultSetImpl<T> implements AsyncResultSet<T> {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> closeAsync() {
+        closed = true;
+
+        synchronized (this) {
+            prefetched.clear();
+        }
+
         return cur.closeAsync().thenRun(closeRun);
     }
 
+    /**
+     * Tops up the read-ahead queue, so that the next pages are produced while the current one is being consumed. Every page
+     * is requested only when the previous one has arrived and reported more data: the cursor must not be asked past its end,
+     * nor after the result set is closed.
+     *
+     * @param last Future of the last page requested so far.
+     */
+    private void prefetch(CompletableFuture<BatchedResult<List<Object>>> last) {
+        assert Thread.holdsLock(this);
+
+        while (prefetched.size() < prefetchPages) {
+            last = last.thenCompose(page -> page == null || !page.hasMore() || closed
+                    ? CompletableFuture.completedFuture(null)
+                    : cur.requestNextAsync(pageSize));
+
+            prefetched.add(last);
+        }
+    }
+
     private void requireResultSet() {
         if (!hasRowSet()) {
             throw new NoRowSetExpectedException();
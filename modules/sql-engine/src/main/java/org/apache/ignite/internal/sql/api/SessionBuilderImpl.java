@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.api;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.sql.engine.QueryProcessor;
@@ -34,6 +35,7 @@ public class SessionBuilderImpl implements SessionBuilder {
 
     public static final long DEFAULT_QUERY_TIMEOUT = 0;
     public static final long DEFAULT_SESSION_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+    public static final int DEFAULT_PREFETCH_PAGES = 1;
 
     private final QueryProcessor qryProc;
 
@@ -135,12 +137,19 @@ public class SessionBuilderImpl implements SessionBuilder {
     /** {@inheritDoc} */
     @Override
     public Session build() {
-        var propsHolder = PropertiesHolder.fromMap(
-                Map.of(
-                        QueryProperty.QUERY_TIMEOUT, queryTimeout,
-                        QueryProperty.DEFAULT_SCHEMA, schema
-                )
-        );
+        Map<Property<?>, Object> sessionProps = new HashMap<>();
+
+        props.forEach((prop, val) -> {
+            if (val != null) {
+                sessionProps.put(prop, val);
+            }
+        });
+
+        sessionProps.put(QueryProperty.QUERY_TIMEOUT, queryTimeout);
+        sessionProps.put(QueryProperty.DEFAULT_SCHEMA, schema);
+        sessionProps.putIfAbsent(QueryProperty.PREFETCH_PAGES, DEFAULT_PREFETCH_PAGES);
+
+        var propsHolder = PropertiesHolder.fromMap(sessionProps);
 
         var sessionId = qryProc.createSession(sessionTimeout, propsHolder);
 
@@ -174,6 +174,7 @@ public class SessionImpl implements Session {
                                             cur,
                                             batchRes,
                                             pageSize,
+                                            props.getOrDefault(QueryProperty.PREFETCH_PAGES, SessionBuilderImpl.DEFAULT_PREFETCH_PAGES),
                                             () -> {}
                                     )
                             )
@@ -30,6 +30,12 @@ public class QueryProperty {
     public static final Property<Long> QUERY_TIMEOUT = new Property<>("query_timeout", Long.class);
     public static final Property<String> DEFAULT_SCHEMA = new Property<>("default_schema", String.class);
 
+    /**
+     * Number of result pages requested from the cursor ahead of the consumer. Bounds the memory spent on read-ahead by
+     * {@code prefetch_pages * page_size} rows per cursor; zero disables the read-ahead.
+     */
+    public static final Property<Integer> PREFETCH_PAGES = new Property<>("prefetch_pages", Integer.class);
+
     private static final Map<String, Property<?>> propsByName = createPropsByNameMap(QueryProperty.class);
 
     /** Returns a property for the given name or {@code null} if there is no property with such name. */
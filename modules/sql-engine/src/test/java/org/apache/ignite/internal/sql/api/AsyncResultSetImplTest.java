@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.sql.engine.AsyncCursor.BatchedResult;
+import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
+import org.apache.ignite.internal.sql.engine.SqlQueryType;
+import org.apache.ignite.sql.ResultSetMetadata;
+import org.apache.ignite.sql.SqlRow;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AsyncResultSetImpl}.
+ */
+public class AsyncResultSetImplTest {
+    @Test
+    public void testNextPageIsRequestedAheadOfConsumer() {
+        var cursor = new TestCursor(3);
+        var rs = new AsyncResultSetImpl<SqlRow>(cursor, cursor.nextPage(), 1, 1, () -> {});
+
+        // The second page is requested before the consumer asks for it.
+        assertEquals(2, cursor.requests.size());
+
+        cursor.completeRequest(1);
+        rs.fetchNextPage().join();
+
+        assertEquals(1, rs.currentPage().iterator().next().intValue(0));
+        assertEquals(3, cursor.requests.size());
+
+        cursor.completeRequest(2);
+        rs.fetchNextPage().join();
+
+        assertEquals(2, rs.currentPage().iterator().next().intValue(0));
+        assertFalse(rs.hasMorePages());
+
+        // The cursor is never asked past its end.
+        assertEquals(3, cursor.requests.size());
+    }
+
+    @Test
+    public void testZeroPrefetchPagesRequestsPagesOnDemand() {
+        var cursor = new TestCursor(2);
+        var rs = new AsyncResultSetImpl<SqlRow>(cursor, cursor.nextPage(), 1, 0, () -> {});
+
+        assertEquals(1, cursor.requests.size());
+
+        var fut = rs.fetchNextPage();
+
+        assertEquals(2, cursor.requests.size());
+
+        cursor.completeRequest(1);
+
+        assertTrue(fut.isDone());
+        assertFalse(rs.hasMorePages());
+    }
+
+    @Test
+    public void testPrefetchStopsWhenClosed() {
+        var cursor = new TestCursor(5);
+        var rs = new AsyncResultSetImpl<SqlRow>(cursor, cursor.nextPage(), 1, 2, () -> {});
+
+        // Only the first prefetched page is requested, the second one waits for it.
+        assertEquals(2, cursor.requests.size());
+
+        rs.closeAsync().join();
+
+        cursor.completeRequest(1);
+
+        // The closed cursor is not asked for the next page.
+        assertEquals(2, cursor.requests.size());
+    }
+
+    /** Cursor that returns single-row pages, each completed explicitly by the test. */
+    private static class TestCursor implements AsyncSqlCursor<List<Object>> {
+        private final int pages;
+
+        private final List<CompletableFuture<BatchedResult<List<Object>>>> requests = new ArrayList<>();
+
+        TestCursor(int pages) {
+            this.pages = pages;
+        }
+
+        BatchedResult<List<Object>> nextPage() {
+            requestNextAsync(1);
+
+            completeRequest(0);
+
+            return requests.get(0).join();
+        }
+
+        void completeRequest(int idx) {
+            requests.get(idx).complete(new BatchedResult<>(List.of(List.of(idx)), idx < pages - 1));
+        }
+
+        @Override
+        public SqlQueryType queryType() {
+            return SqlQueryType.QUERY;
+        }
+
+        @Override
+        public ResultSetMetadata metadata() {
+            return null;
+        }
+
+        @Override
+        public CompletableFuture<BatchedResult<List<Object>>> requestNextAsync(int rows) {
+            assert requests.size() < pages : "Requested past the end of the cursor";
+
+            var fut = new CompletableFuture<BatchedResult<List<Object>>>();
+
+            requests.add(fut);
+
+            return fut;
+        }
+
+        @Override
+        public CompletableFuture<Void> closeAsync() {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
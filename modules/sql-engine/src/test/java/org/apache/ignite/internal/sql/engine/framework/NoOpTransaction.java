@@ -121,4 +121,9 @@ public final class NoOpTransaction implements InternalTransaction {
     public void enlistResultFuture(CompletableFuture<?> resultFuture) {
         resultFuture.complete(null);
     }
+
+    @Override
+    public CompletableFuture<Void> finishFuture() {
+        return CompletableFuture.completedFuture(null);
+    }
 }
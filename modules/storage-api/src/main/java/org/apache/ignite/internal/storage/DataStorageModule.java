@@ -20,6 +20,7 @@ package org.apache.ignite.internal.storage;
 import java.nio.file.Path;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.ConfigurationRegistry;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.schema.configuration.storage.DataStorageConfigurationSchema;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.jetbrains.annotations.Nullable;
@@ -50,4 +51,26 @@ public interface DataStorageModule {
             Path storagePath,
             @Nullable LongJvmPauseDetector longJvmPauseDetector
     ) throws StorageException;
+
+    /**
+     * Creates a new storage engine that registers its metric sources with the given metric manager.
+     *
+     * <p>By default the metric manager is ignored, storage engines that expose metrics override this method.
+     *
+     * @param igniteInstanceName String igniteInstanceName
+     * @param configRegistry Configuration register.
+     * @param storagePath Storage path.
+     * @param longJvmPauseDetector Long JVM pause detector.
+     * @param metricManager Metric manager, {@code null} if metrics should not be registered.
+     * @throws StorageException If there is an error when creating the storage engine.
+     */
+    default StorageEngine createEngine(
+            String igniteInstanceName,
+            ConfigurationRegistry configRegistry,
+            Path storagePath,
+            @Nullable LongJvmPauseDetector longJvmPauseDetector,
+            @Nullable MetricManager metricManager
+    ) throws StorageException {
+        return createEngine(igniteInstanceName, configRegistry, storagePath, longJvmPauseDetector);
+    }
 }
@@ -34,6 +34,7 @@ import org.apache.ignite.configuration.annotation.PolymorphicConfigInstance;
 import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.ConfigurationRegistry;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.schema.configuration.storage.DataStorageConfigurationSchema;
 import org.apache.ignite.internal.schema.configuration.storage.UnknownDataStorageConfigurationSchema;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
@@ -99,10 +100,33 @@ public class DataStorageModules {
             ConfigurationRegistry configRegistry,
             Path storagePath,
             @Nullable LongJvmPauseDetector longJvmPauseDetector
+    ) {
+        return createStorageEngines(igniteInstanceName, configRegistry, storagePath, longJvmPauseDetector, null);
+    }
+
+    /**
+     * Creates new storage engines unique by {@link DataStorageModule#name name} that register their metric sources with the given
+     * metric manager.
+     *
+     * @param igniteInstanceName String igniteInstanceName
+     * @param configRegistry Configuration register.
+     * @param storagePath Storage path.
+     * @param longJvmPauseDetector Long JVM pause detector.
+     * @param metricManager Metric manager, {@code null} if metrics should not be registered.
+     * @throws StorageException If there is an error when creating the storage engines.
+     */
+    public Map<String, StorageEngine> createStorageEngines(
+            String igniteInstanceName,
+            ConfigurationRegistry configRegistry,
+            Path storagePath,
+            @Nullable LongJvmPauseDetector longJvmPauseDetector,
+            @Nullable MetricManager metricManager
     ) {
         return modules.entrySet().stream().collect(toUnmodifiableMap(
                 Entry::getKey,
-                e -> e.getValue().createEngine(igniteInstanceName, configRegistry, storagePath, longJvmPauseDetector)
+                e -> metricManager == null
+                        ? e.getValue().createEngine(igniteInstanceName, configRegistry, storagePath, longJvmPauseDetector)
+                        : e.getValue().createEngine(igniteInstanceName, configRegistry, storagePath, longJvmPauseDetector, metricManager)
         ));
     }
 
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.close.ManuallyCloseable;
@@ -187,6 +188,32 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp) throws StorageException;
 
+    /**
+     * Creates the version chains of rows that are absent in the storage, e.g. when a partition is loaded by rebalance. For every chain,
+     * the committed versions are added as with {@link #addWriteCommitted}, from the oldest to the newest one, followed by the write intent,
+     * if any, as with {@link #addWrite}. The rows must not be written concurrently.
+     *
+     * <p>Chains are expected in ascending order of row ids, which lets a storage append them to its row id index in bulk instead of
+     * looking every row up. Chains in any other order are still added correctly.
+     *
+     * @param chains Version chains in ascending order of row ids.
+     * @throws StorageException If failed to write data to the storage.
+     */
+    default void addVersionChains(List<RowVersionChain> chains) throws StorageException {
+        for (RowVersionChain chain : chains) {
+            List<BinaryRow> rows = chain.rows();
+            List<HybridTimestamp> commitTimestamps = chain.commitTimestamps();
+
+            for (int i = 0; i < commitTimestamps.size(); i++) {
+                addWriteCommitted(chain.rowId(), rows.get(i), commitTimestamps.get(i));
+            }
+
+            if (chain.txId() != null) {
+                addWrite(chain.rowId(), rows.get(rows.size() - 1), chain.txId(), chain.commitTableId(), chain.commitPartitionId());
+            }
+        }
+    }
+
     /**
      * Scans all versions of a single row.
      *
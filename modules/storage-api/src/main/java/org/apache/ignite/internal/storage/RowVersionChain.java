@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * All versions of a single row, from the oldest to the newest one, e.g. as they are received by rebalance. Committed versions go first,
+ * the newest version is a write intent if {@link #txId()} is not {@code null}. A {@code null} row is a tombstone.
+ */
+public class RowVersionChain {
+    /** Row id. */
+    private final RowId rowId;
+
+    /** Row versions, from the oldest to the newest one, {@code null} for tombstones. */
+    private final List<BinaryRow> rows;
+
+    /** Commit timestamps of the committed versions, from the oldest to the newest one. */
+    private final List<HybridTimestamp> commitTimestamps;
+
+    /** Transaction id of the write intent, {@code null} if there is no write intent. */
+    private final @Nullable UUID txId;
+
+    /** Commit table id of the write intent, {@code null} if there is no write intent. */
+    private final @Nullable UUID commitTableId;
+
+    /** Commit partition id of the write intent, {@link ReadResult#UNDEFINED_COMMIT_PARTITION_ID} if there is no write intent. */
+    private final int commitPartitionId;
+
+    /**
+     * Constructor.
+     *
+     * @param rowId Row id.
+     * @param rows Row versions, from the oldest to the newest one, {@code null} for tombstones.
+     * @param commitTimestamps Commit timestamps of the committed versions, from the oldest to the newest one.
+     * @param txId Transaction id of the write intent, {@code null} if there is no write intent.
+     * @param commitTableId Commit table id of the write intent, {@code null} if there is no write intent.
+     * @param commitPartitionId Commit partition id of the write intent, {@link ReadResult#UNDEFINED_COMMIT_PARTITION_ID} if there is no
+     *      write intent.
+     */
+    public RowVersionChain(
+            RowId rowId,
+            List<BinaryRow> rows,
+            List<HybridTimestamp> commitTimestamps,
+            @Nullable UUID txId,
+            @Nullable UUID commitTableId,
+            int commitPartitionId
+    ) {
+        assert rows.size() == commitTimestamps.size() + (txId == null ? 0 : 1)
+                : "rows=" + rows.size() + ", commitTimestamps=" + commitTimestamps.size() + ", txId=" + txId;
+
+        this.rowId = rowId;
+        this.rows = rows;
+        this.commitTimestamps = commitTimestamps;
+        this.txId = txId;
+        this.commitTableId = commitTableId;
+        this.commitPartitionId = commitPartitionId;
+    }
+
+    /** Returns the row id. */
+    public RowId rowId() {
+        return rowId;
+    }
+
+    /** Returns the row versions, from the oldest to the newest one. */
+    public List<BinaryRow> rows() {
+        return rows;
+    }
+
+    /** Returns the commit timestamps of the committed versions, from the oldest to the newest one. */
+    public List<HybridTimestamp> commitTimestamps() {
+        return commitTimestamps;
+    }
+
+    /** Returns the transaction id of the write intent, {@code null} if there is no write intent. */
+    public @Nullable UUID txId() {
+        return txId;
+    }
+
+    /** Returns the commit table id of the write intent, {@code null} if there is no write intent. */
+    public @Nullable UUID commitTableId() {
+        return commitTableId;
+    }
+
+    /** Returns the commit partition id of the write intent, {@link ReadResult#UNDEFINED_COMMIT_PARTITION_ID} if there is none. */
+    public int commitPartitionId() {
+        return commitPartitionId;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(RowVersionChain.class, this);
+    }
+}
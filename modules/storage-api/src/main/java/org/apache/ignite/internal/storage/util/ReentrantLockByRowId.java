@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.storage.RowId;
 
@@ -53,6 +54,43 @@ public class ReentrantLockByRowId {
         }
     }
 
+    /**
+     * Executes the supplier under lock by row ID if the lock is not held by anyone, including the current thread.
+     *
+     * @param rowId Row ID.
+     * @param supplier Supplier.
+     * @return {@code False} if the lock is busy, otherwise the result of the supplier.
+     */
+    public boolean tryInLock(RowId rowId, BooleanSupplier supplier) {
+        LockHolder<ReentrantLock> lockHolder = lockHolderByRowId.compute(rowId, (rowId1, reentrantLockLockHolder) -> {
+            if (reentrantLockLockHolder == null) {
+                reentrantLockLockHolder = new LockHolder<>(new ReentrantLock());
+            }
+
+            reentrantLockLockHolder.incrementHolders();
+
+            return reentrantLockLockHolder;
+        });
+
+        ReentrantLock lock = lockHolder.getLock();
+
+        if (!lock.tryLock()) {
+            lockHolderByRowId.compute(rowId, (rowId1, reentrantLockLockHolder) -> {
+                assert reentrantLockLockHolder != null;
+
+                return reentrantLockLockHolder.decrementHolders() ? null : reentrantLockLockHolder;
+            });
+
+            return false;
+        }
+
+        try {
+            return lock.getHoldCount() == 1 && supplier.getAsBoolean();
+        } finally {
+            releaseLock0(rowId, false);
+        }
+    }
+
     /**
      * Acquires the lock by row ID.
      *
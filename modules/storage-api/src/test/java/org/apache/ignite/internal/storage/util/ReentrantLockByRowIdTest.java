@@ -17,12 +17,16 @@
 
 package org.apache.ignite.internal.storage.util;
 
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runAsync;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willTimeoutFast;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.storage.RowId;
@@ -133,6 +137,28 @@ public class ReentrantLockByRowIdTest {
         lockByRowId.acquireLock(rowId);
     }
 
+    @Test
+    void testTryInLock() {
+        RowId rowId = new RowId(0);
+
+        assertTrue(lockByRowId.tryInLock(rowId, () -> true));
+        assertFalse(lockByRowId.tryInLock(rowId, () -> false));
+
+        // Lock is held by the current thread.
+        lockByRowId.acquireLock(rowId);
+
+        assertFalse(lockByRowId.tryInLock(rowId, () -> true));
+
+        // Lock is held by another thread.
+        CompletableFuture<Boolean> tryInLockFuture = supplyAsync(() -> lockByRowId.tryInLock(rowId, () -> true));
+
+        assertThat(tryInLockFuture, willBe(false));
+
+        lockByRowId.releaseLock(rowId);
+
+        assertTrue(lockByRowId.tryInLock(rowId, () -> true));
+    }
+
     @Test
     void testReleaseAllLocksByCurrentThread() {
         RowId rowId0 = new RowId(0);
@@ -37,6 +37,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -1180,6 +1181,84 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertThat(ex.getMessage(), allOf(containsString("Write intent exists"), containsString(rowId.toString())));
     }
 
+    @Test
+    public void addVersionChainsAddsAllVersions() {
+        HybridTimestamp ts1 = clock.now();
+        HybridTimestamp ts2 = clock.now();
+
+        // Enough rows to fill several pages of the row id index.
+        List<RowId> rowIds = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            rowIds.add(new RowId(PARTITION_ID));
+        }
+
+        rowIds.sort(Comparator.naturalOrder());
+
+        // One chain out of order.
+        rowIds.add(rowIds.remove(0));
+
+        List<RowVersionChain> chains = new ArrayList<>();
+
+        for (int i = 0; i < rowIds.size(); i++) {
+            RowId rowId = rowIds.get(i);
+
+            if (i % 3 == 0) {
+                chains.add(new RowVersionChain(
+                        rowId,
+                        List.of(binaryRow),
+                        List.of(ts1),
+                        null,
+                        null,
+                        ReadResult.UNDEFINED_COMMIT_PARTITION_ID
+                ));
+            } else if (i % 3 == 1) {
+                chains.add(new RowVersionChain(
+                        rowId,
+                        Arrays.asList(binaryRow, null),
+                        List.of(ts1, ts2),
+                        null,
+                        null,
+                        ReadResult.UNDEFINED_COMMIT_PARTITION_ID
+                ));
+            } else {
+                chains.add(new RowVersionChain(rowId, List.of(binaryRow, binaryRow2), List.of(ts1), txId, COMMIT_TABLE_ID, PARTITION_ID));
+            }
+        }
+
+        storage.runConsistently(() -> {
+            storage.addVersionChains(chains);
+
+            return null;
+        });
+
+        for (int i = 0; i < rowIds.size(); i++) {
+            RowId rowId = rowIds.get(i);
+
+            assertRowMatches(read(rowId, ts1), binaryRow);
+
+            List<ReadResult> versions;
+
+            try (Cursor<ReadResult> cursor = scan(rowId)) {
+                versions = cursor.stream().collect(toList());
+            }
+
+            if (i % 3 == 0) {
+                assertEquals(1, versions.size());
+            } else if (i % 3 == 1) {
+                assertEquals(2, versions.size());
+
+                assertNull(read(rowId, ts2));
+            } else {
+                assertEquals(2, versions.size());
+
+                assertTrue(versions.get(0).isWriteIntent());
+                assertEquals(txId, versions.get(0).transactionId());
+                assertRowMatches(versions.get(0).binaryRow(), binaryRow2);
+            }
+        }
+    }
+
     @Test
     public void scanVersionsReturnsUncommittedVersionsAsUncommitted() {
         RowId rowId = insert(binaryRow, txId);
@@ -32,6 +32,8 @@ import java.util.function.Supplier;
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.freelist.FreeList;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderImpl;
 import org.apache.ignite.internal.pagememory.reuse.ReuseList;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.schema.configuration.TableConfiguration;
@@ -62,6 +64,9 @@ public abstract class AbstractPageMemoryTableStorage implements MvTableStorage {
     /** Prevents double stopping of the component. */
     private final AtomicBoolean stopGuard = new AtomicBoolean();
 
+    /** Page read statistics of the table. */
+    private final IoStatisticsHolderImpl ioStatistics = new IoStatisticsHolderImpl();
+
     /**
      * Constructor.
      *
@@ -83,6 +88,13 @@ public abstract class AbstractPageMemoryTableStorage implements MvTableStorage {
         return tablesCfg;
     }
 
+    /**
+     * Returns page read statistics of the table.
+     */
+    public IoStatisticsHolder ioStatistics() {
+        return ioStatistics;
+    }
+
     /**
      * Returns a data region instance for the table.
      */
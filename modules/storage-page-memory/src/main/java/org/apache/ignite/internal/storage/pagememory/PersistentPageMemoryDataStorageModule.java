@@ -23,6 +23,7 @@ import com.google.auto.service.AutoService;
 import java.nio.file.Path;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.configuration.ConfigurationRegistry;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.storage.DataStorageModule;
 import org.apache.ignite.internal.storage.StorageException;
@@ -48,6 +49,18 @@ public class PersistentPageMemoryDataStorageModule implements DataStorageModule
             ConfigurationRegistry configRegistry,
             Path storagePath,
             @Nullable LongJvmPauseDetector longJvmPauseDetector
+    ) throws StorageException {
+        return createEngine(igniteInstanceName, configRegistry, storagePath, longJvmPauseDetector, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public StorageEngine createEngine(
+            String igniteInstanceName,
+            ConfigurationRegistry configRegistry,
+            Path storagePath,
+            @Nullable LongJvmPauseDetector longJvmPauseDetector,
+            @Nullable MetricManager metricManager
     ) throws StorageException {
         PersistentPageMemoryStorageEngineConfiguration engineConfig = configRegistry.getConfiguration(
                 PersistentPageMemoryStorageEngineConfiguration.KEY
@@ -59,6 +72,13 @@ public class PersistentPageMemoryDataStorageModule implements DataStorageModule
 
         ioRegistry.loadFromServiceLoader();
 
-        return new PersistentPageMemoryStorageEngine(igniteInstanceName, engineConfig, ioRegistry, storagePath, longJvmPauseDetector);
+        return new PersistentPageMemoryStorageEngine(
+                igniteInstanceName,
+                engineConfig,
+                ioRegistry,
+                storagePath,
+                longJvmPauseDetector,
+                metricManager
+        );
     }
 }
@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
@@ -29,8 +30,11 @@ import org.apache.ignite.configuration.notifications.ConfigurationNamedListListe
 import org.apache.ignite.configuration.notifications.ConfigurationNotificationEvent;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.MetricSource;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionView;
@@ -44,6 +48,8 @@ import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.StorageEngine;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PersistentPageMemoryDataStorageView;
 import org.apache.ignite.internal.storage.pagememory.configuration.schema.PersistentPageMemoryStorageEngineConfiguration;
+import org.apache.ignite.internal.storage.pagememory.metrics.CompactionMetricSource;
+import org.apache.ignite.internal.storage.pagememory.metrics.PersistentDataRegionMetricSource;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.jetbrains.annotations.Nullable;
 
@@ -65,6 +71,12 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
     @Nullable
     private final LongJvmPauseDetector longJvmPauseDetector;
 
+    @Nullable
+    private final MetricManager metricManager;
+
+    /** Metric sources registered by the engine and its table storages. */
+    private final Set<MetricSource> metricSources = ConcurrentHashMap.newKeySet();
+
     private final Map<String, PersistentPageMemoryDataRegion> regions = new ConcurrentHashMap<>();
 
     @Nullable
@@ -91,12 +103,35 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
             PageIoRegistry ioRegistry,
             Path storagePath,
             @Nullable LongJvmPauseDetector longJvmPauseDetector
+    ) {
+        this(igniteInstanceName, engineConfig, ioRegistry, storagePath, longJvmPauseDetector, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param igniteInstanceName String igniteInstanceName
+     * @param engineConfig PageMemory storage engine configuration.
+     * @param ioRegistry IO registry.
+     * @param storagePath Storage path.
+     * @param longJvmPauseDetector Long JVM pause detector.
+     * @param metricManager Metric manager to register data region and table metric sources with, {@code null} if metrics are not
+     *      registered.
+     */
+    public PersistentPageMemoryStorageEngine(
+            String igniteInstanceName,
+            PersistentPageMemoryStorageEngineConfiguration engineConfig,
+            PageIoRegistry ioRegistry,
+            Path storagePath,
+            @Nullable LongJvmPauseDetector longJvmPauseDetector,
+            @Nullable MetricManager metricManager
     ) {
         this.igniteInstanceName = igniteInstanceName;
         this.engineConfig = engineConfig;
         this.ioRegistry = ioRegistry;
         this.storagePath = storagePath;
         this.longJvmPauseDetector = longJvmPauseDetector;
+        this.metricManager = metricManager;
     }
 
     /**
@@ -120,6 +155,11 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
                     ? new AsyncFileIoFactory()
                     : new RandomAccessFileIoFactory();
 
+            if (engineConfig.checkpoint().useDirectIo().value()) {
+                // Page memory already caches pages, so caching them by the OS as well only wastes memory.
+                fileIoFactory = new DirectFileIoFactory(fileIoFactory);
+            }
+
             filePageStoreManager = new FilePageStoreManager(
                     igniteInstanceName,
                     storagePath,
@@ -148,6 +188,8 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
             );
 
             checkpointManager.start();
+
+            registerMetricSource(new CompactionMetricSource(checkpointManager.compactor()));
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error starting checkpoint manager", e);
         }
@@ -167,6 +209,8 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
 
     @Override
     public void stop() throws StorageException {
+        metricSources.forEach(this::unregisterMetricSource);
+
         try {
             Stream<AutoCloseable> closeRegions = regions.values().stream().map(region -> region::stop);
 
@@ -199,6 +243,28 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
         return checkpointManager;
     }
 
+    /**
+     * Registers a metric source with the metric manager, does nothing if the engine was created without one.
+     *
+     * @param metricSource Metric source.
+     */
+    void registerMetricSource(MetricSource metricSource) {
+        if (metricManager != null && metricSources.add(metricSource)) {
+            metricManager.registerSource(metricSource);
+        }
+    }
+
+    /**
+     * Unregisters a metric source previously registered by {@link #registerMetricSource}, does nothing if it is not registered.
+     *
+     * @param metricSource Metric source.
+     */
+    void unregisterMetricSource(MetricSource metricSource) {
+        if (metricManager != null && metricSources.remove(metricSource)) {
+            metricManager.unregisterSource(metricSource);
+        }
+    }
+
     /**
      * Creates, starts and adds a new data region to the engine.
      *
@@ -221,5 +287,7 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
         dataRegion.start();
 
         regions.put(name, dataRegion);
+
+        registerMetricSource(new PersistentDataRegionMetricSource(name, dataRegion.pageMemory()));
     }
 }
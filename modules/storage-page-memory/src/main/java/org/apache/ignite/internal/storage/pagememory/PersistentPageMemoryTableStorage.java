@@ -25,7 +25,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
-import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.GroupPartitionId;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMeta;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
@@ -40,6 +39,7 @@ import org.apache.ignite.internal.schema.configuration.TablesConfiguration;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
 import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaTree;
+import org.apache.ignite.internal.storage.pagememory.metrics.TableIoMetricSource;
 import org.apache.ignite.internal.storage.pagememory.mv.AbstractPageMemoryMvPartitionStorage;
 import org.apache.ignite.internal.storage.pagememory.mv.PersistentPageMemoryMvPartitionStorage;
 import org.apache.ignite.internal.storage.pagememory.mv.RowVersionFreeList;
@@ -62,6 +62,9 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
     /** Table ID. Cached to avoid configuration races (e.g. when destroying a table). */
     private final int tableId;
 
+    /** Page read metrics of the table. */
+    private final TableIoMetricSource metricSource;
+
     /**
      * Constructor.
      *
@@ -81,6 +84,7 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
         this.engine = engine;
         this.dataRegion = dataRegion;
         this.tableId = tableCfg.tableId().value();
+        this.metricSource = new TableIoMetricSource(tableId, ioStatistics());
     }
 
     /**
@@ -100,8 +104,26 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
         return false;
     }
 
+    @Override
+    public void start() throws StorageException {
+        super.start();
+
+        engine.registerMetricSource(metricSource);
+    }
+
+    @Override
+    public void stop() throws StorageException {
+        try {
+            super.stop();
+        } finally {
+            engine.unregisterMetricSource(metricSource);
+        }
+    }
+
     @Override
     protected void finishDestruction() {
+        engine.unregisterMetricSource(metricSource);
+
         dataRegion.pageMemory().onGroupDestroyed(tableId);
     }
 
@@ -227,7 +249,7 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
                     initNew,
                     dataRegion.pageListCacheLimit(),
                     PageEvictionTrackerNoOp.INSTANCE,
-                    IoStatisticsHolderNoOp.INSTANCE
+                    ioStatistics()
             );
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException(
@@ -275,7 +297,7 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
                     initNew,
                     new AtomicLong(),
                     PageEvictionTrackerNoOp.INSTANCE,
-                    IoStatisticsHolderNoOp.INSTANCE
+                    ioStatistics()
             );
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException(
@@ -18,12 +18,18 @@
 package org.apache.ignite.internal.storage.pagememory;
 
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.RANDOM_2_LRU_EVICTION_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.RANDOM_LRU_EVICTION_MODE;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
 
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
 import org.apache.ignite.internal.pagememory.evict.PageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.evict.Random2LruPageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.RandomLruPageEvictionTracker;
 import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
@@ -31,8 +37,10 @@ import org.apache.ignite.internal.pagememory.reuse.ReuseList;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.storage.pagememory.mv.RowVersionEvictionHandler;
 import org.apache.ignite.internal.storage.pagememory.mv.RowVersionFreeList;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link DataRegion} for in-memory case.
@@ -48,7 +56,9 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
 
     private final int pageSize;
 
-    private final PageEvictionTracker pageEvictionTracker;
+    private volatile PageEvictionTracker pageEvictionTracker;
+
+    private volatile @Nullable RowVersionEvictionHandler rowVersionEvictionHandler;
 
     private volatile VolatilePageMemory pageMemory;
 
@@ -62,7 +72,7 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
      * @param cfg Data region configuration.
      * @param ioRegistry IO registry.
      * @param pageSize Page size in bytes.
-     * @param pageEvictionTracker Eviction tracker to use.
+     * @param pageEvictionTracker Eviction tracker to use if eviction is disabled in the data region configuration.
      */
     public VolatilePageMemoryDataRegion(
             VolatilePageMemoryDataRegionConfiguration cfg,
@@ -84,6 +94,8 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
 
         pageMemory.start();
 
+        createPageEvictionTracker(pageMemory);
+
         try {
             rowVersionFreeList = createRowVersionFreeList(pageMemory);
 
@@ -95,6 +107,40 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
         this.pageMemory = pageMemory;
     }
 
+    private void createPageEvictionTracker(VolatilePageMemory pageMemory) {
+        VolatilePageMemoryDataRegionView cfgView = cfg.value();
+
+        switch (cfgView.evictionMode()) {
+            case RANDOM_LRU_EVICTION_MODE:
+                rowVersionEvictionHandler = new RowVersionEvictionHandler();
+
+                pageEvictionTracker = new RandomLruPageEvictionTracker(
+                        pageMemory,
+                        cfgView,
+                        () -> rowVersionFreeList.emptyDataPages(),
+                        rowVersionEvictionHandler
+                );
+
+                break;
+
+            case RANDOM_2_LRU_EVICTION_MODE:
+                rowVersionEvictionHandler = new RowVersionEvictionHandler();
+
+                pageEvictionTracker = new Random2LruPageEvictionTracker(
+                        pageMemory,
+                        cfgView,
+                        () -> rowVersionFreeList.emptyDataPages(),
+                        rowVersionEvictionHandler
+                );
+
+                break;
+
+            default:
+                // Eviction is disabled, keep the tracker passed to the constructor.
+                break;
+        }
+    }
+
     private RowVersionFreeList createRowVersionFreeList(
             PageMemory pageMemory
     ) throws IgniteInternalCheckedException {
@@ -129,7 +175,8 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
                 true,
                 // Because in memory.
                 null,
-                pageEvictionTracker,
+                // Only row versions are evicted, so pages of index columns are not tracked.
+                PageEvictionTrackerNoOp.INSTANCE,
                 IoStatisticsHolderNoOp.INSTANCE
         );
     }
@@ -172,6 +219,32 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
         return indexColumnsFreeList;
     }
 
+    /**
+     * Returns the handler that evicts version chains of the data region, {@code null} if eviction is disabled.
+     */
+    public @Nullable RowVersionEvictionHandler rowVersionEvictionHandler() {
+        return rowVersionEvictionHandler;
+    }
+
+    /**
+     * Evicts data pages until the data region has enough free space, if eviction is enabled.
+     *
+     * <p>Must not be called while holding page locks or version chain locks that the eviction may need.
+     *
+     * @throws StorageException If failed.
+     */
+    public void ensureFreeSpace() {
+        PageEvictionTracker pageEvictionTracker = this.pageEvictionTracker;
+
+        try {
+            while (pageEvictionTracker.evictionRequired()) {
+                pageEvictionTracker.evictDataPage();
+            }
+        } catch (IgniteInternalCheckedException e) {
+            throw new StorageException("Error evicting data pages", e);
+        }
+    }
+
     /**
      * Checks that the data region has started.
      *
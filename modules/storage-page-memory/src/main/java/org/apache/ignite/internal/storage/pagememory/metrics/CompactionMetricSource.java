@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.metrics;
+
+import java.util.Collection;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.metrics.MetricSource;
+import org.apache.ignite.internal.pagememory.persistence.compaction.Compactor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metric source of the delta file compaction: the compaction queue, the merge throughput and the number of delta files of partitions.
+ */
+public class CompactionMetricSource implements MetricSource {
+    /** Source name. */
+    public static final String SOURCE_NAME = "storage.aipersist.compaction";
+
+    /** Delta file compactor. */
+    private final Compactor compactor;
+
+    /** True, if source is enabled, false otherwise. */
+    private boolean enabled;
+
+    /**
+     * Constructor.
+     *
+     * @param compactor Delta file compactor.
+     */
+    public CompactionMetricSource(Compactor compactor) {
+        this.compactor = compactor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String name() {
+        return SOURCE_NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized @Nullable MetricSet enable() {
+        if (enabled) {
+            return null;
+        }
+
+        MetricSetBuilder builder = new MetricSetBuilder(SOURCE_NAME);
+
+        builder.longGauge("CompactionQueueSize", "Number of delta files of the current compaction round that are not merged yet.",
+                compactor::compactionQueueSize);
+        builder.longGauge("MergedDeltaFiles", "Number of delta files merged into partition files.", compactor::mergedDeltaFiles);
+        builder.longGauge("MergedPages", "Number of pages copied from delta files to partition files.", compactor::mergedPages);
+        builder.doubleGauge("MergeThroughput", "Merge throughput of the last compaction round in bytes per second.",
+                compactor::lastMergeThroughput);
+        builder.longGauge("DeltaFiles", "Number of delta files of all partitions.", this::deltaFiles);
+        builder.longGauge("MaxPartitionDeltaFiles", "Maximum number of delta files of a partition.", this::maxPartitionDeltaFiles);
+
+        enabled = true;
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void disable() {
+        enabled = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean enabled() {
+        return enabled;
+    }
+
+    private long deltaFiles() {
+        return deltaFileCounts().stream().mapToLong(Integer::longValue).sum();
+    }
+
+    private long maxPartitionDeltaFiles() {
+        return deltaFileCounts().stream().mapToLong(Integer::longValue).max().orElse(0);
+    }
+
+    private Collection<Integer> deltaFileCounts() {
+        return compactor.deltaFileCountByPartition().values();
+    }
+}
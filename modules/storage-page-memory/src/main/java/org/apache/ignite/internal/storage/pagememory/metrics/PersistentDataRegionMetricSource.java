@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.metrics;
+
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.metrics.MetricSource;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteThrottlePolicy;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metric source of the page cache of a persistent data region: hits, misses, page replacements, hit ratio, page compression and
+ * throttling of page modifications during checkpoints.
+ *
+ * <p>Every page acquisition is counted as a logical read, a page that had to be loaded from the page store is counted as a physical
+ * read, that is, a miss.
+ */
+public class PersistentDataRegionMetricSource implements MetricSource {
+    /** Source name prefix. */
+    public static final String SOURCE_NAME_PREFIX = "storage.aipersist.region.";
+
+    /** Source name. */
+    private final String name;
+
+    /** Page memory of the data region. */
+    private final PersistentPageMemory pageMemory;
+
+    /** True, if source is enabled, false otherwise. */
+    private boolean enabled;
+
+    /**
+     * Constructor.
+     *
+     * @param regionName Data region name.
+     * @param pageMemory Page memory of the data region.
+     */
+    public PersistentDataRegionMetricSource(String regionName, PersistentPageMemory pageMemory) {
+        this.name = SOURCE_NAME_PREFIX + regionName;
+        this.pageMemory = pageMemory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String name() {
+        return name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized @Nullable MetricSet enable() {
+        if (enabled) {
+            return null;
+        }
+
+        MetricSetBuilder builder = new MetricSetBuilder(name);
+
+        builder.longGauge("PageHits", "Number of page acquisitions served from the page cache.", this::hits);
+        builder.longGauge("PageMisses", "Number of page acquisitions that required a read from the page store.", this::misses);
+        builder.longGauge("PageReplacements", "Number of pages rotated with disk by the page replacement policy.",
+                pageMemory::pageReplacements);
+        builder.longGauge("LoadedPages", "Number of pages currently loaded into the page cache.", pageMemory::loadedPages);
+        builder.doubleGauge("PageHitRatio", "Ratio of page hits to all page acquisitions.", this::hitRatio);
+        builder.doubleGauge(
+                "PageCompressionRatio",
+                "Ratio of the size of pages written by checkpoints to the size of the blocks written for them.",
+                pageMemory.pageCompressor()::compressionRatio
+        );
+        builder.longGauge("ThrottleParkTime", "Total time threads were parked by the write throttling, in nanoseconds.",
+                this::throttleParkTimeNanos);
+        builder.longGauge("ThrottledOperations", "Number of page modifications that were throttled.", this::throttledOperations);
+
+        enabled = true;
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void disable() {
+        enabled = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean enabled() {
+        return enabled;
+    }
+
+    private long hits() {
+        return Math.max(0, pageMemory.ioStatistics().logicalReads() - misses());
+    }
+
+    private long misses() {
+        return pageMemory.ioStatistics().physicalReads();
+    }
+
+    private long throttleParkTimeNanos() {
+        PagesWriteThrottlePolicy writeThrottle = pageMemory.writeThrottle();
+
+        return writeThrottle == null ? 0 : writeThrottle.throttleParkTimeNanos();
+    }
+
+    private long throttledOperations() {
+        PagesWriteThrottlePolicy writeThrottle = pageMemory.writeThrottle();
+
+        return writeThrottle == null ? 0 : writeThrottle.throttledOperations();
+    }
+
+    private double hitRatio() {
+        long logicalReads = pageMemory.ioStatistics().logicalReads();
+
+        return logicalReads == 0 ? 0 : (double) hits() / logicalReads;
+    }
+}
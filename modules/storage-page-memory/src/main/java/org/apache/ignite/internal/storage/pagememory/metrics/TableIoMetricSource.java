@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.metrics;
+
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.metrics.MetricSource;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metric source of the page reads of a table, backed by the {@link IoStatisticsHolder} of the table storage.
+ */
+public class TableIoMetricSource implements MetricSource {
+    /** Source name prefix. */
+    public static final String SOURCE_NAME_PREFIX = "storage.aipersist.table.";
+
+    /** Source name. */
+    private final String name;
+
+    /** IO statistics of the table. */
+    private final IoStatisticsHolder ioStatistics;
+
+    /** True, if source is enabled, false otherwise. */
+    private boolean enabled;
+
+    /**
+     * Constructor.
+     *
+     * @param tableId Table ID.
+     * @param ioStatistics IO statistics of the table.
+     */
+    public TableIoMetricSource(int tableId, IoStatisticsHolder ioStatistics) {
+        this.name = SOURCE_NAME_PREFIX + tableId;
+        this.ioStatistics = ioStatistics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String name() {
+        return name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized @Nullable MetricSet enable() {
+        if (enabled) {
+            return null;
+        }
+
+        MetricSetBuilder builder = new MetricSetBuilder(name);
+
+        builder.longGauge("LogicalReads", "Number of page reads of the table.", ioStatistics::logicalReads);
+        builder.longGauge("PhysicalReads", "Number of page reads of the table that required a read from the page store.",
+                ioStatistics::physicalReads);
+
+        enabled = true;
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void disable() {
+        enabled = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean enabled() {
+        return enabled;
+    }
+}
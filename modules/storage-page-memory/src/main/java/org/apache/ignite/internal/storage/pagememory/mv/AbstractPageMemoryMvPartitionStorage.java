@@ -18,11 +18,13 @@
 package org.apache.ignite.internal.storage.pagememory.mv;
 
 import static org.apache.ignite.internal.configuration.util.ConfigurationUtil.getByInternalId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageNotInRunnableOrRebalanceState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwStorageExceptionIfItCause;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -38,7 +40,6 @@ import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.pagememory.PageIdAllocator;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.datapage.DataPageReader;
-import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.tree.BplusTree.TreeRowMapClosure;
 import org.apache.ignite.internal.pagememory.tree.IgniteTree.InvokeClosure;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
@@ -52,6 +53,7 @@ import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.PartitionTimestampCursor;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.RowVersionChain;
 import org.apache.ignite.internal.storage.StorageClosedException;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.StorageRebalanceException;
@@ -167,7 +169,7 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
 
         groupId = tableStorage.configuration().value().tableId();
 
-        rowVersionDataPageReader = new DataPageReader(pageMemory, groupId, IoStatisticsHolderNoOp.INSTANCE);
+        rowVersionDataPageReader = new DataPageReader(pageMemory, groupId, tableStorage.ioStatistics());
     }
 
     /**
@@ -527,6 +529,18 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         );
     }
 
+    /**
+     * Creates a row version to insert into the storage, persistent storages don't store the row ID in the data page.
+     *
+     * @param rowId Row ID of the version chain the row version belongs to.
+     * @param commitTimestamp Commit timestamp, {@code null} for a write intent.
+     * @param nextLink Partitionless link of the next row version.
+     * @param value Row bytes.
+     */
+    RowVersion createRowVersion(RowId rowId, @Nullable HybridTimestamp commitTimestamp, long nextLink, ByteBuffer value) {
+        return new RowVersion(partitionId, null, 0, commitTimestamp, nextLink, value);
+    }
+
     void insertRowVersion(RowVersion rowVersion) {
         try {
             rowVersionFreeList.insertDataRow(rowVersion);
@@ -654,6 +668,94 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         });
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Row versions of every chain are written to the free list first, then the chains are put to the version chain tree with
+     * {@link VersionChainTree#putAll}, which appends the chains of ascending row ids to the rightmost leaf of the tree instead of
+     * descending from the root for every row. The rows are absent and not written concurrently, so the row locks are not taken.
+     */
+    @Override
+    public void addVersionChains(List<RowVersionChain> chains) throws StorageException {
+        busy(() -> {
+            throwExceptionIfStorageNotInRunnableOrRebalanceState(state.get(), this::createStorageInfo);
+
+            List<VersionChain> versionChains = new ArrayList<>(chains.size());
+
+            for (RowVersionChain chain : chains) {
+                VersionChain versionChain = insertRowVersions(chain);
+
+                if (versionChain != null) {
+                    versionChains.add(versionChain);
+                }
+            }
+
+            try {
+                versionChainTree.putAll(versionChains.iterator());
+            } catch (IgniteInternalCheckedException e) {
+                throwStorageExceptionIfItCause(e);
+
+                throw new StorageException(
+                        "Error while executing addVersionChains: [chains={}, {}]",
+                        e,
+                        chains.size(),
+                        createStorageInfo()
+                );
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Writes the versions of a row to the free list, the same way as a sequence of {@link #addWriteCommitted} and {@link #addWrite} calls
+     * on an absent row does.
+     *
+     * @return Version chain to put to the tree, {@code null} if there is nothing to put.
+     */
+    private @Nullable VersionChain insertRowVersions(RowVersionChain chain) {
+        RowId rowId = chain.rowId();
+        List<BinaryRow> rows = chain.rows();
+        List<HybridTimestamp> commitTimestamps = chain.commitTimestamps();
+
+        RowVersion head = null;
+
+        for (int i = 0; i < commitTimestamps.size(); i++) {
+            BinaryRow row = rows.get(i);
+
+            // A tombstone is not added to an empty chain or on top of another tombstone.
+            if (row == null && (head == null || head.isTombstone())) {
+                continue;
+            }
+
+            long nextLink = head == null ? NULL_LINK : head.link();
+
+            RowVersion version = createRowVersion(rowId, commitTimestamps.get(i), nextLink, ByteBuffer.wrap(rowBytes(row)));
+
+            insertRowVersion(version);
+
+            if (head != null) {
+                gcQueue.add(rowId, commitTimestamps.get(i), version.link());
+            }
+
+            head = version;
+        }
+
+        UUID txId = chain.txId();
+
+        if (txId != null) {
+            long nextLink = head == null ? NULL_LINK : head.link();
+
+            RowVersion version = createRowVersion(rowId, null, nextLink, ByteBuffer.wrap(rowBytes(rows.get(rows.size() - 1))));
+
+            insertRowVersion(version);
+
+            return VersionChain.createUncommitted(rowId, txId, chain.commitTableId(), chain.commitPartitionId(), version.link(), nextLink);
+        }
+
+        return head == null ? null : VersionChain.createCommitted(rowId, head.link(), head.nextLink());
+    }
+
     @Override
     public Cursor<ReadResult> scanVersions(RowId rowId) throws StorageException {
         return busy(() -> {
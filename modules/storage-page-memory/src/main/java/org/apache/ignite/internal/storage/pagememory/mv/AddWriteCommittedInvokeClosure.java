@@ -129,7 +129,7 @@ class AddWriteCommittedInvokeClosure implements InvokeClosure<VersionChain> {
     private RowVersion insertCommittedRowVersion(@Nullable BinaryRow row, HybridTimestamp commitTimestamp, long nextPartitionlessLink) {
         byte[] rowBytes = rowBytes(row);
 
-        RowVersion rowVersion = new RowVersion(storage.partitionId, commitTimestamp, nextPartitionlessLink, ByteBuffer.wrap(rowBytes));
+        RowVersion rowVersion = storage.createRowVersion(rowId, commitTimestamp, nextPartitionlessLink, ByteBuffer.wrap(rowBytes));
 
         storage.insertRowVersion(rowVersion);
 
@@ -127,7 +127,7 @@ class AddWriteInvokeClosure implements InvokeClosure<VersionChain> {
     private RowVersion insertRowVersion(@Nullable BinaryRow row, long nextPartitionlessLink) {
         byte[] rowBytes = rowBytes(row);
 
-        RowVersion rowVersion = new RowVersion(storage.partitionId, nextPartitionlessLink, ByteBuffer.wrap(rowBytes));
+        RowVersion rowVersion = storage.createRowVersion(rowId, null, nextPartitionlessLink, ByteBuffer.wrap(rowBytes));
 
         storage.insertRowVersion(rowVersion);
 
@@ -28,6 +28,7 @@ import org.apache.ignite.internal.pagememory.datapage.PageMemoryTraversal;
 import org.apache.ignite.internal.pagememory.io.DataPagePayload;
 import org.apache.ignite.internal.pagememory.util.PageUtils;
 import org.apache.ignite.internal.schema.ByteBufferRow;
+import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.pagememory.mv.FindRowVersion.RowVersionFilter;
 import org.jetbrains.annotations.Nullable;
 
@@ -49,6 +50,8 @@ class FindRowVersion implements PageMemoryTraversal<RowVersionFilter> {
 
     private long rowNextLink = NULL_LINK;
 
+    private @Nullable RowId rowId;
+
     private int rowValueSize;
 
     private @Nullable RowVersion result;
@@ -75,6 +78,7 @@ class FindRowVersion implements PageMemoryTraversal<RowVersionFilter> {
         rowLink = link;
         rowTimestamp = HybridTimestamps.readTimestamp(pageAddr, payload.offset() + RowVersion.TIMESTAMP_OFFSET);
         rowNextLink = nextLink;
+        rowId = RowVersion.storesRowId(pageAddr) ? RowVersion.readRowId(pageAddr, payload.offset()) : null;
 
         if (loadValueBytes) {
             return readRowVersionValue.consumePagePayload(link, pageAddr, payload, null);
@@ -98,9 +102,9 @@ class FindRowVersion implements PageMemoryTraversal<RowVersionFilter> {
 
             ByteBuffer value = ByteBuffer.wrap(valueBytes).order(ByteBufferRow.ORDER);
 
-            result = new RowVersion(partitionId, rowLink, rowTimestamp, rowNextLink, value);
+            result = new RowVersion(partitionId, rowId, rowLink, rowTimestamp, rowNextLink, value);
         } else {
-            result = new RowVersion(partitionId, rowLink, rowTimestamp, rowNextLink, rowValueSize);
+            result = new RowVersion(partitionId, rowId, rowLink, rowTimestamp, rowNextLink, rowValueSize);
         }
     }
 
@@ -30,6 +30,7 @@ import org.apache.ignite.internal.storage.pagememory.mv.io.RowVersionDataIo;
 import org.apache.ignite.internal.storage.pagememory.mv.io.VersionChainInnerIo;
 import org.apache.ignite.internal.storage.pagememory.mv.io.VersionChainLeafIo;
 import org.apache.ignite.internal.storage.pagememory.mv.io.VersionChainMetaIo;
+import org.apache.ignite.internal.storage.pagememory.mv.io.VolatileRowVersionDataIo;
 
 /**
  * {@link PageIoModule} related to {@link VolatilePageMemoryMvPartitionStorage} and {@link PersistentPageMemoryMvPartitionStorage}
@@ -47,7 +48,8 @@ public class MvPageIoModule implements PageIoModule {
                 BlobFragmentIo.VERSIONS,
                 GcMetaIo.VERSIONS,
                 GcInnerIo.VERSIONS,
-                GcLeafIo.VERSIONS
+                GcLeafIo.VERSIONS,
+                VolatileRowVersionDataIo.VERSIONS
         );
     }
 }
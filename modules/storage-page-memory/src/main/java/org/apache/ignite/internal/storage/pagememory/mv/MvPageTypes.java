@@ -44,4 +44,7 @@ public interface MvPageTypes {
 
     /** Garbage collection queue leaf page IO type. */
     short T_GC_LEAF_IO = 16;
+
+    /** Row version data page IO type of volatile data regions. */
+    short T_VOLATILE_ROW_VERSION_DATA_IO = 17;
 }
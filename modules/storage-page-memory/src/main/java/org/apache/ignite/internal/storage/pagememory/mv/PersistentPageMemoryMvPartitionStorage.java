@@ -28,7 +28,6 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.pagememory.DataRegion;
-import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMeta;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointListener;
@@ -131,7 +130,7 @@ public class PersistentPageMemoryMvPartitionStorage extends AbstractPageMemoryMv
                 dataRegion.pageMemory(),
                 tableStorage.configuration().value().tableId(),
                 partitionId,
-                IoStatisticsHolderNoOp.INSTANCE
+                tableStorage.ioStatistics()
         );
     }
 
@@ -382,7 +381,7 @@ public class PersistentPageMemoryMvPartitionStorage extends AbstractPageMemoryMv
                 tableStorage.dataRegion().pageMemory(),
                 tableStorage.configuration().tableId().value(),
                 partitionId,
-                IoStatisticsHolderNoOp.INSTANCE
+                tableStorage.ioStatistics()
         );
 
         for (PageMemoryHashIndexStorage indexStorage : hashIndexes.values()) {
@@ -27,6 +27,7 @@ import org.apache.ignite.internal.pagememory.datapage.PageMemoryTraversal;
 import org.apache.ignite.internal.pagememory.io.DataPagePayload;
 import org.apache.ignite.internal.pagememory.util.PageUtils;
 import org.apache.ignite.internal.schema.ByteBufferRow;
+import org.apache.ignite.internal.storage.RowId;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -45,6 +46,8 @@ class ReadRowVersion implements PageMemoryTraversal<Predicate<HybridTimestamp>>
 
     private long nextLink;
 
+    private @Nullable RowId rowId;
+
     private final ReadRowVersionValue readRowVersionValue = new ReadRowVersionValue();
 
     ReadRowVersion(int partitionId) {
@@ -67,11 +70,12 @@ class ReadRowVersion implements PageMemoryTraversal<Predicate<HybridTimestamp>>
 
         timestamp = HybridTimestamps.readTimestamp(pageAddr, payload.offset() + RowVersion.TIMESTAMP_OFFSET);
         nextLink = readPartitionless(partitionId, pageAddr, payload.offset() + RowVersion.NEXT_LINK_OFFSET);
+        rowId = RowVersion.storesRowId(pageAddr) ? RowVersion.readRowId(pageAddr, payload.offset()) : null;
 
         if (!loadValue.test(timestamp)) {
             int valueSize = PageUtils.getInt(pageAddr, payload.offset() + RowVersion.VALUE_SIZE_OFFSET);
 
-            result = new RowVersion(partitionIdFromLink(link), firstFragmentLink, timestamp, nextLink, valueSize);
+            result = new RowVersion(partitionIdFromLink(link), rowId, firstFragmentLink, timestamp, nextLink, valueSize);
 
             return STOP_TRAVERSAL;
         }
@@ -92,7 +96,7 @@ class ReadRowVersion implements PageMemoryTraversal<Predicate<HybridTimestamp>>
 
         ByteBuffer value = ByteBuffer.wrap(valueBytes).order(ByteBufferRow.ORDER);
 
-        result = new RowVersion(partitionIdFromLink(firstFragmentLink), firstFragmentLink, timestamp, nextLink, value);
+        result = new RowVersion(partitionIdFromLink(firstFragmentLink), rowId, firstFragmentLink, timestamp, nextLink, value);
     }
 
     RowVersion result() {
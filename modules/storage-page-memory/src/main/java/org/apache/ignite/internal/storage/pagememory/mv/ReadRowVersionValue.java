@@ -18,11 +18,24 @@
 package org.apache.ignite.internal.storage.pagememory.mv;
 
 import org.apache.ignite.internal.pagememory.datapage.ReadPageMemoryRowValue;
+import org.apache.ignite.internal.pagememory.io.DataPagePayload;
 
 /**
  * Reads {@link RowVersion#value()} from page-memory.
  */
 class ReadRowVersionValue extends ReadPageMemoryRowValue {
+    /** Offset of the value in the first slot, depends on whether the data page stores row IDs. */
+    private int valueOffset = RowVersion.VALUE_OFFSET;
+
+    /** {@inheritDoc} */
+    @Override
+    public long consumePagePayload(long link, long pageAddr, DataPagePayload payload, Void ignoredArg) {
+        // All fragments of a row version are stored in data pages of the same type, so it's fine to check every page.
+        valueOffset = RowVersion.valueOffset(pageAddr);
+
+        return super.consumePagePayload(link, pageAddr, payload, ignoredArg);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected int valueSizeOffsetInFirstSlot() {
@@ -32,6 +45,6 @@ class ReadRowVersionValue extends ReadPageMemoryRowValue {
     /** {@inheritDoc} */
     @Override
     protected int valueOffsetInFirstSlot() {
-        return RowVersion.VALUE_OFFSET;
+        return valueOffset;
     }
 }
@@ -19,14 +19,19 @@ package org.apache.ignite.internal.storage.pagememory.mv;
 
 import static org.apache.ignite.internal.hlc.HybridTimestamp.HYBRID_TIMESTAMP_SIZE;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
+import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_VOLATILE_ROW_VERSION_DATA_IO;
 
 import java.nio.ByteBuffer;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.pagememory.Storable;
 import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.util.PageUtils;
 import org.apache.ignite.internal.pagememory.util.PartitionlessLinks;
+import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.pagememory.mv.io.RowVersionDataIo;
+import org.apache.ignite.internal.storage.pagememory.mv.io.VolatileRowVersionDataIo;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
 import org.jetbrains.annotations.Nullable;
@@ -37,14 +42,23 @@ import org.jetbrains.annotations.Nullable;
 public final class RowVersion implements Storable {
     private static final int NEXT_LINK_STORE_SIZE_BYTES = PartitionlessLinks.PARTITIONLESS_LINK_SIZE_BYTES;
     private static final int VALUE_SIZE_STORE_SIZE_BYTES = Integer.BYTES;
+    private static final int ROW_ID_STORE_SIZE_BYTES = Short.BYTES + 2 * Long.BYTES;
 
     public static final int TIMESTAMP_OFFSET = 0;
     public static final int NEXT_LINK_OFFSET = TIMESTAMP_OFFSET + HYBRID_TIMESTAMP_SIZE;
     public static final int VALUE_SIZE_OFFSET = NEXT_LINK_OFFSET + NEXT_LINK_STORE_SIZE_BYTES;
     public static final int VALUE_OFFSET = VALUE_SIZE_OFFSET + VALUE_SIZE_STORE_SIZE_BYTES;
 
+    /** Offsets of the row ID, which is stored between the value size and the value by {@link VolatileRowVersionDataIo} only. */
+    public static final int ROW_ID_PARTITION_OFFSET = VALUE_SIZE_OFFSET + VALUE_SIZE_STORE_SIZE_BYTES;
+    public static final int ROW_ID_MSB_OFFSET = ROW_ID_PARTITION_OFFSET + Short.BYTES;
+    public static final int ROW_ID_LSB_OFFSET = ROW_ID_MSB_OFFSET + Long.BYTES;
+
     private final int partitionId;
 
+    /** ID of the row the version belongs to, {@code null} if it is not stored in the data page. */
+    private final @Nullable RowId rowId;
+
     private long link;
 
     private final @Nullable HybridTimestamp timestamp;
@@ -59,22 +73,16 @@ public final class RowVersion implements Storable {
     /**
      * Constructor.
      */
-    public RowVersion(int partitionId, long nextLink, ByteBuffer value) {
-        this(partitionId, 0, null, nextLink, value);
-    }
-
-    /**
-     * Constructor.
-     */
-    public RowVersion(int partitionId, HybridTimestamp commitTimestamp, long nextLink, ByteBuffer value) {
-        this(partitionId, 0, commitTimestamp, nextLink, value);
-    }
-
-    /**
-     * Constructor.
-     */
-    public RowVersion(int partitionId, long link, @Nullable HybridTimestamp timestamp, long nextLink, @Nullable ByteBuffer value) {
+    public RowVersion(
+            int partitionId,
+            @Nullable RowId rowId,
+            long link,
+            @Nullable HybridTimestamp timestamp,
+            long nextLink,
+            @Nullable ByteBuffer value
+    ) {
         this.partitionId = partitionId;
+        this.rowId = rowId;
         link(link);
 
         this.timestamp = timestamp;
@@ -86,8 +94,16 @@ public final class RowVersion implements Storable {
     /**
      * Constructor.
      */
-    public RowVersion(int partitionId, long link, @Nullable HybridTimestamp timestamp, long nextLink, int valueSize) {
+    public RowVersion(
+            int partitionId,
+            @Nullable RowId rowId,
+            long link,
+            @Nullable HybridTimestamp timestamp,
+            long nextLink,
+            int valueSize
+    ) {
         this.partitionId = partitionId;
+        this.rowId = rowId;
         link(link);
 
         this.timestamp = timestamp;
@@ -96,6 +112,13 @@ public final class RowVersion implements Storable {
         this.value = null;
     }
 
+    /**
+     * Returns ID of the row the version belongs to, {@code null} if it is not stored in the data page.
+     */
+    public @Nullable RowId rowId() {
+        return rowId;
+    }
+
     public @Nullable HybridTimestamp timestamp() {
         return timestamp;
     }
@@ -163,12 +186,46 @@ public final class RowVersion implements Storable {
 
     @Override
     public int headerSize() {
-        return HYBRID_TIMESTAMP_SIZE + NEXT_LINK_STORE_SIZE_BYTES + VALUE_SIZE_STORE_SIZE_BYTES;
+        int headerSize = HYBRID_TIMESTAMP_SIZE + NEXT_LINK_STORE_SIZE_BYTES + VALUE_SIZE_STORE_SIZE_BYTES;
+
+        return rowId == null ? headerSize : headerSize + ROW_ID_STORE_SIZE_BYTES;
+    }
+
+    /**
+     * Returns {@code true} if row versions of the data page store the ID of their row, which is only done in volatile data regions.
+     *
+     * @param pageAddr Page address.
+     */
+    static boolean storesRowId(long pageAddr) {
+        return PageIo.getType(pageAddr) == T_VOLATILE_ROW_VERSION_DATA_IO;
+    }
+
+    /**
+     * Returns offset of the value in the first slot of a row version stored in the data page.
+     *
+     * @param pageAddr Page address.
+     */
+    static int valueOffset(long pageAddr) {
+        return storesRowId(pageAddr) ? VALUE_OFFSET + ROW_ID_STORE_SIZE_BYTES : VALUE_OFFSET;
+    }
+
+    /**
+     * Reads ID of the row from the first slot of a row version, the data page must {@link #storesRowId store} it.
+     *
+     * @param pageAddr Page address.
+     * @param offset Offset of the first slot payload.
+     */
+    static RowId readRowId(long pageAddr, int offset) {
+        return new RowId(
+                PageUtils.getShort(pageAddr, offset + ROW_ID_PARTITION_OFFSET) & 0xFFFF,
+                PageUtils.getLong(pageAddr, offset + ROW_ID_MSB_OFFSET),
+                PageUtils.getLong(pageAddr, offset + ROW_ID_LSB_OFFSET)
+        );
     }
 
     @Override
     public IoVersions<? extends AbstractDataPageIo<?>> ioVersions() {
-        return RowVersionDataIo.VERSIONS;
+        return rowId == null ? RowVersionDataIo.VERSIONS : VolatileRowVersionDataIo.VERSIONS;
     }
 
     @Override
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_VOLATILE_ROW_VERSION_DATA_IO;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.pagememory.evict.RowEvictionHandler;
+import org.apache.ignite.internal.pagememory.io.DataPagePayload;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.pagememory.mv.io.VolatileRowVersionDataIo;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link RowEvictionHandler} of an in-memory data region: evicts whole version chains.
+ *
+ * <p>Row versions of volatile data regions store the ID of their row (see {@link VolatileRowVersionDataIo}), so the version chain is found
+ * by reading the evicted data page. Partition storages of all tables of the data region are registered here, the row is looked up in the
+ * storages of its partition.
+ */
+public class RowVersionEvictionHandler implements RowEvictionHandler<RowId> {
+    private final ConcurrentMap<Integer, Set<VolatilePageMemoryMvPartitionStorage>> storagesByPartitionId = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a partition storage of the data region.
+     *
+     * @param storage Partition storage.
+     */
+    void register(VolatilePageMemoryMvPartitionStorage storage) {
+        storagesByPartitionId.compute(storage.partitionId, (partitionId, storages) -> {
+            if (storages == null) {
+                storages = ConcurrentHashMap.newKeySet();
+            }
+
+            storages.add(storage);
+
+            return storages;
+        });
+    }
+
+    /**
+     * Unregisters a closed partition storage.
+     *
+     * @param storage Partition storage.
+     */
+    void unregister(VolatilePageMemoryMvPartitionStorage storage) {
+        storagesByPartitionId.computeIfPresent(storage.partitionId, (partitionId, storages) -> {
+            storages.remove(storage);
+
+            return storages.isEmpty() ? null : storages;
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int dataPageIoType() {
+        return T_VOLATILE_ROW_VERSION_DATA_IO;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable RowId readRowOwner(long pageAddr, long link, DataPagePayload payload) {
+        // Items holding the tail of a fragmented row version may be shorter than the header.
+        if (payload.payloadSize() < RowVersion.valueOffset(pageAddr)) {
+            return null;
+        }
+
+        return RowVersion.readRowId(pageAddr, payload.offset());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean evictRow(RowId rowId, long link) {
+        Set<VolatilePageMemoryMvPartitionStorage> storages = storagesByPartitionId.get(rowId.partitionId());
+
+        if (storages == null) {
+            return false;
+        }
+
+        for (VolatilePageMemoryMvPartitionStorage storage : storages) {
+            if (storage.evictVersionChain(rowId, link)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -84,6 +84,13 @@ public class VersionChainTree extends BplusTree<VersionChainKey, VersionChain> {
         return versionChainIo.compare(pageAddr, idx, row);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean optimisticReads() {
+        // Row IDs are compared right on the page.
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     public VersionChain getRow(BplusIo<VersionChainKey> io, long pageAddr, int idx, Object x) {
@@ -22,8 +22,11 @@ import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptio
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageNotInProgressOfRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageNotInRunnableOrRebalanceState;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -32,14 +35,19 @@ import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.util.GradualTaskExecutor;
 import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.TxIdMismatchException;
+import org.apache.ignite.internal.storage.pagememory.VolatilePageMemoryDataRegion;
 import org.apache.ignite.internal.storage.pagememory.VolatilePageMemoryTableStorage;
 import org.apache.ignite.internal.storage.pagememory.index.hash.PageMemoryHashIndexStorage;
 import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMeta;
 import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaTree;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.PageMemorySortedIndexStorage;
 import org.apache.ignite.internal.storage.pagememory.mv.gc.GcQueue;
+import org.apache.ignite.internal.storage.util.StorageState;
 import org.apache.ignite.lang.IgniteInternalCheckedException;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.jetbrains.annotations.Nullable;
@@ -54,6 +62,8 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
 
     private final GradualTaskExecutor destructionExecutor;
 
+    private final VolatilePageMemoryDataRegion dataRegion;
+
     /** Last applied index value. */
     private volatile long lastAppliedIndex;
 
@@ -92,6 +102,113 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
         );
 
         this.destructionExecutor = destructionExecutor;
+        this.dataRegion = tableStorage.dataRegion();
+
+        RowVersionEvictionHandler evictionHandler = dataRegion.rowVersionEvictionHandler();
+
+        if (evictionHandler != null) {
+            evictionHandler.register(this);
+        }
+    }
+
+    @Override
+    public @Nullable BinaryRow addWrite(RowId rowId, @Nullable BinaryRow row, UUID txId, UUID commitTableId, int commitPartitionId)
+            throws TxIdMismatchException, StorageException {
+        dataRegion.ensureFreeSpace();
+
+        return super.addWrite(rowId, row, txId, commitTableId, commitPartitionId);
+    }
+
+    @Override
+    public void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp) throws StorageException {
+        dataRegion.ensureFreeSpace();
+
+        super.addWriteCommitted(rowId, row, commitTimestamp);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Row IDs are stored in the data page only when eviction is enabled for the data region, {@link RowVersionEvictionHandler} reads
+     * them to find the version chain of an evicted row version.
+     */
+    @Override
+    RowVersion createRowVersion(RowId rowId, @Nullable HybridTimestamp commitTimestamp, long nextLink, ByteBuffer value) {
+        RowId storedRowId = dataRegion.rowVersionEvictionHandler() == null ? null : rowId;
+
+        return new RowVersion(partitionId, storedRowId, 0, commitTimestamp, nextLink, value);
+    }
+
+    /**
+     * Evicts a version chain with all its row versions, unless the chain has a write intent or its lock is held by anyone.
+     *
+     * <p>Index entries that point to the row are left as is, readers skip them as they skip entries of any removed row.
+     *
+     * @param rowId Row ID read from the evicted data page.
+     * @param link Link of the row version the row ID has been read from.
+     * @return {@code True} if the version chain has been evicted, {@code false} if it can't be evicted or the row version does not belong
+     *      to a version chain of this storage.
+     */
+    boolean evictVersionChain(RowId rowId, long link) {
+        if (!busyLock.enterBusy()) {
+            return false;
+        }
+
+        try {
+            if (state.get() != StorageState.RUNNABLE) {
+                return false;
+            }
+
+            return updateVersionChainLockByRowId.tryInLock(rowId, () -> {
+                try {
+                    VersionChain chain = versionChainTree.findOne(new VersionChainKey(rowId));
+
+                    if (chain == null || chain.isUncommitted()) {
+                        return false;
+                    }
+
+                    List<RowVersion> rowVersions = new ArrayList<>();
+
+                    boolean linkFound = false;
+
+                    long rowVersionLink = chain.headLink();
+
+                    while (rowVersionLink != PageIdUtils.NULL_LINK) {
+                        RowVersion rowVersion = readRowVersion(rowVersionLink, NEVER_LOAD_VALUE);
+
+                        rowVersions.add(rowVersion);
+
+                        linkFound |= rowVersion.link() == link;
+
+                        rowVersionLink = rowVersion.nextLink();
+                    }
+
+                    // The row ID has been read from a page item that is not a row version of this chain, e.g. from a fragment of a row.
+                    if (!linkFound) {
+                        return false;
+                    }
+
+                    // Remove the chain from the tree first, so that new readers can't reach row versions that are about to be freed.
+                    versionChainTree.removex(chain);
+
+                    for (RowVersion rowVersion : rowVersions) {
+                        HybridTimestamp timestamp = rowVersion.timestamp();
+
+                        if (timestamp != null) {
+                            gcQueue.remove(rowId, timestamp, rowVersion.link());
+                        }
+
+                        removeRowVersion(rowVersion);
+                    }
+
+                    return true;
+                } catch (IgniteInternalCheckedException e) {
+                    throw new StorageException("Error while evicting version chain: [rowId={}, {}]", e, rowId, createStorageInfo());
+                }
+            });
+        } finally {
+            busyLock.leaveBusy();
+        }
     }
 
     @Override
@@ -188,6 +305,12 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
     protected List<AutoCloseable> getResourcesToClose(boolean goingToDestroy) {
         List<AutoCloseable> resourcesToClose = super.getResourcesToClose(goingToDestroy);
 
+        RowVersionEvictionHandler evictionHandler = dataRegion.rowVersionEvictionHandler();
+
+        if (evictionHandler != null) {
+            resourcesToClose.add(() -> evictionHandler.unregister(this));
+        }
+
         if (!goingToDestroy) {
             // If we are going to destroy after closure, we should retain indices because the destruction logic
             // will need to destroy them as well. It will clean the maps after it starts the destruction.
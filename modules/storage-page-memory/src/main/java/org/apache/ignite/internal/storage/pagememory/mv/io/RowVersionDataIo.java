@@ -46,7 +46,17 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
      * @param ver Page format version.
      */
     protected RowVersionDataIo(int ver) {
-        super(T_ROW_VERSION_DATA_IO, ver);
+        this(T_ROW_VERSION_DATA_IO, ver);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param type Page type.
+     * @param ver Page format version.
+     */
+    protected RowVersionDataIo(int type, int ver) {
+        super(type, ver);
     }
 
     @Override
@@ -65,6 +75,8 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
         putInt(addr, 0, row.valueSize());
         addr += Integer.BYTES;
 
+        addr += writeRowId(addr, row);
+
         putByteBuffer(addr, 0, row.value());
     }
 
@@ -83,6 +95,8 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
 
             pageBuf.putInt(row.valueSize());
 
+            writeRowId(pageBuf, row);
+
             putValueBufferIntoPage(pageBuf, row.value(), 0, payloadSize - row.headerSize());
         } else {
             // non-first fragment
@@ -92,6 +106,27 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
         }
     }
 
+    /**
+     * Writes ID of the row between the value size and the value, row versions of this page type don't store it.
+     *
+     * @param addr Address to write to.
+     * @param row Row version.
+     * @return Number of bytes written.
+     */
+    protected int writeRowId(long addr, RowVersion row) {
+        return 0;
+    }
+
+    /**
+     * Writes ID of the row between the value size and the value, row versions of this page type don't store it.
+     *
+     * @param pageBuf Page buffer to write to.
+     * @param row Row version.
+     */
+    protected void writeRowId(ByteBuffer pageBuf, RowVersion row) {
+        // No-op.
+    }
+
     /**
      * Updates timestamp leaving the rest untouched.
      *
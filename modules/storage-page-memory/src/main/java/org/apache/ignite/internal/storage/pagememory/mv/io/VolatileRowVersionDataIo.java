@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv.io;
+
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putShort;
+import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_VOLATILE_ROW_VERSION_DATA_IO;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.pagememory.mv.RowVersion;
+import org.apache.ignite.lang.IgniteStringBuilder;
+
+/**
+ * Data pages IO for {@link RowVersion} of volatile data regions.
+ *
+ * <p>Unlike {@link RowVersionDataIo}, every row version also stores the ID of its row between the value size and the value, so that the
+ * version chain of a row version can be found by reading the data page when the page is evicted. The format of persistent data pages is
+ * not affected.
+ */
+public class VolatileRowVersionDataIo extends RowVersionDataIo {
+    /** I/O versions. */
+    public static final IoVersions<VolatileRowVersionDataIo> VERSIONS = new IoVersions<>(new VolatileRowVersionDataIo(1));
+
+    /**
+     * Constructor.
+     *
+     * @param ver Page format version.
+     */
+    protected VolatileRowVersionDataIo(int ver) {
+        super(T_VOLATILE_ROW_VERSION_DATA_IO, ver);
+    }
+
+    @Override
+    protected int writeRowId(long addr, RowVersion row) {
+        RowId rowId = row.rowId();
+
+        assert rowId != null : row;
+
+        putShort(addr, 0, (short) rowId.partitionId());
+        addr += Short.BYTES;
+
+        putLong(addr, 0, rowId.mostSignificantBits());
+        addr += Long.BYTES;
+
+        putLong(addr, 0, rowId.leastSignificantBits());
+
+        return Short.BYTES + 2 * Long.BYTES;
+    }
+
+    @Override
+    protected void writeRowId(ByteBuffer pageBuf, RowVersion row) {
+        RowId rowId = row.rowId();
+
+        assert rowId != null : row;
+
+        pageBuf.putShort((short) rowId.partitionId());
+        pageBuf.putLong(rowId.mostSignificantBits());
+        pageBuf.putLong(rowId.leastSignificantBits());
+    }
+
+    @Override
+    protected void printPage(long addr, int pageSize, IgniteStringBuilder sb) {
+        sb.app("VolatileRowVersionDataIo [\n");
+        printPageLayout(addr, pageSize, sb);
+        sb.app("\n]");
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.lang.IgniteInternalCheckedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of concurrent point lookups in a {@link VersionChainTree} with locked and optimistic reads of inner pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+public class VersionChainTreeLookupBenchmark {
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private static final long MEMORY_SIZE = 512L * 1024 * 1024;
+
+    private static final int GROUP_ID = 1;
+
+    private static final int PARTITION_ID = 0;
+
+    /** Number of version chains in the tree. */
+    @Param({"1000000"})
+    private int rows;
+
+    /** Whether inner pages are read optimistically. */
+    @Param({"false", "true"})
+    private boolean optimisticReads;
+
+    private VolatilePageMemory pageMemory;
+
+    private VersionChainTree tree;
+
+    private RowId[] rowIds;
+
+    /**
+     * Creates the tree and fills it with version chains.
+     */
+    @Setup
+    public void setUp() throws IgniteInternalCheckedException {
+        VolatilePageMemoryDataRegionView dataRegionView = mock(VolatilePageMemoryDataRegionView.class);
+
+        when(dataRegionView.name()).thenReturn("benchmark");
+        when(dataRegionView.initSize()).thenReturn(MEMORY_SIZE);
+        when(dataRegionView.maxSize()).thenReturn(MEMORY_SIZE);
+        when(dataRegionView.memoryAllocator()).thenReturn(mock(UnsafeMemoryAllocatorView.class));
+
+        VolatilePageMemoryDataRegionConfiguration dataRegionConfig = mock(VolatilePageMemoryDataRegionConfiguration.class);
+
+        when(dataRegionConfig.value()).thenReturn(dataRegionView);
+
+        PageIoRegistry ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        pageMemory = new VolatilePageMemory(dataRegionConfig, ioRegistry, PAGE_SIZE);
+
+        pageMemory.start();
+
+        tree = new VersionChainTree(
+                GROUP_ID,
+                "benchmark",
+                PARTITION_ID,
+                pageMemory,
+                PageLockListenerNoOp.INSTANCE,
+                new AtomicLong(),
+                pageMemory.allocatePage(GROUP_ID, PARTITION_ID, FLAG_AUX),
+                null,
+                true
+        ) {
+            @Override
+            protected boolean optimisticReads() {
+                return optimisticReads;
+            }
+        };
+
+        rowIds = new RowId[rows];
+
+        for (int i = 0; i < rows; i++) {
+            rowIds[i] = new RowId(PARTITION_ID, new UUID(i, i));
+
+            tree.putx(VersionChain.createCommitted(rowIds[i], 1, 0));
+        }
+    }
+
+    /**
+     * Releases the memory.
+     */
+    @TearDown
+    public void tearDown() {
+        tree.close();
+
+        pageMemory.stop(true);
+    }
+
+    /**
+     * Looks up a random version chain.
+     */
+    @Benchmark
+    public VersionChain findOne() throws IgniteInternalCheckedException {
+        return tree.findOne(new VersionChainKey(rowIds[ThreadLocalRandom.current().nextInt(rows)]));
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Command line arguments.
+     * @throws RunnerException If failed.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(VersionChainTreeLookupBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
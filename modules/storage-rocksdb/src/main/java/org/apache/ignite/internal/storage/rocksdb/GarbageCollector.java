@@ -98,11 +98,18 @@ class GarbageCollector {
      * @param rowId Row id.
      * @param timestamp New row's timestamp.
      * @param isNewValueTombstone If new row is a tombstone.
+     * @param readBatch Whether the previous value may be in the write batch and not in the DB yet, which is the case for the batch of
+     *      a {@link RebalanceIngester}. Such a batch must be created with {@code overwriteKey == true}.
      * @return {@code true} if new value and previous value are both tombstones.
      * @throws RocksDBException If failed.
      */
-    boolean tryAddToGcQueue(WriteBatchWithIndex writeBatch, RowId rowId, HybridTimestamp timestamp, boolean isNewValueTombstone)
-            throws RocksDBException {
+    boolean tryAddToGcQueue(
+            WriteBatchWithIndex writeBatch,
+            RowId rowId,
+            HybridTimestamp timestamp,
+            boolean isNewValueTombstone,
+            boolean readBatch
+    ) throws RocksDBException {
         ColumnFamilyHandle partCf = helper.partCf;
 
         // Try find previous value for the row id.
@@ -111,7 +118,9 @@ class GarbageCollector {
 
         helper.putDataKey(keyBuffer, rowId, timestamp);
 
-        try (RocksIterator it = db.newIterator(partCf, helper.upperBoundReadOpts)) {
+        RocksIterator dbIt = db.newIterator(partCf, helper.upperBoundReadOpts);
+
+        try (RocksIterator it = readBatch ? writeBatch.newIteratorWithBase(partCf, dbIt) : dbIt) {
             it.seek(keyBuffer);
 
             if (invalid(it)) {
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+import org.rocksdb.WBWIRocksIterator;
+import org.rocksdb.WBWIRocksIterator.WriteEntry;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * Writes the data of a rebalanced partition to RocksDB bypassing the memtable.
+ *
+ * <p>While a partition is being rebalanced, all its writes are accumulated in a single {@link #writeBatch() write batch}, which also
+ * serves reads of the data that has not been ingested yet. When the batch grows beyond a threshold, or the rebalance is finished, its
+ * entries are written, in the order of the column family comparator, to SST files that are then ingested into the column families with
+ * {@link RocksDB#ingestExternalFile}. This avoids write stalls and the compaction of memtables filled with snapshot data, which the
+ * rebalanced partition does not need anyway since it is not readable until the rebalance is finished.
+ *
+ * <p>Column families with custom comparators (sorted indexes) are written with regular write batches.
+ *
+ * <p>Not thread safe, the owner must synchronize the access.
+ */
+class RebalanceIngester implements AutoCloseable {
+    /** Size of the data in the batch, in bytes, at which it is ingested. */
+    static final long MAX_BATCH_DATA_SIZE = 64L * 1024 * 1024;
+
+    /** RocksDB instance. */
+    private final RocksDB db;
+
+    /** Column families with the default comparator, their entries are ingested. */
+    private final List<ColumnFamily> ingestedCfs;
+
+    /** Supplier of the column families with custom comparators, their entries are written with a write batch. */
+    private final Supplier<List<ColumnFamily>> writtenCfs;
+
+    /** Directory for SST files. */
+    private final Path sstDir;
+
+    /** Write options for the column families that are not ingested. */
+    private final WriteOptions writeOptions;
+
+    /** Batch with the data that has not been ingested yet, a later write of a key overwrites the earlier one. */
+    private final WriteBatchWithIndex writeBatch = new WriteBatchWithIndex(true);
+
+    /** Counter for the names of SST files. */
+    private long sstFileCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param db RocksDB instance.
+     * @param ingestedCfs Column families with the default comparator, their entries are ingested.
+     * @param writtenCfs Supplier of the column families with custom comparators, their entries are written with a write batch.
+     * @param sstDir Directory for SST files, will be created if absent and removed on {@link #close()}.
+     * @param writeOptions Write options for the column families that are not ingested.
+     */
+    RebalanceIngester(
+            RocksDB db,
+            List<ColumnFamily> ingestedCfs,
+            Supplier<List<ColumnFamily>> writtenCfs,
+            Path sstDir,
+            WriteOptions writeOptions
+    ) {
+        this.db = db;
+        this.ingestedCfs = ingestedCfs;
+        this.writtenCfs = writtenCfs;
+        this.sstDir = sstDir;
+        this.writeOptions = writeOptions;
+    }
+
+    /**
+     * Returns the batch to write the data of the partition to.
+     */
+    WriteBatchWithIndex writeBatch() {
+        return writeBatch;
+    }
+
+    /**
+     * Ingests the data of the batch if it has grown beyond the threshold.
+     *
+     * @throws RocksDBException If failed.
+     */
+    void ingestIfFull() throws RocksDBException {
+        if (writeBatch.getWriteBatch().getDataSize() >= MAX_BATCH_DATA_SIZE) {
+            ingest();
+        }
+    }
+
+    /**
+     * Ingests the data of the batch and clears it.
+     *
+     * @throws RocksDBException If failed.
+     */
+    void ingest() throws RocksDBException {
+        if (writeBatch.count() == 0) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(sstDir);
+        } catch (IOException e) {
+            throw new RocksDBException("Failed to create a directory for SST files: " + sstDir + ", " + e.getMessage());
+        }
+
+        try (IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions().setMoveFiles(true)) {
+            for (ColumnFamily cf : ingestedCfs) {
+                Path sstFile = writeSstFile(cf);
+
+                if (sstFile != null) {
+                    cf.ingestExternalFile(List.of(sstFile.toString()), ingestOptions);
+                }
+            }
+        }
+
+        try (WriteBatch batch = new WriteBatch()) {
+            for (ColumnFamily cf : writtenCfs.get()) {
+                try (WBWIRocksIterator it = writeBatch.newIterator(cf.handle())) {
+                    for (it.seekToFirst(); it.isValid(); it.next()) {
+                        WriteEntry entry = it.entry();
+
+                        if (entry.getType() == WBWIRocksIterator.WriteType.DELETE) {
+                            batch.delete(cf.handle(), bytes(entry.getKey().data()));
+                        } else {
+                            batch.put(cf.handle(), bytes(entry.getKey().data()), bytes(entry.getValue().data()));
+                        }
+                    }
+
+                    it.status();
+                }
+            }
+
+            if (batch.count() > 0) {
+                db.write(writeOptions, batch);
+            }
+        }
+
+        writeBatch.clear();
+    }
+
+    /**
+     * Writes the entries of the column family from the batch to a new SST file.
+     *
+     * @return Path to the file, {@code null} if the batch has no entries of the column family.
+     */
+    private Path writeSstFile(ColumnFamily cf) throws RocksDBException {
+        try (
+                WBWIRocksIterator it = writeBatch.newIterator(cf.handle());
+                EnvOptions envOptions = new EnvOptions();
+                // SST files are built with the options of the column family, so that they get the same filters and compression.
+                ColumnFamilyOptions cfOptions = cf.handle().getDescriptor().getOptions();
+                DBOptions dbOptions = new DBOptions();
+                Options options = new Options(dbOptions, cfOptions);
+                SstFileWriter sstFileWriter = new SstFileWriter(envOptions, options)
+        ) {
+            it.seekToFirst();
+
+            if (!it.isValid()) {
+                it.status();
+
+                return null;
+            }
+
+            Path sstFile = sstDir.resolve(cf.name() + "-" + sstFileCounter++ + ".sst");
+
+            sstFileWriter.open(sstFile.toString());
+
+            for (; it.isValid(); it.next()) {
+                WriteEntry entry = it.entry();
+
+                if (entry.getType() == WBWIRocksIterator.WriteType.DELETE) {
+                    sstFileWriter.delete(entry.getKey());
+                } else {
+                    sstFileWriter.put(entry.getKey(), entry.getValue());
+                }
+            }
+
+            it.status();
+
+            sstFileWriter.finish();
+
+            return sstFile;
+        }
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+
+        buffer.get(bytes);
+
+        return bytes;
+    }
+
+    /**
+     * Discards the data that has not been ingested yet and removes the SST files.
+     */
+    @Override
+    public void close() {
+        writeBatch.close();
+
+        IgniteUtils.deleteIfExists(sstDir);
+    }
+}
@@ -17,15 +17,29 @@
 
 package org.apache.ignite.internal.storage.rocksdb;
 
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.BLOOM_FILTER;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.LZ4_COMPRESSION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.NO_COMPRESSION;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.ROCKSDB_CLOCK_CACHE;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.ROCKSDB_LRU_CACHE;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.SNAPPY_COMPRESSION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.ZSTD_COMPRESSION;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfiguration;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionView;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.Cache;
 import org.rocksdb.ClockCache;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
+import org.rocksdb.Filter;
+import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
 import org.rocksdb.WriteBufferManager;
 
@@ -33,6 +47,9 @@ import org.rocksdb.WriteBufferManager;
  * Data region implementation for {@link RocksDbStorageEngine}. Based on a {@link Cache}.
  */
 public class RocksDbDataRegion {
+    /** Number of LSM levels of the column families, the RocksDB default. */
+    private static final int NUM_LEVELS = 7;
+
     /** Region configuration. */
     private final RocksDbDataRegionConfiguration cfg;
 
@@ -42,6 +59,10 @@ public class RocksDbDataRegion {
     /** Write buffer manager instance. */
     private WriteBufferManager writeBufferManager;
 
+    /** Filter policy for the column families with point lookups, {@code null} if filters are disabled. */
+    @Nullable
+    private Filter filter;
+
     /**
      * Constructor.
      *
@@ -77,13 +98,90 @@ public class RocksDbDataRegion {
         }
 
         writeBufferManager = new WriteBufferManager(writeBufferSize, cache);
+
+        if (BLOOM_FILTER.equals(dataRegionView.filter().toLowerCase(Locale.ROOT))) {
+            filter = new BloomFilter(dataRegionView.filterBitsPerKey());
+        }
     }
 
     /**
      * Starts the rocksDb data region.
      */
     public void stop() throws Exception {
-        IgniteUtils.closeAll(writeBufferManager, cache);
+        IgniteUtils.closeAll(filter, writeBufferManager, cache);
+    }
+
+    /**
+     * Creates options for a column family of a table that belongs to the region: block cache, block size, index and filter blocks and
+     * compression are taken from the region configuration.
+     *
+     * @param pointLookups {@code true} if the column family is mostly read by key or key prefix, such column families get a filter
+     *      and a memtable prefix bloom filter (if the prefix extractor is set).
+     * @return Column family options, the caller is responsible for closing them.
+     */
+    public ColumnFamilyOptions createColumnFamilyOptions(boolean pointLookups) {
+        RocksDbDataRegionView dataRegionView = cfg.value();
+
+        var tableConfig = new BlockBasedTableConfig()
+                .setBlockCache(cache)
+                .setBlockSize(dataRegionView.blockSize());
+
+        if (pointLookups && filter != null) {
+            tableConfig.setFilterPolicy(filter);
+        }
+
+        if (dataRegionView.partitionedIndexFilters()) {
+            tableConfig
+                    .setIndexType(IndexType.kTwoLevelIndexSearch)
+                    .setPartitionFilters(pointLookups && filter != null)
+                    .setCacheIndexAndFilterBlocks(true)
+                    .setCacheIndexAndFilterBlocksWithHighPriority(true)
+                    .setPinTopLevelIndexAndFilter(true)
+                    .setPinL0FilterAndIndexBlocksInCache(true);
+        }
+
+        var options = new ColumnFamilyOptions()
+                .setTableFormatConfig(tableConfig)
+                .setNumLevels(NUM_LEVELS)
+                .setCompressionPerLevel(compressionPerLevel(dataRegionView))
+                .setBottommostCompressionType(compressionType(dataRegionView.bottommostCompression()));
+
+        if (pointLookups) {
+            options.setMemtablePrefixBloomSizeRatio(dataRegionView.memtablePrefixBloomSizeRatio());
+        }
+
+        return options;
+    }
+
+    private static List<CompressionType> compressionPerLevel(RocksDbDataRegionView dataRegionView) {
+        CompressionType compression = compressionType(dataRegionView.compression());
+
+        List<CompressionType> compressionPerLevel = new ArrayList<>(NUM_LEVELS);
+
+        for (int level = 0; level < NUM_LEVELS; level++) {
+            compressionPerLevel.add(level < dataRegionView.uncompressedLevels() ? CompressionType.NO_COMPRESSION : compression);
+        }
+
+        return compressionPerLevel;
+    }
+
+    private static CompressionType compressionType(String compression) {
+        switch (compression.toLowerCase(Locale.ROOT)) {
+            case NO_COMPRESSION:
+                return CompressionType.NO_COMPRESSION;
+
+            case SNAPPY_COMPRESSION:
+                return CompressionType.SNAPPY_COMPRESSION;
+
+            case LZ4_COMPRESSION:
+                return CompressionType.LZ4_COMPRESSION;
+
+            case ZSTD_COMPRESSION:
+                return CompressionType.ZSTD_COMPRESSION;
+
+            default:
+                throw new AssertionError(compression);
+        }
     }
 
     /**
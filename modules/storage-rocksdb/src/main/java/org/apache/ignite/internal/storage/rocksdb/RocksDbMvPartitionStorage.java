@@ -185,6 +185,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     /** Current state of the storage. */
     private final AtomicReference<StorageState> state = new AtomicReference<>(StorageState.RUNNABLE);
 
+    /** Ingester of the data written during a rebalance, {@code null} if the storage is not being rebalanced. */
+    private volatile @Nullable RebalanceIngester rebalanceIngester;
+
     /**
      * Constructor.
      *
@@ -214,36 +217,84 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     public <V> V runConsistently(WriteClosure<V> closure) throws StorageException {
         if (threadLocalWriteBatch.get() != null) {
             return closure.execute();
-        } else {
-            return busy(() -> {
-                try (var writeBatch = new WriteBatchWithIndex()) {
-                    threadLocalWriteBatch.set(writeBatch);
+        }
 
-                    pendingAppliedIndex = lastAppliedIndex;
-                    pendingAppliedTerm = lastAppliedTerm;
-                    pendingGroupConfig = lastGroupConfig;
+        RebalanceIngester ingester = rebalanceIngester;
 
-                    try {
-                        V res = closure.execute();
+        if (ingester != null) {
+            synchronized (ingester) {
+                // Rebalance may have been finished or aborted while we were waiting for the monitor.
+                if (ingester == rebalanceIngester) {
+                    return busy(() -> runConsistentlyOnRebalance(ingester, closure));
+                }
+            }
+        }
 
-                        if (writeBatch.count() > 0) {
-                            db.write(writeOpts, writeBatch);
-                        }
+        return busy(() -> {
+            try (var writeBatch = new WriteBatchWithIndex()) {
+                threadLocalWriteBatch.set(writeBatch);
 
-                        lastAppliedIndex = pendingAppliedIndex;
-                        lastAppliedTerm = pendingAppliedTerm;
-                        lastGroupConfig = pendingGroupConfig;
+                pendingAppliedIndex = lastAppliedIndex;
+                pendingAppliedTerm = lastAppliedTerm;
+                pendingGroupConfig = lastGroupConfig;
 
-                        return res;
-                    } catch (RocksDBException e) {
-                        throw new StorageException("Unable to apply a write batch to RocksDB instance.", e);
-                    } finally {
-                        helper.lockByRowId.releaseAllLockByCurrentThread();
+                try {
+                    V res = closure.execute();
+
+                    if (writeBatch.count() > 0) {
+                        db.write(writeOpts, writeBatch);
                     }
+
+                    lastAppliedIndex = pendingAppliedIndex;
+                    lastAppliedTerm = pendingAppliedTerm;
+                    lastGroupConfig = pendingGroupConfig;
+
+                    return res;
+                } catch (RocksDBException e) {
+                    throw new StorageException("Unable to apply a write batch to RocksDB instance.", e);
                 } finally {
-                    threadLocalWriteBatch.set(null);
+                    helper.lockByRowId.releaseAllLockByCurrentThread();
                 }
-            });
+            } finally {
+                threadLocalWriteBatch.set(null);
+            }
+        });
+    }
+
+    private <V> V runConsistentlyOnRebalance(RebalanceIngester ingester, WriteClosure<V> closure) {
+        WriteBatchWithIndex writeBatch = ingester.writeBatch();
+
+        threadLocalWriteBatch.set(writeBatch);
+
+        try {
+            // The batch is shared by all closures of the rebalance, so only the changes of a failed closure must be discarded.
+            writeBatch.setSavePoint();
+
+            V res;
+
+            try {
+                res = closure.execute();
+            } catch (Throwable t) {
+                try {
+                    writeBatch.rollbackToSavePoint();
+                } catch (RocksDBException e) {
+                    t.addSuppressed(e);
+                }
+
+                throw t;
+            }
+
+            writeBatch.popSavePoint();
+
+            ingester.ingestIfFull();
+
+            return res;
+        } catch (RocksDBException e) {
+            throw new StorageException("Unable to ingest a write batch into RocksDB instance: " + createStorageInfo(), e);
+        } finally {
+            helper.lockByRowId.releaseAllLockByCurrentThread();
+
+            threadLocalWriteBatch.set(null);
         }
     }
 
@@ -538,7 +589,13 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                 boolean isNewValueTombstone = valueBytes.length == VALUE_HEADER_SIZE;
 
                 // Both this and previous values for the row id are tombstones.
-                boolean newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, timestamp, isNewValueTombstone);
+                boolean newAndPrevTombstones = gc.tryAddToGcQueue(
+                        writeBatch,
+                        rowId,
+                        timestamp,
+                        isNewValueTombstone,
+                        isRebalanceBatch(writeBatch)
+                );
 
                 // Delete pending write.
                 writeBatch.delete(helper.partCf, uncommittedKeyBytes);
@@ -578,7 +635,13 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
             boolean newAndPrevTombstones; // Both this and previous values for the row id are tombstones.
             try {
-                newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, commitTimestamp, isNewValueTombstone);
+                newAndPrevTombstones = gc.tryAddToGcQueue(
+                        writeBatch,
+                        rowId,
+                        commitTimestamp,
+                        isNewValueTombstone,
+                        isRebalanceBatch(writeBatch)
+                );
             } catch (RocksDBException e) {
                 throw new StorageException("Failed to add row to the GC queue: " + createStorageInfo(), e);
             }
@@ -1025,11 +1088,19 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
         busyLock.block();
 
+        abortRebalanceIngestion();
+
         RocksUtils.closeAll(persistedTierReadOpts, readOpts, writeOpts);
 
         helper.close();
     }
 
+    private boolean isRebalanceBatch(WriteBatchWithIndex writeBatch) {
+        RebalanceIngester ingester = rebalanceIngester;
+
+        return ingester != null && ingester.writeBatch() == writeBatch;
+    }
+
     private WriteBatchWithIndex requireWriteBatch() {
         WriteBatchWithIndex writeBatch = threadLocalWriteBatch.get();
 
@@ -1448,6 +1519,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
         try {
             clearStorage(writeBatch, REBALANCE_IN_PROGRESS, REBALANCE_IN_PROGRESS);
+
+            rebalanceIngester = tableStorage.createRebalanceIngester(partitionId);
         } catch (RocksDBException e) {
             throw new StorageRebalanceException("Error when trying to start rebalancing storage: " + createStorageInfo(), e);
         } finally {
@@ -1466,6 +1539,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         }
 
         try {
+            abortRebalanceIngestion();
+
             clearStorage(writeBatch, 0, 0);
         } catch (RocksDBException e) {
             throw new StorageRebalanceException("Error when trying to abort rebalancing storage: " + createStorageInfo(), e);
@@ -1478,6 +1553,17 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
      * @throws StorageRebalanceException If there was an error when finishing the rebalance.
      */
     void finishRebalance(WriteBatch writeBatch, long lastAppliedIndex, long lastAppliedTerm, byte[] groupConfig) {
+        if (state.get() != StorageState.REBALANCE) {
+            throwExceptionDependingOnStorageStateOnRebalance(state.get(), createStorageInfo());
+        }
+
+        try {
+            // The data must be in the column families before the storage becomes readable.
+            finishRebalanceIngestion();
+        } catch (RocksDBException e) {
+            throw new StorageRebalanceException("Error when trying to finish rebalancing storage: " + createStorageInfo(), e);
+        }
+
         if (!state.compareAndSet(StorageState.REBALANCE, StorageState.RUNNABLE)) {
             throwExceptionDependingOnStorageStateOnRebalance(state.get(), createStorageInfo());
         }
@@ -1491,6 +1577,46 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         }
     }
 
+    /**
+     * Ingests the data written during the rebalance that has not been ingested yet and stops using the {@link RebalanceIngester}.
+     *
+     * @throws RocksDBException If failed to ingest the data.
+     */
+    private void finishRebalanceIngestion() throws RocksDBException {
+        RebalanceIngester ingester = rebalanceIngester;
+
+        if (ingester == null) {
+            return;
+        }
+
+        synchronized (ingester) {
+            try {
+                ingester.ingest();
+            } finally {
+                rebalanceIngester = null;
+
+                ingester.close();
+            }
+        }
+    }
+
+    /**
+     * Discards the data written during the rebalance that has not been ingested yet and stops using the {@link RebalanceIngester}.
+     */
+    private void abortRebalanceIngestion() {
+        RebalanceIngester ingester = rebalanceIngester;
+
+        if (ingester == null) {
+            return;
+        }
+
+        synchronized (ingester) {
+            rebalanceIngester = null;
+
+            ingester.close();
+        }
+    }
+
     private void clearStorage(WriteBatch writeBatch, long lastAppliedIndex, long lastAppliedTerm) throws RocksDBException {
         saveLastApplied(writeBatch, lastAppliedIndex, lastAppliedTerm);
 
@@ -84,6 +84,9 @@ public class RocksDbTableStorage implements MvTableStorage {
     /** Logger. */
     private static final IgniteLogger LOG = Loggers.forClass(RocksDbTableStorage.class);
 
+    /** Name of the directory, inside the table directory, for SST files with the data of rebalanced partitions. */
+    private static final String REBALANCE_DIR_NAME = "rebalance";
+
     /** RocksDB storage engine instance. */
     private final RocksDbStorageEngine engine;
 
@@ -192,6 +195,21 @@ public class RocksDbTableStorage implements MvTableStorage {
         return gcQueueCf.handle();
     }
 
+    /**
+     * Creates an ingester of the data written to a partition during its rebalance.
+     *
+     * @param partitionId Partition ID.
+     */
+    RebalanceIngester createRebalanceIngester(int partitionId) {
+        return new RebalanceIngester(
+                db,
+                List.of(partitionCf, gcQueueCf, hashIndexCf),
+                () -> sortedIndices.values().stream().map(SortedIndex::indexCf).collect(toList()),
+                tablePath.resolve(REBALANCE_DIR_NAME).resolve(Integer.toString(partitionId)),
+                writeOptions
+        );
+    }
+
     @Override
     public TableConfiguration configuration() {
         return tableCfg;
@@ -219,6 +237,9 @@ public class RocksDbTableStorage implements MvTableStorage {
                 throw new StorageException("Failed to create a directory for the table storage", e);
             }
 
+            // SST files that were not ingested before the node stopped belong to rebalances that will be restarted from scratch.
+            IgniteUtils.deleteIfExists(tablePath.resolve(REBALANCE_DIR_NAME));
+
             List<ColumnFamilyDescriptor> cfDescriptors = getExistingCfDescriptors();
 
             List<ColumnFamilyHandle> cfHandles = new ArrayList<>(cfDescriptors.size());
@@ -572,19 +593,21 @@ public class RocksDbTableStorage implements MvTableStorage {
             case GC_QUEUE:
                 return new ColumnFamilyDescriptor(
                         cfName.getBytes(UTF_8),
-                        new ColumnFamilyOptions()
+                        dataRegion.createColumnFamilyOptions(false)
                 );
 
             case PARTITION:
                 return new ColumnFamilyDescriptor(
                         cfName.getBytes(UTF_8),
-                        new ColumnFamilyOptions().useFixedLengthPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE)
+                        dataRegion.createColumnFamilyOptions(true)
+                                .useFixedLengthPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE)
                 );
 
             case HASH_INDEX:
                 return new ColumnFamilyDescriptor(
                         cfName.getBytes(UTF_8),
-                        new ColumnFamilyOptions().useFixedLengthPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH)
+                        dataRegion.createColumnFamilyOptions(true)
+                                .useFixedLengthPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH)
                 );
 
             case SORTED_INDEX:
@@ -600,10 +623,11 @@ public class RocksDbTableStorage implements MvTableStorage {
     /**
      * Creates a Column Family descriptor for a Sorted Index.
      */
-    private static ColumnFamilyDescriptor sortedIndexCfDescriptor(String cfName, SortedIndexDescriptor descriptor) {
+    private ColumnFamilyDescriptor sortedIndexCfDescriptor(String cfName, SortedIndexDescriptor descriptor) {
         var comparator = new RocksDbBinaryTupleComparator(descriptor);
 
-        ColumnFamilyOptions options = new ColumnFamilyOptions().setComparator(comparator);
+        // Sorted indexes are read by range scans, filters would not help them.
+        ColumnFamilyOptions options = dataRegion.createColumnFamilyOptions(false).setComparator(comparator);
 
         return new ColumnFamilyDescriptor(cfName.getBytes(UTF_8), options);
     }
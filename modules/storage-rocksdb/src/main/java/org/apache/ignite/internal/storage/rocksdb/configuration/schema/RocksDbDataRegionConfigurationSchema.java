@@ -35,6 +35,24 @@ public class RocksDbDataRegionConfigurationSchema {
     /** Cache type for the RocksDB LRU cache. */
     public static final String ROCKSDB_CLOCK_CACHE = "clock";
 
+    /** Filter type that disables filter blocks in SST files. */
+    public static final String NO_FILTER = "none";
+
+    /** Filter type for the RocksDB bloom filter. */
+    public static final String BLOOM_FILTER = "bloom";
+
+    /** Compression type that disables compression of SST blocks. */
+    public static final String NO_COMPRESSION = "none";
+
+    /** Compression type for the Snappy compression of SST blocks. */
+    public static final String SNAPPY_COMPRESSION = "snappy";
+
+    /** Compression type for the LZ4 compression of SST blocks. */
+    public static final String LZ4_COMPRESSION = "lz4";
+
+    /** Compression type for the Zstandard compression of SST blocks. */
+    public static final String ZSTD_COMPRESSION = "zstd";
+
     /** Name of the data region. */
     @InjectedName
     public String name;
@@ -57,4 +75,48 @@ public class RocksDbDataRegionConfigurationSchema {
     @Range(min = -1)
     @Value(hasDefault = true)
     public int numShardBits = -1;
+
+    /** Size of the uncompressed data block of SST files, in bytes. */
+    @Range(min = 1024)
+    @Value(hasDefault = true)
+    public int blockSize = 16 * 1024;
+
+    /** Type of the filter built for the partition data and hash index column families - {@code none} or {@code bloom}. */
+    @OneOf({NO_FILTER, BLOOM_FILTER})
+    @Value(hasDefault = true)
+    public String filter = BLOOM_FILTER;
+
+    /** Number of filter bits per key, 10 bits give about 1% of false positives. */
+    @Range(min = 1, max = 64)
+    @Value(hasDefault = true)
+    public int filterBitsPerKey = 10;
+
+    /**
+     * Size of the memtable prefix bloom filter as a ratio of {@link #writeBufferSize}, {@code 0} disables it. Used only by the column
+     * families with a prefix extractor.
+     */
+    @Value(hasDefault = true)
+    public double memtablePrefixBloomSizeRatio = 0.1;
+
+    /** Number of the first LSM levels that are not compressed, these levels are small and rewritten often. */
+    @Range(min = 0, max = 7)
+    @Value(hasDefault = true)
+    public int uncompressedLevels = 2;
+
+    /** Compression of the levels after {@link #uncompressedLevels}, except the last one. */
+    @OneOf({NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION, ZSTD_COMPRESSION})
+    @Value(hasDefault = true)
+    public String compression = LZ4_COMPRESSION;
+
+    /** Compression of the last level, which holds most of the data. */
+    @OneOf({NO_COMPRESSION, SNAPPY_COMPRESSION, LZ4_COMPRESSION, ZSTD_COMPRESSION})
+    @Value(hasDefault = true)
+    public String bottommostCompression = ZSTD_COMPRESSION;
+
+    /**
+     * Enables two-level index and filter blocks: partitions are loaded into the cache on demand, only their top level is pinned in
+     * memory. Reduces memory usage of large tables.
+     */
+    @Value(hasDefault = true)
+    public boolean partitionedIndexFilters = false;
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.rocksdb;
 
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -31,6 +32,7 @@ import org.apache.ignite.internal.configuration.testframework.InjectConfiguratio
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.configuration.TablesConfiguration;
 import org.apache.ignite.internal.storage.AbstractMvTableStorageTest;
+import org.apache.ignite.internal.storage.BinaryRowAndRowId;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
@@ -120,6 +122,47 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
                 is(equalTo(unwrap(testData))));
     }
 
+    /**
+     * Tests that the data written during a rebalance, which is ingested into RocksDB bypassing the memtable, is readable after the
+     * rebalance and that the older row versions are queued for the garbage collection.
+     */
+    @Test
+    void testRebalanceIngestion() {
+        var oldRow = binaryRow(new TestKey(1, "1"), new TestValue(10, "10"));
+        var newRow = binaryRow(new TestKey(1, "1"), new TestValue(20, "20"));
+
+        MvPartitionStorage partitionStorage = getOrCreateMvPartition(PARTITION_ID);
+
+        assertThat(tableStorage.startRebalancePartition(PARTITION_ID), willCompleteSuccessfully());
+
+        RowId rowId = new RowId(PARTITION_ID);
+
+        HybridTimestamp oldTimestamp = clock.now();
+        HybridTimestamp newTimestamp = clock.now();
+
+        partitionStorage.runConsistently(() -> {
+            partitionStorage.addWriteCommitted(rowId, oldRow, oldTimestamp);
+
+            return null;
+        });
+
+        partitionStorage.runConsistently(() -> {
+            partitionStorage.addWriteCommitted(rowId, newRow, newTimestamp);
+
+            return null;
+        });
+
+        assertThat(tableStorage.finishRebalancePartition(PARTITION_ID, 10, 20, new byte[0]), willCompleteSuccessfully());
+
+        assertThat(unwrap(partitionStorage.read(rowId, oldTimestamp).binaryRow()), is(equalTo(unwrap(oldRow))));
+        assertThat(unwrap(partitionStorage.read(rowId, HybridTimestamp.MAX_VALUE).binaryRow()), is(equalTo(unwrap(newRow))));
+
+        BinaryRowAndRowId gcedRow = partitionStorage.runConsistently(() -> partitionStorage.pollForVacuum(HybridTimestamp.MAX_VALUE));
+
+        assertThat(gcedRow, is(notNullValue()));
+        assertThat(unwrap(gcedRow.binaryRow()), is(equalTo(unwrap(oldRow))));
+    }
+
     @Test
     void storageAdvertisesItIsPersistent() {
         assertThat(tableStorage.isVolatile(), is(false));
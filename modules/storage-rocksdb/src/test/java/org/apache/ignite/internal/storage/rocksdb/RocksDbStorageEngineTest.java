@@ -18,6 +18,9 @@
 package org.apache.ignite.internal.storage.rocksdb;
 
 import static org.apache.ignite.internal.storage.BaseMvStoragesTest.getOrCreateMvPartition;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.NO_COMPRESSION;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.NO_FILTER;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.ZSTD_COMPRESSION;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -28,6 +31,7 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.schema.configuration.TablesConfiguration;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataStorageConfiguration;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
@@ -111,4 +115,44 @@ public class RocksDbStorageEngineTest {
             table.stop();
         }
     }
+
+    @Test
+    void testCreateTableWithTunedDataRegion(
+            @InjectConfiguration(
+                    value = "mock.tables.foo.dataStorage{name=" + RocksDbStorageEngine.ENGINE_NAME + ", dataRegion=tuned}"
+            )
+            TablesConfiguration tablesConfig
+    ) {
+        CompletableFuture<Void> engineConfigChangeFuture = engineConfig.regions()
+                .change(c -> c.create("tuned", rocksDbDataRegionChange -> rocksDbDataRegionChange
+                        .changeBlockSize(4 * 1024)
+                        .changeFilter(NO_FILTER)
+                        .changeUncompressedLevels(0)
+                        .changeCompression(ZSTD_COMPRESSION)
+                        .changeBottommostCompression(NO_COMPRESSION)
+                        .changePartitionedIndexFilters(true)
+                ));
+
+        assertThat(engineConfigChangeFuture, willCompleteSuccessfully());
+
+        MvTableStorage table = engine.createMvTable(tablesConfig.tables().get("foo"), tablesConfig);
+
+        table.start();
+
+        try {
+            MvPartitionStorage partitionStorage = getOrCreateMvPartition(table, 1);
+
+            partitionStorage.runConsistently(() -> {
+                partitionStorage.lastApplied(10, 1);
+
+                return null;
+            });
+
+            assertThat(partitionStorage.flush(), willCompleteSuccessfully());
+
+            assertThat(partitionStorage.persistedIndex(), is(10L));
+        } finally {
+            table.stop();
+        }
+    }
 }
@@ -190,6 +190,7 @@ public class ItTablePersistenceTest extends ItAbstractListenerSnapshotTest<Parti
                 Int2ObjectMaps.singleton(0, service),
                 1,
                 consistentIdToNode,
+                () -> service.clusterService().topologyService().localMember(),
                 txManager,
                 mock(MvTableStorage.class),
                 new TestTxStateTableStorage(),
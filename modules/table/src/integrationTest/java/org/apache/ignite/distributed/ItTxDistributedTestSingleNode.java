@@ -335,6 +335,10 @@ public class ItTxDistributedTestSingleNode extends TxAbstractTest {
 
         assertNotNull(clientTxManager);
 
+        Supplier<ClusterNode> localNode = startClient()
+                ? client.topologyService()::localMember
+                : () -> consistentIdToNode.apply(localNodeName);
+
         igniteTransactions = new IgniteTransactionsImpl(clientTxManager);
 
         this.accounts = new TableImpl(new InternalTableImpl(
@@ -343,6 +347,7 @@ public class ItTxDistributedTestSingleNode extends TxAbstractTest {
                 accRaftClients,
                 1,
                 consistentIdToNode,
+                localNode,
                 clientTxManager,
                 Mockito.mock(MvTableStorage.class),
                 Mockito.mock(TxStateTableStorage.class),
@@ -356,6 +361,7 @@ public class ItTxDistributedTestSingleNode extends TxAbstractTest {
                 custRaftClients,
                 1,
                 consistentIdToNode,
+                localNode,
                 clientTxManager,
                 Mockito.mock(MvTableStorage.class),
                 Mockito.mock(TxStateTableStorage.class),
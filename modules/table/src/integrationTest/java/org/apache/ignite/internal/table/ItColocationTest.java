@@ -226,6 +226,7 @@ public class ItColocationTest {
                 partRafts,
                 PARTS,
                 name -> clusterNode,
+                () -> clusterNode,
                 txManager,
                 Mockito.mock(MvTableStorage.class),
                 new TestTxStateTableStorage(),
@@ -33,6 +33,7 @@ import org.apache.ignite.internal.schema.SchemaMismatchException;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.schema.row.RowAssembler;
+import org.apache.ignite.internal.table.TableRow;
 import org.apache.ignite.table.Tuple;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -64,6 +65,12 @@ public class TupleMarshallerImpl implements TupleMarshaller {
         try {
             SchemaDescriptor schema = schemaReg.schema();
 
+            Row row = TableRow.unwrap(tuple);
+
+            if (row != null && row.schemaVersion() == schema.version() && tuple.columnCount() == schema.length()) {
+                return row;
+            }
+
             InternalTuple keyTuple0 = toInternalTuple(schema, tuple, true);
             InternalTuple valTuple0 = toInternalTuple(schema, tuple, false);
 
@@ -146,6 +153,12 @@ public class TupleMarshallerImpl implements TupleMarshaller {
         try {
             final SchemaDescriptor schema = schemaReg.schema();
 
+            Row row = TableRow.unwrap(keyTuple);
+
+            if (row != null && row.schemaVersion() == schema.version() && !row.hasValue()) {
+                return row;
+            }
+
             InternalTuple keyTuple0 = toInternalTuple(schema, keyTuple, true);
 
             if (keyTuple0.knownColumns() < keyTuple.columnCount()) {
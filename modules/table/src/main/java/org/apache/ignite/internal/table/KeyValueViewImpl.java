@@ -17,10 +17,12 @@
 
 package org.apache.ignite.internal.table;
 
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -36,6 +38,7 @@ import org.apache.ignite.internal.schema.marshaller.reflection.KvMarshallerImpl;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.internal.util.NearCache;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.NullableValue;
 import org.apache.ignite.lang.UnexpectedNullValueException;
@@ -56,6 +59,9 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     /** Key-value marshaller. */
     private volatile KvMarshaller<K, V> marsh;
 
+    /** Near cache of rows read outside of explicit transactions, {@code null} if the near cache is disabled. */
+    private final @Nullable NearCache<K, BinaryRow> nearCache;
+
     /**
      * Constructor.
      *
@@ -69,10 +75,30 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
             SchemaRegistry schemaReg,
             Mapper<K> keyMapper,
             Mapper<V> valueMapper
+    ) {
+        this(tbl, schemaReg, keyMapper, valueMapper, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tbl Table storage.
+     * @param schemaReg Schema registry.
+     * @param keyMapper Key class mapper.
+     * @param valueMapper Value class mapper.
+     * @param nearCache Near cache, {@code null} to disable near caching.
+     */
+    public KeyValueViewImpl(
+            InternalTable tbl,
+            SchemaRegistry schemaReg,
+            Mapper<K> keyMapper,
+            Mapper<V> valueMapper,
+            @Nullable NearCache<K, BinaryRow> nearCache
     ) {
         super(tbl, schemaReg);
 
         marshallerFactory = (schema) -> new KvMarshallerImpl<>(schema, keyMapper, valueMapper);
+        this.nearCache = nearCache;
     }
 
     /** {@inheritDoc} */
@@ -84,9 +110,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     /** {@inheritDoc} */
     @Override
     public @NotNull CompletableFuture<V> getAsync(@Nullable Transaction tx, @NotNull K key) {
-        BinaryRowEx keyRow = marshal(Objects.requireNonNull(key));
-
-        return tbl.get(keyRow, (InternalTransaction) tx).thenApply(this::unmarshallValue);
+        return getRow(tx, Objects.requireNonNull(key)).thenApply(this::unmarshallValue);
     }
 
     /** {@inheritDoc} */
@@ -98,9 +122,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     /** {@inheritDoc} */
     @Override
     public @NotNull CompletableFuture<NullableValue<V>> getNullableAsync(@Nullable Transaction tx, @NotNull K key) {
-        BinaryRowEx keyRow = marshal(Objects.requireNonNull(key));
-
-        return tbl.get(keyRow, (InternalTransaction) tx).thenApply(r -> r == null ? null : NullableValue.of(unmarshalNullableValue(r)));
+        return getRow(tx, Objects.requireNonNull(key)).thenApply(r -> r == null ? null : NullableValue.of(unmarshalNullableValue(r)));
     }
 
     /** {@inheritDoc} */
@@ -112,9 +134,8 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     /** {@inheritDoc} */
     @Override
     public @NotNull CompletableFuture<V> getOrDefaultAsync(@Nullable Transaction tx, @NotNull K key, V defaultValue) {
-        BinaryRowEx keyRow = marshal(Objects.requireNonNull(key));
-
-        return tbl.get(keyRow, (InternalTransaction) tx).thenApply(r -> IgniteUtils.nonNullOrElse(unmarshalNullableValue(r), defaultValue));
+        return getRow(tx, Objects.requireNonNull(key))
+                .thenApply(r -> IgniteUtils.nonNullOrElse(unmarshalNullableValue(r), defaultValue));
     }
 
     /** {@inheritDoc} */
@@ -126,7 +147,13 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     /** {@inheritDoc} */
     @Override
     public @NotNull CompletableFuture<Map<K, V>> getAllAsync(@Nullable Transaction tx, @NotNull Collection<K> keys) {
-        Collection<BinaryRowEx> rows = marshal(Objects.requireNonNull(keys));
+        Objects.requireNonNull(keys);
+
+        if (nearCache != null && tx == null) {
+            return getAllNear(keys);
+        }
+
+        Collection<BinaryRowEx> rows = marshal(keys);
 
         return tbl.getAll(rows, (InternalTransaction) tx).thenApply(this::unmarshalPairs);
     }
@@ -140,9 +167,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Boolean> containsAsync(@Nullable Transaction tx, @NotNull K key) {
-        BinaryRowEx keyRow = marshal(Objects.requireNonNull(key));
-
-        return tbl.get(keyRow, (InternalTransaction) tx).thenApply(Objects::nonNull);
+        return getRow(tx, Objects.requireNonNull(key)).thenApply(Objects::nonNull);
     }
 
     /** {@inheritDoc} */
@@ -156,7 +181,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<Void> putAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         BinaryRowEx row = marshal(Objects.requireNonNull(key), val);
 
-        return tbl.upsert(row, (InternalTransaction) tx);
+        return invalidateOnWrite(tx, key, tbl.upsert(row, (InternalTransaction) tx));
     }
 
     /** {@inheritDoc} */
@@ -170,7 +195,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<Void> putAllAsync(@Nullable Transaction tx, @NotNull Map<K, V> pairs) {
         Collection<BinaryRowEx> rows = marshal(Objects.requireNonNull(pairs));
 
-        return tbl.upsertAll(rows, (InternalTransaction) tx);
+        return invalidateOnWrite(tx, pairs.keySet(), tbl.upsertAll(rows, (InternalTransaction) tx));
     }
 
     /** {@inheritDoc} */
@@ -185,7 +210,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
         Objects.requireNonNull(key);
         Objects.requireNonNull(val);
 
-        return tbl.getAndUpsert(marshal(key, val), (InternalTransaction) tx).thenApply(this::unmarshallValue);
+        return invalidateOnWrite(tx, key, tbl.getAndUpsert(marshal(key, val), (InternalTransaction) tx)).thenApply(this::unmarshallValue);
     }
 
     /** {@inheritDoc} */
@@ -199,7 +224,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<NullableValue<V>> getNullableAndPutAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         BinaryRowEx row = marshal(Objects.requireNonNull(key), val);
 
-        return tbl.getAndUpsert(row, (InternalTransaction) tx)
+        return invalidateOnWrite(tx, key, tbl.getAndUpsert(row, (InternalTransaction) tx))
                        .thenApply(r -> r == null ? null : NullableValue.of(unmarshalNullableValue(r)));
     }
 
@@ -214,7 +239,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<Boolean> putIfAbsentAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         BinaryRowEx row = marshal(Objects.requireNonNull(key), val);
 
-        return tbl.insert(row, (InternalTransaction) tx);
+        return invalidateOnWrite(tx, key, tbl.insert(row, (InternalTransaction) tx));
     }
 
     /** {@inheritDoc} */
@@ -234,7 +259,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<Boolean> removeAsync(@Nullable Transaction tx, @NotNull K key) {
         BinaryRowEx row = marshal(Objects.requireNonNull(key));
 
-        return tbl.delete(row, (InternalTransaction) tx);
+        return invalidateOnWrite(tx, key, tbl.delete(row, (InternalTransaction) tx));
     }
 
     /** {@inheritDoc} */
@@ -242,7 +267,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<Boolean> removeAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         BinaryRowEx row = marshal(Objects.requireNonNull(key), val);
 
-        return tbl.deleteExact(row, (InternalTransaction) tx);
+        return invalidateOnWrite(tx, key, tbl.deleteExact(row, (InternalTransaction) tx));
     }
 
     /** {@inheritDoc} */
@@ -256,7 +281,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<Collection<K>> removeAllAsync(@Nullable Transaction tx, @NotNull Collection<K> keys) {
         Collection<BinaryRowEx> rows = marshal(Objects.requireNonNull(keys));
 
-        return tbl.deleteAll(rows, (InternalTransaction) tx).thenApply(this::unmarshalKeys);
+        return invalidateOnWrite(tx, keys, tbl.deleteAll(rows, (InternalTransaction) tx)).thenApply(this::unmarshalKeys);
     }
 
     /** {@inheritDoc} */
@@ -270,7 +295,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<V> getAndRemoveAsync(@Nullable Transaction tx, @NotNull K key) {
         BinaryRowEx keyRow = marshal(Objects.requireNonNull(key));
 
-        return tbl.getAndDelete(keyRow, (InternalTransaction) tx).thenApply(this::unmarshallValue);
+        return invalidateOnWrite(tx, key, tbl.getAndDelete(keyRow, (InternalTransaction) tx)).thenApply(this::unmarshallValue);
     }
 
     /** {@inheritDoc} */
@@ -284,7 +309,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<NullableValue<V>> getNullableAndRemoveAsync(@Nullable Transaction tx, @NotNull K key) {
         BinaryRowEx keyRow = marshal(Objects.requireNonNull(key));
 
-        return tbl.getAndDelete(keyRow, (InternalTransaction) tx)
+        return invalidateOnWrite(tx, key, tbl.getAndDelete(keyRow, (InternalTransaction) tx))
                        .thenApply(r -> r == null ? null : NullableValue.of(unmarshalNullableValue(r)));
     }
 
@@ -305,7 +330,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<Boolean> replaceAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         BinaryRowEx row = marshal(Objects.requireNonNull(key), val);
 
-        return tbl.replace(row, (InternalTransaction) tx);
+        return invalidateOnWrite(tx, key, tbl.replace(row, (InternalTransaction) tx));
     }
 
     /** {@inheritDoc} */
@@ -316,7 +341,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
         BinaryRowEx oldRow = marshal(key, oldVal);
         BinaryRowEx newRow = marshal(key, newVal);
 
-        return tbl.replace(oldRow, newRow, (InternalTransaction) tx);
+        return invalidateOnWrite(tx, key, tbl.replace(oldRow, newRow, (InternalTransaction) tx));
     }
 
     /** {@inheritDoc} */
@@ -331,7 +356,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
         Objects.requireNonNull(key);
         Objects.requireNonNull(val);
 
-        return tbl.getAndReplace(marshal(key, val), (InternalTransaction) tx).thenApply(this::unmarshallValue);
+        return invalidateOnWrite(tx, key, tbl.getAndReplace(marshal(key, val), (InternalTransaction) tx)).thenApply(this::unmarshallValue);
     }
 
     /** {@inheritDoc} */
@@ -345,7 +370,7 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
     public @NotNull CompletableFuture<NullableValue<V>> getNullableAndReplaceAsync(@Nullable Transaction tx, @NotNull K key, V val) {
         BinaryRowEx row = marshal(Objects.requireNonNull(key), val);
 
-        return tbl.getAndReplace(row, (InternalTransaction) tx)
+        return invalidateOnWrite(tx, key, tbl.getAndReplace(row, (InternalTransaction) tx))
                        .thenApply(r -> r == null ? null : NullableValue.of(unmarshalNullableValue(r)));
     }
 
@@ -393,6 +418,139 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
         throw new UnsupportedOperationException("Not implemented yet.");
     }
 
+    /**
+     * Reads a row by key, serving reads outside of explicit transactions from the near cache, if enabled.
+     *
+     * @param tx Transaction or {@code null}.
+     * @param key Key object.
+     * @return Future with a row or {@code null} if there is no such key.
+     */
+    private CompletableFuture<BinaryRow> getRow(@Nullable Transaction tx, K key) {
+        NearCache<K, BinaryRow> nearCache = this.nearCache;
+
+        if (nearCache == null || tx != null) {
+            return tbl.get(marshal(key), (InternalTransaction) tx);
+        }
+
+        NearCache.Entry<BinaryRow> cached = nearCache.get(key);
+
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached.value());
+        }
+
+        BinaryRowEx keyRow = marshal(key);
+
+        int partition = tbl.partition(keyRow);
+        long partitionVersion = nearCache.partitionVersion(partition);
+        long stamp = nearCache.stamp();
+
+        return tbl.get(keyRow, null).thenApply(row -> {
+            nearCache.put(key, row, partition, partitionVersion, stamp);
+
+            return row;
+        });
+    }
+
+    /**
+     * Reads rows by keys outside of an explicit transaction, taking the rows that are present in the near cache from it and loading
+     * the rest.
+     *
+     * @param keys Key objects.
+     * @return Future with key-value pairs.
+     */
+    private CompletableFuture<Map<K, V>> getAllNear(Collection<K> keys) {
+        assert nearCache != null;
+
+        Map<K, V> res = new HashMap<>();
+        List<K> missed = new ArrayList<>();
+
+        for (K key : keys) {
+            NearCache.Entry<BinaryRow> cached = nearCache.get(Objects.requireNonNull(key));
+
+            if (cached == null) {
+                missed.add(key);
+            } else if (cached.value() != null) {
+                res.put(key, unmarshalNullableValue(cached.value()));
+            }
+        }
+
+        if (missed.isEmpty()) {
+            return CompletableFuture.completedFuture(res);
+        }
+
+        Collection<BinaryRowEx> keyRows = marshal(missed);
+
+        var partitionVersions = new Int2LongOpenHashMap();
+
+        for (BinaryRowEx keyRow : keyRows) {
+            int partition = tbl.partition(keyRow);
+
+            partitionVersions.put(partition, nearCache.partitionVersion(partition));
+        }
+
+        long stamp = nearCache.stamp();
+
+        return tbl.getAll(keyRows, null).thenApply(rows -> {
+            KvMarshaller<K, V> marsh = marshaller(schemaReg.lastSchemaVersion());
+
+            try {
+                // Only the rows that were found are cached, because the response does not preserve the order of the keys.
+                for (Row row : schemaReg.resolve(rows)) {
+                    K key = marsh.unmarshalKey(row);
+                    int partition = tbl.partition(row);
+
+                    res.put(key, marsh.unmarshalValue(row));
+
+                    nearCache.put(key, row, partition, partitionVersions.get(partition), stamp);
+                }
+            } catch (MarshallerException e) {
+                throw new org.apache.ignite.lang.MarshallerException(e);
+            }
+
+            return res;
+        });
+    }
+
+    /**
+     * Removes a key from the near cache, if enabled, when a write operation is committed.
+     *
+     * @param tx Transaction or {@code null}.
+     * @param key Key object.
+     * @param fut Future of the write operation.
+     * @return Future of the write operation.
+     */
+    private <T> CompletableFuture<T> invalidateOnWrite(@Nullable Transaction tx, K key, CompletableFuture<T> fut) {
+        return invalidateOnWrite(tx, List.of(key), fut);
+    }
+
+    /**
+     * Removes keys from the near cache, if enabled, when a write operation is committed: on completion of the operation if it runs in an
+     * implicit transaction, or on completion of the explicit transaction otherwise. Reads that are served before that see the previously
+     * committed values, which are still valid.
+     *
+     * @param tx Transaction or {@code null}.
+     * @param keys Key objects.
+     * @param fut Future of the write operation.
+     * @return Future of the write operation.
+     */
+    private <T> CompletableFuture<T> invalidateOnWrite(@Nullable Transaction tx, Collection<K> keys, CompletableFuture<T> fut) {
+        NearCache<K, BinaryRow> nearCache = this.nearCache;
+
+        if (nearCache == null) {
+            return fut;
+        }
+
+        keys.forEach(nearCache::invalidate);
+
+        if (tx == null) {
+            return fut.whenComplete((res, err) -> keys.forEach(nearCache::invalidate));
+        }
+
+        ((InternalTransaction) tx).finishFuture().whenComplete((res, err) -> keys.forEach(nearCache::invalidate));
+
+        return fut;
+    }
+
     /**
      * Returns marshaller.
      *
@@ -27,7 +27,9 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
@@ -43,10 +45,12 @@ import org.apache.ignite.internal.table.distributed.IndexLocker;
 import org.apache.ignite.internal.table.distributed.SortedIndexLocker;
 import org.apache.ignite.internal.table.distributed.TableSchemaAwareIndexStorage;
 import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.util.NearCache;
 import org.apache.ignite.lang.ErrorGroups;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.table.KeyValueView;
+import org.apache.ignite.table.NearCacheOptions;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.Table;
 import org.apache.ignite.table.Tuple;
@@ -75,6 +79,12 @@ public class TableImpl implements Table {
     private final Map<UUID, IndexStorageAdapterFactory> indexStorageAdapterFactories = new ConcurrentHashMap<>();
     private final Map<UUID, IndexLockerFactory> indexLockerFactories = new ConcurrentHashMap<>();
 
+    /**
+     * Versions of the partitions. A version is positive while the partition has a local replica, and changes every time the local replica
+     * applies committed updates, starts or stops.
+     */
+    private final AtomicLongArray partitionVersions;
+
     /**
      * Constructor.
      *
@@ -86,6 +96,8 @@ public class TableImpl implements Table {
         this.tbl = tbl;
         this.lockManager = lockManager;
         // this.activeIndexIds = activeIndexIds;
+
+        partitionVersions = new AtomicLongArray(tbl.partitions());
     }
 
     /**
@@ -102,6 +114,8 @@ public class TableImpl implements Table {
         this.lockManager = lockManager;
 
         // activeIndexIds = List::of;
+
+        partitionVersions = new AtomicLongArray(tbl.partitions());
     }
 
     /**
@@ -175,12 +189,82 @@ public class TableImpl implements Table {
         return new KeyValueViewImpl<>(tbl, schemaReg, keyMapper, valMapper);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <K, V> KeyValueView<K, V> keyValueView(Mapper<K> keyMapper, Mapper<V> valMapper, NearCacheOptions nearCacheOptions) {
+        Objects.requireNonNull(nearCacheOptions);
+
+        var nearCache = new NearCache<K, BinaryRow>(
+                nearCacheOptions.maxEntries(),
+                nearCacheOptions.expireAfterWriteMillis(),
+                this::partitionVersion,
+                this::partitionUpdatesTracked
+        );
+
+        return new KeyValueViewImpl<>(tbl, schemaReg, keyMapper, valMapper, nearCache);
+    }
+
     /** {@inheritDoc} */
     @Override
     public KeyValueView<Tuple, Tuple> keyValueView() {
         return new KeyValueBinaryViewImpl(tbl, schemaReg);
     }
 
+    /**
+     * Notifies the table that a local replica of the partition has applied committed updates, which invalidates the entries of the
+     * partition in near caches of the table views.
+     *
+     * @param partId Partition id.
+     */
+    public void onPartitionUpdatesCommitted(int partId) {
+        updatePartitionVersion(partId, ver -> ver > 0 ? ver + 1 : ver - 1);
+    }
+
+    /**
+     * Notifies the table that a local replica of the partition has started, so that committed updates of the partition are tracked.
+     *
+     * @param partId Partition id.
+     */
+    public void onPartitionReplicaStarted(int partId) {
+        updatePartitionVersion(partId, ver -> Math.abs(ver) + 1);
+    }
+
+    /**
+     * Notifies the table that the local replica of the partition has stopped, so that committed updates of the partition are not tracked
+     * anymore.
+     *
+     * @param partId Partition id.
+     */
+    public void onPartitionReplicaStopped(int partId) {
+        updatePartitionVersion(partId, ver -> -Math.abs(ver) - 1);
+    }
+
+    /**
+     * Returns the version of the partition, see {@link #onPartitionUpdatesCommitted(int)}.
+     *
+     * @param partId Partition id.
+     * @return Partition version.
+     */
+    long partitionVersion(int partId) {
+        return partId < partitionVersions.length() ? partitionVersions.get(partId) : 0;
+    }
+
+    /**
+     * Returns {@code true} if the version of the partition changes on every committed update, that is the partition has a local replica.
+     *
+     * @param partId Partition id.
+     * @return {@code true} if committed updates of the partition are tracked.
+     */
+    boolean partitionUpdatesTracked(int partId) {
+        return partitionVersion(partId) > 0;
+    }
+
+    private void updatePartitionVersion(int partId, LongUnaryOperator update) {
+        if (partId < partitionVersions.length()) {
+            partitionVersions.updateAndGet(partId, update);
+        }
+    }
+
     /**
      * Returns a partition for a key tuple.
      *
@@ -22,6 +22,7 @@ import org.apache.ignite.internal.schema.Column;
 import org.apache.ignite.internal.schema.row.Row;
 import org.apache.ignite.table.Tuple;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Row to Tuple adapter.
@@ -59,6 +60,16 @@ public class TableRow extends MutableRowTupleAdapter {
         return new TableRow(row);
     }
 
+    /**
+     * Returns the row the tuple was created from by {@link #tuple(Row)}, if the tuple has not been modified since then.
+     *
+     * @param tuple Tuple.
+     * @return Row or {@code null} if the tuple is not backed by a row.
+     */
+    public static @Nullable Row unwrap(Tuple tuple) {
+        return tuple instanceof TableRow ? ((TableRow) tuple).row : null;
+    }
+
     /**
      * Constructor.
      *
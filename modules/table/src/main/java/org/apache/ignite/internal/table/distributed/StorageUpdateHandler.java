@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -62,6 +63,9 @@ public class StorageUpdateHandler {
     /** Data storage configuration. */
     private final DataStorageConfiguration dsCfg;
 
+    /** Estimated number of stale row versions, see {@link #estimatedGarbage()}. */
+    private final AtomicLong estimatedGarbage = new AtomicLong();
+
     /**
      * The constructor.
      *
@@ -133,6 +137,8 @@ public class StorageUpdateHandler {
             if (oldRow != null) {
                 // Previous uncommitted row should be removed from indexes.
                 tryRemovePreviousWritesIndex(rowId, oldRow);
+            } else {
+                estimatedGarbage.incrementAndGet();
             }
 
             if (onReplication != null) {
@@ -197,6 +203,8 @@ public class StorageUpdateHandler {
                     if (oldRow != null) {
                         // Previous uncommitted row should be removed from indexes.
                         tryRemovePreviousWritesIndex(rowId, oldRow);
+                    } else {
+                        estimatedGarbage.incrementAndGet();
                     }
 
                     rowIds.add(rowId);
@@ -258,32 +266,43 @@ public class StorageUpdateHandler {
      */
     public void handleTransactionAbortion(Set<RowId> pendingRowIds, Runnable onReplication) {
         storage.runConsistently(() -> {
-            for (RowId rowId : pendingRowIds) {
-                try (Cursor<ReadResult> cursor = storage.scanVersions(rowId)) {
-                    if (!cursor.hasNext()) {
-                        continue;
-                    }
+            abortWrites(pendingRowIds);
+
+            onReplication.run();
+
+            return null;
+        });
+    }
 
-                    ReadResult item = cursor.next();
+    /**
+     * Rolls back the write intents of an aborted transaction, must be called within {@link PartitionDataStorage#runConsistently}.
+     *
+     * @param pendingRowIds Row ids of write-intents to be rolled back.
+     */
+    public void abortWrites(Set<RowId> pendingRowIds) {
+        for (RowId rowId : pendingRowIds) {
+            try (Cursor<ReadResult> cursor = storage.scanVersions(rowId)) {
+                if (!cursor.hasNext()) {
+                    continue;
+                }
 
-                    assert item.isWriteIntent();
+                ReadResult item = cursor.next();
 
-                    BinaryRow rowToRemove = item.binaryRow();
+                assert item.isWriteIntent();
 
-                    if (rowToRemove == null) {
-                        continue;
-                    }
+                BinaryRow rowToRemove = item.binaryRow();
 
-                    tryRemoveFromIndexes(rowToRemove, rowId, cursor);
+                if (rowToRemove == null) {
+                    continue;
                 }
-            }
 
-            pendingRowIds.forEach(storage::abortWrite);
+                tryRemoveFromIndexes(rowToRemove, rowId, cursor);
+            }
+        }
 
-            onReplication.run();
+        pendingRowIds.forEach(storage::abortWrite);
 
-            return null;
-        });
+        decrementEstimatedGarbage(pendingRowIds.size());
     }
 
     /**
@@ -351,24 +370,36 @@ public class StorageUpdateHandler {
     }
 
     /**
-     * Tries removing {@code count} oldest stale entries and their indexes.
+     * Tries removing {@code count} oldest stale entries and their indexes inside a single
+     * {@link MvPartitionStorage#runConsistently(WriteClosure)} closure.
      * If there's less entries that can be removed, then exits prematurely.
      *
      * @param lowWatermark Low watermark for the vacuum.
      * @param count Count of entries to GC.
+     * @return Number of garbage collected entries, less than {@code count} if there was nothing more to collect.
+     * @see MvPartitionStorage#pollForVacuum(HybridTimestamp)
      */
-    private void vacuumBatch(HybridTimestamp lowWatermark, int count) {
-        storage.runConsistently(() -> {
-            for (int i = 0; i < count; i++) {
-                if (!internalVacuum(lowWatermark)) {
-                    break;
-                }
+    public int vacuumBatch(HybridTimestamp lowWatermark, int count) {
+        return storage.runConsistently(() -> {
+            int vacuumed = 0;
+
+            while (vacuumed < count && internalVacuum(lowWatermark)) {
+                vacuumed++;
             }
 
-            return null;
+            return vacuumed;
         });
     }
 
+    /**
+     * Returns the estimated number of stale row versions of the partition, that is used to prioritize the garbage collection of
+     * partitions. The estimate counts the added write intents that have not been aborted or garbage collected yet, so it overestimates
+     * the garbage of inserts; it is reset when the garbage collection finds nothing to collect.
+     */
+    public long estimatedGarbage() {
+        return estimatedGarbage.get();
+    }
+
     /**
      * Executes garbage collection. Must be called inside a {@link MvPartitionStorage#runConsistently(WriteClosure)} closure.
      *
@@ -380,9 +411,13 @@ public class StorageUpdateHandler {
 
         if (vacuumed == null) {
             // Nothing was garbage collected.
+            estimatedGarbage.set(0);
+
             return false;
         }
 
+        decrementEstimatedGarbage(1);
+
         BinaryRow binaryRow = vacuumed.binaryRow();
 
         assert binaryRow != null;
@@ -396,6 +431,10 @@ public class StorageUpdateHandler {
         return true;
     }
 
+    private void decrementEstimatedGarbage(long delta) {
+        estimatedGarbage.updateAndGet(garbage -> Math.max(0, garbage - delta));
+    }
+
     /**
      * Adds a binary row to the indexes, if the tombstone then skips such operation.
      */
@@ -836,6 +836,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
                                         PartitionDataStorage partitionDataStorage = partitionDataStorageFut.join();
 
+                                        table.onPartitionReplicaStarted(partId);
+
                                         try {
                                             // TODO: use RaftManager interface, see https://issues.apache.org/jira/browse/IGNITE-18273
                                             ((Loza) raftMgr).startRaftGroupNode(
@@ -845,7 +847,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                                                             partitionDataStorage,
                                                             storageUpdateHandler,
                                                             txStatePartitionStorage,
-                                                            safeTime
+                                                            safeTime,
+                                                            () -> table.onPartitionUpdatesCommitted(partId)
                                                     ),
                                                     new RebalanceRaftGroupEventsListener(
                                                             metaStorageMgr,
@@ -1162,7 +1165,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         TxStateTableStorage txStateStorage = createTxStateTableStorage(tableCfg);
 
         InternalTableImpl internalTable = new InternalTableImpl(name, tblId, new Int2ObjectOpenHashMap<>(partitions),
-                partitions, clusterNodeResolver, txManager, tableStorage, txStateStorage, replicaSvc, clock);
+                partitions, clusterNodeResolver, clusterService.topologyService()::localMember, txManager, tableStorage, txStateStorage,
+                replicaSvc, clock);
 
         // TODO: IGNITE-16288 directIndexIds should use async configuration API
         var table = new TableImpl(internalTable, lockMgr, () -> CompletableFuture.supplyAsync(() -> directIndexIds()));
@@ -1666,6 +1670,15 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         return unmodifiableMap(tablesByIdVv.latest());
     }
 
+    /**
+     * Returns the garbage collector of the multi-versioned storages of the tables.
+     *
+     * @return Garbage collector.
+     */
+    public MvGc mvGc() {
+        return mvGc;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Table table(String name) {
@@ -2079,7 +2092,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                                 partitionDataStorage,
                                 storageUpdateHandler,
                                 txStatePartitionStorage,
-                                safeTime
+                                safeTime,
+                                () -> tbl.onPartitionUpdatesCommitted(partId)
                         );
 
                         RaftGroupEventsListener raftGrpEvtsLsnr = new RebalanceRaftGroupEventsListener(
@@ -2097,6 +2111,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
                         var raftNodeId = new RaftNodeId(replicaGrpId, serverPeer);
 
+                        tbl.onPartitionReplicaStarted(partId);
+
                         try {
                             // TODO: use RaftManager interface, see https://issues.apache.org/jira/browse/IGNITE-18273
                             ((Loza) raftMgr).startRaftGroupNode(
@@ -2369,7 +2385,11 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                     return tablesByIdVv.get(evt.revision())
                             // TODO: IGNITE-18703 Destroy raft log and meta
                             .thenCombine(mvGc.removeStorage(tablePartitionId), (tables, unused) -> {
-                                InternalTable internalTable = tables.get(tableId).internalTable();
+                                TableImpl table = tables.get(tableId);
+
+                                table.onPartitionReplicaStopped(partitionId);
+
+                                InternalTable internalTable = table.internalTable();
 
                                 return allOf(
                                         internalTable.storage().destroyPartition(partitionId),
@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.table.distributed.TableMessageGroup.GRO
 
 import org.apache.ignite.internal.table.distributed.command.FinishTxCommand;
 import org.apache.ignite.internal.table.distributed.command.TablePartitionIdMessage;
+import org.apache.ignite.internal.table.distributed.command.TxBatchCommand;
 import org.apache.ignite.internal.table.distributed.command.TxCleanupCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateAllCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateCommand;
@@ -152,6 +153,9 @@ public interface TableMessageGroup {
         /** Message type for {@link UpdateCommand}. */
         short UPDATE = 43;
 
+        /** Message type for {@link TxBatchCommand}. */
+        short TX_BATCH = 44;
+
         /** Message type for {@link TablePartitionIdMessage}. */
         short TABLE_PARTITION_ID = 61;
     }
@@ -41,4 +41,10 @@ public interface FinishTxCommand extends PartitionCommand {
      * Returns an ordered replication groups ids.
      */
     List<TablePartitionIdMessage> tablePartitionIds();
+
+    /**
+     * Returns {@code true} if the write intents of the transaction are resolved by this command as well, which is the case if the
+     * partition is the only one enlisted in the transaction.
+     */
+    boolean cleanup();
 }
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.command;
+
+import java.util.List;
+import org.apache.ignite.internal.replicator.command.SafeTimePropagatingCommand;
+import org.apache.ignite.internal.table.distributed.TableMessageGroup;
+import org.apache.ignite.network.annotations.Transferable;
+
+/**
+ * State machine command that applies the {@link FinishTxCommand finish} and {@link TxCleanupCommand cleanup} commands of several
+ * transactions at once, to write a single RAFT log entry for them.
+ *
+ * <p>The result of the command is {@code null} if all the commands have been applied, otherwise it is a list of the results of the
+ * commands in the same order: {@code null} for an applied command and an exception for a failed one.
+ */
+@Transferable(TableMessageGroup.Commands.TX_BATCH)
+public interface TxBatchCommand extends SafeTimePropagatingCommand {
+    /**
+     * Returns the commands of the batch, each of them is either a {@link FinishTxCommand} or a {@link TxCleanupCommand}.
+     */
+    List<PartitionCommand> commands();
+}
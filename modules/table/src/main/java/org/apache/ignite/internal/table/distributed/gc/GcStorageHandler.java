@@ -41,6 +41,13 @@ class GcStorageHandler {
      */
     final AtomicReference<CompletableFuture<Void>> gcInProgressFuture = new AtomicReference<>();
 
+    /**
+     * Size of the next garbage collection batch, adapted to the duration of the previous batches.
+     *
+     * @see MvGc#nextBatchSize(int, long)
+     */
+    volatile int batchSize = MvGc.GC_BATCH_SIZE;
+
     GcStorageHandler(StorageUpdateHandler storageUpdateHandler) {
         this.storageUpdateHandler = storageUpdateHandler;
     }
@@ -21,6 +21,8 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.internal.thread.NamedThreadFactory.threadPrefix;
 import static org.apache.ignite.internal.util.IgniteUtils.shutdownAndAwaitTermination;
 
+import java.util.Comparator;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -30,6 +32,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.close.ManuallyCloseable;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -48,14 +51,25 @@ import org.jetbrains.annotations.TestOnly;
 /**
  * Garbage collector for multi-versioned storages and their indexes in the background.
  *
+ * <p>Garbage of a partition is collected in batches, each batch inside a single consistency closure of the storage. The batch size adapts
+ * to the batch duration: it grows while the batches are full and short, and shrinks when a batch takes too long. When the low watermark
+ * is updated, the partitions with the most {@link StorageUpdateHandler#estimatedGarbage() estimated garbage} are collected first. If
+ * {@link TablesConfiguration#gcTimeBudget() time budget} is less than 100%, the collector pauses between the batches of a partition.
+ *
  * @see MvPartitionStorage#pollForVacuum(HybridTimestamp)
  */
 public class MvGc implements ManuallyCloseable {
     private static final IgniteLogger LOG = Loggers.forClass(MvGc.class);
 
-    /** GC batch size for the storage. */
+    /** Initial GC batch size for the storage. */
     static final int GC_BATCH_SIZE = 5;
 
+    /** Maximum GC batch size for the storage. */
+    static final int MAX_GC_BATCH_SIZE = 1024;
+
+    /** GC batch duration, in nanoseconds, above which the batch size is decreased. */
+    static final long GC_BATCH_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
     /** Node name. */
     private final String nodeName;
 
@@ -77,6 +91,12 @@ public class MvGc implements ManuallyCloseable {
     /** Storage handler by table partition ID for which garbage will be collected. */
     private final ConcurrentMap<TablePartitionId, GcStorageHandler> storageHandlerByPartitionId = new ConcurrentHashMap<>();
 
+    /** Number of garbage collected row versions. */
+    private final LongAdder collectedVersions = new LongAdder();
+
+    /** Number of garbage collection batches. */
+    private final LongAdder batches = new LongAdder();
+
     /**
      * Constructor.
      *
@@ -189,67 +209,158 @@ public class MvGc implements ManuallyCloseable {
         }
     }
 
+    /**
+     * Returns the number of garbage collected row versions.
+     */
+    public long collectedVersions() {
+        return collectedVersions.sum();
+    }
+
+    /**
+     * Returns the number of garbage collection batches.
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the estimated number of stale row versions of all storages.
+     *
+     * @see StorageUpdateHandler#estimatedGarbage()
+     */
+    public long garbageBacklog() {
+        long backlog = 0;
+
+        for (GcStorageHandler storageHandler : storageHandlerByPartitionId.values()) {
+            backlog += storageHandler.storageUpdateHandler.estimatedGarbage();
+        }
+
+        return backlog;
+    }
+
     private void initNewGcBusy() {
-        storageHandlerByPartitionId.keySet().forEach(this::scheduleGcForStorage);
+        // Partitions with more garbage go first.
+        storageHandlerByPartitionId.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<TablePartitionId, GcStorageHandler> e) -> e.getValue().storageUpdateHandler.estimatedGarbage()
+                ).reversed())
+                .forEach(e -> scheduleGcForStorage(e.getKey()));
     }
 
     private void scheduleGcForStorage(TablePartitionId tablePartitionId) {
-        executor.submit(() -> inBusyLock(() -> {
-            CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.submit(() -> inBusyLock(() -> collectGarbageBusy(tablePartitionId)));
+    }
 
-            GcStorageHandler storageHandler = storageHandlerByPartitionId.compute(tablePartitionId, (tablePartId, gcStorageHandler) -> {
-                if (gcStorageHandler == null) {
-                    // Storage has been removed from garbage collection.
-                    return null;
-                }
+    private void scheduleGcForStorage(TablePartitionId tablePartitionId, long delayNanos) {
+        if (delayNanos <= 0) {
+            scheduleGcForStorage(tablePartitionId);
+        } else {
+            CompletableFuture.runAsync(
+                    () -> inBusyLock(() -> collectGarbageBusy(tablePartitionId)),
+                    CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, executor)
+            );
+        }
+    }
 
-                CompletableFuture<Void> inProgressFuture = gcStorageHandler.gcInProgressFuture.get();
+    private void collectGarbageBusy(TablePartitionId tablePartitionId) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
 
-                if (inProgressFuture == null || inProgressFuture.isDone()) {
-                    boolean casResult = gcStorageHandler.gcInProgressFuture.compareAndSet(inProgressFuture, future);
+        GcStorageHandler storageHandler = storageHandlerByPartitionId.compute(tablePartitionId, (tablePartId, gcStorageHandler) -> {
+            if (gcStorageHandler == null) {
+                // Storage has been removed from garbage collection.
+                return null;
+            }
 
-                    assert casResult : tablePartId;
-                } else {
-                    inProgressFuture.whenComplete((unused, throwable) -> scheduleGcForStorage(tablePartitionId));
-                }
+            CompletableFuture<Void> inProgressFuture = gcStorageHandler.gcInProgressFuture.get();
 
-                return gcStorageHandler;
-            });
+            if (inProgressFuture == null || inProgressFuture.isDone()) {
+                boolean casResult = gcStorageHandler.gcInProgressFuture.compareAndSet(inProgressFuture, future);
 
-            if (storageHandler == null) {
-                // Storage has been removed from garbage collection.
-                return;
+                assert casResult : tablePartId;
+            } else {
+                inProgressFuture.whenComplete((unused, throwable) -> scheduleGcForStorage(tablePartitionId));
             }
 
-            if (storageHandler.gcInProgressFuture.get() != future) {
-                // Someone in parallel is already collecting garbage, we will try once again after completion of gcInProgressFuture.
+            return gcStorageHandler;
+        });
+
+        if (storageHandler == null) {
+            // Storage has been removed from garbage collection.
+            return;
+        }
+
+        if (storageHandler.gcInProgressFuture.get() != future) {
+            // Someone in parallel is already collecting garbage, we will try once again after completion of gcInProgressFuture.
+            return;
+        }
+
+        long pauseNanos;
+
+        try {
+            HybridTimestamp lowWatermark = lowWatermarkReference.get();
+
+            assert lowWatermark != null : tablePartitionId;
+
+            // If storage has been deleted, then for now we will stop collecting garbage for this storage.
+            if (!storageHandlerByPartitionId.containsKey(tablePartitionId)) {
                 return;
             }
 
-            try {
-                for (int i = 0; i < GC_BATCH_SIZE; i++) {
-                    HybridTimestamp lowWatermark = lowWatermarkReference.get();
+            int batchSize = storageHandler.batchSize;
 
-                    assert lowWatermark != null : tablePartitionId;
+            long startNanos = System.nanoTime();
 
-                    // If storage has been deleted or there is no garbage, then for now we will stop collecting garbage for this storage.
-                    if (!storageHandlerByPartitionId.containsKey(tablePartitionId)
-                            || !storageHandler.storageUpdateHandler.vacuum(lowWatermark)) {
-                        return;
-                    }
-                }
-            } catch (Throwable t) {
-                future.completeExceptionally(t);
+            int vacuumed = storageHandler.storageUpdateHandler.vacuumBatch(lowWatermark, batchSize);
+
+            long durationNanos = System.nanoTime() - startNanos;
 
+            collectedVersions.add(vacuumed);
+            batches.increment();
+
+            // If there is no more garbage, then for now we will stop collecting garbage for this storage.
+            if (vacuumed < batchSize) {
                 return;
-            } finally {
-                if (!future.isCompletedExceptionally()) {
-                    future.complete(null);
-                }
             }
 
-            scheduleGcForStorage(tablePartitionId);
-        }));
+            storageHandler.batchSize = nextBatchSize(batchSize, durationNanos);
+
+            pauseNanos = pauseNanos(durationNanos);
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+
+            return;
+        } finally {
+            if (!future.isCompletedExceptionally()) {
+                future.complete(null);
+            }
+        }
+
+        scheduleGcForStorage(tablePartitionId, pauseNanos);
+    }
+
+    /**
+     * Returns the size of the next batch after a full batch: decreased if the batch took too long, increased otherwise.
+     *
+     * @param batchSize Batch size.
+     * @param batchDurationNanos Batch duration, in nanoseconds.
+     */
+    static int nextBatchSize(int batchSize, long batchDurationNanos) {
+        if (batchDurationNanos > GC_BATCH_DURATION_NANOS) {
+            return Math.max(1, batchSize / 2);
+        }
+
+        return Math.min(MAX_GC_BATCH_SIZE, batchSize * 2);
+    }
+
+    /**
+     * Returns the pause before the next batch, so that the garbage collection of a partition does not exceed the time budget.
+     *
+     * @param batchDurationNanos Batch duration, in nanoseconds.
+     */
+    private long pauseNanos(long batchDurationNanos) {
+        int timeBudget = tablesConfig.gcTimeBudget().value();
+
+        return batchDurationNanos * (100 - timeBudget) / timeBudget;
     }
 
     private <T> T inBusyLock(Supplier<T> supplier) {
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.gc;
+
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.metrics.MetricSource;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metric source of the garbage collector of multi-versioned storages: collected row versions and garbage backlog.
+ */
+public class MvGcMetricSource implements MetricSource {
+    /** Source name. */
+    public static final String SOURCE_NAME = "table.gc";
+
+    /** Garbage collector. */
+    private final MvGc mvGc;
+
+    /** True, if source is enabled, false otherwise. */
+    private boolean enabled;
+
+    /**
+     * Constructor.
+     *
+     * @param mvGc Garbage collector.
+     */
+    public MvGcMetricSource(MvGc mvGc) {
+        this.mvGc = mvGc;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String name() {
+        return SOURCE_NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized @Nullable MetricSet enable() {
+        if (enabled) {
+            return null;
+        }
+
+        MetricSetBuilder builder = new MetricSetBuilder(SOURCE_NAME);
+
+        builder.longGauge("CollectedVersions", "Number of garbage collected row versions.", mvGc::collectedVersions);
+        builder.longGauge("Batches", "Number of garbage collection batches.", mvGc::batches);
+        builder.longGauge("GarbageBacklog", "Estimated number of stale row versions that are not garbage collected yet.",
+                mvGc::garbageBacklog);
+
+        enabled = true;
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void disable() {
+        enabled = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean enabled() {
+        return enabled;
+    }
+}
@@ -22,11 +22,14 @@ import static org.apache.ignite.internal.tx.TxState.COMMITED;
 import static org.apache.ignite.lang.ErrorGroups.Transactions.TX_UNEXPECTED_STATE_ERR;
 import static org.apache.ignite.lang.IgniteStringFormatter.format;
 
+import java.io.Serializable;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -41,6 +44,7 @@ import org.apache.ignite.internal.raft.WriteCommand;
 import org.apache.ignite.internal.raft.service.CommandClosure;
 import org.apache.ignite.internal.raft.service.CommittedConfiguration;
 import org.apache.ignite.internal.raft.service.RaftGroupListener;
+import org.apache.ignite.internal.replicator.command.HybridTimestampMessage;
 import org.apache.ignite.internal.replicator.command.SafeTimePropagatingCommand;
 import org.apache.ignite.internal.replicator.command.SafeTimeSyncCommand;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
@@ -49,7 +53,9 @@ import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
 import org.apache.ignite.internal.table.distributed.command.FinishTxCommand;
+import org.apache.ignite.internal.table.distributed.command.PartitionCommand;
 import org.apache.ignite.internal.table.distributed.command.TablePartitionIdMessage;
+import org.apache.ignite.internal.table.distributed.command.TxBatchCommand;
 import org.apache.ignite.internal.table.distributed.command.TxCleanupCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateAllCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateCommand;
@@ -58,6 +64,7 @@ import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.tx.storage.state.TxStateStorage;
 import org.apache.ignite.internal.util.PendingComparableValuesTracker;
 import org.apache.ignite.lang.IgniteInternalException;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -82,6 +89,9 @@ public class PartitionListener implements RaftGroupListener {
     /** Safe time tracker. */
     private final PendingComparableValuesTracker<HybridTimestamp> safeTime;
 
+    /** Callback that is invoked after committed updates have been applied to the partition. */
+    private final Runnable onUpdatesCommitted;
+
     /**
      * The constructor.
      *
@@ -93,11 +103,31 @@ public class PartitionListener implements RaftGroupListener {
             StorageUpdateHandler storageUpdateHandler,
             TxStateStorage txStateStorage,
             PendingComparableValuesTracker<HybridTimestamp> safeTime
+    ) {
+        this(partitionDataStorage, storageUpdateHandler, txStateStorage, safeTime, () -> {});
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param partitionDataStorage The storage.
+     * @param storageUpdateHandler Handler that processes storage updates.
+     * @param txStateStorage Storage of transaction metadata.
+     * @param safeTime Safe time tracker.
+     * @param onUpdatesCommitted Callback that is invoked after committed updates have been applied to the partition.
+     */
+    public PartitionListener(
+            PartitionDataStorage partitionDataStorage,
+            StorageUpdateHandler storageUpdateHandler,
+            TxStateStorage txStateStorage,
+            PendingComparableValuesTracker<HybridTimestamp> safeTime,
+            Runnable onUpdatesCommitted
     ) {
         this.storage = partitionDataStorage;
         this.storageUpdateHandler = storageUpdateHandler;
         this.txStateStorage = txStateStorage;
         this.safeTime = safeTime;
+        this.onUpdatesCommitted = onUpdatesCommitted;
 
         // TODO: IGNITE-18502 Implement a pending update storage
         try (PartitionTimestampCursor cursor = partitionDataStorage.getStorage().scan(HybridTimestamp.MAX_VALUE)) {
@@ -151,6 +181,8 @@ public class PartitionListener implements RaftGroupListener {
             storage.acquirePartitionSnapshotsReadLock();
 
             try {
+                Serializable result = null;
+
                 if (command instanceof UpdateCommand) {
                     handleUpdateCommand((UpdateCommand) command, commandIndex, commandTerm);
                 } else if (command instanceof UpdateAllCommand) {
@@ -159,13 +191,15 @@ public class PartitionListener implements RaftGroupListener {
                     handleFinishTxCommand((FinishTxCommand) command, commandIndex, commandTerm);
                 } else if (command instanceof TxCleanupCommand) {
                     handleTxCleanupCommand((TxCleanupCommand) command, commandIndex, commandTerm);
+                } else if (command instanceof TxBatchCommand) {
+                    result = handleTxBatchCommand((TxBatchCommand) command, commandIndex, commandTerm);
                 } else if (command instanceof SafeTimeSyncCommand) {
                     handleSafeTimeSyncCommand((SafeTimeSyncCommand) command, commandIndex, commandTerm);
                 } else {
                     assert false : "Command was not found [cmd=" + command + ']';
                 }
 
-                clo.result(null);
+                clo.result(result);
             } catch (IgniteInternalException e) {
                 clo.result(e);
             } finally {
@@ -257,10 +291,25 @@ public class PartitionListener implements RaftGroupListener {
      */
     private void handleFinishTxCommand(FinishTxCommand cmd, long commandIndex, long commandTerm) throws IgniteInternalException {
         // Skips the write command because the storage has already executed it.
-        if (commandIndex <= txStateStorage.lastAppliedIndex()) {
-            return;
+        if (commandIndex > txStateStorage.lastAppliedIndex()) {
+            changeTxState(cmd, commandIndex, commandTerm);
         }
 
+        // One-phase commit: the partition is the only one enlisted in the transaction, so its write intents are resolved right away.
+        if (cmd.cleanup()) {
+            cleanupTx(cmd.txId(), cmd.commit(), cmd.commitTimestamp(), commandIndex, commandTerm);
+        }
+    }
+
+    /**
+     * Sets the final state of the transaction in the transaction state storage.
+     *
+     * @param cmd Command.
+     * @param commandIndex Index of the RAFT command.
+     * @param commandTerm Term of the RAFT command.
+     * @throws IgniteInternalException if an exception occurred during a transaction state change.
+     */
+    private void changeTxState(FinishTxCommand cmd, long commandIndex, long commandTerm) throws IgniteInternalException {
         UUID txId = cmd.txId();
 
         TxState stateToSet = cmd.commit() ? COMMITED : ABORTED;
@@ -314,33 +363,161 @@ public class PartitionListener implements RaftGroupListener {
      * @param commandTerm Term of the RAFT command.
      */
     private void handleTxCleanupCommand(TxCleanupCommand cmd, long commandIndex, long commandTerm) {
+        cleanupTx(cmd.txId(), cmd.commit(), cmd.commitTimestamp(), commandIndex, commandTerm);
+    }
+
+    /**
+     * Handler for the {@link TxBatchCommand}: applies the commands of the batch within a single consistent write to the storage.
+     *
+     * @param cmd Command.
+     * @param commandIndex Index of the RAFT command.
+     * @param commandTerm Term of the RAFT command.
+     * @return {@code null} if all the commands have been applied, otherwise the results of the commands, see {@link TxBatchCommand}.
+     */
+    private @Nullable ArrayList<IgniteInternalException> handleTxBatchCommand(TxBatchCommand cmd, long commandIndex, long commandTerm) {
+        // The commands of the batch share the index, so the check whether the storages have already executed them is done once.
+        boolean applyTxState = commandIndex > txStateStorage.lastAppliedIndex();
+        boolean applyCleanup = commandIndex > storage.lastAppliedIndex();
+
+        ArrayList<IgniteInternalException> results = new ArrayList<>(cmd.commands().size());
+
+        boolean updatesCommitted = storage.runConsistently(() -> {
+            boolean committed = false;
+
+            for (PartitionCommand command : cmd.commands()) {
+                IgniteInternalException error = null;
+
+                try {
+                    if (command instanceof FinishTxCommand) {
+                        FinishTxCommand finishCmd = (FinishTxCommand) command;
+
+                        if (applyTxState) {
+                            changeTxState(finishCmd, commandIndex, commandTerm);
+                        }
+
+                        if (applyCleanup && finishCmd.cleanup()) {
+                            committed |= cleanupWrites(
+                                    finishCmd.txId(),
+                                    finishCmd.commit(),
+                                    finishCmd.commitTimestamp(),
+                                    commandIndex,
+                                    commandTerm
+                            );
+                        }
+                    } else if (command instanceof TxCleanupCommand) {
+                        TxCleanupCommand cleanupCmd = (TxCleanupCommand) command;
+
+                        if (applyCleanup) {
+                            committed |= cleanupWrites(
+                                    cleanupCmd.txId(),
+                                    cleanupCmd.commit(),
+                                    cleanupCmd.commitTimestamp(),
+                                    commandIndex,
+                                    commandTerm
+                            );
+                        }
+                    } else {
+                        assert false : "Unexpected command in a batch [cmd=" + command + ']';
+                    }
+                } catch (IgniteInternalException e) {
+                    error = e;
+                }
+
+                results.add(error);
+            }
+
+            if (applyCleanup) {
+                storage.lastApplied(commandIndex, commandTerm);
+            }
+
+            return committed;
+        });
+
+        if (updatesCommitted) {
+            onUpdatesCommitted.run();
+        }
+
+        return results.stream().allMatch(Objects::isNull) ? null : results;
+    }
+
+    /**
+     * Commits or aborts the write intents of the transaction.
+     *
+     * @param txId Transaction id.
+     * @param commit True is the transaction is committed, false otherwise.
+     * @param commitTimestamp Commit timestamp, {@code null} if the transaction is aborted.
+     * @param commandIndex Index of the RAFT command.
+     * @param commandTerm Term of the RAFT command.
+     */
+    private void cleanupTx(
+            UUID txId,
+            boolean commit,
+            @Nullable HybridTimestampMessage commitTimestamp,
+            long commandIndex,
+            long commandTerm
+    ) {
         // Skips the write command because the storage has already executed it.
         if (commandIndex <= storage.lastAppliedIndex()) {
             return;
         }
 
-        UUID txId = cmd.txId();
-
-        Set<RowId> pendingRowIds = txsPendingRowIds.getOrDefault(txId, Collections.emptySet());
+        applyCleanup(txId, commit, commitTimestamp, commandIndex, commandTerm);
+    }
 
-        if (cmd.commit()) {
-            storage.runConsistently(() -> {
-                pendingRowIds.forEach(rowId -> storage.commitWrite(rowId, cmd.commitTimestamp().asHybridTimestamp()));
+    /**
+     * Commits or aborts the write intents of the transaction, without checking whether the storage has already executed the command.
+     *
+     * @param txId Transaction id.
+     * @param commit True is the transaction is committed, false otherwise.
+     * @param commitTimestamp Commit timestamp, {@code null} if the transaction is aborted.
+     * @param commandIndex Index of the RAFT command.
+     * @param commandTerm Term of the RAFT command.
+     */
+    private void applyCleanup(
+            UUID txId,
+            boolean commit,
+            @Nullable HybridTimestampMessage commitTimestamp,
+            long commandIndex,
+            long commandTerm
+    ) {
+        boolean updatesCommitted = storage.runConsistently(() -> cleanupWrites(txId, commit, commitTimestamp, commandIndex, commandTerm));
 
-                txsPendingRowIds.remove(txId);
+        if (updatesCommitted) {
+            onUpdatesCommitted.run();
+        }
+    }
 
-                storage.lastApplied(commandIndex, commandTerm);
+    /**
+     * Commits or aborts the write intents of the transaction, must be called within {@link PartitionDataStorage#runConsistently}.
+     *
+     * @param txId Transaction id.
+     * @param commit True is the transaction is committed, false otherwise.
+     * @param commitTimestamp Commit timestamp, {@code null} if the transaction is aborted.
+     * @param commandIndex Index of the RAFT command.
+     * @param commandTerm Term of the RAFT command.
+     * @return {@code True} if write intents have been committed, so {@link #onUpdatesCommitted} must be invoked once the consistent
+     *      write is over.
+     */
+    private boolean cleanupWrites(
+            UUID txId,
+            boolean commit,
+            @Nullable HybridTimestampMessage commitTimestamp,
+            long commandIndex,
+            long commandTerm
+    ) {
+        Set<RowId> pendingRowIds = txsPendingRowIds.getOrDefault(txId, Collections.emptySet());
 
-                return null;
-            });
+        if (commit) {
+            pendingRowIds.forEach(rowId -> storage.commitWrite(rowId, commitTimestamp.asHybridTimestamp()));
         } else {
-            storageUpdateHandler.handleTransactionAbortion(pendingRowIds, () -> {
-                // on replication callback
-                txsPendingRowIds.remove(txId);
-
-                storage.lastApplied(commandIndex, commandTerm);
-            });
+            storageUpdateHandler.abortWrites(pendingRowIds);
         }
+
+        txsPendingRowIds.remove(txId);
+
+        storage.lastApplied(commandIndex, commandTerm);
+
+        return commit && !pendingRowIds.isEmpty();
     }
 
     /**
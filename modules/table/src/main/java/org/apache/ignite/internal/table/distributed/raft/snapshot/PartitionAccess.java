@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.table.distributed.raft.snapshot;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -24,6 +25,7 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.RowVersionChain;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.StorageRebalanceException;
 import org.apache.ignite.internal.storage.TxIdMismatchException;
@@ -111,6 +113,15 @@ public interface PartitionAccess {
      */
     void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp);
 
+    /**
+     * Creates the version chains of rows that are absent in the partition and adds the row versions to the indexes, see
+     * {@link MvPartitionStorage#addVersionChains(List)}.
+     *
+     * @param chains Version chains in ascending order of row ids.
+     * @throws StorageException If failed to write data.
+     */
+    void addVersionChains(List<RowVersionChain> chains);
+
     /**
      * Returns the minimum applied index of the partition storages.
      */
@@ -147,7 +158,8 @@ public interface PartitionAccess {
      *         <li>{@link #committedGroupConfiguration()};</li>
      *         <li>{@link #addTxMeta(UUID, TxMeta)};</li>
      *         <li>{@link #addWrite(RowId, BinaryRow, UUID, UUID, int)};</li>
-     *         <li>{@link #addWriteCommitted(RowId, BinaryRow, HybridTimestamp)}.</li>
+     *         <li>{@link #addWriteCommitted(RowId, BinaryRow, HybridTimestamp)};</li>
+     *         <li>{@link #addVersionChains(List)}.</li>
      *     </ul></li>
      * </ul>
      *
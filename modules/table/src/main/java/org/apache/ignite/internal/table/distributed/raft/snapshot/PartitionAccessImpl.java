@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.table.distributed.raft.snapshot;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -24,6 +25,7 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.RowVersionChain;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
 import org.apache.ignite.internal.table.distributed.gc.MvGc;
@@ -143,6 +145,23 @@ public class PartitionAccessImpl implements PartitionAccess {
         });
     }
 
+    @Override
+    public void addVersionChains(List<RowVersionChain> chains) {
+        MvPartitionStorage mvPartitionStorage = getMvPartitionStorage(partitionId());
+
+        mvPartitionStorage.runConsistently(() -> {
+            mvPartitionStorage.addVersionChains(chains);
+
+            for (RowVersionChain chain : chains) {
+                for (BinaryRow row : chain.rows()) {
+                    storageUpdateHandler.addToIndexes(row, chain.rowId());
+                }
+            }
+
+            return null;
+        });
+    }
+
     @Override
     public long minLastAppliedIndex() {
         return Math.min(
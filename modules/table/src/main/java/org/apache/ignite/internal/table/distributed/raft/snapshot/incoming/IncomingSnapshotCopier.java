@@ -21,12 +21,13 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
-import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.schema.BinaryRow;
@@ -34,10 +35,10 @@ import org.apache.ignite.internal.schema.ByteBufferRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.RowVersionChain;
 import org.apache.ignite.internal.storage.StorageRebalanceException;
 import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
 import org.apache.ignite.internal.table.distributed.raft.RaftGroupConfiguration;
-import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionAccess;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionSnapshotStorage;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.SnapshotUri;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMetaRequest;
@@ -226,19 +227,15 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
             ).thenComposeAsync(response -> {
                 SnapshotMvDataResponse snapshotMvDataResponse = ((SnapshotMvDataResponse) response);
 
-                for (ResponseEntry entry : snapshotMvDataResponse.rows()) {
-                    // Let's write all versions for the row ID.
-                    for (int i = 0; i < entry.rowVersions().size(); i++) {
-                        if (!busyLock.enterBusy()) {
-                            return completedFuture(null);
-                        }
-
-                        try {
-                            writeVersion(entry, i);
-                        } finally {
-                            busyLock.leaveBusy();
-                        }
-                    }
+                if (!busyLock.enterBusy()) {
+                    return completedFuture(null);
+                }
+
+                try {
+                    // Let's write all versions of all rows of the batch at once, the rows arrive mostly in ascending order of row IDs.
+                    writeVersionChains(snapshotMvDataResponse.rows());
+                } finally {
+                    busyLock.leaveBusy();
                 }
 
                 if (snapshotMvDataResponse.finish()) {
@@ -381,27 +378,30 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
         return "tableId=" + partitionSnapshotStorage.partition().partitionKey().tableId() + ", partitionId=" + partId();
     }
 
-    private void writeVersion(ResponseEntry entry, int i) {
-        RowId rowId = new RowId(partId(), entry.rowId());
-
-        HybridTimestamp timestamp = i < entry.timestamps().size() ? entry.timestamps().get(i) : null;
+    private void writeVersionChains(List<ResponseEntry> entries) {
+        List<RowVersionChain> chains = new ArrayList<>(entries.size());
 
-        ByteBuffer rowVersion = entry.rowVersions().get(i);
+        for (ResponseEntry entry : entries) {
+            List<BinaryRow> rows = new ArrayList<>(entry.rowVersions().size());
 
-        BinaryRow binaryRow = rowVersion == null ? null : new ByteBufferRow(rowVersion.rewind());
-
-        PartitionAccess partition = partitionSnapshotStorage.partition();
-
-        if (timestamp == null) {
-            // Writes an intent to write (uncommitted version).
-            assert entry.txId() != null;
-            assert entry.commitTableId() != null;
-            assert entry.commitPartitionId() != ReadResult.UNDEFINED_COMMIT_PARTITION_ID;
+            for (ByteBuffer rowVersion : entry.rowVersions()) {
+                rows.add(rowVersion == null ? null : new ByteBufferRow(rowVersion.rewind()));
+            }
 
-            partition.addWrite(rowId, binaryRow, entry.txId(), entry.commitTableId(), entry.commitPartitionId());
-        } else {
-            // Writes committed version.
-            partition.addWriteCommitted(rowId, binaryRow, timestamp);
+            // The write intent, if any, is the newest version, it has no commit timestamp.
+            assert entry.txId() == null || entry.commitTableId() != null
+                    && entry.commitPartitionId() != ReadResult.UNDEFINED_COMMIT_PARTITION_ID : entry;
+
+            chains.add(new RowVersionChain(
+                    new RowId(partId(), entry.rowId()),
+                    rows,
+                    entry.timestamps(),
+                    entry.txId(),
+                    entry.commitTableId(),
+                    entry.commitPartitionId()
+            ));
         }
+
+        partitionSnapshotStorage.partition().addVersionChains(chains);
     }
 }
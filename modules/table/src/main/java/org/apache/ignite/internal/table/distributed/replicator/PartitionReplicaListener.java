@@ -47,6 +47,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -88,7 +89,6 @@ import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
 import org.apache.ignite.internal.table.distributed.TableSchemaAwareIndexStorage;
 import org.apache.ignite.internal.table.distributed.command.FinishTxCommandBuilder;
 import org.apache.ignite.internal.table.distributed.command.TablePartitionIdMessage;
-import org.apache.ignite.internal.table.distributed.command.TxCleanupCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateAllCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateCommandBuilder;
@@ -158,6 +158,9 @@ public class PartitionReplicaListener implements ReplicaListener {
     /** Raft client. */
     private final RaftGroupService raftClient;
 
+    /** Group commit of the finish and cleanup commands of the partition. */
+    private final TxCommandBatcher txCommandBatcher;
+
     /** Tx manager. */
     private final TxManager txManager;
 
@@ -252,6 +255,7 @@ public class PartitionReplicaListener implements ReplicaListener {
     ) {
         this.mvDataStorage = mvDataStorage;
         this.raftClient = raftClient;
+        this.txCommandBatcher = new TxCommandBatcher(raftClient, hybridClock);
         this.txManager = txManager;
         this.lockManager = lockManager;
         this.scanRequestExecutor = scanRequestExecutor;
@@ -315,6 +319,7 @@ public class PartitionReplicaListener implements ReplicaListener {
     ) {
         this.mvDataStorage = mvDataStorage;
         this.raftClient = raftClient;
+        this.txCommandBatcher = new TxCommandBatcher(raftClient, hybridClock);
         this.txManager = txManager;
         this.lockManager = lockManager;
         this.scanRequestExecutor = scanRequestExecutor;
@@ -1040,6 +1045,8 @@ public class PartitionReplicaListener implements ReplicaListener {
      *     <li>Run specific raft {@code FinishTxCommand} command, that will apply txn state to corresponding txStateStorage.</li>
      *     <li>Send cleanup requests to all enlisted primary replicas.</li>
      * </ol>
+     * If the partition of the replica is the only one enlisted in the transaction, then the transaction is finished in one phase, see
+     * {@link #finishOnePhaseTransaction}.
      *
      * @param request Transaction finish request.
      * @return future result of the operation.
@@ -1055,7 +1062,11 @@ public class PartitionReplicaListener implements ReplicaListener {
 
         boolean commit = request.commit();
 
-        CompletableFuture<Object> changeStateFuture = finishTransaction(aggregatedGroupIds, txId, commit);
+        if (aggregatedGroupIds.size() == 1 && replicationGroupId.equals(aggregatedGroupIds.get(0))) {
+            return finishOnePhaseTransaction(aggregatedGroupIds, txId, commit);
+        }
+
+        CompletableFuture<Object> changeStateFuture = finishTransaction(aggregatedGroupIds, txId, commit, false);
 
         // TODO: https://issues.apache.org/jira/browse/IGNITE-17578 Cleanup process should be asynchronous.
         CompletableFuture<?>[] cleanupFutures = new CompletableFuture[request.groups().size()];
@@ -1077,36 +1088,78 @@ public class PartitionReplicaListener implements ReplicaListener {
         return allOf(cleanupFutures);
     }
 
+    /**
+     * Finishes a transaction, that is enlisted only in the partition of the replica, in one phase: the transaction state change and
+     * the cleanup of the write intents are done by a single {@code FinishTxCommand}, and no cleanup request is sent.
+     *
+     * @param aggregatedGroupIds Replication groups identifies which are enlisted in the transaction.
+     * @param txId Transaction id.
+     * @param commit True is the transaction is committed, false otherwise.
+     * @return Future to wait of the finish.
+     */
+    private CompletableFuture<Void> finishOnePhaseTransaction(List<ReplicationGroupId> aggregatedGroupIds, UUID txId, boolean commit) {
+        List<CompletableFuture<?>> txUpdateFutures = new ArrayList<>();
+        List<CompletableFuture<?>> txReadFutures = new ArrayList<>();
+
+        try {
+            collectTxOperationFutures(txId, commit, txUpdateFutures, txReadFutures);
+        } catch (Exception e) {
+            return failedFuture(e);
+        }
+
+        return allOffFuturesExceptionIgnored(txUpdateFutures, txId, commit)
+                .thenCompose(v -> finishTransaction(aggregatedGroupIds, txId, commit, true))
+                .thenCompose(ignored -> allOffFuturesExceptionIgnored(txReadFutures, txId, commit))
+                .thenRun(() -> releaseTxLocks(txId));
+    }
+
     /**
      * Finishes a transaction.
      *
      * @param aggregatedGroupIds Replication groups identifies which are enlisted in the transaction.
      * @param txId Transaction id.
      * @param commit True is the transaction is committed, false otherwise.
+     * @param cleanup True if the write intents of the transaction should be resolved by the same command.
      * @return Future to wait of the finish.
      */
-    private CompletableFuture<Object> finishTransaction(List<ReplicationGroupId> aggregatedGroupIds, UUID txId, boolean commit) {
+    private CompletableFuture<Object> finishTransaction(
+            List<ReplicationGroupId> aggregatedGroupIds,
+            UUID txId,
+            boolean commit,
+            boolean cleanup
+    ) {
         // TODO: IGNITE-17261 Timestamp from request is not using until the issue has not been fixed (request.commitTimestamp())
         var fut = new CompletableFuture<TxMeta>();
 
         txTimestampUpdateMap.put(txId, fut);
 
-        HybridTimestamp currentTimestamp = hybridClock.now();
-        HybridTimestamp commitTimestamp = commit ? currentTimestamp : null;
+        // The commit timestamp is assigned by the batcher when the command is sent, so that it is not behind the safe time.
+        var commitTimestamp = new AtomicReference<HybridTimestamp>();
 
-        FinishTxCommandBuilder finishTxCmdBldr = MSG_FACTORY.finishTxCommand()
-                .txId(txId)
-                .commit(commit)
-                .safeTime(hybridTimestamp(currentTimestamp))
-                .tablePartitionIds(aggregatedGroupIds.stream()
-                        .map(rgId -> tablePartitionId((TablePartitionId) rgId)).collect(Collectors.toList()));
+        return txCommandBatcher.run(currentTimestamp -> {
+            FinishTxCommandBuilder finishTxCmdBldr = MSG_FACTORY.finishTxCommand()
+                    .txId(txId)
+                    .commit(commit)
+                    .cleanup(cleanup)
+                    .safeTime(hybridTimestamp(currentTimestamp))
+                    .tablePartitionIds(aggregatedGroupIds.stream()
+                            .map(rgId -> tablePartitionId((TablePartitionId) rgId)).collect(Collectors.toList()));
 
-        if (commit) {
-            finishTxCmdBldr.commitTimestamp(hybridTimestamp(commitTimestamp));
-        }
+            if (commit) {
+                commitTimestamp.set(currentTimestamp);
 
-        return raftClient.run(finishTxCmdBldr.build()).whenComplete((o, throwable) -> {
-            fut.complete(new TxMeta(commit ? TxState.COMMITED : TxState.ABORTED, aggregatedGroupIds, commitTimestamp));
+                finishTxCmdBldr.commitTimestamp(hybridTimestamp(currentTimestamp));
+            }
+
+            return finishTxCmdBldr.build();
+        }).whenComplete((o, throwable) -> {
+            TxMeta txMeta = new TxMeta(commit ? TxState.COMMITED : TxState.ABORTED, aggregatedGroupIds, commitTimestamp.get());
+
+            if (throwable == null) {
+                txManager.cacheOutcome(txId, txMeta);
+            }
+
+            fut.complete(txMeta);
 
             txTimestampUpdateMap.remove(txId);
         });
@@ -1127,17 +1180,64 @@ public class PartitionReplicaListener implements ReplicaListener {
      */
     // TODO: need to properly handle primary replica changes https://issues.apache.org/jira/browse/IGNITE-17615
     private CompletableFuture<Void> processTxCleanupAction(TxCleanupReplicaRequest request) {
+        // The commit timestamp of the cleanup request may differ from the one in the transaction state storage of the commit partition,
+        // so only an abort is cached here.
+        if (!request.commit()) {
+            txManager.cacheOutcome(request.txId(), new TxMeta(TxState.ABORTED, List.of(), null));
+        }
+
+        List<CompletableFuture<?>> txUpdateFutures = new ArrayList<>();
+        List<CompletableFuture<?>> txReadFutures = new ArrayList<>();
+
         try {
-            closeAllTransactionCursors(request.txId());
+            collectTxOperationFutures(request.txId(), request.commit(), txUpdateFutures, txReadFutures);
         } catch (Exception e) {
             return failedFuture(e);
         }
 
-        List<CompletableFuture<?>> txUpdateFutures = new ArrayList<>();
-        List<CompletableFuture<?>> txReadFutures = new ArrayList<>();
+        if (txUpdateFutures.isEmpty()) {
+            if (!txReadFutures.isEmpty()) {
+                allOffFuturesExceptionIgnored(txReadFutures, request.txId(), request.commit())
+                        .thenRun(() -> releaseTxLocks(request.txId()));
+            }
+
+            return completedFuture(null);
+        }
+
+        return allOffFuturesExceptionIgnored(txUpdateFutures, request.txId(), request.commit()).thenCompose(v -> {
+            HybridTimestampMessage timestampMsg = hybridTimestamp(request.commitTimestamp());
+
+            return txCommandBatcher
+                    .run(currentTimestamp -> MSG_FACTORY.txCleanupCommand()
+                            .txId(request.txId())
+                            .commit(request.commit())
+                            .commitTimestamp(timestampMsg)
+                            .safeTime(hybridTimestamp(currentTimestamp))
+                            .build())
+                    .thenCompose(ignored -> allOffFuturesExceptionIgnored(txReadFutures, request.txId(), request.commit())
+                            .thenRun(() -> releaseTxLocks(request.txId())));
+        });
+    }
+
+    /**
+     * Closes the cursors of a finished transaction, marks it as finished for the operations that come after that, and collects the
+     * futures of its operations in progress.
+     *
+     * @param txId Transaction id.
+     * @param commit True is the transaction is committed, false otherwise.
+     * @param txUpdateFutures List to add the futures of the update operations to.
+     * @param txReadFutures List to add the futures of the read operations to.
+     */
+    private void collectTxOperationFutures(
+            UUID txId,
+            boolean commit,
+            List<CompletableFuture<?>> txUpdateFutures,
+            List<CompletableFuture<?>> txReadFutures
+    ) {
+        closeAllTransactionCursors(txId);
 
         // TODO https://issues.apache.org/jira/browse/IGNITE-18617
-        txCleanupReadyFutures.compute(request.txId(), (id, txOps) -> {
+        txCleanupReadyFutures.compute(txId, (id, txOps) -> {
             if (txOps == null) {
                 txOps = new TxCleanupReadyFutureList();
             }
@@ -1152,50 +1252,25 @@ public class PartitionReplicaListener implements ReplicaListener {
 
             txOps.futures.clear();
 
-            txOps.state = request.commit() ? TxState.COMMITED : TxState.ABORTED;
+            txOps.state = commit ? TxState.COMMITED : TxState.ABORTED;
 
             return txOps;
         });
-
-        if (txUpdateFutures.isEmpty()) {
-            if (!txReadFutures.isEmpty()) {
-                allOffFuturesExceptionIgnored(txReadFutures, request)
-                        .thenRun(() -> releaseTxLocks(request.txId()));
-            }
-
-            return completedFuture(null);
-        }
-
-        return allOffFuturesExceptionIgnored(txUpdateFutures, request).thenCompose(v -> {
-            HybridTimestampMessage timestampMsg = hybridTimestamp(request.commitTimestamp());
-
-            TxCleanupCommand txCleanupCmd = MSG_FACTORY.txCleanupCommand()
-                    .txId(request.txId())
-                    .commit(request.commit())
-                    .commitTimestamp(timestampMsg)
-                    .safeTime(hybridTimestamp(hybridClock.now()))
-                    .build();
-
-            return raftClient
-                    .run(txCleanupCmd)
-                    .thenCompose(ignored -> allOffFuturesExceptionIgnored(txReadFutures, request)
-                            .thenRun(() -> releaseTxLocks(request.txId())));
-        });
     }
 
     /**
      * Creates a future that waits all transaction operations are completed.
      *
      * @param txFutures Transaction operation futures.
-     * @param request Cleanup request.
+     * @param txId Transaction id.
+     * @param commit True is the transaction is committed, false otherwise.
      * @return The future completes when all futures in passed list are completed.
      */
-    private static CompletableFuture<Void> allOffFuturesExceptionIgnored(List<CompletableFuture<?>> txFutures,
-            TxCleanupReplicaRequest request) {
+    private static CompletableFuture<Void> allOffFuturesExceptionIgnored(List<CompletableFuture<?>> txFutures, UUID txId, boolean commit) {
         return allOf(txFutures.toArray(new CompletableFuture<?>[0]))
                 .exceptionally(e -> {
-                    assert !request.commit() :
-                            "Transaction is committing, but an operation has completed with exception [txId=" + request.txId()
+                    assert !commit :
+                            "Transaction is committing, but an operation has completed with exception [txId=" + txId
                                     + ", err=" + e.getMessage() + ']';
 
                     return null;
@@ -2072,6 +2147,15 @@ public class PartitionReplicaListener implements ReplicaListener {
                             }
                     );
         } else if (request instanceof ReadOnlyReplicaRequest) {
+            // Any replica can serve a read-only request once its safe time reaches the read timestamp. Skipping that wait is only
+            // safe on a confirmed leader, because a deposed one may miss writes, so the leadership is confirmed by the current term
+            // only if the cached leader is local. Other replicas wait for the safe time without a leader refresh round trip.
+            Peer cachedLeader = raftClient.leader();
+
+            if (cachedLeader == null || !isLocalPeerChecker.apply(cachedLeader)) {
+                return completedFuture(false);
+            }
+
             return raftClient.refreshAndGetLeaderWithTerm().thenApply(replicaAndTerm -> isLocalPeerChecker.apply(replicaAndTerm.leader()));
         } else {
             return completedFuture(null);
@@ -2182,7 +2266,8 @@ public class PartitionReplicaListener implements ReplicaListener {
     }
 
     /**
-     * Resolve the actual tx state.
+     * Resolve the actual tx state. The outcome of a finished transaction is taken from the transaction outcome cache, if it's there,
+     * otherwise it is requested from the commit partition and cached.
      *
      * @param commitGrpId Commit partition id.
      * @param txId Transaction id.
@@ -2194,24 +2279,45 @@ public class PartitionReplicaListener implements ReplicaListener {
             UUID txId,
             HybridTimestamp timestamp
     ) {
+        TxMeta cachedTxMeta = txManager.cachedOutcome(txId);
+
+        if (cachedTxMeta != null) {
+            return completedFuture(readLastCommitted(cachedTxMeta, timestamp));
+        }
+
         return placementDriver.sendMetaRequest(commitGrpId, FACTORY.txStateReplicaRequest()
                         .groupId(commitGrpId)
                         .readTimestamp(timestamp)
                         .txId(txId)
                         .build())
                 .thenApply(txMeta -> {
-                    if (txMeta == null) {
-                        return true;
-                    } else if (txMeta.txState() == TxState.COMMITED) {
-                        return txMeta.commitTimestamp().compareTo(timestamp) > 0;
-                    } else {
-                        assert txMeta.txState() == TxState.ABORTED : "Unexpected transaction state [state=" + txMeta.txState() + ']';
-
-                        return true;
+                    if (txMeta != null) {
+                        txManager.cacheOutcome(txId, txMeta);
                     }
+
+                    return readLastCommitted(txMeta, timestamp);
                 });
     }
 
+    /**
+     * Checks whether a read at the timestamp should skip a write intent of the transaction and read the last committed value.
+     *
+     * @param txMeta Transaction meta, {@code null} if the transaction is not finished.
+     * @param timestamp Timestamp.
+     * @return {@code True} if the transaction was not committed before the timestamp.
+     */
+    private static boolean readLastCommitted(@Nullable TxMeta txMeta, HybridTimestamp timestamp) {
+        if (txMeta == null) {
+            return true;
+        } else if (txMeta.txState() == TxState.COMMITED) {
+            return txMeta.commitTimestamp().compareTo(timestamp) > 0;
+        } else {
+            assert txMeta.txState() == TxState.ABORTED : "Unexpected transaction state [state=" + txMeta.txState() + ']';
+
+            return true;
+        }
+    }
+
     /**
      * Compounds a RAFT group unique name.
      *
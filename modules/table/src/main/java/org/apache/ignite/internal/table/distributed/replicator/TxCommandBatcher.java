@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import static org.apache.ignite.internal.table.distributed.replicator.PartitionReplicaListener.hybridTimestamp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.apache.ignite.internal.hlc.HybridClock;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.raft.service.RaftGroupService;
+import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
+import org.apache.ignite.internal.table.distributed.command.FinishTxCommand;
+import org.apache.ignite.internal.table.distributed.command.PartitionCommand;
+import org.apache.ignite.internal.table.distributed.command.TxBatchCommand;
+import org.apache.ignite.internal.table.distributed.command.TxCleanupCommand;
+
+/**
+ * Group commit of the {@link FinishTxCommand finish} and {@link TxCleanupCommand cleanup} commands of a partition.
+ *
+ * <p>At most one command of the batcher is in flight. The commands that are submitted in the meantime are queued, and are sent as a
+ * single {@link TxBatchCommand} as soon as the previous command is applied. So a command never waits for a timer, and the size of the
+ * batches adapts to the load: a single command is sent as is, when the partition is not loaded.
+ *
+ * <p>A command is created only when it is sent, from the current time of the hybrid clock. A command that is created before being queued
+ * would carry a safe time and a commit timestamp that may fall behind the safe time of the commands applied while it waits, so the
+ * read-only transactions at that time would miss the committed writes.
+ */
+public class TxCommandBatcher {
+    /** Table messages factory. */
+    private static final TableMessagesFactory MSG_FACTORY = new TableMessagesFactory();
+
+    /** Maximum number of commands in a batch. */
+    static final int MAX_BATCH_SIZE = 256;
+
+    /** Raft client. */
+    private final RaftGroupService raftClient;
+
+    /** Hybrid clock. */
+    private final HybridClock hybridClock;
+
+    /** Commands waiting to be sent. */
+    private final Queue<PendingCommand> queue = new ConcurrentLinkedQueue<>();
+
+    /** Whether a command of the batcher is in flight. */
+    private final AtomicBoolean inFlight = new AtomicBoolean();
+
+    /**
+     * Constructor.
+     *
+     * @param raftClient Raft client.
+     * @param hybridClock Hybrid clock.
+     */
+    public TxCommandBatcher(RaftGroupService raftClient, HybridClock hybridClock) {
+        this.raftClient = raftClient;
+        this.hybridClock = hybridClock;
+    }
+
+    /**
+     * Runs a command, possibly within a batch with the commands of other transactions.
+     *
+     * @param commandFactory Creates either a {@link FinishTxCommand} or a {@link TxCleanupCommand} right before it is sent, the
+     *      argument is the current time of the hybrid clock, to be used as the safe time of the command and as its commit timestamp.
+     * @return Future that is completed when the command is applied, with the same result as {@link RaftGroupService#run}.
+     */
+    public CompletableFuture<Object> run(Function<HybridTimestamp, PartitionCommand> commandFactory) {
+        var pending = new PendingCommand(commandFactory);
+
+        queue.add(pending);
+
+        sendNext();
+
+        return pending.future;
+    }
+
+    /**
+     * Sends the queued commands if there is no command in flight.
+     */
+    private void sendNext() {
+        while (!queue.isEmpty() && inFlight.compareAndSet(false, true)) {
+            List<PendingCommand> batch = new ArrayList<>();
+
+            PendingCommand pending;
+
+            while (batch.size() < MAX_BATCH_SIZE && (pending = queue.poll()) != null) {
+                batch.add(pending);
+            }
+
+            if (batch.isEmpty()) {
+                // Another thread has drained the queue in the meantime.
+                inFlight.set(false);
+
+                continue;
+            }
+
+            send(batch);
+
+            return;
+        }
+    }
+
+    private void send(List<PendingCommand> batch) {
+        CompletableFuture<Object> raftFut;
+
+        if (batch.size() == 1) {
+            raftFut = raftClient.run(batch.get(0).createCommand(hybridClock.now()));
+        } else {
+            List<PartitionCommand> commands = new ArrayList<>(batch.size());
+
+            for (PendingCommand pending : batch) {
+                commands.add(pending.createCommand(hybridClock.now()));
+            }
+
+            raftFut = raftClient.run(MSG_FACTORY.txBatchCommand()
+                    .commands(commands)
+                    .safeTime(hybridTimestamp(hybridClock.now()))
+                    .build());
+        }
+
+        raftFut.whenComplete((res, err) -> {
+            inFlight.set(false);
+
+            // The next batch is sent before the completion of the futures of this one, whose callbacks may take a while.
+            sendNext();
+
+            if (batch.size() == 1) {
+                complete(batch.get(0), res, err);
+            } else {
+                List<?> results = res instanceof List ? (List<?>) res : null;
+
+                for (int i = 0; i < batch.size(); i++) {
+                    complete(batch.get(i), results == null ? null : results.get(i), err);
+                }
+            }
+        });
+    }
+
+    private static void complete(PendingCommand pending, Object res, Throwable err) {
+        if (err != null) {
+            pending.future.completeExceptionally(err);
+        } else if (res instanceof Throwable) {
+            pending.future.completeExceptionally((Throwable) res);
+        } else {
+            pending.future.complete(res);
+        }
+    }
+
+    /**
+     * Command waiting to be sent.
+     */
+    private static class PendingCommand {
+        /** Command factory. */
+        final Function<HybridTimestamp, PartitionCommand> commandFactory;
+
+        /** Future of the command result. */
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        PendingCommand(Function<HybridTimestamp, PartitionCommand> commandFactory) {
+            this.commandFactory = commandFactory;
+        }
+
+        PartitionCommand createCommand(HybridTimestamp now) {
+            PartitionCommand command = commandFactory.apply(now);
+
+            assert command instanceof FinishTxCommand || command instanceof TxCleanupCommand : command;
+
+            return command;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.table.distributed.storage;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.internal.util.ExceptionUtils.unwrapCause;
 import static org.apache.ignite.internal.util.ExceptionUtils.withCause;
 import static org.apache.ignite.lang.ErrorGroups.Common.UNEXPECTED_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Replicator.REPLICA_UNAVAILABLE_ERR;
@@ -44,11 +45,13 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.hlc.HybridClock;
@@ -59,6 +62,7 @@ import org.apache.ignite.internal.raft.service.RaftGroupService;
 import org.apache.ignite.internal.replicator.ReplicaService;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
 import org.apache.ignite.internal.replicator.exception.PrimaryReplicaMissException;
+import org.apache.ignite.internal.replicator.exception.ReplicaUnavailableException;
 import org.apache.ignite.internal.replicator.exception.ReplicationException;
 import org.apache.ignite.internal.replicator.message.ReplicaRequest;
 import org.apache.ignite.internal.schema.BinaryRow;
@@ -116,6 +120,9 @@ public class InternalTableImpl implements InternalTable {
     /** Resolver that resolves a node consistent ID to cluster node. */
     private final Function<String, ClusterNode> clusterNodeResolver;
 
+    /** Supplier of the local cluster node. */
+    private final Supplier<ClusterNode> localNodeSupplier;
+
     /** Transactional manager. */
     protected final TxManager txManager;
 
@@ -144,6 +151,8 @@ public class InternalTableImpl implements InternalTable {
      * @param tableId Table id.
      * @param partMap Map partition id to raft group.
      * @param partitions Partitions.
+     * @param clusterNodeResolver Resolver that resolves a node consistent ID to cluster node.
+     * @param localNodeSupplier Supplier of the local cluster node.
      * @param txManager Transaction manager.
      * @param tableStorage Table storage.
      * @param txStateStorage Transaction state storage.
@@ -156,6 +165,7 @@ public class InternalTableImpl implements InternalTable {
             Int2ObjectMap<RaftGroupService> partMap,
             int partitions,
             Function<String, ClusterNode> clusterNodeResolver,
+            Supplier<ClusterNode> localNodeSupplier,
             TxManager txManager,
             MvTableStorage tableStorage,
             TxStateTableStorage txStateStorage,
@@ -167,6 +177,7 @@ public class InternalTableImpl implements InternalTable {
         this.partitionMap = partMap;
         this.partitions = partitions;
         this.clusterNodeResolver = clusterNodeResolver;
+        this.localNodeSupplier = localNodeSupplier;
         this.txManager = txManager;
         this.tableStorage = tableStorage;
         this.txStateStorage = txStateStorage;
@@ -498,8 +509,7 @@ public class InternalTableImpl implements InternalTable {
     @Override
     public CompletableFuture<BinaryRow> get(BinaryRowEx keyRow, InternalTransaction tx) {
         if (tx != null && tx.isReadOnly()) {
-            return evaluateReadOnlyRecipientNode(partitionId(keyRow))
-                    .thenCompose(recipientNode -> get(keyRow, tx.readTimestamp(), recipientNode));
+            return invokeOnReadOnlyRecipient(partitionId(keyRow), recipientNode -> get(keyRow, tx.readTimestamp(), recipientNode));
         } else {
             return enlistInTx(
                     keyRow,
@@ -544,8 +554,10 @@ public class InternalTableImpl implements InternalTable {
             if (firstRow == null) {
                 return CompletableFuture.completedFuture(Collections.emptyList());
             } else {
-                return evaluateReadOnlyRecipientNode(partitionId(firstRow))
-                        .thenCompose(recipientNode -> getAll(keyRows, tx.readTimestamp(), recipientNode));
+                return invokeOnReadOnlyRecipient(
+                        partitionId(firstRow),
+                        recipientNode -> getAll(keyRows, tx.readTimestamp(), recipientNode)
+                );
             }
         } else {
             return enlistInTx(
@@ -1420,16 +1432,25 @@ public class InternalTableImpl implements InternalTable {
         }
     }
 
-    // TODO: IGNITE-17963 Use smarter logic for recipient node evaluation.
     /**
      * Evaluated cluster node for read-only request processing.
      *
+     * <p>Any replica of the partition can process a read-only request, because the replica waits for its safe time to reach the read
+     * timestamp. So the replica is chosen from the cached replication group members without a network round trip, see
+     * {@link #cachedReadOnlyRecipientNode}. The leader is refreshed only if no member of the group is known to be in the topology.
+     *
      * @param partId Partition id.
      * @return Cluster node to evalute read-only request.
      */
     protected CompletableFuture<ClusterNode> evaluateReadOnlyRecipientNode(int partId) {
         RaftGroupService svc = partitionMap.get(partId);
 
+        ClusterNode recipientNode = cachedReadOnlyRecipientNode(svc);
+
+        if (recipientNode != null) {
+            return completedFuture(recipientNode);
+        }
+
         return svc.refreshAndGetLeaderWithTerm().handle((res, e) -> {
             if (e != null) {
                 throw withCause(TransactionException::new, REPLICA_UNAVAILABLE_ERR, e);
@@ -1443,6 +1464,72 @@ public class InternalTableImpl implements InternalTable {
         });
     }
 
+    /**
+     * Sends a read-only request to the node chosen by {@link #evaluateReadOnlyRecipientNode}. The node may be chosen from stale cached
+     * members of the replication group, so if it does not host the replica anymore, the members are refreshed and the request is sent
+     * once more to a node chosen among the refreshed members.
+     *
+     * @param partId Partition id.
+     * @param request Function that sends the request to the given node.
+     * @return Future of the request result.
+     */
+    private <R> CompletableFuture<R> invokeOnReadOnlyRecipient(int partId, Function<ClusterNode, CompletableFuture<R>> request) {
+        return evaluateReadOnlyRecipientNode(partId)
+                .thenCompose(request)
+                .handle((res, e) -> {
+                    if (e == null) {
+                        return completedFuture(res);
+                    }
+
+                    if (!(unwrapCause(e) instanceof ReplicaUnavailableException)) {
+                        return CompletableFuture.<R>failedFuture(e);
+                    }
+
+                    return partitionMap.get(partId).refreshMembers(true)
+                            .thenCompose(unused -> evaluateReadOnlyRecipientNode(partId))
+                            .thenCompose(request);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Chooses a replica for read-only request processing among the cached peers of the replication group. The local node is preferred,
+     * if it is a peer, otherwise a random peer that is in the topology is chosen, so that read-only requests are spread across the
+     * replicas.
+     *
+     * @param svc Raft group service of the partition.
+     * @return Cluster node, {@code null} if the peers are not known or none of them is in the topology.
+     */
+    private @Nullable ClusterNode cachedReadOnlyRecipientNode(RaftGroupService svc) {
+        List<Peer> peers = svc.peers();
+
+        if (peers == null || peers.isEmpty()) {
+            return null;
+        }
+
+        ClusterNode localNode = localNodeSupplier.get();
+
+        if (localNode != null) {
+            for (Peer peer : peers) {
+                if (peer.consistentId().equals(localNode.name())) {
+                    return localNode;
+                }
+            }
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(peers.size());
+
+        for (int i = 0; i < peers.size(); i++) {
+            ClusterNode node = clusterNodeResolver.apply(peers.get((start + i) % peers.size()).consistentId());
+
+            if (node != null) {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Casts any exception type to a client exception, wherein {@link ReplicationException} and {@link LockException} are wrapped
      * to {@link TransactionException}, but another exceptions are wrapped to a common exception.
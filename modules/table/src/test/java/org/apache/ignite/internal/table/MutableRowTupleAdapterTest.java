@@ -34,7 +34,9 @@ import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThr
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -675,6 +677,23 @@ public class MutableRowTupleAdapterTest {
         }
     }
 
+    @Test
+    public void testMarshalUnmodifiedRowTupleReturnsSameRow() throws Exception {
+        TupleMarshaller marshaller = new TupleMarshallerImpl(new DummySchemaManagerImpl(schema));
+
+        Row row = marshaller.marshal(Tuple.create().set("id", 1L).set("name", "Shirt"));
+        Row keyRow = marshaller.marshalKey(Tuple.create().set("id", 1L));
+
+        assertSame(row, marshaller.marshal(TableRow.tuple(row)));
+        assertSame(keyRow, marshaller.marshalKey(TableRow.tuple(keyRow)));
+
+        Tuple modified = TableRow.tuple(row).set("name", "Pants");
+        Row modifiedRow = marshaller.marshal(modified);
+
+        assertNotSame(row, modifiedRow);
+        assertEquals("Pants", TableRow.tuple(modifiedRow).value("name"));
+    }
+
     /**
      * Serailizes tuple.
      *
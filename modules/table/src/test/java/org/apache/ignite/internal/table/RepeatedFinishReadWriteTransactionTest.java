@@ -41,6 +41,7 @@ import org.apache.ignite.internal.table.distributed.replicator.TablePartitionId;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.TxMeta;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.tx.impl.ReadWriteTransactionImpl;
 import org.apache.ignite.lang.IgniteBiTuple;
@@ -270,6 +271,16 @@ public class RepeatedFinishReadWriteTransactionTest {
             return null;
         }
 
+        @Override
+        public @Nullable TxMeta cachedOutcome(UUID txId) {
+            return null;
+        }
+
+        @Override
+        public void cacheOutcome(UUID txId, TxMeta txMeta) {
+
+        }
+
         @Override
         public int finished() {
             return 0;
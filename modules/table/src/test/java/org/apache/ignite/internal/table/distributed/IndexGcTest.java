@@ -161,4 +161,41 @@ public class IndexGcTest extends IndexBaseTest {
         assertEquals(0, getRowVersions(rowId).size());
         assertTrue(notInAnyIndex(row));
     }
+
+    @Test
+    void testVacuumBatch() {
+        UUID rowUuid = UUID.randomUUID();
+        RowId rowId = new RowId(1, rowUuid);
+
+        var key = new TestKey(1, "foo");
+
+        BinaryRow row1 = binaryRow(key, new TestValue(2, "bar"));
+        BinaryRow row2 = binaryRow(key, new TestValue(5, "baz"));
+
+        addWrite(storageUpdateHandler, rowUuid, row1);
+        commitWrite(rowId);
+
+        addWrite(storageUpdateHandler, rowUuid, row1);
+        commitWrite(rowId);
+
+        addWrite(storageUpdateHandler, rowUuid, row2);
+        commitWrite(rowId);
+
+        assertEquals(3, storageUpdateHandler.estimatedGarbage());
+
+        HybridTimestamp afterCommits = now();
+
+        assertEquals(1, storageUpdateHandler.vacuumBatch(afterCommits, 1));
+        assertEquals(2, storageUpdateHandler.estimatedGarbage());
+
+        // Only one more entry can be collected, the estimate is reset when there is no more garbage.
+        assertEquals(1, storageUpdateHandler.vacuumBatch(afterCommits, 10));
+        assertEquals(0, storageUpdateHandler.estimatedGarbage());
+
+        assertEquals(0, storageUpdateHandler.vacuumBatch(afterCommits, 10));
+
+        assertEquals(1, getRowVersions(rowId).size());
+        assertTrue(inIndexes(row1, true, false));
+        assertTrue(inAllIndexes(row2));
+    }
 }
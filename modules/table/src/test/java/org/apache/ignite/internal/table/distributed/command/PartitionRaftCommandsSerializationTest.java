@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -208,6 +209,7 @@ public class PartitionRaftCommandsSerializationTest extends IgniteAbstractTest {
         FinishTxCommand cmd = msgFactory.finishTxCommand()
                 .txId(UUID.randomUUID())
                 .commit(true)
+                .cleanup(true)
                 .commitTimestamp(hybridTimestampMessage(clock.now()))
                 .tablePartitionIds(grps)
                 .build();
@@ -216,10 +218,43 @@ public class PartitionRaftCommandsSerializationTest extends IgniteAbstractTest {
 
         assertEquals(cmd.txId(), readCmd.txId());
         assertEquals(cmd.commit(), readCmd.commit());
+        assertEquals(cmd.cleanup(), readCmd.cleanup());
         assertEquals(cmd.commitTimestamp(), readCmd.commitTimestamp());
         assertEquals(cmd.tablePartitionIds(), readCmd.tablePartitionIds());
     }
 
+    @Test
+    public void testTxBatchCommand() throws Exception {
+        HybridClock clock = new HybridClockImpl();
+
+        TxBatchCommand cmd = msgFactory.txBatchCommand()
+                .commands(List.of(
+                        msgFactory.finishTxCommand()
+                                .txId(UUID.randomUUID())
+                                .commit(false)
+                                .tablePartitionIds(List.of(msgFactory.tablePartitionIdMessage()
+                                        .tableId(UUID.randomUUID())
+                                        .partitionId(1)
+                                        .build()))
+                                .build(),
+                        msgFactory.txCleanupCommand()
+                                .txId(UUID.randomUUID())
+                                .commit(true)
+                                .commitTimestamp(hybridTimestampMessage(clock.now()))
+                                .build()
+                ))
+                .build();
+
+        TxBatchCommand readCmd = copyCommand(cmd);
+
+        assertEquals(cmd.commands().size(), readCmd.commands().size());
+
+        for (int i = 0; i < cmd.commands().size(); i++) {
+            assertEquals(cmd.commands().get(i).getClass(), readCmd.commands().get(i).getClass());
+            assertEquals(cmd.commands().get(i).txId(), readCmd.commands().get(i).txId());
+        }
+    }
+
     private HybridTimestampMessage hybridTimestampMessage(HybridTimestamp tmstmp) {
         return replicaMessagesFactory.hybridTimestampMessage()
                 .logical(tmstmp.getLogical())
@@ -236,6 +271,7 @@ public class PartitionRaftCommandsSerializationTest extends IgniteAbstractTest {
             return (T) msgFactory.finishTxCommand()
                     .txId(finishTxCommand.txId())
                     .commit(finishTxCommand.commit())
+                    .cleanup(finishTxCommand.cleanup())
                     .tablePartitionIds(finishTxCommand.tablePartitionIds())
                     .commitTimestamp(finishTxCommand.commitTimestamp())
                     .build();
@@ -264,6 +300,18 @@ public class PartitionRaftCommandsSerializationTest extends IgniteAbstractTest {
                     .rowsToUpdate(updateCommand.rowsToUpdate())
                     .tablePartitionId(updateCommand.tablePartitionId())
                     .build();
+        } else if (cmd instanceof TxBatchCommand) {
+            TxBatchCommand txBatchCommand = (TxBatchCommand) cmd;
+
+            List<PartitionCommand> commands = new ArrayList<>();
+
+            for (PartitionCommand command : txBatchCommand.commands()) {
+                commands.add(copyCommand(command));
+            }
+
+            return (T) msgFactory.txBatchCommand()
+                    .commands(commands)
+                    .build();
         } else {
             fail(cmd.toString());
 
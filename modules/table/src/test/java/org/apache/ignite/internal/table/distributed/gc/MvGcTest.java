@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.table.distributed.gc;
 
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willFailFast;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willTimeoutFast;
@@ -28,11 +29,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
@@ -80,7 +85,7 @@ public class MvGcTest {
 
         gc.addStorage(createTablePartitionId(), createWithCompleteFutureOnVacuum(invokeVacuumMethodFuture, null));
 
-        // We expect that StorageUpdateHandler#vacuum will not be called.
+        // We expect that StorageUpdateHandler#vacuumBatch will not be called.
         assertThat(invokeVacuumMethodFuture, willTimeoutFast());
     }
 
@@ -94,7 +99,7 @@ public class MvGcTest {
 
         gc.addStorage(createTablePartitionId(), createWithCompleteFutureOnVacuum(invokeVacuumMethodFuture, lowWatermark));
 
-        // We expect StorageUpdateHandler#vacuum to be called with the set low watermark.
+        // We expect StorageUpdateHandler#vacuumBatch to be called with the set low watermark.
         assertThat(invokeVacuumMethodFuture, willCompleteSuccessfully());
     }
 
@@ -113,7 +118,7 @@ public class MvGcTest {
 
         gc.updateLowWatermark(lowWatermark0);
 
-        // We expect StorageUpdateHandler#vacuum to be called with the set lowWatermark0.
+        // We expect StorageUpdateHandler#vacuumBatch to be called with the set lowWatermark0.
         assertThat(invokeVacuumMethodFuture0, willCompleteSuccessfully());
         assertThat(invokeVacuumMethodFuture1, willCompleteSuccessfully());
 
@@ -128,7 +133,7 @@ public class MvGcTest {
 
         gc.updateLowWatermark(lowWatermark1);
 
-        // We expect StorageUpdateHandler#vacuum to be called with the set lowWatermark0.
+        // We expect StorageUpdateHandler#vacuumBatch to be called with the set lowWatermark0.
         assertThat(invokeVacuumMethodFuture2, willCompleteSuccessfully());
         assertThat(invokeVacuumMethodFuture3, willCompleteSuccessfully());
     }
@@ -148,7 +153,7 @@ public class MvGcTest {
 
         gc.updateLowWatermark(firstLowWatermark);
 
-        // We expect StorageUpdateHandler#vacuum to be called with the set lowWatermark0.
+        // We expect StorageUpdateHandler#vacuumBatch to be called with the set lowWatermark0.
         assertThat(invokeVacuumMethodFuture0, willCompleteSuccessfully());
         assertThat(invokeVacuumMethodFuture1, willCompleteSuccessfully());
 
@@ -163,7 +168,7 @@ public class MvGcTest {
 
         gc.updateLowWatermark(sameLowWatermark);
 
-        // We expect that StorageUpdateHandler#vacuum will not be called.
+        // We expect that StorageUpdateHandler#vacuumBatch will not be called.
         assertThat(invokeVacuumMethodFutureForSame0, willTimeoutFast());
         assertThat(invokeVacuumMethodFutureForSame1, willTimeoutFast());
 
@@ -178,7 +183,7 @@ public class MvGcTest {
 
         gc.updateLowWatermark(lowerLowWatermark);
 
-        // We expect that StorageUpdateHandler#vacuum will not be called.
+        // We expect that StorageUpdateHandler#vacuumBatch will not be called.
         assertThat(invokeVacuumMethodFutureForSame0, willTimeoutFast());
         assertThat(invokeVacuumMethodFutureForSame1, willTimeoutFast());
         assertThat(invokeVacuumMethodFutureForLower0, willTimeoutFast());
@@ -335,6 +340,113 @@ public class MvGcTest {
         }
     }
 
+    @Test
+    void testNextBatchSize() {
+        long fast = MvGc.GC_BATCH_DURATION_NANOS / 2;
+        long slow = MvGc.GC_BATCH_DURATION_NANOS * 2;
+
+        assertEquals(MvGc.GC_BATCH_SIZE * 2, MvGc.nextBatchSize(MvGc.GC_BATCH_SIZE, fast));
+        assertEquals(MvGc.MAX_GC_BATCH_SIZE, MvGc.nextBatchSize(MvGc.MAX_GC_BATCH_SIZE, fast));
+
+        assertEquals(MvGc.GC_BATCH_SIZE / 2, MvGc.nextBatchSize(MvGc.GC_BATCH_SIZE, slow));
+        assertEquals(1, MvGc.nextBatchSize(1, slow));
+    }
+
+    @Test
+    void testPrioritizeStoragesWithMoreGarbage() throws Exception {
+        Queue<Long> vacuumedGarbage = new ConcurrentLinkedQueue<>();
+
+        CountDownLatch latch = new CountDownLatch(3);
+
+        for (long garbage : new long[]{1, 100, 10}) {
+            StorageUpdateHandler storageUpdateHandler = mock(StorageUpdateHandler.class);
+
+            when(storageUpdateHandler.estimatedGarbage()).thenReturn(garbage);
+
+            when(storageUpdateHandler.vacuumBatch(any(HybridTimestamp.class), anyInt())).then(invocation -> {
+                vacuumedGarbage.add(garbage);
+
+                latch.countDown();
+
+                return 0;
+            });
+
+            gc.addStorage(createTablePartitionId(), storageUpdateHandler);
+        }
+
+        assertEquals(111, gc.garbageBacklog());
+
+        gc.updateLowWatermark(new HybridTimestamp(1, 1));
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+
+        // There is only one GC thread, so the storages are vacuumed in the order of their garbage.
+        assertEquals(List.of(100L, 10L, 1L), List.copyOf(vacuumedGarbage));
+    }
+
+    @Test
+    void testCollectedVersions() throws Exception {
+        CountDownLatch latch = new CountDownLatch(3);
+
+        gc.addStorage(createTablePartitionId(), createWithCountDownOnVacuum(latch));
+
+        gc.updateLowWatermark(new HybridTimestamp(1, 1));
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+
+        assertTrue(waitForCondition(() -> gc.batches() == 3, 1_000));
+
+        // Two full batches, of the initial and of the doubled sizes, and an empty one.
+        assertEquals(MvGc.GC_BATCH_SIZE * 3L, gc.collectedVersions());
+    }
+
+    @Test
+    void testTimeBudget(
+            @InjectConfiguration("mock {gcThreads = 1, gcTimeBudget = 20}")
+            TablesConfiguration tablesConfig
+    ) throws Exception {
+        gc.close();
+
+        gc = new MvGc("test", tablesConfig);
+
+        gc.start();
+
+        long batchDurationMillis = 10;
+
+        int batchCount = 3;
+
+        Queue<Long> batchStarts = new ConcurrentLinkedQueue<>();
+
+        CountDownLatch latch = new CountDownLatch(batchCount);
+
+        StorageUpdateHandler storageUpdateHandler = mock(StorageUpdateHandler.class);
+
+        when(storageUpdateHandler.vacuumBatch(any(HybridTimestamp.class), anyInt())).then(invocation -> {
+            batchStarts.add(System.nanoTime());
+
+            Thread.sleep(batchDurationMillis);
+
+            latch.countDown();
+
+            return latch.getCount() > 0 ? invocation.getArgument(1) : 0;
+        });
+
+        gc.addStorage(createTablePartitionId(), storageUpdateHandler);
+
+        gc.updateLowWatermark(new HybridTimestamp(1, 1));
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        List<Long> starts = List.copyOf(batchStarts);
+
+        // With a budget of 20%, the collector pauses for 4 batch durations after each batch.
+        long minDurationMillis = (batchCount - 1) * batchDurationMillis * 5;
+
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(starts.get(batchCount - 1) - starts.get(0));
+
+        assertTrue(durationMillis >= minDurationMillis, "duration=" + durationMillis);
+    }
+
     private TablePartitionId createTablePartitionId() {
         return new TablePartitionId(UUID.randomUUID(), PARTITION_ID);
     }
@@ -352,7 +464,7 @@ public class MvGcTest {
             CompletableFuture<Void> future,
             @Nullable HybridTimestamp exp
     ) {
-        when(storageUpdateHandler.vacuum(any(HybridTimestamp.class))).then(invocation -> {
+        when(storageUpdateHandler.vacuumBatch(any(HybridTimestamp.class), anyInt())).then(invocation -> {
             if (exp != null) {
                 try {
                     assertEquals(exp, invocation.getArgument(0));
@@ -365,17 +477,18 @@ public class MvGcTest {
                 future.complete(null);
             }
 
-            return false;
+            return 0;
         });
     }
 
     private StorageUpdateHandler createWithCountDownOnVacuum(CountDownLatch latch) {
         StorageUpdateHandler storageUpdateHandler = mock(StorageUpdateHandler.class);
 
-        when(storageUpdateHandler.vacuum(any(HybridTimestamp.class))).then(invocation -> {
+        when(storageUpdateHandler.vacuumBatch(any(HybridTimestamp.class), anyInt())).then(invocation -> {
             latch.countDown();
 
-            return latch.getCount() > 0;
+            // Full batch while there is garbage.
+            return latch.getCount() > 0 ? invocation.getArgument(1) : 0;
         });
 
         return storageUpdateHandler;
@@ -384,12 +497,12 @@ public class MvGcTest {
     private StorageUpdateHandler createWithWaitFinishVacuum(CompletableFuture<Void> startFuture, CompletableFuture<Void> finishFuture) {
         StorageUpdateHandler storageUpdateHandler = mock(StorageUpdateHandler.class);
 
-        when(storageUpdateHandler.vacuum(any(HybridTimestamp.class))).then(invocation -> {
+        when(storageUpdateHandler.vacuumBatch(any(HybridTimestamp.class), anyInt())).then(invocation -> {
             startFuture.complete(null);
 
             assertThat(finishFuture, willCompleteSuccessfully());
 
-            return false;
+            return 0;
         });
 
         return storageUpdateHandler;
@@ -404,11 +517,11 @@ public class MvGcTest {
     private StorageUpdateHandler createWithCountDownOnVacuumWithoutNextBatch(CountDownLatch latch) {
         StorageUpdateHandler storageUpdateHandler = mock(StorageUpdateHandler.class);
 
-        when(storageUpdateHandler.vacuum(any(HybridTimestamp.class))).then(invocation -> {
+        when(storageUpdateHandler.vacuumBatch(any(HybridTimestamp.class), anyInt())).then(invocation -> {
             latch.countDown();
 
             // So that there is no processing of the next batch.
-            return false;
+            return 0;
         });
 
         return storageUpdateHandler;
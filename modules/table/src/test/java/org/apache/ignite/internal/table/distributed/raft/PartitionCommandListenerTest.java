@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.util.ArrayUtils.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
@@ -86,6 +87,7 @@ import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
 import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
 import org.apache.ignite.internal.table.distributed.TableSchemaAwareIndexStorage;
 import org.apache.ignite.internal.table.distributed.command.FinishTxCommand;
+import org.apache.ignite.internal.table.distributed.command.TablePartitionIdMessage;
 import org.apache.ignite.internal.table.distributed.command.TxCleanupCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateCommand;
 import org.apache.ignite.internal.table.distributed.replicator.TablePartitionId;
@@ -134,6 +136,15 @@ public class PartitionCommandListenerTest {
     /** Table command listener. */
     private PartitionListener commandListener;
 
+    /** Number of nested consistent writes to the partition storage in progress, tracked only by the tests that need it. */
+    private int consistentWriteDepth;
+
+    /** Maximum observed {@link #consistentWriteDepth}. */
+    private int maxConsistentWriteDepth;
+
+    /** {@link #consistentWriteDepth} observed by the last callback on committed updates, {@code -1} if there was no callback. */
+    private int consistentWriteDepthOnUpdatesCommitted = -1;
+
     /** RAFT index. */
     private final AtomicLong raftIndex = new AtomicLong();
 
@@ -198,7 +209,8 @@ public class PartitionCommandListenerTest {
                 partitionDataStorage,
                 storageUpdateHandler,
                 txStateStorage,
-                safeTimeTracker
+                safeTimeTracker,
+                () -> consistentWriteDepthOnUpdatesCommitted = consistentWriteDepth
         );
     }
 
@@ -216,6 +228,121 @@ public class PartitionCommandListenerTest {
         delete();
     }
 
+    /**
+     * Inserts rows and commits them by a single finish command.
+     */
+    @Test
+    public void testInsertCommandsWithOnePhaseCommit() {
+        UUID txId = Timestamp.nextVersion().toUuid();
+        var commitPartId = new TablePartitionId(txId, PARTITION_ID);
+
+        TablePartitionIdMessage commitPartIdMsg = msgFactory.tablePartitionIdMessage()
+                .tableId(commitPartId.tableId())
+                .partitionId(commitPartId.partitionId())
+                .build();
+
+        Map<UUID, ByteBuffer> rows = new HashMap<>(KEY_COUNT);
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            rows.put(Timestamp.nextVersion().toUuid(), getTestRow(i, i).byteBuffer());
+        }
+
+        invokeBatchedCommand(msgFactory.updateAllCommand()
+                .tablePartitionId(commitPartIdMsg)
+                .rowsToUpdate(rows)
+                .txId(txId)
+                .safeTime(hybridTimestamp(hybridClock.now()))
+                .build());
+        invokeBatchedCommand(msgFactory.finishTxCommand()
+                .txId(txId)
+                .commit(true)
+                .cleanup(true)
+                .commitTimestamp(hybridTimestamp(CLOCK.now()))
+                .tablePartitionIds(List.of(commitPartIdMsg))
+                .safeTime(hybridTimestamp(hybridClock.now()))
+                .build());
+
+        readAndCheck(true);
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertFalse(mvPartitionStorage.read(readRow(getTestKey(i)), HybridTimestamp.MAX_VALUE).isWriteIntent());
+        }
+
+        assertEquals(TxState.COMMITED, txStateStorage.get(txId).txState());
+    }
+
+    /**
+     * The test checks that the finish and cleanup commands of several transactions are applied by a single batch command.
+     */
+    @Test
+    public void testTxBatchCommand() {
+        UUID finishedTxId = Timestamp.nextVersion().toUuid();
+        UUID cleanedUpTxId = Timestamp.nextVersion().toUuid();
+
+        var commitPartId = new TablePartitionId(finishedTxId, PARTITION_ID);
+
+        TablePartitionIdMessage commitPartIdMsg = msgFactory.tablePartitionIdMessage()
+                .tableId(commitPartId.tableId())
+                .partitionId(commitPartId.partitionId())
+                .build();
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            invokeBatchedCommand(msgFactory.updateCommand()
+                    .tablePartitionId(commitPartIdMsg)
+                    .rowUuid(Timestamp.nextVersion().toUuid())
+                    .rowBuffer(getTestRow(i, i).byteBuffer())
+                    .txId(i % 2 == 0 ? finishedTxId : cleanedUpTxId)
+                    .safeTime(hybridTimestamp(hybridClock.now()))
+                    .build());
+        }
+
+        HybridTimestamp commitTimestamp = CLOCK.now();
+
+        doAnswer(invocation -> {
+            maxConsistentWriteDepth = Math.max(maxConsistentWriteDepth, ++consistentWriteDepth);
+
+            try {
+                return invocation.callRealMethod();
+            } finally {
+                consistentWriteDepth--;
+            }
+        }).when(partitionDataStorage).runConsistently(any());
+
+        invokeBatchedCommand(msgFactory.txBatchCommand()
+                .commands(List.of(
+                        msgFactory.finishTxCommand()
+                                .txId(finishedTxId)
+                                .commit(true)
+                                .cleanup(true)
+                                .commitTimestamp(hybridTimestamp(commitTimestamp))
+                                .tablePartitionIds(List.of(commitPartIdMsg))
+                                .safeTime(hybridTimestamp(hybridClock.now()))
+                                .build(),
+                        msgFactory.txCleanupCommand()
+                                .txId(cleanedUpTxId)
+                                .commit(true)
+                                .commitTimestamp(hybridTimestamp(commitTimestamp))
+                                .safeTime(hybridTimestamp(hybridClock.now()))
+                                .build()
+                ))
+                .safeTime(hybridTimestamp(hybridClock.now()))
+                .build());
+
+        readAndCheck(true);
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            assertFalse(mvPartitionStorage.read(readRow(getTestKey(i)), HybridTimestamp.MAX_VALUE).isWriteIntent());
+        }
+
+        assertEquals(TxState.COMMITED, txStateStorage.get(finishedTxId).txState());
+        assertEquals(raftIndex.get(), mvPartitionStorage.lastAppliedIndex());
+        assertEquals(raftIndex.get(), txStateStorage.lastAppliedIndex());
+
+        // The whole batch is a single consistent write, and the committed updates are announced once it is over.
+        assertEquals(1, maxConsistentWriteDepth);
+        assertEquals(0, consistentWriteDepthOnUpdatesCommitted);
+    }
+
     /**
      * Upserts rows and checks them.
      */
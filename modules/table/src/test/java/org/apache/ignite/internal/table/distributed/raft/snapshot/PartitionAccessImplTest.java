@@ -21,11 +21,14 @@ import static org.apache.ignite.internal.testframework.matchers.CompletableFutur
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
@@ -35,6 +38,7 @@ import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.configuration.TablesConfiguration;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.RowVersionChain;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.impl.TestMvTableStorage;
 import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
@@ -212,6 +216,46 @@ public class PartitionAccessImplTest {
         verify(storageUpdateHandler, times(1)).addToIndexes(eq(binaryRow), eq(rowId));
     }
 
+    @Test
+    void testAddVersionChains() {
+        TestMvTableStorage mvTableStorage = new TestMvTableStorage(tablesConfig.tables().get("foo"), tablesConfig);
+
+        MvPartitionStorage mvPartitionStorage = createMvPartition(mvTableStorage, TEST_PARTITION_ID);
+
+        StorageUpdateHandler storageUpdateHandler = mock(StorageUpdateHandler.class);
+
+        PartitionAccess partitionAccess = new PartitionAccessImpl(
+                new PartitionKey(UUID.randomUUID(), TEST_PARTITION_ID),
+                mvTableStorage,
+                new TestTxStateTableStorage(),
+                storageUpdateHandler,
+                mock(MvGc.class)
+        );
+
+        RowId rowId = new RowId(TEST_PARTITION_ID);
+        BinaryRow committedRow = mock(BinaryRow.class);
+        BinaryRow writeIntent = mock(BinaryRow.class);
+        UUID txId = UUID.randomUUID();
+        UUID commitTableId = UUID.randomUUID();
+
+        List<RowVersionChain> chains = List.of(new RowVersionChain(
+                rowId,
+                Arrays.asList(committedRow, null, writeIntent),
+                List.of(new HybridTimestamp(1, 0), new HybridTimestamp(2, 0)),
+                txId,
+                commitTableId,
+                TEST_PARTITION_ID
+        ));
+
+        partitionAccess.addVersionChains(chains);
+
+        verify(mvPartitionStorage, times(1)).addVersionChains(eq(chains));
+
+        verify(storageUpdateHandler, times(1)).addToIndexes(eq(committedRow), eq(rowId));
+        verify(storageUpdateHandler, times(1)).addToIndexes(isNull(), eq(rowId));
+        verify(storageUpdateHandler, times(1)).addToIndexes(eq(writeIntent), eq(rowId));
+    }
+
     private static MvPartitionStorage createMvPartition(MvTableStorage tableStorage, int partitionId) {
         CompletableFuture<MvPartitionStorage> createMvPartitionFuture = tableStorage.createMvPartition(partitionId);
 
@@ -29,7 +29,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
@@ -221,6 +224,12 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
     /** If true the local replica is considered leader, false otherwise. */
     private static boolean localLeader;
 
+    /** If true the raft client caches the local replica as the leader, even if it is not the leader anymore. */
+    private static boolean localCachedLeader;
+
+    /** Safe time clock of the replica. */
+    private static PendingComparableValuesTracker<HybridTimestamp> safeTimeClock;
+
     /** The state is used to resolve write intent. */
     private static TxState txState;
 
@@ -244,6 +253,9 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
             return completedFuture(new LeaderWithTerm(new Peer(localNode.name()), 1L));
         });
 
+        when(mockRaftClient.leader())
+                .thenAnswer(invocationOnMock -> new Peer(localLeader || localCachedLeader ? localNode.name() : anotherNode.name()));
+
         when(mockRaftClient.run(any())).thenAnswer(invocationOnMock -> raftClientFutureClosure.apply(invocationOnMock.getArgument(0)));
 
         when(topologySrv.getByConsistentId(any())).thenAnswer(invocationOnMock -> {
@@ -276,7 +288,7 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
             return completedFuture(txMeta);
         });
 
-        PendingComparableValuesTracker safeTimeClock = mock(PendingComparableValuesTracker.class);
+        safeTimeClock = mock(PendingComparableValuesTracker.class);
         when(safeTimeClock.waitFor(any())).thenReturn(completedFuture(null));
 
         UUID pkIndexId = UUID.randomUUID();
@@ -353,6 +365,7 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
     @BeforeEach
     public void beforeTest() {
         localLeader = true;
+        localCachedLeader = false;
         txState = null;
         ((TestHashIndexStorage) pkStorage.get().storage()).clear();
         ((TestHashIndexStorage) hashIndexStorage.storage()).clear();
@@ -429,6 +442,47 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
         assertNull(binaryRow);
     }
 
+    @Test
+    public void testReadOnlyRequestOnNonLeaderWaitsForSafeTimeWithoutLeaderRefresh() throws Exception {
+        localLeader = false;
+
+        clearInvocations(mockRaftClient, safeTimeClock);
+
+        HybridTimestamp readTimestamp = clock.now();
+
+        assertNull(roGetAsync(nextBinaryKey(), readTimestamp).get(1, TimeUnit.SECONDS));
+
+        verify(mockRaftClient, never()).refreshAndGetLeaderWithTerm();
+        verify(safeTimeClock).waitFor(readTimestamp);
+    }
+
+    @Test
+    public void testReadOnlyRequestOnDeposedLeaderWaitsForSafeTime() throws Exception {
+        localLeader = false;
+        localCachedLeader = true;
+
+        clearInvocations(mockRaftClient, safeTimeClock);
+
+        HybridTimestamp readTimestamp = clock.now();
+
+        assertNull(roGetAsync(nextBinaryKey(), readTimestamp).get(1, TimeUnit.SECONDS));
+
+        verify(mockRaftClient).refreshAndGetLeaderWithTerm();
+        verify(safeTimeClock).waitFor(readTimestamp);
+    }
+
+    @Test
+    public void testReadOnlyRequestOnConfirmedLeaderDoesNotWaitForSafeTime() throws Exception {
+        clearInvocations(mockRaftClient, safeTimeClock);
+
+        HybridTimestamp readTimestamp = clock.now();
+
+        assertNull(roGetAsync(nextBinaryKey(), readTimestamp).get(1, TimeUnit.SECONDS));
+
+        verify(mockRaftClient).refreshAndGetLeaderWithTerm();
+        verify(safeTimeClock, never()).waitFor(any());
+    }
+
     @Test
     public void testReadOnlySingleRowReplicaRequestCommittedResult() throws Exception {
         UUID txId = Timestamp.nextVersion().toUuid();
@@ -1180,14 +1234,16 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
     }
 
     private BinaryRow roGet(BinaryRow row, HybridTimestamp readTimestamp) {
-        CompletableFuture<?> future = partitionReplicaListener.invoke(TABLE_MESSAGES_FACTORY.readOnlySingleRowReplicaRequest()
+        return (BinaryRow) roGetAsync(row, readTimestamp).join();
+    }
+
+    private CompletableFuture<?> roGetAsync(BinaryRow row, HybridTimestamp readTimestamp) {
+        return partitionReplicaListener.invoke(TABLE_MESSAGES_FACTORY.readOnlySingleRowReplicaRequest()
                 .requestType(RequestType.RO_GET)
                 .readTimestamp(readTimestamp)
                 .binaryRow(row)
                 .build()
         );
-
-        return (BinaryRow) future.join();
     }
 
     private List<BinaryRow> roGetAll(Collection<BinaryRow> rows, HybridTimestamp readTimestamp) {
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replication;
+
+import static org.apache.ignite.internal.table.distributed.replicator.PartitionReplicaListener.hybridTimestamp;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.apache.ignite.internal.hlc.HybridClock;
+import org.apache.ignite.internal.hlc.HybridClockImpl;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.raft.Command;
+import org.apache.ignite.internal.raft.service.RaftGroupService;
+import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
+import org.apache.ignite.internal.table.distributed.command.PartitionCommand;
+import org.apache.ignite.internal.table.distributed.command.TxBatchCommand;
+import org.apache.ignite.internal.table.distributed.command.TxCleanupCommand;
+import org.apache.ignite.internal.table.distributed.replicator.TxCommandBatcher;
+import org.apache.ignite.lang.IgniteInternalException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link TxCommandBatcher}.
+ */
+public class TxCommandBatcherTest {
+    private static final TableMessagesFactory MSG_FACTORY = new TableMessagesFactory();
+
+    private final List<Command> sentCommands = new ArrayList<>();
+
+    private final List<CompletableFuture<Object>> raftFutures = new ArrayList<>();
+
+    private final List<PartitionCommand> createdCommands = new ArrayList<>();
+
+    private final HybridClock clock = new HybridClockImpl();
+
+    private final TxCommandBatcher batcher = new TxCommandBatcher(raftClient(), clock);
+
+    @Test
+    public void testSingleCommandIsSentAsIs() {
+        CompletableFuture<Object> fut = batcher.run(cleanupCommand());
+
+        assertEquals(1, sentCommands.size());
+        assertSame(createdCommands.get(0), sentCommands.get(0));
+
+        raftFutures.get(0).complete(null);
+
+        assertThat(fut, willBe(nullValue()));
+    }
+
+    @Test
+    public void testCommandsAreBatchedWhileCommandIsInFlight() {
+        CompletableFuture<Object> fut0 = batcher.run(cleanupCommand());
+
+        CompletableFuture<Object> fut1 = batcher.run(cleanupCommand());
+        CompletableFuture<Object> fut2 = batcher.run(cleanupCommand());
+        CompletableFuture<Object> fut3 = batcher.run(cleanupCommand());
+
+        assertEquals(1, sentCommands.size());
+
+        // Queued commands are not created until they are sent.
+        assertEquals(1, createdCommands.size());
+
+        raftFutures.get(0).complete(null);
+
+        assertThat(fut0, willBe(nullValue()));
+
+        assertEquals(2, sentCommands.size());
+        assertInstanceOf(TxBatchCommand.class, sentCommands.get(1));
+        assertEquals(createdCommands.subList(1, 4), ((TxBatchCommand) sentCommands.get(1)).commands());
+
+        assertFalse(fut1.isDone());
+
+        raftFutures.get(1).complete(new ArrayList<>(Arrays.asList(null, new IgniteInternalException("test"), null)));
+
+        assertThat(fut1, willBe(nullValue()));
+        assertThat(fut2, willThrow(IgniteInternalException.class));
+        assertThat(fut3, willBe(nullValue()));
+    }
+
+    @Test
+    public void testBatchFailure() {
+        batcher.run(cleanupCommand());
+
+        CompletableFuture<Object> fut1 = batcher.run(cleanupCommand());
+        CompletableFuture<Object> fut2 = batcher.run(cleanupCommand());
+
+        raftFutures.get(0).complete(null);
+        raftFutures.get(1).completeExceptionally(new IgniteInternalException("test"));
+
+        assertThat(fut1, willThrow(IgniteInternalException.class));
+        assertThat(fut2, willThrow(IgniteInternalException.class));
+
+        // The batcher is not stuck after a failure.
+        batcher.run(cleanupCommand());
+
+        assertEquals(3, sentCommands.size());
+    }
+
+    @Test
+    public void testSafeTimeIsAssignedWhenCommandIsSent() {
+        batcher.run(cleanupCommand());
+        batcher.run(cleanupCommand());
+
+        // Other commands may move the safe time forward while the command is queued.
+        HybridTimestamp queuedUntil = clock.now();
+
+        raftFutures.get(0).complete(null);
+
+        assertEquals(2, sentCommands.size());
+        assertThat(((TxCleanupCommand) sentCommands.get(1)).safeTime().asHybridTimestamp(), greaterThan(queuedUntil));
+    }
+
+    private RaftGroupService raftClient() {
+        RaftGroupService raftClient = mock(RaftGroupService.class);
+
+        when(raftClient.run(any())).thenAnswer(invocation -> {
+            sentCommands.add(invocation.getArgument(0));
+
+            var fut = new CompletableFuture<>();
+
+            raftFutures.add(fut);
+
+            return fut;
+        });
+
+        return raftClient;
+    }
+
+    private Function<HybridTimestamp, PartitionCommand> cleanupCommand() {
+        return now -> {
+            PartitionCommand cmd = MSG_FACTORY.txCleanupCommand()
+                    .txId(UUID.randomUUID())
+                    .commit(false)
+                    .safeTime(hybridTimestamp(now))
+                    .build();
+
+            createdCommands.add(cmd);
+
+            return cmd;
+        };
+    }
+}
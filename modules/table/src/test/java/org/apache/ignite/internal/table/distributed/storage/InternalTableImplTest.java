@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.storage;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.internal.hlc.HybridClockImpl;
+import org.apache.ignite.internal.raft.Peer;
+import org.apache.ignite.internal.raft.service.LeaderWithTerm;
+import org.apache.ignite.internal.raft.service.RaftGroupService;
+import org.apache.ignite.internal.replicator.ReplicaService;
+import org.apache.ignite.internal.replicator.exception.ReplicaUnavailableException;
+import org.apache.ignite.internal.replicator.message.ReplicaRequest;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowEx;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.table.distributed.replicator.TablePartitionId;
+import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.storage.state.TxStateTableStorage;
+import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.NetworkAddress;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link InternalTableImpl}.
+ */
+public class InternalTableImplTest {
+    private final ClusterNode node1 = new ClusterNode("id1", "node1", new NetworkAddress("localhost", 3001));
+
+    private final ClusterNode node2 = new ClusterNode("id2", "node2", new NetworkAddress("localhost", 3002));
+
+    private final ClusterNode node3 = new ClusterNode("id3", "node3", new NetworkAddress("localhost", 3003));
+
+    private final RaftGroupService raftGroupService = mock(RaftGroupService.class);
+
+    private final ReplicaService replicaService = mock(ReplicaService.class);
+
+    @Test
+    public void testReadOnlyRecipientIsLocalReplica() {
+        when(raftGroupService.peers()).thenReturn(List.of(new Peer(node2.name()), new Peer(node1.name())));
+
+        InternalTableImpl table = createTable(node1, Map.of(node1.name(), node1, node2.name(), node2));
+
+        assertThat(table.evaluateReadOnlyRecipientNode(0), willBe(node1));
+
+        verify(raftGroupService, never()).refreshAndGetLeaderWithTerm();
+    }
+
+    @Test
+    public void testReadOnlyRecipientIsReplicaInTopology() {
+        when(raftGroupService.peers()).thenReturn(List.of(new Peer(node1.name()), new Peer(node2.name())));
+
+        // The first peer has left the topology.
+        InternalTableImpl table = createTable(node3, Map.of(node2.name(), node2, node3.name(), node3));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(table.evaluateReadOnlyRecipientNode(0), willBe(node2));
+        }
+
+        verify(raftGroupService, never()).refreshAndGetLeaderWithTerm();
+    }
+
+    @Test
+    public void testReadOnlyRecipientIsLeaderIfPeersUnknown() {
+        when(raftGroupService.peers()).thenReturn(null);
+        when(raftGroupService.refreshAndGetLeaderWithTerm()).thenReturn(completedFuture(new LeaderWithTerm(new Peer(node2.name()), 1)));
+
+        InternalTableImpl table = createTable(node1, Map.of(node1.name(), node1, node2.name(), node2));
+
+        assertThat(table.evaluateReadOnlyRecipientNode(0), willBe(node2));
+    }
+
+    @Test
+    public void testReadOnlyGetRetriesOnRefreshedPeersIfReplicaIsMissing() {
+        TablePartitionId groupId = new TablePartitionId(UUID.randomUUID(), 0);
+
+        when(raftGroupService.groupId()).thenReturn(groupId);
+
+        // The cached peers are stale: the local node does not host the replica anymore, the refreshed peers are correct.
+        when(raftGroupService.peers()).thenReturn(List.of(new Peer(node1.name())), List.of(new Peer(node2.name())));
+        when(raftGroupService.refreshMembers(true)).thenReturn(completedFuture(null));
+
+        BinaryRow row = mock(BinaryRow.class);
+
+        when(replicaService.invoke(eq(node1), any(ReplicaRequest.class)))
+                .thenReturn(failedFuture(new ReplicaUnavailableException(groupId, node1)));
+        when(replicaService.invoke(eq(node2), any(ReplicaRequest.class))).thenReturn(completedFuture(row));
+
+        InternalTransaction tx = mock(InternalTransaction.class);
+
+        when(tx.isReadOnly()).thenReturn(true);
+        when(tx.readTimestamp()).thenReturn(new HybridClockImpl().now());
+
+        InternalTableImpl table = createTable(node1, Map.of(node1.name(), node1, node2.name(), node2));
+
+        assertThat(table.get(mock(BinaryRowEx.class), tx), willBe(row));
+
+        verify(raftGroupService).refreshMembers(true);
+    }
+
+    private InternalTableImpl createTable(ClusterNode localNode, Map<String, ClusterNode> topology) {
+        return new InternalTableImpl(
+                "test",
+                UUID.randomUUID(),
+                Int2ObjectMaps.singleton(0, raftGroupService),
+                1,
+                topology::get,
+                () -> localNode,
+                mock(TxManager.class),
+                mock(MvTableStorage.class),
+                mock(TxStateTableStorage.class),
+                replicaService,
+                new HybridClockImpl()
+        );
+    }
+}
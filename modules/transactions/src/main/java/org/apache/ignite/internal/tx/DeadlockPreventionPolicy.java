@@ -50,6 +50,18 @@ public interface DeadlockPreventionPolicy {
         return -1;
     }
 
+    /**
+     * Interval (in milliseconds) of the deadlock detection. If it is greater than {@code 0}, then the lock manager searches for a cycle
+     * of the transactions waiting for each other's locks, once a lock attempt has been waiting for this interval and then again after
+     * each next interval, and aborts the lock attempt of a single transaction of the cycle. If it is {@code 0}, deadlocks are not
+     * detected, and the policy should prevent them by the transaction priority or by the timeout.
+     *
+     * @return Interval, in milliseconds.
+     */
+    default long deadlockDetectionInterval() {
+        return 0;
+    }
+
     /**
      * Whether transaction priority if used for conflict resolution.
      *
@@ -93,4 +93,11 @@ public interface InternalTransaction extends Transaction {
      * @return Read timestamp for the given transaction if it is a read-only one or {code null} otherwise.
      */
     @Nullable HybridTimestamp readTimestamp();
+
+    /**
+     * Returns a future that completes when the transaction is committed or rolled back.
+     *
+     * @return Future that completes when the transaction is finished.
+     */
+    CompletableFuture<Void> finishFuture();
 }
@@ -53,7 +53,7 @@ public interface TxManager extends IgniteComponent {
      * Returns a transaction state.
      *
      * @param txId Transaction id.
-     * @return The state or null if the state is unknown.
+     * @return The state or null if the state is unknown or has been evicted.
      */
     // TODO: IGNITE-17638 TestOnly code, let's consider using Txn state map instead of states.
     @Deprecated
@@ -117,6 +117,22 @@ public interface TxManager extends IgniteComponent {
             HybridTimestamp commitTimestamp
             );
 
+    /**
+     * Returns the cached outcome of a finished transaction.
+     *
+     * @param txId Transaction id.
+     * @return Transaction meta with a final state, {@code null} if the outcome is not cached.
+     */
+    @Nullable TxMeta cachedOutcome(UUID txId);
+
+    /**
+     * Caches the outcome of a finished transaction, so that its write intents can be resolved without a request to the commit partition.
+     *
+     * @param txId Transaction id.
+     * @param txMeta Transaction meta with a final state.
+     */
+    void cacheOutcome(UUID txId, TxMeta txMeta);
+
     /**
      * Returns a number of finished transactions.
      *
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.configuration;
+
+import org.apache.ignite.configuration.annotation.ConfigurationRoot;
+import org.apache.ignite.configuration.annotation.ConfigurationType;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
+import org.apache.ignite.internal.tx.impl.WaitForGraphDeadlockDetectionPolicy;
+
+/**
+ * Transaction configuration schema of a node.
+ */
+@SuppressWarnings("PMD.UnusedPrivateField")
+@ConfigurationRoot(rootName = "transaction", type = ConfigurationType.LOCAL)
+public class TransactionConfigurationSchema {
+    /** Deadlocks are prevented by failing the lock attempts of younger transactions that conflict with older ones. */
+    public static final String WAIT_DIE_DEADLOCK_POLICY = "WAIT_DIE";
+
+    /** Conflicting transactions wait, the lock attempt of one transaction of each detected deadlock is failed. */
+    public static final String DETECTION_DEADLOCK_POLICY = "DETECTION";
+
+    /**
+     * Number of row locks of a transaction in a table, above which the row locks are escalated to a table lock, if the transaction
+     * modifies the table. {@code 0} disables lock escalation.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public final int lockEscalationThreshold = 0;
+
+    /** Deadlock handling policy of the lock manager. */
+    @OneOf({WAIT_DIE_DEADLOCK_POLICY, DETECTION_DEADLOCK_POLICY})
+    @Value(hasDefault = true)
+    public final String deadlockPolicy = WAIT_DIE_DEADLOCK_POLICY;
+
+    /** Interval of the deadlock detection, in milliseconds, used by the {@link #DETECTION_DEADLOCK_POLICY detection} policy. */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public final long deadlockDetectionInterval = WaitForGraphDeadlockDetectionPolicy.DFLT_DEADLOCK_DETECTION_INTERVAL;
+
+    /**
+     * Lock wait timeout, in milliseconds, used by the {@link #DETECTION_DEADLOCK_POLICY detection} policy. The detection examines the
+     * locks of a single node, so a deadlock of transactions waiting for locks on different nodes is resolved by this timeout.
+     */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public final long deadlockDetectionWaitTimeout = WaitForGraphDeadlockDetectionPolicy.DFLT_WAIT_TIMEOUT;
+}
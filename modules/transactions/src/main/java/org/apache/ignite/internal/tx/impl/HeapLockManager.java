@@ -21,6 +21,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.apache.ignite.lang.ErrorGroups.Transactions.ACQUIRE_LOCK_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Transactions.ACQUIRE_LOCK_TIMEOUT_ERR;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -37,6 +38,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.internal.tx.DeadlockPreventionPolicy;
@@ -53,20 +58,60 @@ import org.jetbrains.annotations.Nullable;
 /**
  * A {@link LockManager} implementation which stores lock queues in the heap.
  *
- * <p>Lock waiters are placed in the queue, ordered according to comparator provided by {@link HeapLockManager#deadlockPreventionPolicy}.
+ * <p>Lock waiters are placed in the queue, ordered according to comparator provided by the {@link DeadlockPreventionPolicy}.
  * When a new waiter is placed in the queue, it's validated against current lock owner: if there is an owner with a higher transaction id
  * lock request is denied.
  *
  * <p>Read lock can be upgraded to write lock (only available for the lowest read-locked entry of
  * the queue).
+ *
+ * <p>Intention locks (IS and IX) on coarse-grained keys, such as table or index keys, are taken without the lock state monitor while
+ * no other lock modes are held or requested on the key, see {@link LockState#tryAcquireIntention}.
+ *
+ * <p>If the policy sets a deadlock detection interval, then a lock attempt that has been waiting for the interval starts a search for a
+ * cycle of transactions waiting for each other's locks, see {@link #detectDeadlock}.
+ *
+ * <p>If a lock escalation threshold is set, then once a transaction that modifies a context, such as a table, holds more fine-grained
+ * locks in it than the threshold, the locks are escalated to a single lock of the context, see {@link #tryEscalate}.
  */
 public class HeapLockManager implements LockManager {
+    /** All lock modes, cached to avoid copying the array on every {@link LockMode#values()} call. */
+    private static final LockMode[] LOCK_MODES = LockMode.values();
+
     private ConcurrentHashMap<LockKey, LockState> locks = new ConcurrentHashMap<>();
 
-    private final DeadlockPreventionPolicy deadlockPreventionPolicy;
+    /**
+     * Index of the keys that each transaction has waiters for, so that {@link #locks(UUID)} doesn't iterate over locks of other
+     * transactions. May contain keys that the transaction no longer holds, such keys are skipped and pruned by {@link #locks(UUID)}.
+     */
+    private final ConcurrentHashMap<UUID, TxLocks> txLockKeys = new ConcurrentHashMap<>();
+
+    /** Supplier of the deadlock prevention policy, that is resolved on the first lock attempt. */
+    private final Supplier<DeadlockPreventionPolicy> deadlockPreventionPolicySupplier;
+
+    /** Deadlock prevention policy and its executors, {@code null} until the first lock attempt. */
+    private volatile @Nullable DeadlockHandling deadlockHandling;
 
-    /** Executor that is used to fail waiters after timeout. */
-    private final Executor delayedExecutor;
+    /** Number of fine-grained locks of a transaction in a context, above which the locks are escalated, {@code 0} to disable. */
+    private final IntSupplier lockEscalationThreshold;
+
+    /** Number of successful lock escalations. */
+    private final LongAdder escalations = new LongAdder();
+
+    /** Number of lock escalation attempts that failed due to conflicting locks. */
+    private final LongAdder failedEscalations = new LongAdder();
+
+    /** Number of fine-grained locks released by lock escalations. */
+    private final LongAdder escalatedLocks = new LongAdder();
+
+    /** Number of lock attempts that had to wait for a conflicting lock. */
+    private final LongAdder lockWaits = new LongAdder();
+
+    /** Number of lock attempts that failed due to a conflict, a timeout or a deadlock. */
+    private final LongAdder lockAborts = new LongAdder();
+
+    /** Number of detected deadlocks. */
+    private final LongAdder deadlocks = new LongAdder();
 
     /**
      * Constructor.
@@ -81,17 +126,77 @@ public class HeapLockManager implements LockManager {
      * @param deadlockPreventionPolicy Deadlock prevention policy.
      */
     public HeapLockManager(DeadlockPreventionPolicy deadlockPreventionPolicy) {
-        this.deadlockPreventionPolicy = deadlockPreventionPolicy;
-        this.delayedExecutor = deadlockPreventionPolicy.waitTimeout() > 0
-                ? CompletableFuture.delayedExecutor(deadlockPreventionPolicy.waitTimeout(), TimeUnit.MILLISECONDS)
-                : null;
+        this(deadlockPreventionPolicy, () -> 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param deadlockPreventionPolicy Deadlock prevention policy.
+     * @param lockEscalationThreshold Supplier of the number of fine-grained locks of a transaction in a context, above which the
+     *         locks are escalated to a lock of the context, {@code 0} to disable lock escalation.
+     */
+    public HeapLockManager(DeadlockPreventionPolicy deadlockPreventionPolicy, IntSupplier lockEscalationThreshold) {
+        this(() -> deadlockPreventionPolicy, lockEscalationThreshold);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param deadlockPreventionPolicy Supplier of the deadlock prevention policy. It is called once, on the first lock attempt, so that
+     *         the policy can be chosen by the configuration that is not available yet when the lock manager is created.
+     * @param lockEscalationThreshold Supplier of the number of fine-grained locks of a transaction in a context, above which the
+     *         locks are escalated to a lock of the context, {@code 0} to disable lock escalation.
+     */
+    public HeapLockManager(Supplier<DeadlockPreventionPolicy> deadlockPreventionPolicy, IntSupplier lockEscalationThreshold) {
+        this.deadlockPreventionPolicySupplier = deadlockPreventionPolicy;
+        this.lockEscalationThreshold = lockEscalationThreshold;
+    }
+
+    /**
+     * Returns the deadlock prevention policy of the lock manager.
+     */
+    public DeadlockPreventionPolicy deadlockPreventionPolicy() {
+        return deadlockHandling().policy;
+    }
+
+    private DeadlockHandling deadlockHandling() {
+        DeadlockHandling handling = deadlockHandling;
+
+        if (handling == null) {
+            synchronized (this) {
+                handling = deadlockHandling;
+
+                if (handling == null) {
+                    handling = new DeadlockHandling(deadlockPreventionPolicySupplier.get());
+
+                    deadlockHandling = handling;
+                }
+            }
+        }
+
+        return handling;
     }
 
     @Override
     public CompletableFuture<Lock> acquire(UUID txId, LockKey lockKey, LockMode lockMode) {
+        if (lockKey.contextId() != null && coveredByEscalation(txId, lockKey.contextId(), lockMode)) {
+            return completedFuture(new Lock(lockKey, lockMode, txId));
+        }
+
         while (true) {
             LockState state = lockState(lockKey);
 
+            if (lockMode == LockMode.IS || lockMode == LockMode.IX) {
+                LockMode newLockMode = state.tryAcquireIntention(txId, lockMode);
+
+                if (newLockMode != null) {
+                    addToTxIndex(txId, lockKey);
+
+                    return completedFuture(new Lock(lockKey, newLockMode, txId));
+                }
+            }
+
             IgniteBiTuple<CompletableFuture<Void>, LockMode> futureTuple = state.tryAcquire(txId, lockMode);
 
             if (futureTuple.get1() == null) {
@@ -100,7 +205,27 @@ public class HeapLockManager implements LockManager {
 
             LockMode newLockMode = futureTuple.get2();
 
-            return futureTuple.get1().thenApply(res -> new Lock(lockKey, newLockMode, txId));
+            CompletableFuture<Void> lockFut = futureTuple.get1();
+
+            if (!lockFut.isDone()) {
+                onLockWait(txId, lockFut);
+            } else if (lockFut.isCompletedExceptionally()) {
+                lockAborts.increment();
+            }
+
+            // A waiter that failed right away is already removed from the queue.
+            if (!lockFut.isCompletedExceptionally()) {
+                int contextLocks = addToTxIndex(txId, lockKey);
+
+                int threshold = lockEscalationThreshold.getAsInt();
+
+                // Escalation is attempted once the threshold is exceeded, and then again after each next threshold locks, if it failed.
+                if (threshold > 0 && contextLocks > threshold && (contextLocks - 1) % threshold == 0 && lockFut.isDone()) {
+                    tryEscalate(txId, lockKey.contextId());
+                }
+            }
+
+            return lockFut.thenApply(res -> new Lock(lockKey, newLockMode, txId));
         }
     }
 
@@ -111,6 +236,8 @@ public class HeapLockManager implements LockManager {
         if (state.tryRelease(lock.txId())) {
             locks.remove(lock.lockKey(), state);
         }
+
+        removeFromTxIndex(lock.txId(), lock.lockKey());
     }
 
     @Override
@@ -120,37 +247,428 @@ public class HeapLockManager implements LockManager {
         if (state.tryRelease(txId, lockMode)) {
             locks.remove(lockKey, state);
         }
+
+        removeFromTxIndex(txId, lockKey);
     }
 
     @Override
     public Iterator<Lock> locks(UUID txId) {
-        // TODO: IGNITE-17811 Use index or similar instead of full locks set iteration.
-        List<Lock> result = new ArrayList<>();
+        TxLocks txLocks = txLockKeys.get(txId);
+
+        if (txLocks == null) {
+            return Collections.emptyIterator();
+        }
+
+        List<Lock> result = new ArrayList<>(txLocks.keys.size());
 
-        for (Map.Entry<LockKey, LockState> entry : locks.entrySet()) {
-            Waiter waiter = entry.getValue().waiter(txId);
+        for (LockKey lockKey : txLocks.keys) {
+            LockState state = locks.get(lockKey);
+
+            Waiter waiter = state == null ? null : state.waiter(txId);
 
             if (waiter != null) {
                 result.add(
                         new Lock(
-                                entry.getKey(),
+                                lockKey,
                                 waiter.lockMode(),
                                 txId
                         )
                 );
+            } else {
+                removeFromTxIndex(txId, lockKey);
             }
         }
 
         return result.iterator();
     }
 
+    /**
+     * Returns the number of successful lock escalations.
+     *
+     * @return Number of escalations.
+     */
+    public long escalations() {
+        return escalations.sum();
+    }
+
+    /**
+     * Returns the number of lock escalation attempts that failed due to conflicting locks of other transactions.
+     *
+     * @return Number of failed escalations.
+     */
+    public long failedEscalations() {
+        return failedEscalations.sum();
+    }
+
+    /**
+     * Returns the number of fine-grained locks released by lock escalations.
+     *
+     * @return Number of escalated locks.
+     */
+    public long escalatedLocks() {
+        return escalatedLocks.sum();
+    }
+
+    /**
+     * Returns the number of lock attempts that had to wait for a conflicting lock.
+     *
+     * @return Number of lock waits.
+     */
+    public long lockWaits() {
+        return lockWaits.sum();
+    }
+
+    /**
+     * Returns the number of lock attempts that failed due to a conflict, a timeout or a deadlock.
+     *
+     * @return Number of failed lock attempts.
+     */
+    public long lockAborts() {
+        return lockAborts.sum();
+    }
+
+    /**
+     * Returns the number of detected deadlocks.
+     *
+     * @return Number of deadlocks.
+     */
+    public long deadlocks() {
+        return deadlocks.sum();
+    }
+
+    /**
+     * Accounts a lock attempt that waits for a conflicting lock, and schedules the deadlock detection for it.
+     *
+     * @param txId Transaction id.
+     * @param lockFut Lock future.
+     */
+    private void onLockWait(UUID txId, CompletableFuture<Void> lockFut) {
+        lockWaits.increment();
+
+        lockFut.whenComplete((res, e) -> {
+            if (e != null) {
+                lockAborts.increment();
+            }
+        });
+
+        if (deadlockHandling().deadlockDetectionExecutor != null) {
+            scheduleDeadlockDetection(txId, lockFut);
+        }
+    }
+
+    /**
+     * Runs the deadlock detection for the transaction after the detection interval, and then again after each next interval, while the
+     * lock attempt waits.
+     *
+     * @param txId Transaction id.
+     * @param lockFut Lock future.
+     */
+    private void scheduleDeadlockDetection(UUID txId, CompletableFuture<Void> lockFut) {
+        deadlockHandling().deadlockDetectionExecutor.execute(() -> {
+            if (lockFut.isDone()) {
+                return;
+            }
+
+            detectDeadlock(txId);
+
+            if (!lockFut.isDone()) {
+                scheduleDeadlockDetection(txId, lockFut);
+            }
+        });
+    }
+
+    /**
+     * Searches for a cycle of the wait-for graph that contains the transaction, that is, a sequence of transactions, each of them
+     * waiting for a lock held by the next one, and the last one waiting for a lock held by the first one. If there is such a cycle, the
+     * lock attempt of the youngest transaction of the cycle is failed. The graph is read key by key, not atomically, so a found cycle
+     * is a deadlock only if its victim still waits at the moment of the abort; the abort is skipped otherwise.
+     *
+     * @param txId Transaction id.
+     */
+    private void detectDeadlock(UUID txId) {
+        // Transactions reached by the depth-first search from the given one, mapped to the transactions they were reached from.
+        Map<UUID, UUID> parents = new HashMap<>();
+        ArrayDeque<UUID> stack = new ArrayDeque<>();
+
+        parents.put(txId, txId);
+        stack.push(txId);
+
+        while (!stack.isEmpty()) {
+            UUID waitingTxId = stack.pop();
+
+            for (UUID blockingTxId : blockingTransactions(waitingTxId)) {
+                if (blockingTxId.equals(txId)) {
+                    List<UUID> cycle = new ArrayList<>();
+
+                    for (UUID id = waitingTxId; !id.equals(txId); id = parents.get(id)) {
+                        cycle.add(id);
+                    }
+
+                    cycle.add(txId);
+
+                    abortDeadlockVictim(cycle);
+
+                    return;
+                }
+
+                if (parents.putIfAbsent(blockingTxId, waitingTxId) == null) {
+                    stack.push(blockingTxId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the transactions that hold locks incompatible with the locks the transaction waits for.
+     *
+     * @param txId Transaction id.
+     * @return Transaction ids.
+     */
+    private Set<UUID> blockingTransactions(UUID txId) {
+        TxLocks txLocks = txLockKeys.get(txId);
+
+        if (txLocks == null) {
+            return Collections.emptySet();
+        }
+
+        Set<UUID> blockingTxIds = new HashSet<>();
+
+        for (LockKey lockKey : txLocks.keys) {
+            LockState state = locks.get(lockKey);
+
+            if (state != null) {
+                state.collectBlockingTransactions(txId, blockingTxIds);
+            }
+        }
+
+        return blockingTxIds;
+    }
+
+    /**
+     * Fails the lock attempts of the youngest transaction of a deadlock cycle.
+     *
+     * @param cycle Transaction ids of the cycle.
+     */
+    private void abortDeadlockVictim(List<UUID> cycle) {
+        // Transaction ids grow with the transaction start time.
+        UUID victimTxId = Collections.max(cycle);
+
+        TxLocks txLocks = txLockKeys.get(victimTxId);
+
+        if (txLocks == null) {
+            return;
+        }
+
+        var e = new LockException(ACQUIRE_LOCK_ERR, "Failed to acquire a lock due to a deadlock [txId=" + victimTxId
+                + ", cycle=" + cycle + ']');
+
+        List<WaiterImpl> toNotify = new ArrayList<>();
+
+        for (LockKey lockKey : txLocks.keys) {
+            LockState state = locks.get(lockKey);
+
+            if (state != null && state.failWaiting(victimTxId, e, toNotify)) {
+                if (state.markedForRemove) {
+                    locks.remove(lockKey, state);
+                }
+            }
+        }
+
+        if (toNotify.isEmpty()) {
+            return;
+        }
+
+        // Count the deadlock before the victim is notified, so the counter is up-to-date when the lock future completes.
+        deadlocks.increment();
+
+        for (WaiterImpl w : toNotify) {
+            w.notifyLocked();
+        }
+    }
+
+    /**
+     * Adds the key to the index of the transaction's keys.
+     *
+     * @param txId Transaction id.
+     * @param lockKey The key.
+     * @return Number of the transaction's fine-grained keys in the context of the key, {@code 0} for a coarse-grained key.
+     */
+    private int addToTxIndex(UUID txId, LockKey lockKey) {
+        int[] contextLocks = new int[1];
+
+        txLockKeys.compute(txId, (id, txLocks) -> {
+            if (txLocks == null) {
+                txLocks = new TxLocks();
+            }
+
+            if (txLocks.keys.add(lockKey) && lockKey.contextId() != null) {
+                contextLocks[0] = txLocks.contextLocks.merge(lockKey.contextId(), 1, Integer::sum);
+            }
+
+            return txLocks;
+        });
+
+        return contextLocks[0];
+    }
+
+    /**
+     * Removes the key from the index of the transaction's keys, if the transaction has no waiter for it. The check is done under the
+     * index entry lock, so a concurrent {@link #addToTxIndex} of the same key is never lost.
+     *
+     * @param txId Transaction id.
+     * @param lockKey The key.
+     */
+    private void removeFromTxIndex(UUID txId, LockKey lockKey) {
+        txLockKeys.computeIfPresent(txId, (id, txLocks) -> {
+            LockState state = locks.get(lockKey);
+
+            if ((state == null || state.waiter(txId) == null) && txLocks.keys.remove(lockKey)) {
+                if (lockKey.contextId() != null) {
+                    txLocks.contextLocks.computeIfPresent(lockKey.contextId(), (contextId, cnt) -> cnt > 1 ? cnt - 1 : null);
+                } else if (lockKey.key() instanceof UUID) {
+                    // Fine-grained locks covered by the released lock are not held anymore.
+                    txLocks.escalatedModes.remove(lockKey.key());
+                }
+            }
+
+            return txLocks.keys.isEmpty() ? null : txLocks;
+        });
+    }
+
+    /**
+     * Checks whether the lock is covered by a lock that the transaction's fine-grained locks in the context were escalated to.
+     *
+     * @param txId Transaction id.
+     * @param contextId Context id.
+     * @param lockMode Requested lock mode.
+     * @return {@code True} if the transaction already holds a covering lock.
+     */
+    private boolean coveredByEscalation(UUID txId, UUID contextId, LockMode lockMode) {
+        TxLocks txLocks = txLockKeys.get(txId);
+
+        if (txLocks == null) {
+            return false;
+        }
+
+        LockMode escalatedMode = txLocks.escalatedModes.get(contextId);
+
+        return escalatedMode != null && LockMode.supremum(escalatedMode, lockMode) == escalatedMode;
+    }
+
+    /**
+     * Attempts to replace the transaction's fine-grained locks in the context by a lock of the context, {@code LockKey(contextId)}.
+     * Only the transactions that hold an IX lock of the context, that is, modify it, are escalated. The context lock is upgraded to
+     * X, or to SIX if the transaction holds only S fine-grained locks, and only if it can be granted without waiting. Then the
+     * fine-grained locks are released, and further fine-grained locks in the context are granted without being stored.
+     *
+     * @param txId Transaction id.
+     * @param contextId Context id.
+     */
+    private void tryEscalate(UUID txId, UUID contextId) {
+        LockKey contextKey = new LockKey(contextId);
+        LockState contextState = locks.get(contextKey);
+        Waiter contextWaiter = contextState == null ? null : contextState.waiter(txId);
+
+        if (contextWaiter == null || contextWaiter.lockMode() == null || contextWaiter.intendedLockMode() != null
+                || LockMode.supremum(contextWaiter.lockMode(), LockMode.IX) != contextWaiter.lockMode()) {
+            return;
+        }
+
+        TxLocks txLocks = txLockKeys.get(txId);
+
+        if (txLocks == null) {
+            return;
+        }
+
+        List<LockKey> escalatedKeys = new ArrayList<>();
+        LockMode escalatedMode = LockMode.SIX;
+
+        for (LockKey lockKey : txLocks.keys) {
+            if (!contextId.equals(lockKey.contextId())) {
+                continue;
+            }
+
+            LockState state = locks.get(lockKey);
+            Waiter waiter = state == null ? null : state.waiter(txId);
+
+            if (waiter == null) {
+                continue;
+            }
+
+            if (waiter.intendedLockMode() != null) {
+                return; // A lock in the context is being acquired, try later.
+            }
+
+            if (waiter.lockMode() != LockMode.S) {
+                escalatedMode = LockMode.X;
+            }
+
+            escalatedKeys.add(lockKey);
+        }
+
+        escalatedMode = LockMode.supremum(escalatedMode, contextWaiter.lockMode());
+
+        if (escalatedMode != contextWaiter.lockMode() && !contextState.tryAcquireNoWait(txId, escalatedMode)) {
+            failedEscalations.increment();
+
+            return;
+        }
+
+        LockMode mode = escalatedMode;
+
+        txLockKeys.computeIfPresent(txId, (id, current) -> {
+            current.escalatedModes.put(contextId, mode);
+
+            return current;
+        });
+
+        for (LockKey lockKey : escalatedKeys) {
+            LockState state = locks.get(lockKey);
+
+            if (state != null && state.tryReleaseLocked(txId)) {
+                locks.remove(lockKey, state);
+            }
+
+            removeFromTxIndex(txId, lockKey);
+        }
+
+        escalations.increment();
+        escalatedLocks.add(escalatedKeys.size());
+    }
+
     /**
      * Returns the lock state for the key.
      *
      * @param key The key.
      */
     private @NotNull LockState lockState(LockKey key) {
-        return locks.computeIfAbsent(key, k -> new LockState(deadlockPreventionPolicy, delayedExecutor));
+        DeadlockHandling handling = deadlockHandling();
+
+        return locks.computeIfAbsent(key, k -> new LockState(handling.policy, handling.delayedExecutor, k.contextId() == null));
+    }
+
+    /**
+     * Deadlock prevention policy with the executors it needs.
+     */
+    private static class DeadlockHandling {
+        /** Deadlock prevention policy. */
+        final DeadlockPreventionPolicy policy;
+
+        /** Executor that is used to fail waiters after timeout, {@code null} if the wait time is not limited. */
+        final @Nullable Executor delayedExecutor;
+
+        /** Executor that is used to detect deadlocks of waiters after the detection interval, {@code null} if the detection is disabled. */
+        final @Nullable Executor deadlockDetectionExecutor;
+
+        DeadlockHandling(DeadlockPreventionPolicy policy) {
+            this.policy = policy;
+            this.delayedExecutor = policy.waitTimeout() > 0
+                    ? CompletableFuture.delayedExecutor(policy.waitTimeout(), TimeUnit.MILLISECONDS)
+                    : null;
+            this.deadlockDetectionExecutor = policy.deadlockDetectionInterval() > 0
+                    ? CompletableFuture.delayedExecutor(policy.deadlockDetectionInterval(), TimeUnit.MILLISECONDS)
+                    : null;
+        }
     }
 
     /** {@inheritDoc} */
@@ -165,13 +683,48 @@ public class HeapLockManager implements LockManager {
         return lockState(key).waiter(txId);
     }
 
+    /**
+     * Locks of a transaction. Is modified under the lock of the transaction's entry in {@link #txLockKeys}.
+     */
+    private static class TxLocks {
+        /** Keys that the transaction has waiters for. */
+        private final Set<LockKey> keys = ConcurrentHashMap.newKeySet();
+
+        /** Number of the fine-grained keys in {@link #keys} by context id. */
+        private final Map<UUID, Integer> contextLocks = new HashMap<>();
+
+        /** Modes of the context locks, that the fine-grained locks of the transaction were escalated to, by context id. */
+        private final Map<UUID, LockMode> escalatedModes = new ConcurrentHashMap<>();
+    }
+
     /**
      * A lock state.
+     *
+     * <p>The state of a coarse-grained key has an intention lock fast path. While it is enabled, all holders of the key hold only IS
+     * and IX locks, which are compatible with each other, so they are kept in {@link #fastHolders} and are taken and released without
+     * the monitor. Such operations are counted in {@link #fastPathOps}. Any other request disables the fast path under the monitor: it
+     * waits for the fast path operations in progress and moves the holders to {@link #waiters}. The fast path is enabled again once
+     * all waiters hold only intention locks.
      */
     private static class LockState {
+        /** Number of stripes of the fast path operations counter. */
+        private static final int FAST_PATH_STRIPES = 16;
+
+        /** Distance between the stripes of the fast path operations counter, in ints, so that they are in different cache lines. */
+        private static final int FAST_PATH_STRIPE_PADDING = 16;
+
         /** Waiters. */
         private final TreeMap<UUID, WaiterImpl> waiters;
 
+        /** Whether the intention lock fast path is enabled, always {@code false} if the key has no fast path. */
+        private volatile boolean fastPath;
+
+        /** Lock counters by lock mode ordinal of the holders, by transaction id, while the fast path is enabled. */
+        private final @Nullable ConcurrentHashMap<UUID, int[]> fastHolders;
+
+        /** Striped counter of the fast path operations in progress. */
+        private final @Nullable AtomicIntegerArray fastPathOps;
+
         private final DeadlockPreventionPolicy deadlockPreventionPolicy;
 
         /** Delayed executor for waiters timeout callback. */
@@ -180,13 +733,189 @@ public class HeapLockManager implements LockManager {
         /** Marked for removal flag. */
         private boolean markedForRemove = false;
 
-        public LockState(DeadlockPreventionPolicy deadlockPreventionPolicy, Executor delayedExecutor) {
+        public LockState(DeadlockPreventionPolicy deadlockPreventionPolicy, Executor delayedExecutor, boolean intentionFastPath) {
             Comparator<UUID> txComparator =
                     deadlockPreventionPolicy.txIdComparator() != null ? deadlockPreventionPolicy.txIdComparator() : UUID::compareTo;
 
             this.waiters = new TreeMap<>(txComparator);
             this.deadlockPreventionPolicy = deadlockPreventionPolicy;
             this.delayedExecutor = delayedExecutor;
+
+            if (intentionFastPath) {
+                fastHolders = new ConcurrentHashMap<>();
+                fastPathOps = new AtomicIntegerArray(FAST_PATH_STRIPES * FAST_PATH_STRIPE_PADDING);
+                fastPath = true;
+            } else {
+                fastHolders = null;
+                fastPathOps = null;
+            }
+        }
+
+        /**
+         * Attempts to acquire an intention lock on the fast path.
+         *
+         * @param txId Transaction id.
+         * @param lockMode Lock mode, IS or IX.
+         * @return Lock mode held by the transaction after the acquisition, {@code null} if the fast path is disabled.
+         */
+        @Nullable LockMode tryAcquireIntention(UUID txId, LockMode lockMode) {
+            if (!fastPath) {
+                return null;
+            }
+
+            int stripe = enterFastPath();
+
+            try {
+                if (!fastPath) {
+                    return null;
+                }
+
+                LockMode[] newLockMode = new LockMode[1];
+
+                fastHolders.compute(txId, (id, counters) -> {
+                    if (counters == null) {
+                        counters = new int[LOCK_MODES.length];
+                    }
+
+                    counters[lockMode.ordinal()]++;
+
+                    newLockMode[0] = heldMode(counters);
+
+                    return counters;
+                });
+
+                return newLockMode[0];
+            } finally {
+                exitFastPath(stripe);
+            }
+        }
+
+        /**
+         * Releases locks of the transaction on the fast path.
+         *
+         * @param txId Transaction id.
+         * @param lockMode Lock mode to release, {@code null} to release all locks.
+         * @return {@code True} if the locks were released, {@code false} if the fast path is disabled.
+         */
+        private boolean tryReleaseFast(UUID txId, @Nullable LockMode lockMode) {
+            if (!fastPath) {
+                return false;
+            }
+
+            int stripe = enterFastPath();
+
+            try {
+                if (!fastPath) {
+                    return false;
+                }
+
+                if (lockMode == null) {
+                    fastHolders.remove(txId);
+                } else {
+                    fastHolders.computeIfPresent(txId, (id, counters) -> {
+                        LockMode heldMode = heldMode(counters);
+
+                        assert heldMode != null && LockMode.supremum(lockMode, heldMode) == heldMode :
+                                "The lock mode is not locked [mode=" + lockMode + ", locked=" + heldMode + ']';
+
+                        counters[lockMode.ordinal()] = Math.max(counters[lockMode.ordinal()] - 1, 0);
+
+                        return heldMode(counters) == null ? null : counters;
+                    });
+                }
+            } finally {
+                exitFastPath(stripe);
+            }
+
+            if (fastHolders.isEmpty()) {
+                synchronized (waiters) {
+                    // Nobody could take a lock after the emptiness check, unless the fast path is disabled by now.
+                    if (fastPath && fastHolders.isEmpty()) {
+                        disableFastPath();
+
+                        if (waiters.isEmpty()) {
+                            markedForRemove = true;
+                        } else {
+                            tryEnableFastPath();
+                        }
+                    }
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Returns a copy of the transaction's fast path locks as a waiter. Should be invoked while the fast path is enabled.
+         *
+         * @param txId Transaction id.
+         * @return Waiter, {@code null} if the transaction holds no fast path locks.
+         */
+        private @Nullable WaiterImpl fastWaiter(UUID txId) {
+            int[] counters = fastHolders.get(txId);
+
+            return counters == null ? null : new WaiterImpl(txId, counters);
+        }
+
+        private int enterFastPath() {
+            int stripe = ((int) Thread.currentThread().getId() & (FAST_PATH_STRIPES - 1)) * FAST_PATH_STRIPE_PADDING;
+
+            fastPathOps.incrementAndGet(stripe);
+
+            return stripe;
+        }
+
+        private void exitFastPath(int stripe) {
+            fastPathOps.decrementAndGet(stripe);
+        }
+
+        /**
+         * Disables the fast path: waits for the fast path operations in progress and moves the fast path holders to the waiters. This
+         * method should be invoked under the monitor.
+         */
+        private void disableFastPath() {
+            if (!fastPath) {
+                return;
+            }
+
+            fastPath = false;
+
+            // Operations that have started after this point see the fast path disabled and don't change the fast holders.
+            for (int i = 0; i < fastPathOps.length(); i += FAST_PATH_STRIPE_PADDING) {
+                while (fastPathOps.get(i) != 0) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            for (Map.Entry<UUID, int[]> entry : fastHolders.entrySet()) {
+                waiters.put(entry.getKey(), new WaiterImpl(entry.getKey(), entry.getValue()));
+            }
+
+            fastHolders.clear();
+        }
+
+        /**
+         * Enables the fast path if all waiters hold only intention locks and moves them to the fast path holders. This method should be
+         * invoked under the monitor.
+         */
+        private void tryEnableFastPath() {
+            if (fastHolders == null || fastPath || markedForRemove) {
+                return;
+            }
+
+            for (WaiterImpl waiter : waiters.values()) {
+                if (!waiter.holdsIntentionLocksOnly()) {
+                    return;
+                }
+            }
+
+            for (WaiterImpl waiter : waiters.values()) {
+                fastHolders.put(waiter.txId(), waiter.locks.clone());
+            }
+
+            waiters.clear();
+
+            fastPath = true;
         }
 
         /**
@@ -204,6 +933,8 @@ public class HeapLockManager implements LockManager {
                     return new IgniteBiTuple(null, lockMode);
                 }
 
+                disableFastPath();
+
                 // We always replace the previous waiter with the new one. If the previous waiter has lock intention then incomplete
                 // lock future is copied to the new waiter. This guarantees that, if the previous waiter was locked concurrently, then
                 // it doesn't have any lock intentions, and the future is not copied to the new waiter. Otherwise, if there is lock
@@ -240,6 +971,8 @@ public class HeapLockManager implements LockManager {
                 } else if (waiter.hasLockIntent()) {
                     waiter.refuseIntent(); // Restore old lock.
                 }
+
+                tryEnableFastPath();
             }
 
             // Notify outside the monitor.
@@ -248,6 +981,155 @@ public class HeapLockManager implements LockManager {
             return new IgniteBiTuple(waiter.fut, waiter.lockMode());
         }
 
+        /**
+         * Attempts to upgrade a lock, that the transaction holds, to the specified mode without waiting. The lock is not granted if
+         * another transaction holds an incompatible lock or waits for any lock of the key.
+         *
+         * @param txId Transaction id.
+         * @param lockMode Lock mode.
+         * @return {@code True} if the lock is granted.
+         */
+        boolean tryAcquireNoWait(UUID txId, LockMode lockMode) {
+            WaiterImpl waiter = new WaiterImpl(txId, lockMode);
+
+            synchronized (waiters) {
+                if (markedForRemove) {
+                    return false;
+                }
+
+                disableFastPath();
+
+                WaiterImpl prev = waiters.get(txId);
+
+                boolean granted = prev != null && prev.locked() && !prev.hasLockIntent();
+
+                if (granted) {
+                    for (WaiterImpl other : waiters.values()) {
+                        LockMode mode = lockedMode(other);
+
+                        if (other != prev && (other.hasLockIntent() || (mode != null && !mode.isCompatible(lockMode)))) {
+                            granted = false;
+
+                            break;
+                        }
+                    }
+                }
+
+                if (granted) {
+                    waiter.lock();
+
+                    waiter.upgrade(prev);
+
+                    waiters.put(txId, waiter);
+                }
+
+                tryEnableFastPath();
+
+                if (!granted) {
+                    return false;
+                }
+            }
+
+            waiter.notifyLocked();
+
+            return true;
+        }
+
+        /**
+         * Releases all locks of the transaction, unless it waits for a lock of the key.
+         *
+         * @param txId Transaction id.
+         * @return {@code True} if the queue is empty.
+         */
+        boolean tryReleaseLocked(UUID txId) {
+            List<WaiterImpl> toNotify = Collections.emptyList();
+
+            synchronized (waiters) {
+                disableFastPath();
+
+                WaiterImpl waiter = waiters.get(txId);
+
+                if (waiter == null || !waiter.hasLockIntent()) {
+                    toNotify = release(txId);
+                }
+
+                tryEnableFastPath();
+            }
+
+            // Notify outside the monitor.
+            for (WaiterImpl waiter : toNotify) {
+                waiter.notifyLocked();
+            }
+
+            return markedForRemove;
+        }
+
+        /**
+         * Adds the transactions, that hold locks incompatible with the lock the transaction waits for, to the collection.
+         *
+         * @param txId Transaction id.
+         * @param blockingTxIds Collection to add the blocking transaction ids to.
+         */
+        void collectBlockingTransactions(UUID txId, Collection<UUID> blockingTxIds) {
+            // No one waits on the fast path.
+            if (fastPath) {
+                return;
+            }
+
+            synchronized (waiters) {
+                WaiterImpl waiter = waiters.get(txId);
+
+                if (waiter == null || !waiter.hasLockIntent() || waiter.fut.isDone()) {
+                    return;
+                }
+
+                for (WaiterImpl other : waiters.values()) {
+                    LockMode mode = lockedMode(other);
+
+                    if (other != waiter && mode != null && !mode.isCompatible(waiter.intendedLockMode())) {
+                        blockingTxIds.add(other.txId());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Fails the lock attempt of the transaction, if it waits for a lock of the key. The locks that the transaction already holds are
+         * kept.
+         *
+         * @param txId Transaction id.
+         * @param e Lock exception.
+         * @param toNotify Collection to add the waiters to notify outside the monitor to.
+         * @return {@code True} if the transaction waited for a lock of the key.
+         */
+        boolean failWaiting(UUID txId, LockException e, Collection<WaiterImpl> toNotify) {
+            if (fastPath) {
+                return false;
+            }
+
+            synchronized (waiters) {
+                WaiterImpl waiter = waiters.get(txId);
+
+                if (waiter == null || !waiter.hasLockIntent() || waiter.fut.isDone()) {
+                    return false;
+                }
+
+                waiter.fail(e);
+
+                toNotify.add(waiter);
+
+                if (waiter.locked()) {
+                    waiter.refuseIntent();
+                } else {
+                    toNotify.addAll(release(txId));
+                }
+
+                tryEnableFastPath();
+            }
+
+            return true;
+        }
+
         /**
          * Checks current waiter. It can change the internal state of the waiter.
          *
@@ -311,10 +1193,18 @@ public class HeapLockManager implements LockManager {
          * @return {@code True} if the queue is empty.
          */
         public boolean tryRelease(UUID txId) {
+            if (tryReleaseFast(txId, null)) {
+                return markedForRemove;
+            }
+
             Collection<WaiterImpl> toNotify;
 
             synchronized (waiters) {
+                disableFastPath();
+
                 toNotify = release(txId);
+
+                tryEnableFastPath();
             }
 
             // Notify outside the monitor.
@@ -333,8 +1223,14 @@ public class HeapLockManager implements LockManager {
          * @return If the value is true, no one waits of any lock of the key, false otherwise.
          */
         public boolean tryRelease(UUID txId, LockMode lockMode) {
+            if (tryReleaseFast(txId, lockMode)) {
+                return markedForRemove;
+            }
+
             List<WaiterImpl> toNotify = Collections.emptyList();
             synchronized (waiters) {
+                disableFastPath();
+
                 WaiterImpl waiter = waiters.get(txId);
 
                 if (waiter != null) {
@@ -349,6 +1245,8 @@ public class HeapLockManager implements LockManager {
                         toNotify = unlockCompatibleWaiters();
                     }
                 }
+
+                tryEnableFastPath();
             }
 
             // Notify outside the monitor.
@@ -467,6 +1365,14 @@ public class HeapLockManager implements LockManager {
          */
         public Collection<UUID> queue() {
             synchronized (waiters) {
+                if (fastPath) {
+                    List<UUID> queue = new ArrayList<>(fastHolders.keySet());
+
+                    queue.sort(waiters.comparator());
+
+                    return queue;
+                }
+
                 return new ArrayList<>(waiters.keySet());
             }
         }
@@ -478,8 +1384,20 @@ public class HeapLockManager implements LockManager {
          * @return The waiter.
          */
         public Waiter waiter(UUID txId) {
+            if (fastPath) {
+                int stripe = enterFastPath();
+
+                try {
+                    if (fastPath) {
+                        return fastWaiter(txId);
+                    }
+                } finally {
+                    exitFastPath(stripe);
+                }
+            }
+
             synchronized (waiters) {
-                return waiters.get(txId);
+                return fastPath ? fastWaiter(txId) : waiters.get(txId);
             }
         }
     }
@@ -488,17 +1406,14 @@ public class HeapLockManager implements LockManager {
      * A waiter implementation.
      */
     private static class WaiterImpl implements Comparable<WaiterImpl>, Waiter {
-        /**
-         * Holding locks by type.
-         * TODO: IGNITE-18350 Abandon the collection in favor of BitSet.
-         */
-        private final Map<LockMode, Integer> locks = new HashMap<>();
+        /** Holding locks counters, indexed by lock mode ordinal. */
+        private final int[] locks = new int[LOCK_MODES.length];
 
         /**
-         * Lock modes are marked as intended, but have not taken yet. This is NOT specific to intention lock modes, such as IS and IX.
-         * TODO: IGNITE-18350 Abandon the collection in favor of BitSet.
+         * Bit mask of lock mode ordinals that are marked as intended, but have not taken yet. This is NOT specific to intention lock
+         * modes, such as IS and IX.
          */
-        private final Set<LockMode> intendedLocks = new HashSet<>();
+        private int intendedLocks;
 
         /** Locked future. */
         @IgniteToStringExclude
@@ -529,8 +1444,41 @@ public class HeapLockManager implements LockManager {
             this.txId = txId;
             this.intendedLockMode = lockMode;
 
-            locks.put(lockMode, 1);
-            intendedLocks.add(lockMode);
+            locks[lockMode.ordinal()] = 1;
+            intendedLocks = 1 << lockMode.ordinal();
+        }
+
+        /**
+         * Creates a waiter that holds the given locks.
+         *
+         * @param txId Transaction id.
+         * @param locks Lock counters by lock mode ordinal.
+         */
+        WaiterImpl(UUID txId, int[] locks) {
+            this.fut = completedFuture(null);
+            this.txId = txId;
+            this.lockMode = heldMode(locks);
+
+            System.arraycopy(locks, 0, this.locks, 0, locks.length);
+        }
+
+        /**
+         * Checks whether the waiter holds only intention locks and doesn't wait for any other lock.
+         *
+         * @return {@code True} if the waiter holds only IS and IX locks.
+         */
+        boolean holdsIntentionLocksOnly() {
+            if (!locked() || hasLockIntent()) {
+                return false;
+            }
+
+            for (LockMode mode : LOCK_MODES) {
+                if (locks[mode.ordinal()] > 0 && mode != LockMode.IS && mode != LockMode.IX) {
+                    return false;
+                }
+            }
+
+            return true;
         }
 
         /**
@@ -540,7 +1488,7 @@ public class HeapLockManager implements LockManager {
          * @param increment Value to increment amount.
          */
         void addLock(LockMode lockMode, int increment) {
-            locks.merge(lockMode, increment, Integer::sum);
+            locks[lockMode.ordinal()] += increment;
         }
 
         /**
@@ -550,14 +1498,14 @@ public class HeapLockManager implements LockManager {
          * @return True if the lock mode was removed, false otherwise.
          */
         private boolean removeLock(LockMode lockMode) {
-            Integer counter = locks.get(lockMode);
+            int counter = locks[lockMode.ordinal()];
 
-            if (counter == null || counter < 2) {
-                locks.remove(lockMode);
+            if (counter < 2) {
+                locks[lockMode.ordinal()] = 0;
 
                 return true;
             } else {
-                locks.put(lockMode, counter - 1);
+                locks[lockMode.ordinal()] = counter - 1;
 
                 return false;
             }
@@ -586,10 +1534,14 @@ public class HeapLockManager implements LockManager {
             LockMode newIntendedLockMode = null;
             LockMode newLockMode = null;
 
-            for (LockMode mode : locks.keySet()) {
-                assert locks.get(mode) > 0 : "Incorrect lock counter [txId=" + txId + ", mode=" + mode + "]";
+            for (LockMode mode : LOCK_MODES) {
+                if (locks[mode.ordinal()] == 0) {
+                    continue;
+                }
+
+                assert locks[mode.ordinal()] > 0 : "Incorrect lock counter [txId=" + txId + ", mode=" + mode + "]";
 
-                if (intendedLocks.contains(mode)) {
+                if ((intendedLocks & (1 << mode.ordinal())) != 0) {
                     newIntendedLockMode = newIntendedLockMode == null ? mode : LockMode.supremum(newIntendedLockMode, mode);
                 } else {
                     newLockMode = newLockMode == null ? mode : LockMode.supremum(newLockMode, mode);
@@ -611,9 +1563,11 @@ public class HeapLockManager implements LockManager {
          * @param other Other waiter.
          */
         void upgrade(WaiterImpl other) {
-            intendedLocks.addAll(other.intendedLocks);
+            intendedLocks |= other.intendedLocks;
 
-            other.locks.entrySet().forEach(entry -> addLock(entry.getKey(), entry.getValue()));
+            for (int i = 0; i < locks.length; i++) {
+                locks[i] += other.locks[i];
+            }
 
             recalculate();
 
@@ -626,11 +1580,13 @@ public class HeapLockManager implements LockManager {
          * Removes all locks that were intended to hold.
          */
         void refuseIntent() {
-            for (LockMode mode : intendedLocks) {
-                locks.remove(mode);
+            for (int i = 0; i < locks.length; i++) {
+                if ((intendedLocks & (1 << i)) != 0) {
+                    locks[i] = 0;
+                }
             }
 
-            intendedLocks.clear();
+            intendedLocks = 0;
             intendedLockMode = null;
         }
 
@@ -684,7 +1640,7 @@ public class HeapLockManager implements LockManager {
 
             intendedLockMode = null;
 
-            intendedLocks.clear();
+            intendedLocks = 0;
         }
 
         /**
@@ -725,6 +1681,24 @@ public class HeapLockManager implements LockManager {
         }
     }
 
+    /**
+     * Returns the supremum of the lock modes with non-zero counters.
+     *
+     * @param locks Lock counters by lock mode ordinal.
+     * @return Lock mode, {@code null} if all counters are zero.
+     */
+    private static @Nullable LockMode heldMode(int[] locks) {
+        LockMode mode = null;
+
+        for (LockMode lockMode : LOCK_MODES) {
+            if (locks[lockMode.ordinal()] > 0) {
+                mode = mode == null ? lockMode : LockMode.supremum(mode, lockMode);
+            }
+        }
+
+        return mode;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean isEmpty() {
@@ -40,6 +40,12 @@ public abstract class IgniteAbstractTransactionImpl implements InternalTransacti
     /** The transaction manager. */
     protected final TxManager txManager;
 
+    /** Final state of the transaction, kept here so that it survives the eviction from the transaction manager. */
+    private volatile TxState state;
+
+    /** The future that completes when the transaction is finished. */
+    private final CompletableFuture<Void> finishedFut = new CompletableFuture<>();
+
     /**
      * The constructor.
      *
@@ -62,7 +68,26 @@ public abstract class IgniteAbstractTransactionImpl implements InternalTransacti
     @Nullable
     @Override
     public TxState state() {
-        return txManager.state(id);
+        TxState state0 = state;
+
+        if (state0 == null) {
+            state0 = txManager.state(id);
+
+            if (state0 != null) {
+                state = state0;
+            }
+        }
+
+        return state0;
+    }
+
+    /**
+     * Records the final state of the transaction.
+     *
+     * @param state Final state.
+     */
+    protected void state(TxState state) {
+        this.state = state;
     }
 
     /** {@inheritDoc} */
@@ -78,7 +103,7 @@ public abstract class IgniteAbstractTransactionImpl implements InternalTransacti
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> commitAsync() {
-        return finish(true);
+        return completeFinishFuture(finish(true));
     }
 
     /** {@inheritDoc} */
@@ -94,7 +119,19 @@ public abstract class IgniteAbstractTransactionImpl implements InternalTransacti
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> rollbackAsync() {
-        return finish(false);
+        return completeFinishFuture(finish(false));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> finishFuture() {
+        return finishedFut;
+    }
+
+    private CompletableFuture<Void> completeFinishFuture(CompletableFuture<Void> fut) {
+        fut.whenComplete((res, err) -> finishedFut.complete(null));
+
+        return fut;
     }
 
     /**
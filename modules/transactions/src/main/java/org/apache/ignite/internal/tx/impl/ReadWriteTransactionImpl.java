@@ -34,6 +34,7 @@ import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.network.ClusterNode;
 import org.jetbrains.annotations.NotNull;
@@ -133,7 +134,7 @@ public class ReadWriteTransactionImpl extends IgniteAbstractTransactionImpl {
                                         commit,
                                         groups,
                                         id()
-                                );
+                                ).thenRun(() -> state(commit ? TxState.COMMITED : TxState.ABORTED));
                             } else {
                                 return completedFuture(null);
                             }
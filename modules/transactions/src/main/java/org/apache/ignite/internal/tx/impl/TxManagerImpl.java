@@ -23,7 +23,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import org.apache.ignite.internal.hlc.HybridClock;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.replicator.ReplicaService;
@@ -32,12 +31,13 @@ import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.Timestamp;
 import org.apache.ignite.internal.tx.TxManager;
+import org.apache.ignite.internal.tx.TxMeta;
 import org.apache.ignite.internal.tx.TxState;
 import org.apache.ignite.internal.tx.message.TxFinishReplicaRequest;
 import org.apache.ignite.internal.tx.message.TxMessagesFactory;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.network.ClusterNode;
-import org.jetbrains.annotations.TestOnly;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A transaction manager implementation.
@@ -57,9 +57,11 @@ public class TxManagerImpl implements TxManager {
     private final HybridClock clock;
 
     // TODO: IGNITE-17638 Consider using Txn state map instead of states.
-    /** The storage for tx states. */
-    @TestOnly
-    private final ConcurrentHashMap<UUID, TxState> states = new ConcurrentHashMap<>();
+    /** The storage for tx states, the oldest states are evicted when it is full. */
+    private final TxStateMap states;
+
+    /** Cache of the outcomes of finished transactions. */
+    private final TxOutcomeCache outcomeCache;
 
     /**
      * The constructor.
@@ -69,9 +71,30 @@ public class TxManagerImpl implements TxManager {
      * @param clock A hybrid logical clock.
      */
     public TxManagerImpl(ReplicaService replicaService, LockManager lockManager, HybridClock clock) {
+        this(replicaService, lockManager, clock, new TxOutcomeCache(), new TxStateMap());
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param replicaService Replica service.
+     * @param lockManager Lock manager.
+     * @param clock A hybrid logical clock.
+     * @param outcomeCache Cache of the outcomes of finished transactions.
+     * @param states The storage for tx states.
+     */
+    public TxManagerImpl(
+            ReplicaService replicaService,
+            LockManager lockManager,
+            HybridClock clock,
+            TxOutcomeCache outcomeCache,
+            TxStateMap states
+    ) {
         this.replicaService = replicaService;
         this.lockManager = lockManager;
         this.clock = clock;
+        this.outcomeCache = outcomeCache;
+        this.states = states;
     }
 
     /** {@inheritDoc} */
@@ -97,13 +120,7 @@ public class TxManagerImpl implements TxManager {
     /** {@inheritDoc} */
     @Override
     public boolean changeState(UUID txId, TxState before, TxState after) {
-        return states.compute(txId, (k, v) -> {
-            if (v == before) {
-                return after;
-            } else {
-                return v;
-            }
-        }) == after;
+        return states.changeState(txId, before, after);
     }
 
     /** {@inheritDoc} */
@@ -162,6 +179,18 @@ public class TxManagerImpl implements TxManager {
         return allOf(cleanupFutures);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable TxMeta cachedOutcome(UUID txId) {
+        return outcomeCache.get(txId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void cacheOutcome(UUID txId, TxMeta txMeta) {
+        outcomeCache.put(txId, txMeta);
+    }
+
     /** {@inheritDoc} */
     @Override
     public int finished() {
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.tx.TxMeta;
+import org.apache.ignite.internal.tx.TxState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded cache of the outcomes of finished transactions. It is used to resolve write intents of finished transactions without a
+ * request to the commit partition of the transaction. The least recently used outcomes are evicted once the cache is full.
+ */
+public class TxOutcomeCache {
+    /** Default maximum number of cached outcomes. */
+    public static final long DEFAULT_MAX_SIZE = 100_000;
+
+    /** Outcomes by transaction id. */
+    private final Cache<UUID, TxMeta> outcomes;
+
+    /** Number of lookups that found an outcome. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Number of lookups that didn't find an outcome. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor.
+     */
+    public TxOutcomeCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize Maximum number of cached outcomes.
+     */
+    public TxOutcomeCache(long maxSize) {
+        outcomes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Returns the outcome of a transaction.
+     *
+     * @param txId Transaction id.
+     * @return Transaction meta with a final state, {@code null} if the outcome is not cached.
+     */
+    public @Nullable TxMeta get(UUID txId) {
+        TxMeta txMeta = outcomes.getIfPresent(txId);
+
+        if (txMeta == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return txMeta;
+    }
+
+    /**
+     * Caches the outcome of a finished transaction.
+     *
+     * @param txId Transaction id.
+     * @param txMeta Transaction meta with a final state.
+     */
+    public void put(UUID txId, TxMeta txMeta) {
+        assert txMeta.txState() == TxState.COMMITED || txMeta.txState() == TxState.ABORTED : "Transaction is not finished [txId="
+                + txId + ", state=" + txMeta.txState() + ']';
+
+        outcomes.put(txId, txMeta);
+    }
+
+    /**
+     * Returns the number of lookups that found an outcome.
+     *
+     * @return Number of hits.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that didn't find an outcome.
+     *
+     * @return Number of misses.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the approximate number of cached outcomes.
+     *
+     * @return Number of cached outcomes.
+     */
+    public long size() {
+        return outcomes.estimatedSize();
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.tx.TxState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bounded map of transaction states, keyed by transaction id.
+ *
+ * <p>States are kept in a {@link ConcurrentHashMap}, so reads, including the frequent lookups of transactions that have no state yet,
+ * don't take locks. Inserted states are also put to a ring of the map capacity, in the order of insertion: an insertion takes the next
+ * slot of the ring and evicts the state that the slot held before. So the number of retained states is bounded by the capacity and
+ * doesn't depend on the number of transactions that have been started on the node, without a lock on the write path either.
+ *
+ * <p>Eviction is driven by the capacity only, the transaction states are not evicted by a low watermark, because nothing in the node
+ * publishes a low watermark for transactions.
+ *
+ * <p>The map is read-only through the {@link Map} interface, states are only changed with {@link #changeState}.
+ */
+public class TxStateMap extends AbstractMap<UUID, TxState> {
+    /** Default capacity. */
+    public static final int DEFAULT_CAPACITY = 1 << 17;
+
+    /**
+     * Estimated number of bytes occupied by a retained state: a node and a table slot of the hash map, the id and the state holder, with
+     * compressed object pointers.
+     */
+    private static final long STATE_BYTES = 32 + 4 + 32 + 24;
+
+    /** Retained states. */
+    private final ConcurrentHashMap<UUID, StateHolder> states;
+
+    /** Ring of the retained states, in the order of insertion. */
+    private final AtomicReferenceArray<StateHolder> ring;
+
+    /** Number of states that have ever been inserted, the next ring slot is this value modulo capacity. */
+    private final AtomicLong inserted = new AtomicLong();
+
+    /** Number of state changes. */
+    private final LongAdder changes = new LongAdder();
+
+    /** Number of evicted states. */
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * Constructor.
+     */
+    public TxStateMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Maximum number of retained states.
+     */
+    public TxStateMap(int capacity) {
+        assert capacity > 0 : capacity;
+
+        states = new ConcurrentHashMap<>(capacity);
+        ring = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Returns a transaction state.
+     *
+     * @param txId Transaction id.
+     * @return The state or {@code null} if the state is unknown or has been evicted.
+     */
+    @Override
+    public @Nullable TxState get(Object txId) {
+        if (!(txId instanceof UUID)) {
+            return null;
+        }
+
+        StateHolder holder = states.get(txId);
+
+        return holder == null ? null : holder.state;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean containsKey(Object txId) {
+        return get(txId) != null;
+    }
+
+    /**
+     * Atomically changes the state of a transaction.
+     *
+     * @param txId Transaction id.
+     * @param before Expected state, {@code null} if the state is expected to be unknown.
+     * @param after New state.
+     * @return {@code True} if the state is equal to {@code after} on return.
+     */
+    public boolean changeState(UUID txId, @Nullable TxState before, TxState after) {
+        if (before == null) {
+            var holder = new StateHolder(txId, after);
+
+            StateHolder prev = states.putIfAbsent(txId, holder);
+
+            if (prev != null) {
+                return prev.state == after;
+            }
+
+            changes.increment();
+
+            evict(ring.getAndSet((int) (inserted.getAndIncrement() % ring.length()), holder));
+
+            return true;
+        }
+
+        StateHolder holder = states.get(txId);
+
+        if (holder == null) {
+            return false;
+        }
+
+        TxState current = holder.state;
+
+        if (current != before || current == after) {
+            return current == after;
+        }
+
+        if (StateHolder.STATE.compareAndSet(holder, before, after)) {
+            changes.increment();
+
+            return true;
+        }
+
+        return holder.state == after;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int size() {
+        return states.size();
+    }
+
+    /**
+     * Returns a snapshot of the retained states, from the oldest to the newest one.
+     *
+     * @return Snapshot of the retained states.
+     */
+    @Override
+    public Set<Entry<UUID, TxState>> entrySet() {
+        List<Entry<UUID, TxState>> entries = snapshot();
+
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<UUID, TxState>> iterator() {
+                return entries.iterator();
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+        };
+    }
+
+    private List<Entry<UUID, TxState>> snapshot() {
+        int capacity = ring.length();
+
+        long end = inserted.get();
+        long start = Math.max(0, end - capacity);
+
+        List<Entry<UUID, TxState>> entries = new ArrayList<>((int) (end - start));
+
+        for (long i = start; i < end; i++) {
+            StateHolder holder = ring.get((int) (i % capacity));
+
+            // Skips the slots that are being filled or have been evicted after the end of the snapshot has been taken.
+            if (holder != null && states.get(holder.txId) == holder) {
+                entries.add(new SimpleImmutableEntry<>(holder.txId, holder.state));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns the number of state changes since the map has been created, including the evicted ones.
+     *
+     * @return Number of state changes.
+     */
+    public long changes() {
+        return changes.sum();
+    }
+
+    /**
+     * Returns the number of evicted states.
+     *
+     * @return Number of evicted states.
+     */
+    public long evicted() {
+        return evicted.sum();
+    }
+
+    /**
+     * Returns the estimated number of bytes occupied by the map.
+     *
+     * @return Number of bytes.
+     */
+    public long memory() {
+        return (long) ring.length() * Integer.BYTES + size() * STATE_BYTES;
+    }
+
+    /**
+     * Removes the state that has been pushed out of the ring, unless the transaction has been inserted again after the eviction of
+     * that state.
+     */
+    private void evict(@Nullable StateHolder holder) {
+        if (holder != null && states.remove(holder.txId, holder)) {
+            evicted.increment();
+        }
+    }
+
+    /** State of a transaction, identity of the holder distinguishes the insertions of the same id. */
+    private static class StateHolder {
+        static final AtomicReferenceFieldUpdater<StateHolder, TxState> STATE =
+                AtomicReferenceFieldUpdater.newUpdater(StateHolder.class, TxState.class, "state");
+
+        final UUID txId;
+
+        volatile TxState state;
+
+        StateHolder(UUID txId, TxState state) {
+            this.txId = txId;
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import org.apache.ignite.internal.tx.DeadlockPreventionPolicy;
+
+/**
+ * Deadlock detection policy that, in case of conflict of transactions tx1 and tx2 on the same key, lets tx2 wait for the lock regardless
+ * of the transactions' age. Deadlocks are resolved by the lock manager, that searches for cycles in the graph of transactions waiting for
+ * each other's locks and aborts the lock attempt of the youngest transaction of a cycle. So, unlike
+ * {@link WaitDieDeadlockPreventionPolicy}, only the actual deadlock victims are aborted.
+ *
+ * <p>The graph is built from the lock queues of a single lock manager, so a deadlock of transactions that wait for locks on different
+ * nodes is not detected. Such deadlocks are resolved by the lock wait timeout, which is finite by default.
+ */
+public class WaitForGraphDeadlockDetectionPolicy implements DeadlockPreventionPolicy {
+    /** Default deadlock detection interval, in milliseconds. */
+    public static final long DFLT_DEADLOCK_DETECTION_INTERVAL = 100;
+
+    /** Default lock wait timeout, in milliseconds. */
+    public static final long DFLT_WAIT_TIMEOUT = 30_000;
+
+    /** Deadlock detection interval, in milliseconds. */
+    private final long deadlockDetectionInterval;
+
+    /** Lock wait timeout, in milliseconds. */
+    private final long waitTimeout;
+
+    /**
+     * Constructor.
+     */
+    public WaitForGraphDeadlockDetectionPolicy() {
+        this(DFLT_DEADLOCK_DETECTION_INTERVAL, DFLT_WAIT_TIMEOUT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param deadlockDetectionInterval Deadlock detection interval, in milliseconds.
+     * @param waitTimeout Lock wait timeout, in milliseconds, a negative value means that the wait time is infinite.
+     */
+    public WaitForGraphDeadlockDetectionPolicy(long deadlockDetectionInterval, long waitTimeout) {
+        assert deadlockDetectionInterval > 0 : deadlockDetectionInterval;
+        assert waitTimeout != 0 : "Lock attempts must be allowed to wait";
+
+        this.deadlockDetectionInterval = deadlockDetectionInterval;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long waitTimeout() {
+        return waitTimeout;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long deadlockDetectionInterval() {
+        return deadlockDetectionInterval;
+    }
+}
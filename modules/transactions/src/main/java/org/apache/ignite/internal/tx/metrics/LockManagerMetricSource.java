@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.metrics;
+
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.metrics.MetricSource;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metric source of the lock manager: lock escalations, lock waits and deadlocks of transactions.
+ */
+public class LockManagerMetricSource implements MetricSource {
+    /** Source name. */
+    public static final String SOURCE_NAME = "tx.locks";
+
+    /** Lock manager. */
+    private final HeapLockManager lockManager;
+
+    /** True, if source is enabled, false otherwise. */
+    private boolean enabled;
+
+    /**
+     * Constructor.
+     *
+     * @param lockManager Lock manager.
+     */
+    public LockManagerMetricSource(HeapLockManager lockManager) {
+        this.lockManager = lockManager;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String name() {
+        return SOURCE_NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized @Nullable MetricSet enable() {
+        if (enabled) {
+            return null;
+        }
+
+        MetricSetBuilder builder = new MetricSetBuilder(SOURCE_NAME);
+
+        builder.longGauge("Escalations", "Number of escalations of row locks of a transaction to a table lock.",
+                lockManager::escalations);
+        builder.longGauge("FailedEscalations", "Number of lock escalations that failed due to conflicting locks.",
+                lockManager::failedEscalations);
+        builder.longGauge("EscalatedLocks", "Number of row locks released by lock escalations.", lockManager::escalatedLocks);
+        builder.longGauge("LockWaits", "Number of lock requests that had to wait for conflicting locks.", lockManager::lockWaits);
+        builder.longGauge("LockAborts", "Number of lock requests that failed due to conflicting locks.", lockManager::lockAborts);
+        builder.longGauge("Deadlocks", "Number of deadlocks detected by the lock manager.", lockManager::deadlocks);
+
+        enabled = true;
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void disable() {
+        enabled = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean enabled() {
+        return enabled;
+    }
+}
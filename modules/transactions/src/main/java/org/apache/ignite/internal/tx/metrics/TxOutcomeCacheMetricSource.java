@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.metrics;
+
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.metrics.MetricSource;
+import org.apache.ignite.internal.tx.impl.TxOutcomeCache;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metric source of the cache of finished transaction outcomes, that is used to resolve write intents.
+ */
+public class TxOutcomeCacheMetricSource implements MetricSource {
+    /** Source name. */
+    public static final String SOURCE_NAME = "tx.outcomes";
+
+    /** Transaction outcome cache. */
+    private final TxOutcomeCache cache;
+
+    /** True, if source is enabled, false otherwise. */
+    private boolean enabled;
+
+    /**
+     * Constructor.
+     *
+     * @param cache Transaction outcome cache.
+     */
+    public TxOutcomeCacheMetricSource(TxOutcomeCache cache) {
+        this.cache = cache;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String name() {
+        return SOURCE_NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized @Nullable MetricSet enable() {
+        if (enabled) {
+            return null;
+        }
+
+        MetricSetBuilder builder = new MetricSetBuilder(SOURCE_NAME);
+
+        builder.longGauge("LocalResolutions", "Number of transaction states resolved by the cache, without a request to the commit "
+                + "partition.", cache::hits);
+        builder.longGauge("RemoteResolutions", "Number of transaction states resolved by a request to the commit partition.",
+                cache::misses);
+        builder.longGauge("Size", "Number of cached transaction outcomes.", cache::size);
+
+        enabled = true;
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void disable() {
+        enabled = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean enabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.metrics;
+
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.metrics.MetricSource;
+import org.apache.ignite.internal.tx.impl.TxStateMap;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metric source of the transaction states, that are kept by the transaction manager.
+ */
+public class TxStateMetricSource implements MetricSource {
+    /** Source name. */
+    public static final String SOURCE_NAME = "tx.states";
+
+    /** Transaction states. */
+    private final TxStateMap states;
+
+    /** True, if source is enabled, false otherwise. */
+    private boolean enabled;
+
+    /**
+     * Constructor.
+     *
+     * @param states Transaction states.
+     */
+    public TxStateMetricSource(TxStateMap states) {
+        this.states = states;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String name() {
+        return SOURCE_NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized @Nullable MetricSet enable() {
+        if (enabled) {
+            return null;
+        }
+
+        MetricSetBuilder builder = new MetricSetBuilder(SOURCE_NAME);
+
+        builder.longGauge("FinishedTransactions", "Number of transactions that have been finished on the node.", states::changes);
+        builder.longGauge("RetainedStates", "Number of transaction states that are kept in memory.", states::size);
+        builder.longGauge("EvictedStates", "Number of transaction states that have been evicted to bound the memory.", states::evicted);
+        builder.longGauge("StatesMemory", "Estimated number of bytes occupied by the transaction states.", states::memory);
+
+        enabled = true;
+
+        return builder.build();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void disable() {
+        enabled = false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean enabled() {
+        return enabled;
+    }
+}
@@ -741,6 +741,42 @@ public abstract class AbstractLockManagerTest extends IgniteAbstractTest {
         assertTrue(lockManager.isEmpty());
     }
 
+    @Test
+    public void testLocksOfTransaction() {
+        UUID txId1 = Timestamp.nextVersion().toUuid();
+        UUID txId2 = Timestamp.nextVersion().toUuid();
+
+        LockKey key1 = new LockKey("test1");
+        LockKey key2 = new LockKey("test2");
+        LockKey key3 = new LockKey("test3");
+
+        assertThat(lockManager.acquire(txId1, key1, X), willSucceedFast());
+        assertThat(lockManager.acquire(txId1, key2, S), willSucceedFast());
+        assertThat(lockManager.acquire(txId2, key2, S), willSucceedFast());
+        assertThat(lockManager.acquire(txId2, key3, X), willSucceedFast());
+
+        List<LockKey> lockKeys = new ArrayList<>();
+
+        lockManager.locks(txId1).forEachRemaining(lock -> {
+            assertEquals(txId1, lock.txId());
+
+            lockKeys.add(lock.lockKey());
+        });
+
+        assertEquals(2, lockKeys.size());
+        assertTrue(lockKeys.containsAll(List.of(key1, key2)));
+
+        lockManager.locks(txId1).forEachRemaining(lockManager::release);
+
+        assertFalse(lockManager.locks(txId1).hasNext());
+
+        lockManager.locks(txId2).forEachRemaining(lockManager::release);
+
+        assertFalse(lockManager.locks(txId2).hasNext());
+
+        assertTrue(lockManager.isEmpty());
+    }
+
     @Test
     public void testReleaseThenReleaseWeakerInHierarchy() {
         LockKey key = new LockKey("test");
@@ -17,7 +17,23 @@
 
 package org.apache.ignite.internal.tx;
 
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willSucceedFast;
+import static org.apache.ignite.internal.tx.LockMode.IS;
+import static org.apache.ignite.internal.tx.LockMode.IX;
+import static org.apache.ignite.internal.tx.LockMode.S;
+import static org.apache.ignite.internal.tx.LockMode.X;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.WaitDieDeadlockPreventionPolicy;
+import org.junit.jupiter.api.Test;
 
 /**
  * Test class for {@link HeapLockManager}.
@@ -27,4 +43,123 @@ public class HeapLockManagerTest extends AbstractLockManagerTest {
     protected LockManager newInstance() {
         return new HeapLockManager();
     }
+
+    @Test
+    public void testSharedLockAfterIntentionLocks() {
+        var lockManager = new HeapLockManager();
+
+        UUID sharedTxId = Timestamp.nextVersion().toUuid();
+
+        LockKey tableKey = new LockKey(UUID.randomUUID());
+
+        List<UUID> intentionTxIds = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            UUID txId = Timestamp.nextVersion().toUuid();
+
+            assertThat(lockManager.acquire(txId, tableKey, i % 2 == 0 ? IX : IS), willSucceedFast());
+            assertThat(lockManager.acquire(txId, tableKey, IS), willSucceedFast());
+
+            intentionTxIds.add(txId);
+        }
+
+        assertEquals(IX, lockManager.waiter(tableKey, intentionTxIds.get(0)).lockMode());
+        assertEquals(IS, lockManager.waiter(tableKey, intentionTxIds.get(1)).lockMode());
+        assertEquals(intentionTxIds, lockManager.queue(tableKey));
+
+        // The shared lock conflicts with IX locks, so it waits for their release.
+        CompletableFuture<Lock> sharedLockFut = lockManager.acquire(sharedTxId, tableKey, S);
+
+        assertFalse(sharedLockFut.isDone());
+
+        for (UUID txId : intentionTxIds) {
+            lockManager.locks(txId).forEachRemaining(lockManager::release);
+        }
+
+        assertThat(sharedLockFut, willSucceedFast());
+
+        lockManager.release(sharedLockFut.join());
+
+        assertTrue(lockManager.isEmpty());
+
+        UUID txId = Timestamp.nextVersion().toUuid();
+
+        assertThat(lockManager.acquire(txId, tableKey, IX), willSucceedFast());
+
+        lockManager.release(txId, tableKey, IX);
+
+        assertFalse(lockManager.locks(txId).hasNext());
+        assertTrue(lockManager.isEmpty());
+    }
+
+    @Test
+    public void testLockEscalation() {
+        var lockManager = new HeapLockManager(new WaitDieDeadlockPreventionPolicy(), () -> 10);
+
+        UUID txId = Timestamp.nextVersion().toUuid();
+        UUID tableId = UUID.randomUUID();
+
+        LockKey tableKey = new LockKey(tableId);
+
+        assertThat(lockManager.acquire(txId, tableKey, IX), willSucceedFast());
+
+        for (int i = 0; i < 11; i++) {
+            assertThat(lockManager.acquire(txId, new LockKey(tableId, i), i % 2 == 0 ? X : S), willSucceedFast());
+        }
+
+        assertEquals(1, lockManager.escalations());
+        assertEquals(11, lockManager.escalatedLocks());
+
+        List<Lock> locks = new ArrayList<>();
+        lockManager.locks(txId).forEachRemaining(locks::add);
+
+        assertEquals(1, locks.size());
+        assertEquals(tableKey, locks.get(0).lockKey());
+        assertEquals(X, locks.get(0).lockMode());
+
+        // Row locks are covered by the table lock now.
+        LockKey rowKey = new LockKey(tableId, 100);
+
+        assertThat(lockManager.acquire(txId, rowKey, X), willSucceedFast());
+
+        locks.clear();
+        lockManager.locks(txId).forEachRemaining(locks::add);
+
+        assertEquals(1, locks.size());
+
+        lockManager.locks(txId).forEachRemaining(lockManager::release);
+
+        assertTrue(lockManager.isEmpty());
+
+        // Row locks are taken again after the table lock is released.
+        assertThat(lockManager.acquire(txId, rowKey, X), willSucceedFast());
+        assertEquals(List.of(txId), lockManager.queue(rowKey));
+    }
+
+    @Test
+    public void testLockEscalationConflict() {
+        var lockManager = new HeapLockManager(new WaitDieDeadlockPreventionPolicy(), () -> 10);
+
+        UUID readTxId = Timestamp.nextVersion().toUuid();
+        UUID txId = Timestamp.nextVersion().toUuid();
+        UUID tableId = UUID.randomUUID();
+
+        LockKey tableKey = new LockKey(tableId);
+
+        assertThat(lockManager.acquire(readTxId, tableKey, IS), willSucceedFast());
+        assertThat(lockManager.acquire(txId, tableKey, IX), willSucceedFast());
+
+        for (int i = 0; i < 11; i++) {
+            assertThat(lockManager.acquire(txId, new LockKey(tableId, i), X), willSucceedFast());
+        }
+
+        // The table X lock conflicts with the IS lock of the reading transaction, so the row locks are kept.
+        assertEquals(0, lockManager.escalations());
+        assertEquals(1, lockManager.failedEscalations());
+        assertEquals(IX, lockManager.waiter(tableKey, txId).lockMode());
+
+        for (int i = 0; i < 11; i++) {
+            assertEquals(X, lockManager.waiter(new LockKey(tableId, i), txId).lockMode());
+        }
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of lock acquisition and release throughput of {@link HeapLockManager} with a number of other transactions holding their
+ * locks at the same time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class LockManagerBenchmark {
+    /** Number of row locks taken by a benchmarked transaction. */
+    private static final int ROWS_PER_TX = 4;
+
+    /** Number of transactions that hold their locks during the benchmark. */
+    @Param({"1000", "10000", "100000"})
+    private int concurrentTxs;
+
+    private final UUID tableId = UUID.randomUUID();
+
+    private LockManager lockManager;
+
+    /**
+     * Creates the lock manager and the transactions that hold their locks.
+     */
+    @Setup
+    public void setUp() {
+        lockManager = new HeapLockManager();
+
+        for (int i = 0; i < concurrentTxs; i++) {
+            UUID txId = new UUID(0, i);
+
+            lockManager.acquire(txId, new LockKey(tableId), LockMode.IX).join();
+
+            for (int j = 0; j < ROWS_PER_TX; j++) {
+                lockManager.acquire(txId, rowLockKey(i * ROWS_PER_TX + j), LockMode.X).join();
+            }
+        }
+    }
+
+    /**
+     * Acquires exclusive locks on a few rows that are not locked by other transactions and releases them the way transaction cleanup
+     * does.
+     */
+    @Benchmark
+    public void acquireRelease() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        UUID txId = new UUID(random.nextLong(1, Long.MAX_VALUE), random.nextLong());
+
+        for (int i = 0; i < ROWS_PER_TX; i++) {
+            lockManager.acquire(txId, rowLockKey(-random.nextLong(1, Long.MAX_VALUE)), LockMode.X).join();
+        }
+
+        lockManager.locks(txId).forEachRemaining(lockManager::release);
+    }
+
+    /**
+     * Same as {@link #acquireRelease()}, but takes an intention lock on the table first, like read-write operations do.
+     */
+    @Benchmark
+    public void acquireReleaseWithTableLock() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        UUID txId = new UUID(random.nextLong(1, Long.MAX_VALUE), random.nextLong());
+
+        lockManager.acquire(txId, new LockKey(tableId), LockMode.IX).join();
+
+        for (int i = 0; i < ROWS_PER_TX; i++) {
+            lockManager.acquire(txId, rowLockKey(-random.nextLong(1, Long.MAX_VALUE)), LockMode.X).join();
+        }
+
+        lockManager.locks(txId).forEachRemaining(lockManager::release);
+    }
+
+    private LockKey rowLockKey(long row) {
+        return new LockKey(tableId, ByteBuffer.allocate(Long.BYTES).putLong(0, row));
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args Command line arguments.
+     * @throws RunnerException If failed.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(LockManagerBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -20,17 +20,23 @@ package org.apache.ignite.internal.tx;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.hlc.HybridClockImpl;
 import org.apache.ignite.internal.replicator.ReplicaService;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
 import org.apache.ignite.internal.replicator.TestReplicationGroupId;
+import org.apache.ignite.internal.replicator.message.ReplicaRequest;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.internal.tx.impl.HeapLockManager;
 import org.apache.ignite.internal.tx.impl.TxManagerImpl;
+import org.apache.ignite.internal.tx.impl.TxOutcomeCache;
+import org.apache.ignite.internal.tx.impl.TxStateMap;
 import org.apache.ignite.lang.IgniteBiTuple;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.network.ClusterService;
@@ -108,4 +114,34 @@ public class TxManagerTest extends IgniteAbstractTest {
         assertTrue(txId3.compareTo(txId2) > 0);
         assertTrue(txId4.compareTo(txId3) > 0);
     }
+
+    @Test
+    public void testStateOfEvictedTransaction() {
+        Mockito.when(replicaService.invoke(any(ClusterNode.class), any(ReplicaRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        var states = new TxStateMap(1);
+
+        txManager = new TxManagerImpl(replicaService, new HeapLockManager(), new HybridClockImpl(), new TxOutcomeCache(), states);
+
+        ClusterNode node = Mockito.mock(ClusterNode.class);
+
+        ReplicationGroupId replicationGroupName = new TestReplicationGroupId("part_1");
+
+        InternalTransaction tx1 = txManager.begin();
+        tx1.assignCommitPartition(replicationGroupName);
+        tx1.enlist(replicationGroupName, new IgniteBiTuple<>(node, 1L));
+        tx1.commit();
+
+        InternalTransaction tx2 = txManager.begin();
+        tx2.assignCommitPartition(replicationGroupName);
+        tx2.enlist(replicationGroupName, new IgniteBiTuple<>(node, 1L));
+        tx2.rollback();
+
+        assertNull(txManager.state(tx1.id()));
+        assertEquals(TxState.ABORTED, txManager.state(tx2.id()));
+
+        assertEquals(TxState.COMMITED, tx1.state());
+        assertEquals(TxState.ABORTED, tx2.state());
+    }
 }
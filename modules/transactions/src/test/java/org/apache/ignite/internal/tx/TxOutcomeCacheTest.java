@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.hlc.HybridClockImpl;
+import org.apache.ignite.internal.tx.impl.TxOutcomeCache;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link TxOutcomeCache}.
+ */
+public class TxOutcomeCacheTest {
+    @Test
+    public void testGetAndPut() {
+        var cache = new TxOutcomeCache();
+
+        UUID committedTxId = Timestamp.nextVersion().toUuid();
+        UUID abortedTxId = Timestamp.nextVersion().toUuid();
+
+        TxMeta committed = new TxMeta(TxState.COMMITED, List.of(), new HybridClockImpl().now());
+        TxMeta aborted = new TxMeta(TxState.ABORTED, List.of(), null);
+
+        assertNull(cache.get(committedTxId));
+
+        cache.put(committedTxId, committed);
+        cache.put(abortedTxId, aborted);
+
+        assertSame(committed, cache.get(committedTxId));
+        assertSame(aborted, cache.get(abortedTxId));
+        assertNull(cache.get(Timestamp.nextVersion().toUuid()));
+
+        assertEquals(2, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runMultiThreaded;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.apache.ignite.internal.tx.impl.TxStateMap;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link TxStateMap}.
+ */
+public class TxStateMapTest {
+    @Test
+    public void testChangeState() {
+        var states = new TxStateMap(16);
+
+        UUID txId = Timestamp.nextVersion().toUuid();
+
+        assertNull(states.get(txId));
+
+        assertFalse(states.changeState(txId, TxState.COMMITED, TxState.ABORTED));
+        assertTrue(states.changeState(txId, null, TxState.COMMITED));
+        assertTrue(states.changeState(txId, null, TxState.COMMITED));
+        assertFalse(states.changeState(txId, null, TxState.ABORTED));
+
+        assertEquals(TxState.COMMITED, states.get(txId));
+
+        assertTrue(states.changeState(txId, TxState.COMMITED, TxState.ABORTED));
+
+        assertEquals(TxState.ABORTED, states.get(txId));
+        assertEquals(1, states.size());
+        assertEquals(2, states.changes());
+    }
+
+    @Test
+    public void testEviction() {
+        int capacity = 100;
+
+        var states = new TxStateMap(capacity);
+
+        Map<UUID, TxState> expected = new LinkedHashMap<>();
+
+        Random rnd = new Random();
+
+        List<UUID> txIds = new ArrayList<>();
+
+        for (int i = 0; i < capacity * 10; i++) {
+            UUID txId = new UUID(rnd.nextInt(4), rnd.nextInt(capacity * 4));
+
+            if (expected.containsKey(txId)) {
+                continue;
+            }
+
+            TxState state = rnd.nextBoolean() ? TxState.COMMITED : TxState.ABORTED;
+
+            assertTrue(states.changeState(txId, null, state));
+
+            expected.put(txId, state);
+
+            if (expected.size() > capacity) {
+                expected.remove(expected.keySet().iterator().next());
+            }
+
+            txIds.add(txId);
+        }
+
+        assertEquals(capacity, states.size());
+        assertEquals(txIds.size() - capacity, states.evicted());
+
+        for (UUID txId : txIds) {
+            assertEquals(expected.get(txId), states.get(txId));
+        }
+
+        assertEquals(expected, states);
+        assertEquals(List.copyOf(expected.keySet()), List.copyOf(states.keySet()));
+    }
+
+    @Test
+    public void testConcurrentChanges() throws Exception {
+        int capacity = 1_000;
+        int threads = 8;
+        int txsPerThread = 10_000;
+
+        var states = new TxStateMap(capacity);
+
+        runMultiThreaded(() -> {
+            for (int i = 0; i < txsPerThread; i++) {
+                UUID txId = UUID.randomUUID();
+
+                assertNull(states.get(txId));
+                assertTrue(states.changeState(txId, null, TxState.COMMITED));
+            }
+
+            return null;
+        }, threads, "tx-state-changer");
+
+        assertEquals(capacity, states.size());
+        assertEquals((long) threads * txsPerThread, states.changes());
+        assertEquals((long) threads * txsPerThread - capacity, states.evicted());
+    }
+}
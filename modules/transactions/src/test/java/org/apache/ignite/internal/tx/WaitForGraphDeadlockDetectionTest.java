@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willSucceedFast;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.WaitForGraphDeadlockDetectionPolicy;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the deadlock detection policy, i.e. policy that lets transactions wait and aborts only the victims of detected deadlocks.
+ */
+public class WaitForGraphDeadlockDetectionTest extends AbstractDeadlockPreventionTest {
+    private static final long DETECTION_INTERVAL = 50;
+
+    @Override
+    protected DeadlockPreventionPolicy deadlockPreventionPolicy() {
+        return new WaitForGraphDeadlockDetectionPolicy(DETECTION_INTERVAL, -1);
+    }
+
+    @Test
+    public void detectDeadlockOnOneKey() {
+        var tx0 = beginTx();
+        var tx1 = beginTx();
+
+        var key = key("test0");
+
+        assertThat(slock(tx0, key), willSucceedFast());
+        assertThat(slock(tx1, key), willSucceedFast());
+
+        CompletableFuture<?> tx0Fut = xlock(tx0, key);
+        CompletableFuture<?> tx1Fut = xlock(tx1, key);
+
+        assertFalse(tx0Fut.isDone());
+        assertFalse(tx1Fut.isDone());
+
+        // The younger transaction is the victim.
+        assertThat(tx1Fut, willThrow(LockException.class, 5, TimeUnit.SECONDS));
+        assertFalse(tx0Fut.isDone());
+
+        rollbackTx(tx1);
+
+        assertThat(tx0Fut, willSucceedFast());
+
+        assertEquals(1, heapLockManager().deadlocks());
+    }
+
+    @Test
+    public void detectDeadlockOnTwoKeys() {
+        var tx0 = beginTx();
+        var tx1 = beginTx();
+
+        var key0 = key("test0");
+        var key1 = key("test1");
+
+        assertThat(xlock(tx0, key0), willSucceedFast());
+        assertThat(xlock(tx1, key1), willSucceedFast());
+
+        CompletableFuture<?> tx0Fut = xlock(tx0, key1);
+        CompletableFuture<?> tx1Fut = xlock(tx1, key0);
+
+        assertThat(tx1Fut, willThrow(LockException.class, 5, TimeUnit.SECONDS));
+        assertFalse(tx0Fut.isDone());
+
+        rollbackTx(tx1);
+
+        assertThat(tx0Fut, willSucceedFast());
+
+        assertEquals(1, heapLockManager().deadlocks());
+    }
+
+    @Test
+    public void detectDeadlockOfThreeTransactions() {
+        var tx0 = beginTx();
+        var tx1 = beginTx();
+        var tx2 = beginTx();
+
+        var key0 = key("test0");
+        var key1 = key("test1");
+        var key2 = key("test2");
+
+        assertThat(xlock(tx0, key0), willSucceedFast());
+        assertThat(xlock(tx1, key1), willSucceedFast());
+        assertThat(xlock(tx2, key2), willSucceedFast());
+
+        CompletableFuture<?> tx0Fut = xlock(tx0, key1);
+        CompletableFuture<?> tx1Fut = xlock(tx1, key2);
+        CompletableFuture<?> tx2Fut = xlock(tx2, key0);
+
+        assertThat(tx2Fut, willThrow(LockException.class, 5, TimeUnit.SECONDS));
+        assertFalse(tx0Fut.isDone());
+        assertFalse(tx1Fut.isDone());
+
+        rollbackTx(tx2);
+
+        assertThat(tx1Fut, willSucceedFast());
+
+        commitTx(tx1);
+
+        assertThat(tx0Fut, willSucceedFast());
+
+        assertEquals(1, heapLockManager().deadlocks());
+    }
+
+    @Test
+    public void waitWithoutDeadlock() throws InterruptedException {
+        var tx0 = beginTx();
+        var tx1 = beginTx();
+        var tx2 = beginTx();
+
+        var key0 = key("test0");
+        var key1 = key("test1");
+
+        assertThat(xlock(tx0, key0), willSucceedFast());
+        assertThat(xlock(tx1, key1), willSucceedFast());
+
+        // A chain of waiting transactions, without a cycle.
+        CompletableFuture<?> tx1Fut = xlock(tx1, key0);
+        CompletableFuture<?> tx2Fut = xlock(tx2, key1);
+
+        Thread.sleep(DETECTION_INTERVAL * 4);
+
+        assertFalse(tx1Fut.isDone());
+        assertFalse(tx2Fut.isDone());
+
+        commitTx(tx0);
+
+        assertThat(tx1Fut, willSucceedFast());
+
+        commitTx(tx1);
+
+        assertThat(tx2Fut, willSucceedFast());
+
+        assertEquals(0, heapLockManager().deadlocks());
+        assertEquals(0, heapLockManager().lockAborts());
+        assertEquals(2, heapLockManager().lockWaits());
+    }
+
+    @Test
+    public void waitTimeoutFailsUndetectedWaiter() {
+        var timeoutLockManager = new HeapLockManager(new WaitForGraphDeadlockDetectionPolicy(DETECTION_INTERVAL, DETECTION_INTERVAL * 4));
+
+        var tx0 = beginTx();
+        var tx1 = beginTx();
+
+        var key = key("test0");
+
+        assertThat(timeoutLockManager.acquire(tx0, key, LockMode.X), willSucceedFast());
+
+        // The waiter is not a part of a local deadlock, e.g. the holder waits for a lock on another node, so only the timeout fails it.
+        CompletableFuture<Lock> tx1Fut = timeoutLockManager.acquire(tx1, key, LockMode.X);
+
+        assertThat(tx1Fut, willThrow(LockException.class, 5, TimeUnit.SECONDS));
+
+        assertEquals(0, timeoutLockManager.deadlocks());
+    }
+
+    private HeapLockManager heapLockManager() {
+        return (HeapLockManager) lockManager;
+    }
+}